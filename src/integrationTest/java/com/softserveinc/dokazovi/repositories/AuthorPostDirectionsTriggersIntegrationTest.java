@@ -0,0 +1,148 @@
+package com.softserveinc.dokazovi.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLWarning;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks the statement-level triggers of R__triggers.sql that maintain author_post_directions and the post and
+ * author counters of directions. After every bulk change the maintained data is compared with the same data
+ * derived from posts, posts_directions, authors and authors_directions.
+ */
+@JdbcTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Sql("/db/authorPostDirectionsData.sql")
+class AuthorPostDirectionsTriggersIntegrationTest {
+
+	private static final Logger logger = LoggerFactory.getLogger(AuthorPostDirectionsTriggersIntegrationTest.class);
+
+	private static final String MAINTAINED_AUTHOR_POST_DIRECTIONS_QUERY = "SELECT concat_ws(',', author_id, "
+			+ "post_id, direction_id, user_id, visible::TEXT) FROM author_post_directions ORDER BY 1";
+
+	private static final String DERIVED_AUTHOR_POST_DIRECTIONS_QUERY = "SELECT DISTINCT concat_ws(',', "
+			+ "a.author_id, pd.post_id, pd.direction_id, p.author_id, (p.status = 'PUBLISHED')::TEXT) "
+			+ "FROM posts_directions pd "
+			+ "JOIN posts p ON p.post_id = pd.post_id "
+			+ "JOIN authors a ON a.user_id = p.author_id ORDER BY 1";
+
+	private static final String MAINTAINED_COUNTERS_QUERY = "SELECT concat_ws(',', direction_id, post_count, "
+			+ "has_posts::TEXT, author_count, has_authors::TEXT) FROM directions ORDER BY direction_id";
+
+	private static final String DERIVED_COUNTERS_QUERY = "SELECT concat_ws(',', d.direction_id, "
+			+ "c.posts, (c.posts > 0)::TEXT, c.authors, (c.authors > 0)::TEXT) "
+			+ "FROM directions d "
+			+ "CROSS JOIN LATERAL (SELECT "
+			+ "(SELECT count(*) FROM author_post_directions apd "
+			+ "WHERE apd.direction_id = d.direction_id AND apd.visible) AS posts, "
+			+ "(SELECT count(*) FROM authors_directions ad WHERE ad.direction_id = d.direction_id) AS authors) c "
+			+ "ORDER BY d.direction_id";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void bulkInsertOfPostDirections() {
+		insertPosts();
+
+		assertMaintainedDataMatchesDerivedData();
+		assertEquals(List.of("1,2,true,0,false", "2,2,true,0,false", "3,0,false,0,false"), counters());
+	}
+
+	@Test
+	void bulkDeleteOfPostDirections() {
+		insertPosts();
+
+		jdbcTemplate.update("DELETE FROM posts_directions WHERE direction_id = 2 OR post_id = 101");
+
+		assertMaintainedDataMatchesDerivedData();
+		assertEquals(List.of("1,1,true,0,false", "2,0,false,0,false", "3,0,false,0,false"), counters());
+	}
+
+	@Test
+	void bulkReassignmentOfAuthors() {
+		insertPosts();
+
+		jdbcTemplate.update("UPDATE posts SET author_id = 3 WHERE author_id IN (1, 2)");
+
+		assertMaintainedDataMatchesDerivedData();
+		assertEquals(List.of(13), jdbcTemplate.queryForList(
+				"SELECT DISTINCT author_id FROM author_post_directions", Integer.class));
+	}
+
+	@Test
+	void bulkPublicationOfPosts() {
+		insertPosts();
+
+		jdbcTemplate.update("UPDATE posts SET status = 'PUBLISHED' WHERE status = 'DRAFT'");
+
+		assertMaintainedDataMatchesDerivedData();
+		assertEquals(List.of("1,3,true,0,false", "2,3,true,0,false", "3,0,false,0,false"), counters());
+	}
+
+	@Test
+	void bulkChangesOfAuthorDirections() {
+		jdbcTemplate.update("INSERT INTO authors_directions (author_id, direction_id) "
+				+ "VALUES (11, 1), (12, 1), (13, 1), (11, 2)");
+		jdbcTemplate.update("UPDATE authors_directions SET direction_id = 3 WHERE author_id = 12");
+		jdbcTemplate.update("DELETE FROM authors_directions WHERE author_id = 11");
+
+		assertMaintainedDataMatchesDerivedData();
+		assertEquals(List.of("1,0,false,1,true", "2,0,false,0,false", "3,0,false,1,true"), counters());
+	}
+
+	@Test
+	void benchmarkOfBulkDirectionChanges() throws IOException {
+		String benchmark = StreamUtils.copyToString(
+				new ClassPathResource("db/benchmark/author_post_directions_triggers.sql").getInputStream(),
+				StandardCharsets.UTF_8);
+
+		jdbcTemplate.execute((Statement statement) -> {
+			statement.execute(benchmark);
+			for (SQLWarning notice = statement.getWarnings(); notice != null; notice = notice.getNextWarning()) {
+				logger.info("author_post_directions benchmark: {}", notice.getMessage());
+			}
+			return null;
+		});
+
+		assertMaintainedDataMatchesDerivedData();
+	}
+
+	/**
+	 * Inserts posts of two authors and of a user who is not an author, one of each author being a draft,
+	 * and then their directions with one statement.
+	 */
+	private void insertPosts() {
+		jdbcTemplate.update("INSERT INTO posts (post_id, author_id, type_id, title, preview, content, status) "
+				+ "VALUES (101, 1, 1, 'first', 'preview', 'content', 'PUBLISHED'), "
+				+ "(102, 1, 1, 'second', 'preview', 'content', 'DRAFT'), "
+				+ "(103, 2, 1, 'third', 'preview', 'content', 'PUBLISHED'), "
+				+ "(104, 4, 1, 'fourth', 'preview', 'content', 'PUBLISHED')");
+		jdbcTemplate.update("INSERT INTO posts_directions (post_id, direction_id) "
+				+ "VALUES (101, 1), (101, 2), (102, 1), (102, 2), (103, 1), (103, 2), (104, 1), (104, 3)");
+	}
+
+	private void assertMaintainedDataMatchesDerivedData() {
+		assertEquals(jdbcTemplate.queryForList(DERIVED_AUTHOR_POST_DIRECTIONS_QUERY, String.class),
+				jdbcTemplate.queryForList(MAINTAINED_AUTHOR_POST_DIRECTIONS_QUERY, String.class));
+		assertEquals(jdbcTemplate.queryForList(DERIVED_COUNTERS_QUERY, String.class), counters());
+	}
+
+	private List<String> counters() {
+		return jdbcTemplate.queryForList(MAINTAINED_COUNTERS_QUERY, String.class);
+	}
+}
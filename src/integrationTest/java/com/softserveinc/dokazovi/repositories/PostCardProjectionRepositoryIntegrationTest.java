@@ -0,0 +1,121 @@
+package com.softserveinc.dokazovi.repositories;
+
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Counts the statements a page of post cards costs against a real database. Every statement that goes through
+ * the data source is counted, whether it comes from Hibernate or from a JDBC template, and the Hibernate
+ * statistics show whether any entity or collection was loaded on the way.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PostCardProjectionRepository.class)
+@Sql("/db/postCardsData.sql")
+class PostCardProjectionRepositoryIntegrationTest {
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private PostCardProjectionRepository postCardProjectionRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void init() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	void findAllByIds_readsPageWithFourStatementsAndNoEntities() {
+		List<Integer> postIds = postRepository.findIdsByStatus(PostStatus.PUBLISHED, PageRequest.of(0, 20))
+				.getContent();
+		startCounting();
+
+		List<PostCardDTO> posts = postCardProjectionRepository.findAllByIds(postIds);
+
+		assertEquals(20, posts.size());
+		assertEquals(4, QueryCountHolder.getGrandTotal().getTotal());
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertEquals(0, statistics.getCollectionLoadCount());
+		PostCardDTO post = posts.get(0);
+		assertNotNull(post.getAuthor().getMainInstitution().getCity());
+		assertEquals(2, post.getDirections().size());
+		assertEquals(1, post.getTags().size());
+		assertEquals(1, post.getOrigins().size());
+	}
+
+	@Test
+	void pageOfPostCards_runsSameStatementsForAnyPageSize() {
+		long singlePostStatements = countStatementsOfPage(1);
+		long fullPageStatements = countStatementsOfPage(20);
+
+		assertEquals(singlePostStatements, fullPageStatements);
+		assertEquals(0, statistics.getEntityLoadCount());
+		assertEquals(0, statistics.getCollectionLoadCount());
+	}
+
+	/**
+	 * Reads a page of post cards the way the post service does: a page of ids, and then the cards.
+	 */
+	private long countStatementsOfPage(int pageSize) {
+		startCounting();
+		List<PostCardDTO> posts = postCardProjectionRepository.findAllByIds(
+				postRepository.findIdsByStatus(PostStatus.PUBLISHED, PageRequest.of(0, pageSize)).getContent());
+		assertEquals(pageSize, posts.size());
+		assertFalse(posts.get(0).getDirections().isEmpty());
+		return QueryCountHolder.getGrandTotal().getTotal();
+	}
+
+	private void startCounting() {
+		QueryCountHolder.clear();
+		statistics.clear();
+	}
+
+	@TestConfiguration
+	static class StatementCountingConfig {
+
+		@Bean
+		static BeanPostProcessor statementCountingDataSource() {
+			return new BeanPostProcessor() {
+				@Override
+				public Object postProcessAfterInitialization(Object bean, String beanName) {
+					if (bean instanceof DataSource) {
+						return ProxyDataSourceBuilder.create((DataSource) bean)
+								.name(beanName)
+								.countQuery()
+								.build();
+					}
+					return bean;
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,24 @@
+INSERT INTO public.regions (region_id, name)
+VALUES (1, 'Київська');
+
+INSERT INTO public.cities (city_id, name, region_id)
+VALUES (1, 'Київ', 1);
+
+INSERT INTO public.users (user_id, email, first_name, last_name)
+VALUES (1, 'ivan@mail.com', 'Іван', 'Іваненко'),
+       (2, 'petro@mail.com', 'Петро', 'Петренко'),
+       (3, 'olena@mail.com', 'Олена', 'Олененко'),
+       (4, 'reader@mail.com', 'Марія', 'Марієнко');
+
+INSERT INTO public.authors (author_id, user_id, city_id)
+VALUES (11, 1, 1),
+       (12, 2, 1),
+       (13, 3, 1);
+
+INSERT INTO public.directions (direction_id, label, name)
+VALUES (1, 'Covid-19', 'covid-19'),
+       (2, 'Офтальмологія', 'ophthalmology'),
+       (3, 'Кардіологія', 'cardiology');
+
+INSERT INTO public.post_types (type_id, name)
+VALUES (1, 'Стаття');
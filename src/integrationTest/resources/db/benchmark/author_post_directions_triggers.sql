@@ -0,0 +1,90 @@
+--
+-- Measures bulk direction changes against the author_post_directions and direction counter triggers
+-- installed by R__triggers.sql. It works on the real tables of a migrated database, so the measured
+-- trigger functions are exactly the deployed ones, and is meant to run inside a transaction that is
+-- rolled back:
+--
+--   psql -d <database> -v ON_ERROR_STOP=1 -c 'BEGIN' -f author_post_directions_triggers.sql -c 'ROLLBACK'
+--
+-- AuthorPostDirectionsTriggersIntegrationTest runs it against the Testcontainers database on every
+-- integration test run and logs the notices below, followed by a consistency check of the results.
+-- Each step prints its duration; the last line prints the number of author_post_directions entries.
+--
+
+DO
+$$
+    DECLARE
+        marker       CONSTANT TEXT := 'apd-benchmark';
+        step_format  CONSTANT TEXT := '%-40s %10s ms';
+        started      TIMESTAMPTZ;
+        city         INTEGER;
+        post_type    INTEGER;
+        direction    INTEGER[];
+    BEGIN
+        INSERT INTO public.regions (name) VALUES (marker);
+        INSERT INTO public.cities (name, region_id)
+            SELECT marker, region_id FROM public.regions WHERE name = marker
+            RETURNING city_id INTO city;
+        INSERT INTO public.post_types (name) VALUES (marker) RETURNING type_id INTO post_type;
+        INSERT INTO public.directions (label, name)
+            SELECT marker || '-' || n, marker || '-' || n FROM generate_series(1, 5) AS n;
+        direction := ARRAY(SELECT direction_id FROM public.directions WHERE name LIKE marker || '-%'
+                           ORDER BY direction_id);
+
+        -- 2 000 authors with 10 posts each, 3 of every 10 posts are drafts
+        INSERT INTO public.users (email) SELECT marker || '-' || n || '@mail.com' FROM generate_series(1, 2000) AS n;
+        INSERT INTO public.authors (user_id, city_id)
+            SELECT user_id, city FROM public.users WHERE email LIKE marker || '-%';
+        INSERT INTO public.authors_directions (author_id, direction_id)
+            SELECT a.author_id, direction[1 + a.author_id % 5]
+            FROM public.authors a
+                     JOIN public.users u ON u.user_id = a.user_id
+            WHERE u.email LIKE marker || '-%';
+        INSERT INTO public.posts (author_id, type_id, title, preview, content, status)
+            SELECT u.user_id, post_type, marker, marker, marker,
+                   CASE WHEN n % 3 = 0 THEN 'DRAFT' ELSE 'PUBLISHED' END
+            FROM public.users u,
+                 generate_series(1, 10) AS n
+            WHERE u.email LIKE marker || '-%';
+
+        started := clock_timestamp();
+        INSERT INTO public.posts_directions (post_id, direction_id)
+            SELECT p.post_id, d.direction_id
+            FROM public.posts p,
+                 unnest(direction) AS d(direction_id)
+            WHERE p.title = marker;
+        RAISE NOTICE USING MESSAGE = format(step_format, 'insert 100 000 post directions',
+            round(extract(EPOCH FROM clock_timestamp() - started) * 1000));
+
+        started := clock_timestamp();
+        UPDATE public.posts p
+            SET author_id = (SELECT u.user_id
+                             FROM public.users u
+                             WHERE u.email = marker || '-' || (1 + p.post_id % 2000) || '@mail.com')
+            WHERE p.title = marker
+              AND p.post_id % 2 = 0;
+        RAISE NOTICE USING MESSAGE = format(step_format, 'reassign authors of 10 000 posts',
+            round(extract(EPOCH FROM clock_timestamp() - started) * 1000));
+
+        started := clock_timestamp();
+        UPDATE public.posts SET status = 'PUBLISHED' WHERE title = marker AND status = 'DRAFT';
+        RAISE NOTICE USING MESSAGE = format(step_format, 'publish 6 000 posts',
+            round(extract(EPOCH FROM clock_timestamp() - started) * 1000));
+
+        started := clock_timestamp();
+        DELETE FROM public.posts_directions
+            WHERE direction_id IN (direction[4], direction[5])
+              AND post_id IN (SELECT post_id FROM public.posts WHERE title = marker);
+        RAISE NOTICE USING MESSAGE = format(step_format, 'delete 40 000 post directions',
+            round(extract(EPOCH FROM clock_timestamp() - started) * 1000));
+
+        started := clock_timestamp();
+        DELETE FROM public.authors_directions WHERE direction_id = direction[1];
+        RAISE NOTICE USING MESSAGE = format(step_format, 'delete 400 author directions',
+            round(extract(EPOCH FROM clock_timestamp() - started) * 1000));
+
+        RAISE NOTICE USING MESSAGE = format('%s entries, %s visible',
+            (SELECT count(*) FROM public.author_post_directions WHERE direction_id = ANY (direction)),
+            (SELECT count(*) FROM public.author_post_directions WHERE direction_id = ANY (direction) AND visible));
+    END
+$$;
@@ -0,0 +1,47 @@
+INSERT INTO public.regions (region_id, name)
+VALUES (1, 'Київська');
+
+INSERT INTO public.cities (city_id, name, region_id)
+VALUES (1, 'Київ', 1);
+
+INSERT INTO public.institutions (institution_id, name, city_id)
+VALUES (1, 'Клініка', 1);
+
+INSERT INTO public.users (user_id, email, first_name, last_name)
+VALUES (1, 'ivan@mail.com', 'Іван', 'Іваненко'),
+       (2, 'petro@mail.com', 'Петро', 'Петренко');
+
+INSERT INTO public.authors (author_id, user_id, city_id, institution_id)
+VALUES (11, 1, 1, 1),
+       (12, 2, 1, 1);
+
+INSERT INTO public.post_types (type_id, name)
+VALUES (1, 'Стаття');
+
+INSERT INTO public.directions (direction_id, label, name)
+VALUES (1, 'Covid-19', 'covid-19'),
+       (2, 'Офтальмологія', 'ophthalmology');
+
+INSERT INTO public.tags (tag_id, tag)
+VALUES (1, 'Профілактика'),
+       (2, 'Ковід');
+
+INSERT INTO public.origins (origin_id, name)
+VALUES (1, 'Думка експерта');
+
+INSERT INTO public.posts (post_id, author_id, type_id, title, preview, content, status)
+SELECT post_id, post_id % 2 + 1, 1, 'Матеріал ' || post_id, 'preview', 'content', 'PUBLISHED'
+FROM generate_series(1, 25) AS post_id;
+
+INSERT INTO public.posts_directions (post_id, direction_id)
+SELECT post_id, direction_id
+FROM generate_series(1, 25) AS post_id,
+     generate_series(1, 2) AS direction_id;
+
+INSERT INTO public.posts_tags (post_id, tag_id)
+SELECT post_id, post_id % 2 + 1
+FROM generate_series(1, 25) AS post_id;
+
+INSERT INTO public.posts_origins (post_id, origin_id)
+SELECT post_id, 1
+FROM generate_series(1, 25) AS post_id;
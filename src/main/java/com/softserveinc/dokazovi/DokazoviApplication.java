@@ -1,6 +1,8 @@
 package com.softserveinc.dokazovi;
 
 import com.softserveinc.dokazovi.config.AppProperties;
+import com.softserveinc.dokazovi.config.LayeredCacheProperties;
+import com.softserveinc.dokazovi.config.RateLimitProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -10,7 +12,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 @SpringBootApplication
 @EnableCaching
 @EnableScheduling
-@EnableConfigurationProperties(AppProperties.class)
+@EnableConfigurationProperties({AppProperties.class, LayeredCacheProperties.class, RateLimitProperties.class})
 public class DokazoviApplication {
 
     public static void main(String[] args) {
@@ -2,6 +2,7 @@ package com.softserveinc.dokazovi.analytics;
 
 import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
 import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.googleapis.services.AbstractGoogleClientRequest;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
@@ -9,10 +10,13 @@ import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.services.analytics.Analytics;
 import com.google.api.services.analytics.AnalyticsScopes;
 import com.google.api.services.analytics.model.Accounts;
+import com.google.api.services.analytics.model.GaData;
 import com.google.api.services.analytics.model.Profiles;
 import com.google.api.services.analytics.model.Webproperties;
 
-import com.softserveinc.dokazovi.security.RestAuthenticationEntryPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,20 +25,29 @@ import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.security.GeneralSecurityException;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 /**
  * Provides access to the Google Analytics API using a service account.
+ *
+ * <p>The API client is built once, on first use, and then shared by all calls: its HTTP transport keeps
+ * connections alive between requests, and its credential keeps the OAuth access token and refreshes it
+ * shortly before it expires. Every API request is timed by the {@value #REQUEST_METRIC} metric,
+ * tagged with the request name and its outcome.</p>
  */
 @Component
+@RequiredArgsConstructor
 public class GoogleAnalytics {
 
 	@Value("${analytics.creds}")
@@ -43,18 +56,36 @@ public class GoogleAnalytics {
 	@Value("${analytics.profile:none}")
 	private String analyticsProfileId;
 
+	@Value("${analytics.request-timeout-ms:10000}")
+	private int requestTimeoutMs;
+
+	@Value("${analytics.sync.page-size:10000}")
+	private int reportPageSize;
+
+	private final MeterRegistry meterRegistry;
+
 	private String profileId = null;
 
+	private volatile Analytics analyticsClient;
+
+	/**
+	 * First day for which Google Analytics has views of the site.
+	 */
+	public static final LocalDate FIRST_DAY = LocalDate.of(2021, 3, 22);
+
 	private static final String APPLICATION_NAME = "Google Analytics";
+	private static final DateTimeFormatter GA_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final Pattern POST_PATH = Pattern.compile("^/posts/(\\d+)$");
+	private static final String REQUEST_METRIC = "analytics.requests";
 	private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
-	private static final Logger logger = LoggerFactory.getLogger(RestAuthenticationEntryPoint.class);
+	private static final Logger logger = LoggerFactory.getLogger(GoogleAnalytics.class);
 
 	@Cacheable({"viewCount"})
 	public Integer getPostViewCount(String url) {
 
 		List<List<String>> rows = null;
 		try {
-			Analytics analytics = initializeAnalytic();
+			Analytics analytics = getAnalytics();
 
 			String profile = null;
 
@@ -64,20 +95,26 @@ public class GoogleAnalytics {
 				profile = getFirstProfileId(analytics);
 			}
 
-			rows = getResults(analytics, profile, url).execute().getRows();
+			rows = execute("post-view-count", getResults(analytics, profile, url)).getRows();
 
-		} catch (IOException ie) {
-			logger.error("IOException occurred", ie);
+		} catch (IOException | GeneralSecurityException ie) {
+			logger.error("Google Analytics request failed", ie);
 		}
 
 		return rows == null ? 0 : Integer.parseInt(rows.get(0).get(1));
 	}
 
-	public Map<Integer, Integer> getAllPostsViewCount() {
-		List<List<String>> rows;
-		Map<Integer, Integer> map = null;
+	/**
+	 * Gets the views of every post per day, from the given day until today.
+	 *
+	 * <p>The report is read page by page, so the number of rows is not limited by the page size of the API.</p>
+	 *
+	 * @param fromDate first day to read
+	 * @return views by post id by day, empty if the request failed
+	 */
+	public Optional<Map<LocalDate, Map<Integer, Integer>>> getPostDailyViews(LocalDate fromDate) {
 		try {
-			Analytics analytics = initializeAnalytic();
+			Analytics analytics = getAnalytics();
 
 			String profile = null;
 
@@ -87,48 +124,106 @@ public class GoogleAnalytics {
 				profile = getFirstProfileId(analytics);
 			}
 
-			rows = getResults(analytics, profile).execute().getRows();
-			map = rows.stream()
-					.filter(e -> Pattern.matches("(/posts/)(\\d+)", e.get(0)))
-					.peek(e -> {
-						Pattern pattern1 = Pattern.compile("(/posts/)(\\d+)");
-						Matcher matcher = pattern1.matcher(e.get(0));
-						while (matcher.find()) {
-							e.add(0, matcher.group(2));
-						}
-						e.remove(1);
-					})
-					.collect(Collectors.toMap(k -> Integer.parseInt(k.get(0)), v -> Integer.parseInt(v.get(1))));
-
-		} catch (IOException ie) {
-			logger.error("IOException occurred", ie);
+			Map<LocalDate, Map<Integer, Integer>> dailyViews = getDailyViews(analytics, profile, fromDate);
+			logger.info("Fetched post views of {} days since {}", dailyViews.size(), fromDate);
+			return Optional.of(dailyViews);
+		} catch (IOException | GeneralSecurityException ie) {
+			logger.error("Google Analytics request failed", ie);
+			return Optional.empty();
 		}
-		return Optional.ofNullable(map).orElse(new HashMap<>());
 	}
 
 	/**
-	 * Initializes an Analytics service object.
+	 * Reads the views of post pages per day, one report page at a time.
+	 *
+	 * @param analytics Analytics service object
+	 * @param profileId id of the view (profile)
+	 * @param fromDate  first day to read
+	 * @return views by post id by day
+	 */
+	private Map<LocalDate, Map<Integer, Integer>> getDailyViews(Analytics analytics, String profileId,
+			LocalDate fromDate) throws IOException {
+		Map<LocalDate, Map<Integer, Integer>> dailyViews = new HashMap<>();
+		int startIndex = 1;
+		GaData page;
+		do {
+			page = execute("all-posts-view-count", getResults(analytics, profileId, fromDate)
+					.setStartIndex(startIndex)
+					.setMaxResults(reportPageSize));
+			List<List<String>> rows = Optional.ofNullable(page.getRows()).orElse(Collections.emptyList());
+			for (List<String> row : rows) {
+				Matcher matcher = POST_PATH.matcher(row.get(1));
+				if (matcher.matches()) {
+					dailyViews.computeIfAbsent(LocalDate.parse(row.get(0), GA_DATE_FORMAT), date -> new HashMap<>())
+							.merge(Integer.parseInt(matcher.group(1)), Integer.parseInt(row.get(2)), Integer::sum);
+				}
+			}
+			startIndex += rows.size();
+		} while (page.getNextLink() != null && page.getRows() != null);
+		return dailyViews;
+	}
+
+	/**
+	 * Gets the shared Analytics service object, initializing it on first use.
+	 * A failed initialization is not remembered, so the next call tries again.
 	 *
 	 * @return An authorized Analytics service object.
 	 */
-	private Analytics initializeAnalytic() throws IOException {
-		HttpTransport httpTransport = null;
-		try {
-			httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-		} catch (GeneralSecurityException e) {
-			logger.error("GeneralSecurityException occurred. HttpTransport is failed", e);
+	private Analytics getAnalytics() throws IOException, GeneralSecurityException {
+		Analytics client = analyticsClient;
+		if (client == null) {
+			synchronized (this) {
+				client = analyticsClient;
+				if (client == null) {
+					client = initializeAnalytic();
+					analyticsClient = client;
+				}
+			}
 		}
+		return client;
+	}
+
+	/**
+	 * Initializes an Analytics service object.
+	 *
+	 * @return An authorized Analytics service object.
+	 */
+	private Analytics initializeAnalytic() throws IOException, GeneralSecurityException {
+		HttpTransport httpTransport = GoogleNetHttpTransport.newTrustedTransport();
 
 		GoogleCredential credential = GoogleCredential
 				.fromStream(new ByteArrayInputStream(googleCredsFromJSON
-						.getBytes()), httpTransport, JSON_FACTORY)
+						.getBytes(StandardCharsets.UTF_8)), httpTransport, JSON_FACTORY)
 				.createScoped(AnalyticsScopes.all());
 
 		/**
 		 *  Construct the Analytics service object.
 		 */
-		return new Analytics.Builder(httpTransport, JSON_FACTORY, credential)
-				.setApplicationName(APPLICATION_NAME).build();
+		return new Analytics.Builder(httpTransport, JSON_FACTORY, request -> {
+			credential.initialize(request);
+			request.setConnectTimeout(requestTimeoutMs);
+			request.setReadTimeout(requestTimeoutMs);
+		}).setApplicationName(APPLICATION_NAME).build();
+	}
+
+	/**
+	 * Executes an API request and records its duration and outcome.
+	 *
+	 * @param name          request name used as the metric tag
+	 * @param clientRequest request to execute
+	 * @param <T>           type of the response
+	 * @return response of the request
+	 */
+	private <T> T execute(String name, AbstractGoogleClientRequest<T> clientRequest) throws IOException {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "failure";
+		try {
+			T response = clientRequest.execute();
+			outcome = "success";
+			return response;
+		} finally {
+			sample.stop(meterRegistry.timer(REQUEST_METRIC, "request", name, "outcome", outcome));
+		}
 	}
 
 	private String getProfileIdByConfig() {
@@ -151,7 +246,7 @@ public class GoogleAnalytics {
 		/**
 		 * Query for the list of all accounts associated with the service account.
 		 */
-		Accounts accounts = analytics.management().accounts().list().execute();
+		Accounts accounts = execute("accounts", analytics.management().accounts().list());
 
 		if (accounts.getItems().isEmpty()) {
 			logger.error("No accounts found ");
@@ -160,8 +255,8 @@ public class GoogleAnalytics {
 			/**
 			 * Query for the list of properties associated with the first account.
 			 */
-			Webproperties properties = analytics.management().webproperties()
-					.list(firstAccountId).execute();
+			Webproperties properties = execute("web-properties", analytics.management().webproperties()
+					.list(firstAccountId));
 
 			if (properties.getItems().isEmpty()) {
 				logger.error("No Webproperties found");
@@ -171,8 +266,8 @@ public class GoogleAnalytics {
 				/**
 				 * Query for the list views (profiles) associated with the property.
 				 */
-				Profiles profiles = analytics.management().profiles()
-						.list(firstAccountId, firstWebpropertyId).execute();
+				Profiles profiles = execute("profiles", analytics.management().profiles()
+						.list(firstAccountId, firstWebpropertyId));
 
 				if (profiles.getItems().isEmpty()) {
 					logger.error("No views (profiles) found");
@@ -194,21 +289,22 @@ public class GoogleAnalytics {
 		return analytics
 				.data()
 				.ga()
-				.get("ga:" + profileId, "2021-03-22", "today", "ga:uniquePageviews")
+				.get("ga:" + profileId, FIRST_DAY.toString(), "today", "ga:uniquePageviews")
 				.setDimensions("ga:pagePath")
 				.setFilters("ga:pagePath==" + url);
 
 	}
 
-	private Analytics.Data.Ga.Get getResults(Analytics analytics, String profileId) throws IOException {
-		/** Query the Core Reporting API for the number of sessions
-		 * from start Date until today.
+	private Analytics.Data.Ga.Get getResults(Analytics analytics, String profileId, LocalDate fromDate)
+			throws IOException {
+		/** Query the Core Reporting API for the views of post pages per day
+		 * from the given date until today.
 		 */
 		return analytics
 				.data()
 				.ga()
-				.get("ga:" + profileId, "2021-03-22", "today", "ga:uniquePageviews")
-				.setDimensions("ga:pagePath");
-
+				.get("ga:" + profileId, fromDate.toString(), "today", "ga:uniquePageviews")
+				.setDimensions("ga:date,ga:pagePath")
+				.setFilters("ga:pagePath=~" + POST_PATH.pattern());
 	}
 }
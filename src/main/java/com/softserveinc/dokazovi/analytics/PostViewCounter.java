@@ -0,0 +1,119 @@
+package com.softserveinc.dokazovi.analytics;
+
+import com.softserveinc.dokazovi.repositories.PostViewRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts post views in memory and writes them to the real views of posts in the background.
+ *
+ * <p>Every post has its own {@link LongAdder}, so concurrent views of the same post are spread over
+ * several cells instead of contending for one counter, and recording a view never touches the database.
+ * The flusher periodically takes the views collected since the previous flush and adds them to
+ * posts.real_views with one statement. Views that could not be written are kept for the next flush,
+ * and a final flush runs when the application shuts down gracefully.</p>
+ *
+ * <p>Each flush takes the counters out of the map, so the limit on tracked posts applies to the posts
+ * viewed since the previous flush. The counters taken out are summed once more at the next flush, which
+ * picks up views recorded by requests that looked a counter up just before it was taken out.</p>
+ *
+ * <p>First-party counting is turned on with {@code posts.views.tracking.enabled}. While it is on,
+ * the Google Analytics sync does not overwrite the real views.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostViewCounter.class);
+
+    private final PostViewRepository postViewRepository;
+    private final Map<Integer, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private Map<Integer, LongAdder> detachedViews = Map.of();
+
+    @Value("${posts.views.tracking.enabled:false}")
+    private boolean trackingEnabled;
+
+    @Value("${posts.views.max-tracked-posts:20000}")
+    private int maxTrackedPosts;
+
+    public boolean isTrackingEnabled() {
+        return trackingEnabled;
+    }
+
+    /**
+     * Records one view of the post. Does nothing when tracking is off.
+     *
+     * <p>Views of new posts are not recorded once the configured number of posts was viewed since
+     * the previous flush, which bounds the memory taken by requests with made-up post ids.</p>
+     *
+     * @param postId id of the viewed post
+     */
+    public void increment(Integer postId) {
+        if (!trackingEnabled) {
+            return;
+        }
+        LongAdder views = pendingViews.get(postId);
+        if (views == null) {
+            if (pendingViews.size() >= maxTrackedPosts) {
+                logger.debug("View of post {} is not counted, {} posts are already tracked", postId, maxTrackedPosts);
+                return;
+            }
+            views = pendingViews.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        views.increment();
+    }
+
+    /**
+     * Adds the views recorded since the previous flush to the real views of posts.
+     * Counters of posts that do not exist are dropped.
+     */
+    @Scheduled(fixedDelayString = "${posts.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        Map<Integer, LongAdder> drainedViews = new HashMap<>();
+        pendingViews.forEach((postId, views) -> {
+            if (pendingViews.remove(postId, views)) {
+                drainedViews.put(postId, views);
+            }
+        });
+        Map<Integer, Long> newViews = new HashMap<>();
+        collect(detachedViews, newViews);
+        collect(drainedViews, newViews);
+        detachedViews = drainedViews;
+        if (newViews.isEmpty()) {
+            return;
+        }
+        try {
+            Set<Integer> updatedPostIds = postViewRepository.addRealViews(newViews);
+            logger.debug("Flushed views of {} posts", updatedPostIds.size());
+        } catch (DataAccessException e) {
+            newViews.forEach((postId, count) -> pendingViews.computeIfAbsent(postId, id -> new LongAdder()).add(count));
+            logger.error("Failed to flush views of {} posts, they are kept for the next flush", newViews.size(), e);
+        }
+    }
+
+    private static void collect(Map<Integer, LongAdder> counters, Map<Integer, Long> newViews) {
+        counters.forEach((postId, views) -> {
+            long count = views.sumThenReset();
+            if (count > 0) {
+                newViews.merge(postId, count, Long::sum);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
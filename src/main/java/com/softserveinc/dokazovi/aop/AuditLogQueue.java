@@ -0,0 +1,142 @@
+package com.softserveinc.dokazovi.aop;
+
+import com.softserveinc.dokazovi.entity.LogEntity;
+import com.softserveinc.dokazovi.repositories.AuditLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Collects entries of the post change log in memory and writes them to the database in the background.
+ *
+ * <p>Adding an entry only puts it into a bounded queue, so the request that changed a post never waits for the
+ * log. The writer periodically drains the queue and inserts the entries in JDBC batches. When the queue is full,
+ * new entries are dropped and counted by the {@value #DROPPED_METRIC} metric; the number of waiting entries is
+ * exposed as {@value #QUEUE_SIZE_METRIC}. A batch that could not be written is tried again on the next flush,
+ * before any new entries. After {@code audit-log.max-attempts} failed attempts its entries are written one by
+ * one, and an entry that the database rejects as invalid data is logged and dropped, so a single bad entry
+ * does not block the log. When the database cannot be reached or fails temporarily, the entries are kept.
+ * A final flush runs when the application shuts down gracefully.</p>
+ */
+@Component
+public class AuditLogQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogQueue.class);
+    private static final String QUEUE_SIZE_METRIC = "audit.log.queue.size";
+    private static final String DROPPED_METRIC = "audit.log.dropped";
+
+    private final AuditLogRepository auditLogRepository;
+    private final BlockingQueue<LogEntity> queue;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Counter droppedEntries;
+    private List<LogEntity> failedBatch = List.of();
+    private int failedAttempts;
+
+    public AuditLogQueue(AuditLogRepository auditLogRepository, MeterRegistry meterRegistry,
+            @Value("${audit-log.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit-log.batch-size:500}") int batchSize,
+            @Value("${audit-log.max-attempts:3}") int maxAttempts) {
+        this.auditLogRepository = auditLogRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.droppedEntries = meterRegistry.counter(DROPPED_METRIC);
+        meterRegistry.gaugeCollectionSize(QUEUE_SIZE_METRIC, Tags.empty(), queue);
+    }
+
+    /**
+     * Queues an entry to be written. Never blocks.
+     *
+     * @param entry entry of the change log
+     */
+    public void add(LogEntity entry) {
+        if (!queue.offer(entry)) {
+            droppedEntries.increment();
+            logger.warn("Change log entry '{}' for post {} is dropped, the queue is full",
+                    entry.getChanges(), entry.getIdOfChangedPost());
+        }
+    }
+
+    /**
+     * Writes the batch that failed last time and then all queued entries, one batch at a time. Stops at the
+     * first batch that fails, that batch is kept for the next flush.
+     */
+    @Scheduled(fixedDelayString = "${audit-log.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!failedBatch.isEmpty()) {
+            boolean written = failedAttempts < maxAttempts ? write(failedBatch) : writeOneByOne(failedBatch);
+            if (!written) {
+                return;
+            }
+        }
+        List<LogEntity> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private boolean write(List<LogEntity> batch) {
+        try {
+            auditLogRepository.insertAll(batch);
+        } catch (DataAccessException e) {
+            failedBatch = batch;
+            failedAttempts++;
+            logger.error("Failed to write {} change log entries (attempt {}), they are kept for the next flush",
+                    batch.size(), failedAttempts, e);
+            return false;
+        }
+        failedBatch = List.of();
+        failedAttempts = 0;
+        return true;
+    }
+
+    private boolean writeOneByOne(List<LogEntity> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            LogEntity entry = batch.get(i);
+            try {
+                auditLogRepository.insertAll(List.of(entry));
+            } catch (DataAccessException e) {
+                if (!isDataError(e)) {
+                    failedBatch = new ArrayList<>(batch.subList(i, batch.size()));
+                    logger.error("Failed to write {} change log entries, they are kept for the next flush",
+                            failedBatch.size(), e);
+                    return false;
+                }
+                droppedEntries.increment();
+                logger.error("Change log entry '{}' for post {} is dropped, it cannot be written",
+                        entry.getChanges(), entry.getIdOfChangedPost(), e);
+            }
+        }
+        failedBatch = List.of();
+        failedAttempts = 0;
+        return true;
+    }
+
+    private static boolean isDataError(DataAccessException e) {
+        return e instanceof NonTransientDataAccessException
+                && !(e instanceof NonTransientDataAccessResourceException);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -3,11 +3,9 @@ package com.softserveinc.dokazovi.aop;
 import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
 import com.softserveinc.dokazovi.entity.LogEntity;
 import com.softserveinc.dokazovi.entity.PostEntity;
-import com.softserveinc.dokazovi.entity.UserEntity;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
-import com.softserveinc.dokazovi.repositories.LogRepository;
+import com.softserveinc.dokazovi.repositories.AuditLogRepository;
 import com.softserveinc.dokazovi.repositories.PostRepository;
-import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.JoinPoint;
@@ -17,16 +15,29 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.stereotype.Component;
 
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 
+/**
+ * Records changes of posts in the change log.
+ *
+ * <p>Entries are handed to {@link AuditLogQueue} and written in the background; entries of bulk imports are
+ * written directly with one batch per imported batch. The name of the changer is taken from the authenticated
+ * {@link UserPrincipal}, and only the status or the title of the post is read before the change, so logging adds
+ * at most one narrow query to the request.</p>
+ */
 @Component
 @Aspect
 @RequiredArgsConstructor
 public class PostLogger {
 
-    private final LogRepository logRepository;
-    private final UserRepository userRepository;
+    private final AuditLogQueue auditLogQueue;
+    private final AuditLogRepository auditLogRepository;
     private final PostRepository postRepository;
 
     @AfterReturning("execution(* com.softserveinc.dokazovi.service.impl.PostServiceImpl.saveFromUser("
@@ -46,13 +57,15 @@ public class PostLogger {
     public Boolean updatePost(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
         Object[] arguments = proceedingJoinPoint.getArgs();
         Integer postId = getPostIdFromObjectInArray(arguments);
-        String postEntityBeforeExecutingStatus = postRepository.getOne(postId).getStatus().name();
+        String postEntityBeforeExecutingStatus = postRepository.findStatusById(postId)
+                .map(PostStatus::name)
+                .orElse(null);
         final Boolean joinPoint = (Boolean) proceedingJoinPoint.proceed();
         UserPrincipal userPrincipal = getArgumentFromArrayByClassType(arguments, UserPrincipal.class);
         PostSaveFromUserDTO postSaveFromUserDTO = getArgumentFromArrayByClassType(arguments, PostSaveFromUserDTO.class);
         String postEntityChangedStatus = PostStatus.values()[postSaveFromUserDTO.getPostStatus()].name();
         String changes;
-        if (postEntityBeforeExecutingStatus.equals(postEntityChangedStatus)) {
+        if (postEntityChangedStatus.equals(postEntityBeforeExecutingStatus)) {
             changes = "Оновлено матеріал";
         } else {
             switch (postEntityChangedStatus) {
@@ -79,30 +92,59 @@ public class PostLogger {
         return joinPoint;
     }
 
-    @AfterReturning("execution(* com.softserveinc.dokazovi.service.impl.PostServiceImpl.removePostById("
+    @Around("execution(* com.softserveinc.dokazovi.service.impl.PostServiceImpl.removePostById("
             + "com.softserveinc.dokazovi.security.UserPrincipal,"
             + "Integer, boolean))")
-    public void deletePost(JoinPoint joinPoint) {
-        Object[] arguments = joinPoint.getArgs();
-        UserPrincipal userPrincipal = getArgumentFromArrayByClassType(arguments, UserPrincipal.class);
-        Integer postId = getArgumentFromArrayByClassType(arguments, Integer.class);
+    public Object deletePost(ProceedingJoinPoint proceedingJoinPoint) throws Throwable {
+        Object[] arguments = proceedingJoinPoint.getArgs();
         boolean flag = getArgumentFromArrayByClassType(arguments, Boolean.class);
         if (!flag) {
-            return;
+            return proceedingJoinPoint.proceed();
+        }
+        Integer postId = getArgumentFromArrayByClassType(arguments, Integer.class);
+        String title = postRepository.findTitleById(postId).orElse(null);
+        final Object joinPoint = proceedingJoinPoint.proceed();
+        UserPrincipal userPrincipal = getArgumentFromArrayByClassType(arguments, UserPrincipal.class);
+        makeEntryInLogs(title, userPrincipal, "Матеріал видалено", null);
+        return joinPoint;
+    }
+
+    /**
+     * Records the creation of posts that were imported in bulk, which does not go through the save endpoint.
+     * The entries are written right away with one batch, in the caller's transaction, instead of going through
+     * the bounded {@link AuditLogQueue}, which a large import would overflow.
+     *
+     * @param posts         imported posts
+     * @param userPrincipal user who imported the posts
+     */
+    public void logImportedPosts(Collection<PostEntity> posts, UserPrincipal userPrincipal) {
+        List<LogEntity> entries = posts.stream()
+                .map(post -> toLogEntry(post.getTitle(), userPrincipal, "Створено матеріал", post.getId()))
+                .collect(Collectors.toList());
+        if (!entries.isEmpty()) {
+            auditLogRepository.insertAll(entries);
         }
-        PostEntity postEntity = postRepository.getOne(postId);
-        makeEntryInLogs(postEntity.getTitle(), userPrincipal, "Матеріал видалено", null);
     }
 
     private void makeEntryInLogs(String title, UserPrincipal userPrincipal, String changes, Integer postId) {
-        UserEntity userEntity = userRepository.findByEmail(userPrincipal.getEmail()).get();
-        LogEntity log = LogEntity.builder()
+        auditLogQueue.add(toLogEntry(title, userPrincipal, changes, postId));
+    }
+
+    private static LogEntity toLogEntry(String title, UserPrincipal userPrincipal, String changes, Integer postId) {
+        return LogEntity.builder()
                 .title(title)
+                .dateOfChange(Timestamp.from(Instant.now()))
                 .changes(changes)
                 .idOfChangedPost(postId)
-                .nameOfChanger(userEntity.getLastName() + " " + userEntity.getFirstName())
+                .nameOfChanger(getNameOfChanger(userPrincipal))
                 .build();
-        logRepository.save(log);
+    }
+
+    private static String getNameOfChanger(UserPrincipal userPrincipal) {
+        if (userPrincipal.getLastName() == null && userPrincipal.getFirstName() == null) {
+            return userPrincipal.getEmail();
+        }
+        return userPrincipal.getLastName() + " " + userPrincipal.getFirstName();
     }
 
     private static <T> T getArgumentFromArrayByClassType(Object[] arguments, Class<T> clazz) {
@@ -0,0 +1,19 @@
+package com.softserveinc.dokazovi.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Message telling the other application nodes to drop a local cache entry, or the whole local cache
+ * when the key is null. The key is the string form of the cache key, so the message can be sent as JSON.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CacheInvalidation {
+
+    private String originId;
+    private String cacheName;
+    private String key;
+}
@@ -0,0 +1,74 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Broadcasts cache invalidations to all application nodes over Redis pub/sub.
+ *
+ * <p>Invalidations are sent as JSON with only string fields, so a message on the shared channel is never
+ * deserialized into anything but a {@link CacheInvalidation}.</p>
+ */
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache-invalidation";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Id of this application node, used to skip the invalidations it published itself.
+     *
+     * @return id of this node
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Tells the other nodes to drop the entry from their local cache.
+     *
+     * @param cacheName name of the cache
+     * @param key       key of the entry, or null to drop the whole cache
+     */
+    public void publish(String cacheName, Object key) {
+        CacheInvalidation invalidation = new CacheInvalidation(nodeId, cacheName,
+                key == null ? null : String.valueOf(key));
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException | DataAccessException e) {
+            logger.error("Failed to publish invalidation of cache {}", cacheName, e);
+        }
+    }
+
+    /**
+     * Reads an invalidation received on the channel.
+     *
+     * @param message body of the message
+     * @return the invalidation, or empty if the message is not a valid invalidation
+     */
+    public Optional<CacheInvalidation> read(byte[] message) {
+        try {
+            return Optional.of(objectMapper.readValue(message, CacheInvalidation.class));
+        } catch (IOException e) {
+            logger.warn("Ignoring malformed cache invalidation message", e);
+            return Optional.empty();
+        }
+    }
+}
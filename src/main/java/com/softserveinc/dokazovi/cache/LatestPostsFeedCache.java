@@ -0,0 +1,162 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.softserveinc.dokazovi.exception.BadRequestException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Keeps ready-built main page feeds (the /post/latest and /post/latestMobile responses and the
+ * /post/important carousel) in memory, one snapshot per feed and page number.
+ *
+ * <p>Snapshots are built lazily on the first request and kept for {@code posts.feed.cache.ttl-ms}, up to
+ * {@code posts.feed.cache.max-entries} snapshots, the least used ones being evicted first. The post service
+ * calls {@link #invalidate()} whenever a published post is created, changed, unpublished or removed; with Redis
+ * the invalidation is broadcast, so the other nodes drop their snapshots as well. Changes that are not made
+ * through the post service, such as view counts, show up when the snapshot expires.</p>
+ *
+ * <p>The feeds have a fixed order, so a sorted request is rejected. A feed whose content does not depend on
+ * the page size is cached for any requested size; otherwise only pages of the feed's own size are cached.</p>
+ */
+@Component
+public class LatestPostsFeedCache {
+
+    static final String CACHE_NAME = "latestPostsFeed";
+
+    private final Cache<String, Page<?>> snapshots;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public LatestPostsFeedCache(@Value("${posts.feed.cache.max-entries:64}") long maxEntries,
+            @Value("${posts.feed.cache.ttl-ms:60000}") long ttlMs,
+            ObjectProvider<CacheInvalidationPublisher> invalidationPublisher) {
+        this(maxEntries, ttlMs, invalidationPublisher.getIfAvailable(), Ticker.systemTicker());
+    }
+
+    LatestPostsFeedCache(long maxEntries, long ttlMs, CacheInvalidationPublisher invalidationPublisher,
+            Ticker ticker) {
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .ticker(ticker)
+                .executor(Runnable::run)
+                .build();
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    /**
+     * Gets the snapshot of a feed whose content does not depend on the page size.
+     *
+     * @param feed     name of the feed, e.g. "main" or "mobile"; a feed always holds items of the same type
+     * @param pageable requested page
+     * @param loader   builds the feed from the database
+     * @param <T>      type of the feed items
+     * @return ready-built feed page
+     * @throws BadRequestException if a sort is requested
+     * @see #get(String, Pageable, int, Function)
+     */
+    public <T> Page<T> get(String feed, Pageable pageable, Function<Pageable, Page<T>> loader) {
+        return get(feed, pageable, pageable.getPageSize(), loader);
+    }
+
+    /**
+     * Gets the feed snapshot for the given page, building it with the loader if it is not present.
+     * Pages of another size than {@code cachedPageSize} are built but not stored.
+     *
+     * <p>A snapshot built while an invalidation happened is returned to the caller but not stored,
+     * so data read before a commit never outlives it.</p>
+     *
+     * @param feed           name of the feed; a feed always holds items of the same type
+     * @param pageable       requested page
+     * @param cachedPageSize page size of the feed that is cached
+     * @param loader         builds the feed from the database
+     * @param <T>            type of the feed items
+     * @return ready-built feed page
+     * @throws BadRequestException if a sort is requested
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Page<T> get(String feed, Pageable pageable, int cachedPageSize, Function<Pageable, Page<T>> loader) {
+        if (pageable.getSort().isSorted()) {
+            throw new BadRequestException("Feed " + feed + " has a fixed order and cannot be sorted");
+        }
+        if (pageable.getPageSize() != cachedPageSize) {
+            return loader.apply(pageable);
+        }
+        String key = feed + ":" + pageable.getPageNumber();
+        Page<T> snapshot = (Page<T>) snapshots.getIfPresent(key);
+        if (snapshot != null) {
+            return snapshot;
+        }
+        long loadedGeneration = generation.get();
+        snapshot = loader.apply(pageable);
+        if (generation.get() == loadedGeneration) {
+            snapshots.put(key, snapshot);
+            if (generation.get() != loadedGeneration) {
+                snapshots.asMap().remove(key, snapshot);
+            }
+        }
+        return snapshot;
+    }
+
+    /**
+     * Drops all feed snapshots on all nodes. Inside a transaction the snapshots are dropped after commit,
+     * so that the next request rebuilds them from the committed data.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    clearAndPublish();
+                }
+            });
+        } else {
+            clearAndPublish();
+        }
+    }
+
+    /**
+     * Applies an invalidation published by another node.
+     *
+     * @param invalidation invalidation message
+     */
+    public void evictLocal(CacheInvalidation invalidation) {
+        if (invalidationPublisher != null && CACHE_NAME.equals(invalidation.getCacheName())
+                && !invalidationPublisher.getNodeId().equals(invalidation.getOriginId())) {
+            clear();
+        }
+    }
+
+    /**
+     * Prevents the snapshots that are being built right now from being stored, while keeping
+     * the stored ones. Used when a feed could only be built partially.
+     */
+    public void discardPendingLoads() {
+        generation.incrementAndGet();
+    }
+
+    private void clearAndPublish() {
+        clear();
+        if (invalidationPublisher != null) {
+            invalidationPublisher.publish(CACHE_NAME, null);
+        }
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        snapshots.invalidateAll();
+    }
+}
@@ -0,0 +1,87 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.softserveinc.dokazovi.config.LayeredCacheProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the application caches on first use, with the time to live and size set in {@link LayeredCacheProperties}.
+ *
+ * <p>With Redis, every cache is a {@link TwoLevelCache}: a size-bounded local cache in front of the Redis cache,
+ * kept consistent across nodes by invalidation messages. Without Redis, every cache is the local cache alone.</p>
+ */
+public class LayeredCacheManager implements CacheManager {
+
+    private final LayeredCacheProperties cacheProperties;
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a manager of local caches only.
+     *
+     * @param cacheProperties time to live and size of the caches
+     */
+    public LayeredCacheManager(LayeredCacheProperties cacheProperties) {
+        this(cacheProperties, null, null);
+    }
+
+    /**
+     * Creates a manager of local caches backed by Redis caches.
+     *
+     * @param cacheProperties       time to live and size of the caches
+     * @param redisCacheManager     provides the Redis caches
+     * @param invalidationPublisher broadcasts invalidations to the other nodes
+     */
+    public LayeredCacheManager(LayeredCacheProperties cacheProperties, RedisCacheManager redisCacheManager,
+            CacheInvalidationPublisher invalidationPublisher) {
+        this.cacheProperties = cacheProperties;
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Applies an invalidation published by another node to the local cache.
+     *
+     * @param invalidation invalidation message
+     */
+    public void evictLocal(CacheInvalidation invalidation) {
+        if (invalidationPublisher == null || invalidationPublisher.getNodeId().equals(invalidation.getOriginId())) {
+            return;
+        }
+        Cache cache = caches.get(invalidation.getCacheName());
+        if (cache instanceof TwoLevelCache) {
+            ((TwoLevelCache) cache).evictLocalByString(invalidation.getKey());
+        }
+    }
+
+    private Cache createCache(String name) {
+        LayeredCacheProperties.Spec spec = cacheProperties.getSpec(name);
+        CaffeineCache local = new CaffeineCache(name, Caffeine.newBuilder()
+                .expireAfterWrite(spec.getTtl())
+                .maximumSize(spec.getMaxSize())
+                .build(), false);
+        if (redisCacheManager == null) {
+            return local;
+        }
+        return new TwoLevelCache(local, redisCacheManager.getCache(name), invalidationPublisher);
+    }
+}
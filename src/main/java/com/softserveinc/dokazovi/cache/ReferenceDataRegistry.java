@@ -0,0 +1,195 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.softserveinc.dokazovi.dto.city.CityDTO;
+import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
+import com.softserveinc.dokazovi.dto.origin.OriginDTO;
+import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
+import com.softserveinc.dokazovi.dto.region.RegionDTO;
+import com.softserveinc.dokazovi.mapper.CityMapper;
+import com.softserveinc.dokazovi.mapper.DirectionMapper;
+import com.softserveinc.dokazovi.mapper.OriginMapper;
+import com.softserveinc.dokazovi.mapper.PostTypeMapper;
+import com.softserveinc.dokazovi.mapper.RegionMapper;
+import com.softserveinc.dokazovi.repositories.CityRepository;
+import com.softserveinc.dokazovi.repositories.DirectionRepository;
+import com.softserveinc.dokazovi.repositories.OriginRepository;
+import com.softserveinc.dokazovi.repositories.PostTypeRepository;
+import com.softserveinc.dokazovi.repositories.RegionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the reference data lists (directions, regions, cities, origins and post types) from in-memory snapshots.
+ *
+ * <p>The snapshots are loaded when the application starts. The services mark a snapshot as stale when they change
+ * its data, and it is rebuilt from the database on the next read after the change is committed. All snapshots are
+ * also refreshed periodically, to pick up changes made by other nodes or directly in the database. A refresh that
+ * finds the same data keeps the current snapshot and its version.</p>
+ */
+@Component
+public class ReferenceDataRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceDataRegistry.class);
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final ReferenceData<DirectionDTO> directions;
+    private final ReferenceData<RegionDTO> regions;
+    private final ReferenceData<CityDTO> cities;
+    private final ReferenceData<OriginDTO> origins;
+    private final ReferenceData<PostTypeDTO> postTypes;
+
+    public ReferenceDataRegistry(DirectionRepository directionRepository, DirectionMapper directionMapper,
+            RegionRepository regionRepository, RegionMapper regionMapper,
+            CityRepository cityRepository, CityMapper cityMapper,
+            OriginRepository originRepository, OriginMapper originMapper,
+            PostTypeRepository postTypeRepository, PostTypeMapper postTypeMapper) {
+        directions = new ReferenceData<>("directions",
+                () -> map(directionRepository.findAll(BY_ID), directionMapper::toDirectionDTO));
+        regions = new ReferenceData<>("regions",
+                () -> map(regionRepository.findAll(BY_ID), regionMapper::toRegionDTO));
+        cities = new ReferenceData<>("cities",
+                () -> map(cityRepository.findAll(BY_ID), cityMapper::toCityDTO));
+        origins = new ReferenceData<>("origins",
+                () -> map(originRepository.findAll(BY_ID), originMapper::toOriginDTO));
+        postTypes = new ReferenceData<>("postTypes",
+                () -> map(postTypeRepository.findAll(BY_ID), postTypeMapper::toPostTypeDTO));
+    }
+
+    public ReferenceDataSnapshot<DirectionDTO> getDirections() {
+        return directions.get();
+    }
+
+    public ReferenceDataSnapshot<RegionDTO> getRegions() {
+        return regions.get();
+    }
+
+    public ReferenceDataSnapshot<CityDTO> getCities() {
+        return cities.get();
+    }
+
+    public ReferenceDataSnapshot<OriginDTO> getOrigins() {
+        return origins.get();
+    }
+
+    public ReferenceDataSnapshot<PostTypeDTO> getPostTypes() {
+        return postTypes.get();
+    }
+
+    /**
+     * Marks the directions snapshot as stale. Inside a transaction it is marked after commit.
+     */
+    public void invalidateDirections() {
+        afterCommit(directions::markStale);
+    }
+
+    /**
+     * Marks the regions snapshot as stale. Inside a transaction it is marked after commit.
+     */
+    public void invalidateRegions() {
+        afterCommit(regions::markStale);
+    }
+
+    /**
+     * Loads all snapshots when the application starts, so that the first requests are served from memory.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAll() {
+        try {
+            refreshAll();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to load reference data, it will be loaded on first use", e);
+        }
+    }
+
+    /**
+     * Reloads all snapshots from the database.
+     */
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval-ms:300000}",
+            initialDelayString = "${reference-data.refresh-interval-ms:300000}")
+    public void refreshAll() {
+        List.of(directions, regions, cities, origins, postTypes).forEach(data -> {
+            data.markStale();
+            data.get();
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static <E, D> List<D> map(List<E> entities, Function<E, D> mapper) {
+        return entities.stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+    }
+
+    private static final class ReferenceData<T> {
+
+        private final String name;
+        private final Supplier<List<T>> loader;
+        private volatile ReferenceDataSnapshot<T> snapshot;
+        private volatile boolean stale = true;
+
+        private ReferenceData(String name, Supplier<List<T>> loader) {
+            this.name = name;
+            this.loader = loader;
+        }
+
+        private ReferenceDataSnapshot<T> get() {
+            ReferenceDataSnapshot<T> current = snapshot;
+            return current != null && !stale ? current : reload();
+        }
+
+        private void markStale() {
+            stale = true;
+        }
+
+        /**
+         * Clears the stale flag before loading, so that a change committed while loading marks the snapshot stale
+         * again and the next read reloads it. If loading fails, the previous snapshot is served.
+         */
+        private synchronized ReferenceDataSnapshot<T> reload() {
+            if (snapshot != null && !stale) {
+                return snapshot;
+            }
+            stale = false;
+            try {
+                ReferenceDataSnapshot<T> loaded = ReferenceDataSnapshot.of(name, loader.get());
+                if (snapshot == null || !snapshot.getItems().equals(loaded.getItems())) {
+                    snapshot = loaded;
+                    logger.info("Loaded {} reference data, version {}", name, loaded.getVersion());
+                }
+                return snapshot;
+            } catch (RuntimeException e) {
+                stale = true;
+                if (snapshot == null) {
+                    throw e;
+                }
+                logger.warn("Failed to reload {} reference data, serving version {}", name, snapshot.getVersion(), e);
+                return snapshot;
+            }
+        }
+    }
+}
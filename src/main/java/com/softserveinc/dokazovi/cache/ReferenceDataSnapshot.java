@@ -0,0 +1,61 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * Immutable copy of one reference data list, e.g. all directions, together with its version.
+ *
+ * <p>The version is the SHA-256 digest of the items serialized as JSON, so it is the same on every application
+ * node and after a restart as long as the data does not change, and any change of the data changes it.
+ * Controllers send it as the {@code ETag} of the list.</p>
+ *
+ * @param <T> type of the list items
+ */
+public final class ReferenceDataSnapshot<T> {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final List<T> items;
+    private final String version;
+
+    private ReferenceDataSnapshot(List<T> items, String version) {
+        this.items = items;
+        this.version = version;
+    }
+
+    /**
+     * Creates a snapshot of the given items.
+     *
+     * @param name  name of the reference data, used as the version prefix
+     * @param items items of the snapshot
+     * @param <T>   type of the items
+     * @return new snapshot
+     */
+    public static <T> ReferenceDataSnapshot<T> of(String name, List<T> items) {
+        List<T> copy = List.copyOf(items);
+        return new ReferenceDataSnapshot<>(copy, name + "-" + digest(copy));
+    }
+
+    private static String digest(List<?> items) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(OBJECT_MAPPER.writeValueAsBytes(items));
+            return String.format("%064x", new BigInteger(1, digest));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute the version of reference data", e);
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+}
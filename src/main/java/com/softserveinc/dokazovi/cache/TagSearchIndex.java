@@ -0,0 +1,231 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.softserveinc.dokazovi.dto.tag.TagDTO;
+import com.softserveinc.dokazovi.entity.TagEntity;
+import com.softserveinc.dokazovi.repositories.TagRepository;
+import com.softserveinc.dokazovi.repositories.TagUsageRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index for tag autocomplete.
+ *
+ * <p>Every tag is indexed under each substring of its lower-cased text that is up to three characters long, and all
+ * tags are indexed under the empty string. Each posting list is sorted by rank: the tags used by most posts first,
+ * then alphabetically. A query of up to three characters is answered by taking the head of one posting list; a longer
+ * query scans the shortest posting list of its trigrams in rank order and stops after {@code limit} matches.</p>
+ *
+ * <p>A saved tag is inserted into its posting lists without rebuilding the index. The usage counts are refreshed by
+ * rebuilding the index periodically.</p>
+ *
+ * <p>The index is local to the node and is not invalidated across nodes. A tag saved on another node, or changed
+ * directly in the database, is only found here after the next rebuild, so autocomplete may miss it for up to
+ * {@code tags.index.rebuild-interval-ms} (10 minutes by default). Usage counts lag behind by the same interval.
+ * Lower the interval if that staleness matters; each rebuild reads all tags and their post counts.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class TagSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TagSearchIndex.class);
+    private static final int GRAM_LENGTH = 3;
+    private static final Comparator<IndexedTag> BY_RANK = Comparator.comparingInt(IndexedTag::getUsageCount)
+            .reversed()
+            .thenComparing(IndexedTag::getNormalizedTag)
+            .thenComparing(IndexedTag::getId);
+
+    private final TagRepository tagRepository;
+    private final TagUsageRepository tagUsageRepository;
+
+    private volatile Map<String, IndexedTag[]> postings;
+
+    /**
+     * Finds the tags containing the given text, ignoring case, most used first.
+     *
+     * @param value text to find
+     * @param limit maximum number of tags to return
+     * @return found tags
+     */
+    public List<TagDTO> search(String value, int limit) {
+        String query = normalize(value);
+        IndexedTag[] candidates = findCandidates(getPostings(), query);
+        if (candidates == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+        boolean exact = query.length() <= GRAM_LENGTH;
+        List<TagDTO> tags = new ArrayList<>(Math.min(limit, candidates.length));
+        for (IndexedTag candidate : candidates) {
+            if (tags.size() == limit) {
+                break;
+            }
+            if (exact || candidate.getNormalizedTag().contains(query)) {
+                tags.add(candidate.toTagDTO());
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * Adds a new tag to the index. Only the posting lists of the tag's substrings are replaced.
+     *
+     * @param id  id of the tag
+     * @param tag text of the tag
+     */
+    public synchronized void add(Integer id, String tag) {
+        Map<String, IndexedTag[]> current = postings;
+        if (current == null) {
+            return;
+        }
+        IndexedTag indexedTag = new IndexedTag(id, tag, 0);
+        for (String gram : grams(indexedTag.getNormalizedTag())) {
+            current.merge(gram, new IndexedTag[]{indexedTag}, TagSearchIndex::insert);
+        }
+    }
+
+    /**
+     * Builds the index when the application starts, so that the first searches are served from memory.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            rebuild();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to build the tag index, it will be built on first use", e);
+        }
+    }
+
+    /**
+     * Rebuilds the index from the database, taking the current usage counts of the tags.
+     */
+    @Scheduled(fixedDelayString = "${tags.index.rebuild-interval-ms:600000}",
+            initialDelayString = "${tags.index.rebuild-interval-ms:600000}")
+    public synchronized void rebuild() {
+        Map<Integer, Integer> postCounts = tagUsageRepository.findPostCountsByTagId();
+        Map<String, List<IndexedTag>> lists = new HashMap<>();
+        List<TagEntity> tags = tagRepository.findAll();
+        for (TagEntity tag : tags) {
+            IndexedTag indexedTag = new IndexedTag(tag.getId(), tag.getTag(), postCounts.getOrDefault(tag.getId(), 0));
+            for (String gram : grams(indexedTag.getNormalizedTag())) {
+                lists.computeIfAbsent(gram, key -> new ArrayList<>()).add(indexedTag);
+            }
+        }
+        Map<String, IndexedTag[]> rebuilt = new ConcurrentHashMap<>(lists.size() * 4 / 3 + 1);
+        lists.forEach((gram, list) -> {
+            IndexedTag[] sorted = list.toArray(new IndexedTag[0]);
+            Arrays.sort(sorted, BY_RANK);
+            rebuilt.put(gram, sorted);
+        });
+        postings = rebuilt;
+        logger.info("Indexed {} tags under {} substrings", tags.size(), rebuilt.size());
+    }
+
+    private Map<String, IndexedTag[]> getPostings() {
+        Map<String, IndexedTag[]> current = postings;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (postings == null) {
+                rebuild();
+            }
+            return postings;
+        }
+    }
+
+    private static IndexedTag[] findCandidates(Map<String, IndexedTag[]> index, String query) {
+        if (query.length() <= GRAM_LENGTH) {
+            return index.get(query);
+        }
+        IndexedTag[] shortest = null;
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            IndexedTag[] candidates = index.get(query.substring(i, i + GRAM_LENGTH));
+            if (candidates == null) {
+                return null;
+            }
+            if (shortest == null || candidates.length < shortest.length) {
+                shortest = candidates;
+            }
+        }
+        return shortest;
+    }
+
+    private static IndexedTag[] insert(IndexedTag[] sorted, IndexedTag[] added) {
+        int position = Arrays.binarySearch(sorted, added[0], BY_RANK);
+        if (position >= 0) {
+            return sorted;
+        }
+        int insertionPoint = -position - 1;
+        IndexedTag[] result = new IndexedTag[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertionPoint);
+        result[insertionPoint] = added[0];
+        System.arraycopy(sorted, insertionPoint, result, insertionPoint + 1, sorted.length - insertionPoint);
+        return result;
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        grams.add("");
+        for (int length = 1; length <= GRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class IndexedTag {
+
+        private final Integer id;
+        private final String tag;
+        private final String normalizedTag;
+        private final int usageCount;
+
+        private IndexedTag(Integer id, String tag, int usageCount) {
+            this.id = id;
+            this.tag = tag;
+            this.normalizedTag = normalize(tag);
+            this.usageCount = usageCount;
+        }
+
+        private Integer getId() {
+            return id;
+        }
+
+        private String getNormalizedTag() {
+            return normalizedTag;
+        }
+
+        private int getUsageCount() {
+            return usageCount;
+        }
+
+        private TagDTO toTagDTO() {
+            return TagDTO.builder()
+                    .id(id)
+                    .tag(tag)
+                    .build();
+        }
+    }
+}
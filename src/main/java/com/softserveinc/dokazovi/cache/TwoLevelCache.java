@@ -0,0 +1,166 @@
+package com.softserveinc.dokazovi.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache that reads through a local in-memory cache (L1) to the shared Redis cache (L2).
+ *
+ * <p>Hits in the local cache are served without a network round trip. Every write or eviction goes
+ * to both levels. Evictions and writes that replace a different value are broadcast to the other nodes, which
+ * drop the entry from their local cache, so they read the new value from Redis on their next access. Filling
+ * an entry that Redis did not have is not broadcast, since no other node can hold it locally.</p>
+ *
+ * <p>Null values are not cached, neither locally nor in Redis: a null result is returned to the caller and
+ * loaded again on the next access.</p>
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache local;
+    private final Cache remote;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    public TwoLevelCache(Cache local, Cache remote, CacheInvalidationPublisher invalidationPublisher) {
+        this.local = local;
+        this.remote = remote;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return local.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper value = local.get(key);
+        if (value == null) {
+            value = remote.get(key);
+            if (value != null && value.get() != null) {
+                local.put(key, value.get());
+            }
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper value = get(key);
+        Object cachedValue = value != null ? value.get() : null;
+        if (cachedValue != null && type != null && !type.isInstance(cachedValue)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + cachedValue);
+        }
+        return (T) cachedValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper value = local.get(key);
+        if (value != null) {
+            return (T) value.get();
+        }
+        value = remote.get(key);
+        if (value != null && value.get() != null) {
+            local.put(key, value.get());
+            return (T) value.get();
+        }
+        T loadedValue;
+        try {
+            loadedValue = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (loadedValue != null) {
+            put(key, loadedValue);
+        }
+        return loadedValue;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            if (remote.get(key) != null) {
+                evict(key);
+            } else {
+                local.evict(key);
+            }
+            return;
+        }
+        ValueWrapper existingValue = remote.putIfAbsent(key, value);
+        if (existingValue != null && !Objects.equals(existingValue.get(), value)) {
+            remote.put(key, value);
+            invalidationPublisher.publish(getName(), key);
+        }
+        local.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (value == null) {
+            return get(key);
+        }
+        ValueWrapper existingValue = remote.putIfAbsent(key, value);
+        local.put(key, existingValue == null ? value : existingValue.get());
+        return existingValue;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.evict(key);
+        invalidationPublisher.publish(getName(), key);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.clear();
+        invalidationPublisher.publish(getName(), null);
+    }
+
+    /**
+     * Drops an entry, or all entries when the key is null, from the local cache only.
+     *
+     * @param key key of the entry
+     */
+    public void evictLocal(Object key) {
+        if (key == null) {
+            local.clear();
+        } else {
+            local.evict(key);
+        }
+    }
+
+    /**
+     * Drops the entries whose key has the given string form, or all entries when it is null, from the local
+     * cache only. Used for invalidations received from other nodes, which carry the key as a string.
+     *
+     * @param key string form of the key
+     */
+    public void evictLocalByString(String key) {
+        if (key == null) {
+            local.clear();
+            return;
+        }
+        Object nativeCache = local.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache) {
+            ((com.github.benmanes.caffeine.cache.Cache<?, ?>) nativeCache).asMap().keySet()
+                    .removeIf(localKey -> key.equals(String.valueOf(localKey)));
+        } else if (nativeCache instanceof Map) {
+            ((Map<?, ?>) nativeCache).keySet().removeIf(localKey -> key.equals(String.valueOf(localKey)));
+        } else {
+            local.clear();
+        }
+    }
+}
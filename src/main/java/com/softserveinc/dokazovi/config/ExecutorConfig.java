@@ -0,0 +1,38 @@
+package com.softserveinc.dokazovi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded thread pools used for background and fan-out work.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    @Value("${posts.feed.executor.pool-size:8}")
+    private int postFeedPoolSize;
+
+    @Value("${posts.feed.executor.queue-capacity:64}")
+    private int postFeedQueueCapacity;
+
+    /**
+     * Runs the main page feed section queries concurrently. When the pool and its queue are full
+     * the section is rejected and left out of the feed, so the section timeout still bounds the request.
+     *
+     * @return executor for main page feed sections
+     */
+    @Bean(name = "postFeedExecutor")
+    public ThreadPoolTaskExecutor postFeedExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(postFeedPoolSize);
+        executor.setMaxPoolSize(postFeedPoolSize);
+        executor.setQueueCapacity(postFeedQueueCapacity);
+        executor.setThreadNamePrefix("post-feed-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
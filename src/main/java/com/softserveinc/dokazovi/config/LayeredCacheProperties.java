@@ -0,0 +1,76 @@
+package com.softserveinc.dokazovi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Time to live and size of the application caches.
+ *
+ * <p>{@code cache.defaults.*} applies to every cache, {@code cache.specs.<cache name>.*} overrides it
+ * for one cache, e.g. {@code cache.specs.viewCount.ttl=30m}.</p>
+ */
+@ConfigurationProperties(prefix = "cache")
+public class LayeredCacheProperties {
+
+    private final Spec defaults = new Spec(Duration.ofMinutes(15), 1000L);
+    private final Map<String, Spec> specs = new HashMap<>();
+
+    public static class Spec {
+
+        private Duration ttl;
+        private Long maxSize;
+
+        public Spec() {
+        }
+
+        public Spec(Duration ttl, Long maxSize) {
+            this.ttl = ttl;
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Time an entry is kept after it was written, both in the local and in the Redis cache.
+         */
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        /**
+         * Maximum number of entries kept in the local cache.
+         */
+        public Long getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Long maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public Map<String, Spec> getSpecs() {
+        return specs;
+    }
+
+    /**
+     * Gets the settings of a cache, taking the defaults for the values the cache does not set.
+     *
+     * @param cacheName name of the cache
+     * @return settings of the cache
+     */
+    public Spec getSpec(String cacheName) {
+        Spec spec = specs.getOrDefault(cacheName, defaults);
+        return new Spec(spec.getTtl() != null ? spec.getTtl() : defaults.getTtl(),
+                spec.getMaxSize() != null ? spec.getMaxSize() : defaults.getMaxSize());
+    }
+}
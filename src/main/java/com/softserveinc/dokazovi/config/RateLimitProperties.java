@@ -0,0 +1,98 @@
+package com.softserveinc.dokazovi.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Limits of the expensive endpoints, as token buckets.
+ *
+ * <p>{@code rate-limit.limits.<limit name>.capacity} tokens are refilled evenly over
+ * {@code rate-limit.limits.<limit name>.period}, e.g. {@code rate-limit.limits.login-ip.capacity=20} and
+ * {@code rate-limit.limits.login-ip.period=1m}. Limits that are not configured take {@code rate-limit.defaults}.</p>
+ */
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maxKeys = 100000;
+    private final Limit defaults = new Limit(10, Duration.ofMinutes(1));
+    private final Map<String, Limit> limits = new HashMap<>();
+
+    public static class Limit {
+
+        private Integer capacity;
+        private Duration period;
+
+        public Limit() {
+        }
+
+        public Limit(Integer capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+
+        /**
+         * Number of requests allowed in a burst.
+         */
+        public Integer getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(Integer capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Time in which a drained bucket fills up again.
+         */
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Number of buckets the local rate limiter keeps at most, one per client address or account.
+     */
+    public long getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(long maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Limit getDefaults() {
+        return defaults;
+    }
+
+    public Map<String, Limit> getLimits() {
+        return limits;
+    }
+
+    /**
+     * Gets a limit, taking the defaults for the values the limit does not set.
+     *
+     * @param limitName name of the limit
+     * @return the limit
+     */
+    public Limit getLimit(String limitName) {
+        Limit limit = limits.getOrDefault(limitName, defaults);
+        return new Limit(limit.getCapacity() != null ? limit.getCapacity() : defaults.getCapacity(),
+                limit.getPeriod() != null ? limit.getPeriod() : defaults.getPeriod());
+    }
+}
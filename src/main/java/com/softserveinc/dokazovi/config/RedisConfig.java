@@ -1,8 +1,20 @@
 package com.softserveinc.dokazovi.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserveinc.dokazovi.cache.CacheInvalidationPublisher;
+import com.softserveinc.dokazovi.cache.LatestPostsFeedCache;
+import com.softserveinc.dokazovi.cache.LayeredCacheManager;
+import com.softserveinc.dokazovi.ratelimit.LocalRateLimiter;
+import com.softserveinc.dokazovi.ratelimit.RateLimiter;
+import com.softserveinc.dokazovi.ratelimit.RedisRateLimiter;
+import com.softserveinc.dokazovi.repositories.RefreshTokenRepository;
+import com.softserveinc.dokazovi.repositories.UserRepository;
+import com.softserveinc.dokazovi.security.JpaRefreshTokenStore;
+import com.softserveinc.dokazovi.security.RedisRefreshTokenStore;
+import com.softserveinc.dokazovi.security.RefreshTokenStore;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,10 +22,15 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 @Configuration
 public class RedisConfig {
@@ -32,6 +49,9 @@ public class RedisConfig {
 	@Value("${redis.password:none}")
 	private String redisPassword;
 
+	@Value("${refresh-token.purge-batch-size:1000}")
+	private int refreshTokenPurgeBatchSize;
+
 	public boolean isRedisEnabled() {
 		return redisEnabled;
 	}
@@ -53,20 +73,89 @@ public class RedisConfig {
 		return Companion.redisConnectionFactory;
 	}
 
+	/**
+	 * Local caches, backed by Redis caches when Redis is enabled. See {@link LayeredCacheManager}.
+	 */
 	@Bean
-	public CacheManager cacheManager() {
-		String[] cacheNames = { "viewCount" };
+	public LayeredCacheManager cacheManager(LayeredCacheProperties cacheProperties,
+			ObjectProvider<CacheInvalidationPublisher> invalidationPublisher) {
 		if (redisEnabled) {
-			RedisCacheConfiguration cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
-					.disableCachingNullValues()
-					.entryTtl(Duration.ofMinutes(15))
-					.serializeValuesWith(
-							RedisSerializationContext.SerializationPair.fromSerializer(
-									RedisSerializer.json()));
-			return RedisCacheManager.RedisCacheManagerBuilder.fromConnectionFactory(Companion.redisConnectionFactory)
-					.cacheDefaults(cacheConfiguration).build();
+			Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
+			cacheProperties.getSpecs().keySet().forEach(cacheName -> cacheConfigurations.put(cacheName,
+					redisCacheConfiguration(cacheProperties.getSpec(cacheName).getTtl())));
+			RedisCacheManager redisCacheManager = RedisCacheManager.RedisCacheManagerBuilder
+					.fromConnectionFactory(redisConnectionFactory())
+					.cacheDefaults(redisCacheConfiguration(cacheProperties.getDefaults().getTtl()))
+					.withInitialCacheConfigurations(cacheConfigurations)
+					.build();
+			redisCacheManager.initializeCaches();
+			return new LayeredCacheManager(cacheProperties, redisCacheManager, invalidationPublisher.getObject());
 		} else {
-			return new ConcurrentMapCacheManager(cacheNames);
+			return new LayeredCacheManager(cacheProperties);
 		}
 	}
+
+	/**
+	 * Broadcasts invalidations of the local caches to the other nodes.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "redis.enabled", havingValue = "true")
+	public CacheInvalidationPublisher cacheInvalidationPublisher(ObjectMapper objectMapper) {
+		return new CacheInvalidationPublisher(new StringRedisTemplate(redisConnectionFactory()), objectMapper);
+	}
+
+	/**
+	 * Delivers invalidations published by the other nodes to the local caches.
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "redis.enabled", havingValue = "true")
+	public RedisMessageListenerContainer cacheInvalidationListenerContainer(LayeredCacheManager cacheManager,
+			LatestPostsFeedCache latestPostsFeedCache, CacheInvalidationPublisher invalidationPublisher) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory());
+		container.addMessageListener((message, pattern) -> invalidationPublisher.read(message.getBody())
+						.ifPresent(invalidation -> {
+							cacheManager.evictLocal(invalidation);
+							latestPostsFeedCache.evictLocal(invalidation);
+						}),
+				new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+		return container;
+	}
+
+	/**
+	 * Refresh tokens, kept in Redis with a TTL when Redis is enabled and in the database otherwise.
+	 */
+	@Bean
+	public RefreshTokenStore refreshTokenStore(RefreshTokenRepository refreshTokenRepository,
+			UserRepository userRepository) {
+		if (redisEnabled) {
+			StringRedisTemplate template = new StringRedisTemplate(redisConnectionFactory());
+			return new RedisRefreshTokenStore(template, userRepository);
+		} else {
+			return new JpaRefreshTokenStore(refreshTokenRepository, refreshTokenPurgeBatchSize);
+		}
+	}
+
+	/**
+	 * Rate limits, shared by all nodes through Redis when Redis is enabled and local to the node otherwise.
+	 */
+	@Bean
+	public RateLimiter rateLimiter(RateLimitProperties rateLimitProperties) {
+		LocalRateLimiter localRateLimiter = new LocalRateLimiter(rateLimitProperties.getMaxKeys());
+		if (redisEnabled) {
+			StringRedisTemplate template = new StringRedisTemplate(redisConnectionFactory());
+			return new RedisRateLimiter(template, localRateLimiter);
+		} else {
+			return localRateLimiter;
+		}
+	}
+
+	private RedisCacheConfiguration redisCacheConfiguration(Duration ttl) {
+		return RedisCacheConfiguration.defaultCacheConfig()
+				.disableCachingNullValues()
+				.entryTtl(ttl)
+				.serializeValuesWith(
+						RedisSerializationContext.SerializationPair.fromSerializer(
+								RedisSerializer.json()));
+	}
 }
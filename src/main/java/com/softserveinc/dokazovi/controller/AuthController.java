@@ -7,6 +7,7 @@ import com.softserveinc.dokazovi.dto.payload.RefreshTokenRequest;
 import com.softserveinc.dokazovi.entity.UserEntity;
 import com.softserveinc.dokazovi.exception.BadRequestException;
 import com.softserveinc.dokazovi.exception.TokenRefreshException;
+import com.softserveinc.dokazovi.ratelimit.RequestRateLimiter;
 import com.softserveinc.dokazovi.security.TokenProvider;
 import com.softserveinc.dokazovi.security.UserPrincipal;
 import com.softserveinc.dokazovi.service.ProviderService;
@@ -26,6 +27,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 
@@ -47,6 +49,7 @@ public class AuthController {
     private final UserService userService;
     private final ProviderService providerService;
     private final RefreshTokenService refreshTokenService;
+    private final RequestRateLimiter requestRateLimiter;
 
     /**
      * Authenticates user using email and password.
@@ -59,7 +62,8 @@ public class AuthController {
      */
     @PostMapping(AUTH_LOGIN)
     public ResponseEntity<AuthResponse> authenticateUser(@Valid @RequestBody LoginRequest loginRequest,
-            HttpServletResponse response) {
+            HttpServletRequest request, HttpServletResponse response) {
+        requestRateLimiter.acquire(RequestRateLimiter.LOGIN, request, loginRequest.getEmail());
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(
                         loginRequest.getEmail(),
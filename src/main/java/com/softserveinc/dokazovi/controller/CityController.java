@@ -1,9 +1,11 @@
 package com.softserveinc.dokazovi.controller;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.city.CityDTO;
 import com.softserveinc.dokazovi.service.CityService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,9 +28,12 @@ public class CityController {
     @GetMapping
     @ApiOperation("Get all cities")
     public ResponseEntity<List<CityDTO>> getAllCities() {
+        ReferenceDataSnapshot<CityDTO> cities = cityService.findAllCities();
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(cityService.findAllCities());
+                .cacheControl(CacheControl.noCache())
+                .eTag(cities.getVersion())
+                .body(cities.getItems());
     }
 
     @GetMapping(CITIES_BY_REGION)
@@ -1,9 +1,11 @@
 package com.softserveinc.dokazovi.controller;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
 import com.softserveinc.dokazovi.service.DirectionService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,16 +29,22 @@ public class DirectionController {
     private final DirectionService directionService;
 
     /**
-     * Gets all directions from the database.
+     * Gets all directions.
+     *
+     * <p>The response carries the version of the directions as its ETag, so that clients can revalidate
+     * their copy and get 'NOT MODIFIED' HttpStatus while it is current.</p>
      *
      * @return list of all directions and 'OK' HttpStatus
      */
     @GetMapping
     @ApiOperation(value = "Get all directions")
     public ResponseEntity<List<DirectionDTO>> getAllDirections() {
+        ReferenceDataSnapshot<DirectionDTO> directions = directionService.findAllDirections();
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(directionService.findAllDirections());
+                .cacheControl(CacheControl.noCache())
+                .eTag(directions.getVersion())
+                .body(directions.getItems());
     }
 
     /**
@@ -13,14 +13,18 @@ public final class EndPoints {
     public static final String POST = "/post";
     public static final String POST_TYPE = "/type";
     public static final String POST_LATEST = "/latest-all";
+    public static final String POST_LATEST_BY_CURSOR = "/latest-by-cursor";
+    public static final String POST_SEARCH = "/search";
     public static final String POST_LATEST_BY_POST_TYPES_AND_ORIGINS = "/latest";
     public static final String POST_LATEST_BY_POST_TYPES_AND_ORIGINS_FOR_MOBILE = "/latestMobile";
     public static final String POST_IMPORTANT = "/important";
     public static final String POST_SET_IMPORTANT = "/set-important";
     public static final String POST_SET_FAKE_VIEW = "/set-fake-view/{postId}";
+    public static final String POST_REGISTER_VIEW = "/{postId}/view";
     public static final String POST_GET_POST_BY_ID = "/{postId}";
     public static final String POST_GET_POST_BY_AUTHOR_ID_AND_DIRECTIONS = "/by-authorid-and-directions";
     public static final String POST_ALL_POSTS = "/all-posts";
+    public static final String POST_IMPORT = "/import";
     public static final String USER = "/user";
     public static final String USER_RESET_PASSWORD = "/reset-password";
     public static final String USER_CHANGE_PASSWORD = "/change-password";
@@ -61,6 +65,7 @@ public final class EndPoints {
     public static final String AUTHOR = "/author";
     public static final String LOG = "/log";
     public static final String POST_LOGS = "/post-logs";
+    public static final String POST_LOGS_BY_CURSOR = "/post-logs/by-cursor";
     public static final String POST_LOG_BY_ID = "/{logId}";
 
     /**
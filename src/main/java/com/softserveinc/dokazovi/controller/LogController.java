@@ -1,6 +1,7 @@
 package com.softserveinc.dokazovi.controller;
 
 import com.softserveinc.dokazovi.annotations.ApiPageable;
+import com.softserveinc.dokazovi.dto.log.PostLogCursorPageDTO;
 import com.softserveinc.dokazovi.dto.log.PostLogDTO;
 import com.softserveinc.dokazovi.service.LogService;
 import io.swagger.annotations.ApiOperation;
@@ -26,6 +27,7 @@ import java.time.LocalDate;
 
 import static com.softserveinc.dokazovi.controller.EndPoints.LOG;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LOGS;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_LOGS_BY_CURSOR;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LOG_BY_ID;
 
 @RestController
@@ -57,6 +59,30 @@ public class LogController {
                 .body(logService.findAllPostLogs(pageable, surname, title, startDate, endDate));
     }
 
+    @GetMapping(POST_LOGS_BY_CURSOR)
+    @PreAuthorize("hasAuthority('EDIT_AUTHOR')")
+    @ApiOperation(value = "get post logs using cursor pagination, newest first",
+            authorizations = {@Authorization(value = "Authorization")})
+    public ResponseEntity<PostLogCursorPageDTO> getPostLogsByCursor(
+            @ApiParam(value = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Page size")
+            @RequestParam(defaultValue = "12") int size,
+            @ApiParam(value = "Logs by surname", type = "string")
+            @RequestParam(required = false, defaultValue = "") String surname,
+            @ApiParam(value = "Logs by title", type = "string")
+            @RequestParam(required = false, defaultValue = "") String title,
+            @ApiParam(value = "yyyy-MM-dd")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @ApiParam(value = "yyyy-MM-dd")
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(logService.findPostLogsByCursor(surname, title, startDate, endDate, cursor, size));
+    }
+
     @GetMapping(POST_LOG_BY_ID)
     @PreAuthorize("hasAuthority('EDIT_AUTHOR')")
     @ApiOperation(value = "get log by id",
@@ -1,9 +1,11 @@
 package com.softserveinc.dokazovi.controller;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.origin.OriginDTO;
 import com.softserveinc.dokazovi.service.OriginService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -22,15 +24,21 @@ public class OriginController {
     private final OriginService originService;
 
     /**
-     * This method will get all origins from database.
+     * This method will get all origins.
+     *
+     * <p>The response carries the version of the origins as its ETag, so that clients can revalidate
+     * their copy and get 'NOT MODIFIED' HttpStatus while it is current.</p>
      *
      * @return list of all origins and 'OK' HttpStatus
      */
     @GetMapping
     @ApiOperation(value = "Get all origins")
     public ResponseEntity<List<OriginDTO>> getAllOrigins() {
+        ReferenceDataSnapshot<OriginDTO> origins = originService.findAllOrigins();
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(originService.findAllOrigins());
+                .cacheControl(CacheControl.noCache())
+                .eTag(origins.getVersion())
+                .body(origins.getItems());
     }
 }
\ No newline at end of file
@@ -1,16 +1,23 @@
 package com.softserveinc.dokazovi.controller;
 
 import com.softserveinc.dokazovi.annotations.ApiPageable;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.payload.ApiResponseMessage;
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import com.softserveinc.dokazovi.dto.post.PostCursorPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostDTO;
+import com.softserveinc.dokazovi.dto.post.PostImportResultDTO;
 import com.softserveinc.dokazovi.dto.post.PostMainPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostPublishedAtDTO;
 import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
+import com.softserveinc.dokazovi.dto.post.PostSearchResultDTO;
 import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 import com.softserveinc.dokazovi.security.UserPrincipal;
+import com.softserveinc.dokazovi.service.PostImportService;
 import com.softserveinc.dokazovi.service.PostService;
 import com.softserveinc.dokazovi.service.PostTypeService;
+import com.softserveinc.dokazovi.validator.ReferenceChecks;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
@@ -22,10 +29,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -39,6 +48,8 @@ import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
+import javax.validation.groups.Default;
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Set;
@@ -50,13 +61,17 @@ import static com.softserveinc.dokazovi.controller.EndPoints.POST_FAKE_VIEW_COUN
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_GET_BY_IMPORTANT_IMAGE;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_GET_POST_BY_AUTHOR_ID_AND_DIRECTIONS;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_GET_POST_BY_ID;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_IMPORT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_IMPORTANT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_CURSOR;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_DIRECTION;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_EXPERT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_EXPERT_AND_STATUS;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_POST_TYPES_AND_ORIGINS;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_POST_TYPES_AND_ORIGINS_FOR_MOBILE;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_REGISTER_VIEW;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_SEARCH;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_SET_FAKE_VIEW;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_SET_IMPORTANT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_TYPE;
@@ -72,6 +87,7 @@ public class PostController {
 
     private final PostService postService;
     private final PostTypeService postTypeService;
+    private final PostImportService postImportService;
 
     /**
      * Saves(creates) new post.
@@ -90,13 +106,40 @@ public class PostController {
             @ApiResponse(code = 201, message = HttpStatuses.CREATED, response = PostDTO.class),
             @ApiResponse(code = 400, message = HttpStatuses.BAD_REQUEST)
     })
-    public ResponseEntity<PostDTO> save(@Valid @RequestBody PostSaveFromUserDTO postSaveFromUserDTO,
+    public ResponseEntity<PostDTO> save(
+            @Validated({Default.class, ReferenceChecks.class}) @RequestBody PostSaveFromUserDTO postSaveFromUserDTO,
             @AuthenticationPrincipal UserPrincipal userPrincipal) {
         return ResponseEntity
                 .status(HttpStatus.CREATED)
                 .body(postService.saveFromUser(postSaveFromUserDTO, userPrincipal));
     }
 
+    /**
+     * Imports posts in bulk, for example content moved over from partner sites.
+     *
+     * <p>The body is a JSON array of posts in the format of the save endpoint. It is read as a stream
+     * and written in batches. Records that cannot be imported are reported with their index in the array
+     * and do not stop the rest of the import.</p>
+     *
+     * @param posts JSON array of posts
+     * @return number of received and imported posts and the errors of the skipped ones
+     */
+    @PostMapping(POST_IMPORT)
+    @PreAuthorize("hasAuthority('SAVE_PUBLICATION')")
+    @ApiOperation(value = "Import posts in bulk",
+            authorizations = {@Authorization(value = "Authorization")})
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = HttpStatuses.OK, response = PostImportResultDTO.class),
+            @ApiResponse(code = 403, message = HttpStatuses.FORBIDDEN)
+    })
+    public ResponseEntity<PostImportResultDTO> importPosts(
+            @ApiParam(value = "JSON array of posts in the format of the save endpoint") InputStream posts,
+            @AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(postImportService.importPosts(posts, userPrincipal));
+    }
+
     /**
      * Finds latest published published posts.
      *
@@ -106,13 +149,70 @@ public class PostController {
     @GetMapping(POST_LATEST)
     @ApiPageable
     @ApiOperation(value = "Find latest published posts")
-    public ResponseEntity<Page<PostDTO>> findLatestPublished(
+    public ResponseEntity<Page<PostCardDTO>> findLatestPublished(
             @PageableDefault(sort = {"createdAt", "id"}, direction = Sort.Direction.DESC) Pageable pageable) {
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(postService.findAllByStatus(PostStatus.PUBLISHED, pageable));
     }
 
+    /**
+     * Finds latest published posts page by page using an opaque cursor instead of a page number.
+     *
+     * <p>Serves the same feeds as the page-number endpoints (all posts, by direction, by expert,
+     * by post types and origins), but the cost of a page does not grow with its depth.</p>
+     *
+     * @param cursor cursor returned with the previous page, absent for the first page
+     * @param size number of posts on the page
+     * @param expert expert's id
+     * @param directions direction's ids by which the search is performed
+     * @param types the type's ids by which the search is performed
+     * @param origins the origin's ids by which the search is performed
+     * @param tags the tag's ids by which the search is performed
+     * @return posts of the page with the cursor of the next one and HttpStatus 'OK'
+     */
+    @GetMapping(POST_LATEST_BY_CURSOR)
+    @ApiOperation(value = "Find latest published posts using cursor pagination")
+    public ResponseEntity<PostCursorPageDTO> findLatestPublishedByCursor(
+            @ApiParam(value = "Cursor returned with the previous page")
+            @RequestParam(required = false) String cursor,
+            @ApiParam(value = "Page size")
+            @RequestParam(defaultValue = "12") int size,
+            @ApiParam(value = "Expert's id")
+            @RequestParam(required = false) Integer expert,
+            @ApiParam(value = "Multiple comma-separated direction IDs, e.g. ?directions=1,2,3,4", type = "string")
+            @RequestParam(required = false) Set<Integer> directions,
+            @ApiParam(value = "Multiple comma-separated post types IDs, e.g. ?types=1,2,3,4", type = "string")
+            @RequestParam(required = false) Set<Integer> types,
+            @ApiParam(value = "Multiple comma-separated origins IDs, e.g. ?origins=1,2,3,4", type = "string")
+            @RequestParam(required = false) Set<Integer> origins,
+            @ApiParam(value = "Multiple comma-separated tag IDs, e.g. ?tags=1,2,3,4", type = "string")
+            @RequestParam(required = false) Set<Integer> tags) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(postService.findPublishedByCursor(expert, directions, types, origins, tags, cursor, size));
+    }
+
+    /**
+     * Searches published posts by words of their title, preview and content.
+     *
+     * @param pageable interface for pagination information
+     * @param query words to search for
+     * @return page with found posts ordered by relevance, each with a highlighted fragment of its text,
+     *         and HttpStatus 'OK'
+     */
+    @GetMapping(POST_SEARCH)
+    @ApiPageable
+    @ApiOperation(value = "Full-text search of published posts ranked by relevance")
+    public ResponseEntity<Page<PostSearchResultDTO>> searchPublished(
+            @PageableDefault(size = 12) Pageable pageable,
+            @ApiParam(value = "Words to search for")
+            @RequestParam String query) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .body(postService.searchPublished(query, pageable));
+    }
+
     /**
      * Finds important posts.
      *
@@ -121,7 +221,7 @@ public class PostController {
     @GetMapping(POST_IMPORTANT)
     @ApiPageable
     @ApiOperation(value = "Find important posts")
-    public ResponseEntity<Page<PostDTO>> findImportant(Pageable pageable) {
+    public ResponseEntity<Page<PostCardDTO>> findImportant(Pageable pageable) {
         return ResponseEntity
                 .status(HttpStatus.OK)
                 .body(postService.findImportantPosts(pageable));
@@ -157,7 +257,7 @@ public class PostController {
     @GetMapping(POST_LATEST_BY_DIRECTION)
     @ApiPageable
     @ApiOperation(value = "Find latest posts by direction")
-    public ResponseEntity<Page<PostDTO>> findLatestByDirection(
+    public ResponseEntity<Page<PostCardDTO>> findLatestByDirection(
             @PageableDefault(size = 6, sort = {"createdAt", "id"}, direction = Sort.Direction.DESC) Pageable pageable,
             @ApiParam(value = "Direction id")
             @RequestParam Integer direction,
@@ -181,7 +281,7 @@ public class PostController {
     @GetMapping(POST_LATEST_BY_EXPERT)
     @ApiPageable
     @ApiOperation(value = "Find latest posts by some expert")
-    public ResponseEntity<Page<PostDTO>> findLatestByExpert(
+    public ResponseEntity<Page<PostCardDTO>> findLatestByExpert(
             @PageableDefault Pageable pageable,
             @ApiParam(value = "Expert's id")
             @RequestParam Integer expert,
@@ -205,7 +305,7 @@ public class PostController {
     @GetMapping(POST_LATEST_BY_EXPERT_AND_STATUS)
     @ApiPageable
     @ApiOperation(value = "Find latest posts by some expert and status")
-    public ResponseEntity<Page<PostDTO>> findLatestByExpert(
+    public ResponseEntity<Page<PostCardDTO>> findLatestByExpert(
             @PageableDefault Pageable pageable,
             @ApiParam(value = "Expert's id")
             @RequestParam Integer expert,
@@ -219,16 +319,22 @@ public class PostController {
     }
 
     /**
-     * Gets all post types from db.
+     * Gets all post types.
+     *
+     * <p>The response carries the version of the post types as its ETag, so that clients can revalidate
+     * their copy and get 'NOT MODIFIED' HttpStatus while it is current.</p>
      *
      * @return list with all post types and HttpStatus 'OK'
      */
     @GetMapping(POST_TYPE)
     @ApiOperation(value = "Find all types of posts")
     public ResponseEntity<List<PostTypeDTO>> findAllPostType() {
+        ReferenceDataSnapshot<PostTypeDTO> postTypes = postTypeService.findAll();
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(postTypeService.findAll());
+                .cacheControl(CacheControl.noCache())
+                .eTag(postTypes.getVersion())
+                .body(postTypes.getItems());
     }
 
     /**
@@ -261,7 +367,7 @@ public class PostController {
      */
     @GetMapping(POST_ALL_POSTS)
     @ApiOperation(value = "Get posts, filtered by directions, post types and origins.")
-    public ResponseEntity<Page<PostDTO>> getAllPostsByDirectionsByPostTypesAndByOrigins(
+    public ResponseEntity<Page<PostCardDTO>> getAllPostsByDirectionsByPostTypesAndByOrigins(
             @PageableDefault(sort = {"modified_at"}, direction = Sort.Direction.DESC) Pageable pageable,
             @ApiParam(value = "Multiple comma-separated direction's IDs, e.g. ?directions=1,2,3,4...", type = "string")
             @RequestParam(required = false) Set<Integer> directions,
@@ -305,7 +411,7 @@ public class PostController {
      */
     @GetMapping(POST_ALL_POSTS + BY_USER_ENDPOINT)
     @ApiOperation(value = "Get posts, filtered by directions, post types and origins.")
-    public ResponseEntity<Page<PostDTO>> getAllPostsForUserByDirectionsByPostTypesAndByOrigins(
+    public ResponseEntity<Page<PostCardDTO>> getAllPostsForUserByDirectionsByPostTypesAndByOrigins(
             @PageableDefault(sort = {"modified_at"}, direction = Sort.Direction.DESC) Pageable pageable,
             @ApiParam(value = "Multiple comma-separated direction's IDs, e.g. ?directions=1,2,3,4...", type = "string")
             @RequestParam(required = false) Set<Integer> directions,
@@ -380,7 +486,7 @@ public class PostController {
             authorizations = {@Authorization(value = "Authorization")})
     public ResponseEntity<ApiResponseMessage> updatePostById(
             @AuthenticationPrincipal UserPrincipal userPrincipal,
-            @Valid @RequestBody PostSaveFromUserDTO postSaveFromUserDTO) {
+            @Validated({Default.class, ReferenceChecks.class}) @RequestBody PostSaveFromUserDTO postSaveFromUserDTO) {
 
         ApiResponseMessage apiResponseMessage;
 
@@ -404,11 +510,11 @@ public class PostController {
      */
     @GetMapping(POST_GET_POST_BY_AUTHOR_ID_AND_DIRECTIONS)
     @ApiOperation(value = "Get post by author Id, as a path variable, and directions.")
-    public ResponseEntity<Page<PostDTO>> getPostsByAuthorIdAndDirections(
+    public ResponseEntity<Page<PostCardDTO>> getPostsByAuthorIdAndDirections(
             @PageableDefault(size = 12) Pageable pageable, @NotNull Integer authorId,
             @ApiParam(value = "Multiple comma-separated direction IDs, e.g. ?directions=1,2,3,4", type = "string")
             @RequestParam(required = false) @NotNull Set<Integer> directions) {
-        Page<PostDTO> posts = postService
+        Page<PostCardDTO> posts = postService
                 .findPostsByAuthorIdAndDirections(pageable, authorId, directions);
         return ResponseEntity
                 .status((posts.getTotalElements() != 0) ? HttpStatus.OK : HttpStatus.NOT_FOUND)
@@ -472,7 +578,7 @@ public class PostController {
             authorizations = {@Authorization(value = "Authorization")})
     @GetMapping(POST_GET_BY_IMPORTANT_IMAGE)
     @PreAuthorize("hasAuthority('SET_IMPORTANCE')")
-    public ResponseEntity<Page<PostDTO>> findPublishedNotImportantPostsSortedByImportantImagePresence(
+    public ResponseEntity<Page<PostCardDTO>> findPublishedNotImportantPostsSortedByImportantImagePresence(
             @PageableDefault Pageable pageable,
             @ApiParam(value = "Multiple comma-separated direction IDs, e.g. ?directions=1,2,3,4", type = "string")
             @RequestParam(defaultValue = "") Set<Integer> directions,
@@ -480,7 +586,7 @@ public class PostController {
             @RequestParam(defaultValue = "") Set<Integer> types,
             @ApiParam(value = "Multiple comma-separated origins IDs, e.g. ?origins=1,2,3,4...", type = "string")
             @RequestParam(defaultValue = "") Set<Integer> origins) {
-        Page<PostDTO> posts = postService.findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
+        Page<PostCardDTO> posts = postService.findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
                 directions, types, origins, pageable);
         return ResponseEntity.status(HttpStatus.OK).body(posts);
     }
@@ -501,6 +607,19 @@ public class PostController {
         postService.setFakeViewsForPost(postId, views);
     }
 
+    /**
+     * Counts a view of the post. The view is added to the post's real views in the background.
+     *
+     * @param postId id of the viewed post
+     * @return HttpStatus 'ACCEPTED'
+     */
+    @ApiOperation(value = "Count a view of post by post id")
+    @PostMapping(POST_REGISTER_VIEW)
+    public ResponseEntity<Void> registerView(@ApiParam("Post's id") @PathVariable("postId") Integer postId) {
+        postService.registerView(postId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).build();
+    }
+
     @ApiPageable
     @ApiOperation(value = "Set published_at for post by post id",
             authorizations = {@Authorization(value = "Authorization")})
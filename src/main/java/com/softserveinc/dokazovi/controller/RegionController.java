@@ -1,9 +1,11 @@
 package com.softserveinc.dokazovi.controller;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.region.RegionDTO;
 import com.softserveinc.dokazovi.service.RegionService;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -27,16 +29,22 @@ public class RegionController {
     private final RegionService regionService;
 
     /**
-     * Gets all regions method returns all regions from db.
+     * Gets all regions method returns all regions.
+     *
+     * <p>The response carries the version of the regions as its ETag, so that clients can revalidate
+     * their copy and get 'NOT MODIFIED' HttpStatus while it is current.</p>
      *
      * @return all regions and HttpStatus 'OK'
      */
     @GetMapping
     @ApiOperation(value = "Get all regions")
     public ResponseEntity<List<RegionDTO>> getAllRegions() {
+        ReferenceDataSnapshot<RegionDTO> regions = regionService.findAllRegions();
         return ResponseEntity
                 .status(HttpStatus.OK)
-                .body(regionService.findAllRegions());
+                .cacheControl(CacheControl.noCache())
+                .eTag(regions.getVersion())
+                .body(regions.getItems());
     }
 
     @GetMapping(REGION_BY_CITY)
@@ -9,6 +9,7 @@ import com.softserveinc.dokazovi.dto.user.UserPasswordDTO;
 import com.softserveinc.dokazovi.entity.PasswordResetTokenEntity;
 import com.softserveinc.dokazovi.entity.UserEntity;
 import com.softserveinc.dokazovi.pojo.UserSearchCriteria;
+import com.softserveinc.dokazovi.ratelimit.RequestRateLimiter;
 import com.softserveinc.dokazovi.security.UserPrincipal;
 import com.softserveinc.dokazovi.service.DirectionService;
 import com.softserveinc.dokazovi.service.PasswordResetTokenService;
@@ -37,6 +38,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import java.util.Collection;
 import java.util.List;
@@ -66,6 +68,7 @@ public class UserController {
     private final UserService userService;
     private final DirectionService directionService;
     private final PasswordResetTokenService passwordResetTokenService;
+    private final RequestRateLimiter requestRateLimiter;
 
     /**
      * Gets preview of random experts,
@@ -166,7 +169,8 @@ public class UserController {
     @ApiOperation(value = "Reset current password")
     public ResponseEntity<UserEmailDTO> resetPassword(
             @Valid @RequestBody UserEmailDTO email,
-            @RequestHeader HttpHeaders headers) {
+            @RequestHeader HttpHeaders headers, HttpServletRequest request) {
+        requestRateLimiter.acquire(RequestRateLimiter.PASSWORD_RESET, request, email.getEmail());
         UserEntity user = userService.findUserEntityByEmail(email.getEmail());
         if (user != null) {
             userService.sendPasswordResetToken(user, headers.getOrigin());
@@ -0,0 +1,19 @@
+package com.softserveinc.dokazovi.dto.log;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostLogCursorPageDTO {
+
+    private List<PostLogDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
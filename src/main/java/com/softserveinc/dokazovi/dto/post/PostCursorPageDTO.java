@@ -0,0 +1,19 @@
+package com.softserveinc.dokazovi.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorPageDTO {
+
+    private List<PostCardDTO> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
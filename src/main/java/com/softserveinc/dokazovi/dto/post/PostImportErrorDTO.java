@@ -0,0 +1,16 @@
+package com.softserveinc.dokazovi.dto.post;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostImportErrorDTO {
+
+    private int index;
+    private String message;
+}
@@ -5,6 +5,7 @@ import com.softserveinc.dokazovi.annotations.OriginExists;
 import com.softserveinc.dokazovi.annotations.PostTypeExists;
 import com.softserveinc.dokazovi.dto.direction.DirectionDTOForSavingPost;
 import com.softserveinc.dokazovi.dto.origin.OriginDTOForSavingPost;
+import com.softserveinc.dokazovi.validator.ReferenceChecks;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -45,7 +46,7 @@ public class PostSaveFromUserDTO {
     private String content;
 
     @NotNull(message = "PostType are required")
-    @PostTypeExists
+    @PostTypeExists(groups = ReferenceChecks.class)
     private PostTypeIdOnlyDTO type;
 
     @NotNull(message = "PostStatus are required")
@@ -55,9 +56,9 @@ public class PostSaveFromUserDTO {
 
     @NotNull(message = "At least one topic are required")
     @Size(min = 1, max = 3, message = "Number of chosen topics is from 1 to 3. ")
-    private Set<@DirectionExists DirectionDTOForSavingPost> directions;
+    private Set<@DirectionExists(groups = ReferenceChecks.class) DirectionDTOForSavingPost> directions;
 
-    private Set<@OriginExists OriginDTOForSavingPost> origins;
+    private Set<@OriginExists(groups = ReferenceChecks.class) OriginDTOForSavingPost> origins;
 
     private Integer views;
 
@@ -42,9 +42,11 @@ public class DirectionEntity {
     private String color;
 
     @ColumnDefault("false")
+    @Column(insertable = false, updatable = false)
     private Boolean hasAuthors;
 
     @ColumnDefault("false")
+    @Column(insertable = false, updatable = false)
     private Boolean hasPosts;
 
     @ManyToMany(mappedBy = "directions")
@@ -0,0 +1,52 @@
+package com.softserveinc.dokazovi.entity;
+
+import com.softserveinc.dokazovi.entity.enumerations.MailStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.sql.Timestamp;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity(name = "mail_outbox_entity")
+@Table(name = "mail_outbox")
+public class MailOutboxEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "mail_id")
+    private Long id;
+
+    private String recipient;
+
+    private String subject;
+
+    private String body;
+
+    private Boolean html;
+
+    @Enumerated(EnumType.STRING)
+    private MailStatus status;
+
+    private Integer attempts;
+
+    private Timestamp nextAttemptAt;
+
+    private String lastError;
+
+    private Timestamp createdAt;
+
+    private Timestamp sentAt;
+}
@@ -0,0 +1,19 @@
+package com.softserveinc.dokazovi.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(long retryAfterMs) {
+        super("Too many requests, retry in " + retryAfterMs + " ms");
+        this.retryAfterSeconds = Math.max(1, (retryAfterMs + 999) / 1000);
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,81 @@
+package com.softserveinc.dokazovi.mail;
+
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mail template split once into literal segments and the fields between them, so rendering only
+ * appends strings.
+ *
+ * <p>A field is written as {@code {name}}, where the name consists of letters, digits and underscores.
+ * Other braces, for example in inline styles, are kept as they are. Field values are HTML escaped.</p>
+ */
+final class MailTemplate {
+
+    private static final Pattern FIELD = Pattern.compile("\\{(\\w+)}");
+    private static final int EXPECTED_FIELD_LENGTH = 128;
+
+    private final String name;
+    private final String[] literals;
+    private final String[] fields;
+    private final int capacity;
+
+    private MailTemplate(String name, String[] literals, String[] fields) {
+        this.name = name;
+        this.literals = literals;
+        this.fields = fields;
+        int literalsLength = 0;
+        for (String literal : literals) {
+            literalsLength += literal.length();
+        }
+        this.capacity = literalsLength + fields.length * EXPECTED_FIELD_LENGTH;
+    }
+
+    /**
+     * Parses the source of a template.
+     *
+     * @param name   name of the template, used in error messages
+     * @param source source of the template
+     * @return compiled template
+     */
+    static MailTemplate compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        Matcher matcher = FIELD.matcher(source);
+        int start = 0;
+        while (matcher.find()) {
+            literals.add(source.substring(start, matcher.start()));
+            fields.add(matcher.group(1));
+            start = matcher.end();
+        }
+        literals.add(source.substring(start));
+        return new MailTemplate(name, literals.toArray(String[]::new), fields.toArray(String[]::new));
+    }
+
+    /**
+     * Renders the template.
+     *
+     * @param values values of the template fields by name
+     * @return rendered template
+     * @throws IllegalArgumentException if a value of the template field is missing
+     */
+    String render(Map<String, String> values) {
+        StringBuilder result = new StringBuilder(capacity);
+        result.append(literals[0]);
+        for (int i = 0; i < fields.length; i++) {
+            String value = values.get(fields[i]);
+            if (value == null) {
+                throw new IllegalArgumentException("Missing field " + fields[i] + " of mail template " + name);
+            }
+            result.append(HtmlUtils.htmlEscape(value, StandardCharsets.UTF_8.name()));
+            result.append(literals[i + 1]);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.softserveinc.dokazovi.mail;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Renders mail templates from {@code mail-templates.location}, by default {@code classpath:template/}.
+ *
+ * <p>A template is read and compiled on first use and then kept in memory, so sending mail does not touch
+ * the disk. With {@code mail-templates.hot-reload} enabled, as in the dev profile, a template is compiled
+ * again when its file was modified since it was loaded.</p>
+ */
+@Component
+public class MailTemplateEngine {
+
+    private final ResourceLoader resourceLoader;
+    private final String location;
+    private final boolean hotReload;
+    private final ConcurrentMap<String, LoadedTemplate> templates = new ConcurrentHashMap<>();
+
+    public MailTemplateEngine(ResourceLoader resourceLoader,
+            @Value("${mail-templates.location:classpath:template/}") String location,
+            @Value("${mail-templates.hot-reload:false}") boolean hotReload) {
+        this.resourceLoader = resourceLoader;
+        this.location = location.endsWith("/") ? location : location + "/";
+        this.hotReload = hotReload;
+    }
+
+    /**
+     * Renders a template.
+     *
+     * @param templateName file name of the template, for example {@code verificationMail.html}
+     * @param values       values of the template fields by name
+     * @return rendered template
+     * @throws IllegalArgumentException if the template does not exist or a field value is missing
+     */
+    public String render(String templateName, Map<String, String> values) {
+        LoadedTemplate template = templates.computeIfAbsent(templateName, this::load);
+        if (hotReload && template.isModified()) {
+            template = load(templateName);
+            templates.put(templateName, template);
+        }
+        return template.template.render(values);
+    }
+
+    private LoadedTemplate load(String templateName) {
+        Resource resource = resourceLoader.getResource(location + templateName);
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("Mail template " + templateName + " does not exist");
+        }
+        long lastModified = lastModified(resource);
+        try (InputStream input = resource.getInputStream()) {
+            String source = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            return new LoadedTemplate(resource, lastModified, MailTemplate.compile(templateName, source));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read mail template " + templateName, e);
+        }
+    }
+
+    private static long lastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static final class LoadedTemplate {
+
+        private final Resource resource;
+        private final long lastModified;
+        private final MailTemplate template;
+
+        private LoadedTemplate(Resource resource, long lastModified, MailTemplate template) {
+            this.resource = resource;
+            this.lastModified = lastModified;
+            this.template = template;
+        }
+
+        private boolean isModified() {
+            return lastModified(resource) != lastModified;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.softserveinc.dokazovi.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.softserveinc.dokazovi.config.RateLimitProperties;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Token buckets kept in memory, one per key, updated with compare-and-set.
+ *
+ * <p>A bucket does not count its tokens, it keeps the time at which it will be full again
+ * (the generic cell rate algorithm): a token is taken by moving that time one refill interval forward,
+ * which is allowed as long as it stays within one period from now. A bucket that was not used for
+ * a period is full again, so it is dropped then. At most {@code rate-limit.max-keys} buckets are kept,
+ * the least useful ones are evicted first.</p>
+ */
+public class LocalRateLimiter implements RateLimiter {
+
+    private final Cache<String, Bucket> buckets;
+    private final LongSupplier clock;
+
+    public LocalRateLimiter(long maxKeys) {
+        this(maxKeys, System::currentTimeMillis);
+    }
+
+    LocalRateLimiter(long maxKeys, LongSupplier clock) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfter(new BucketExpiry())
+                .build();
+        this.clock = clock;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long interval = Math.max(1, limit.getPeriod().toMillis() / limit.getCapacity());
+        long burst = interval * limit.getCapacity();
+        AtomicLong bucket = buckets.get(key, k -> new Bucket(limit.getPeriod().toNanos())).fullAt;
+        while (true) {
+            long now = clock.getAsLong();
+            long fullAt = bucket.get();
+            long newFullAt = Math.max(fullAt, now) + interval;
+            long waitMs = newFullAt - now - burst;
+            if (waitMs > 0) {
+                return waitMs;
+            }
+            if (bucket.compareAndSet(fullAt, newFullAt)) {
+                return 0;
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private final long periodNanos;
+        private final AtomicLong fullAt = new AtomicLong();
+
+        private Bucket(long periodNanos) {
+            this.periodNanos = periodNanos;
+        }
+    }
+
+    private static final class BucketExpiry implements Expiry<String, Bucket> {
+
+        @Override
+        public long expireAfterCreate(String key, Bucket bucket, long currentTime) {
+            return bucket.periodNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.periodNanos;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Bucket bucket, long currentTime, long currentDuration) {
+            return bucket.periodNanos;
+        }
+    }
+}
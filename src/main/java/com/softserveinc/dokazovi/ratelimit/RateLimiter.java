@@ -0,0 +1,19 @@
+package com.softserveinc.dokazovi.ratelimit;
+
+import com.softserveinc.dokazovi.config.RateLimitProperties;
+
+/**
+ * Token buckets by key. The local limiter is used by default and the Redis limiter, shared by all
+ * nodes, when {@code redis.enabled} is set, see {@link com.softserveinc.dokazovi.config.RedisConfig}.
+ */
+public interface RateLimiter {
+
+    /**
+     * Takes a token from the bucket of the key.
+     *
+     * @param key   key of the bucket
+     * @param limit capacity and refill period of the bucket
+     * @return 0 if the token was taken, otherwise milliseconds until the next token is available
+     */
+    long tryAcquire(String key, RateLimitProperties.Limit limit);
+}
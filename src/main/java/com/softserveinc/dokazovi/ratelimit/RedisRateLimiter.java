@@ -0,0 +1,56 @@
+package com.softserveinc.dokazovi.ratelimit;
+
+import com.softserveinc.dokazovi.config.RateLimitProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Token buckets kept in Redis, so a limit holds across all nodes. Works like {@link LocalRateLimiter},
+ * with one key per bucket that expires once the bucket is full again. The check and the update run
+ * in one script. When Redis cannot be reached, the limits are checked by the local limiter instead.
+ */
+public class RedisRateLimiter implements RateLimiter {
+
+    static final String KEY_PREFIX = "rate-limit:";
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisRateLimiter.class);
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) "
+                    + "local interval = tonumber(ARGV[2]) "
+                    + "local fullAt = tonumber(redis.call('GET', KEYS[1]) or ARGV[1]) "
+                    + "if fullAt < now then fullAt = now end "
+                    + "local newFullAt = fullAt + interval "
+                    + "local wait = newFullAt - now - tonumber(ARGV[3]) "
+                    + "if wait > 0 then return wait end "
+                    + "redis.call('SET', KEYS[1], newFullAt, 'PX', newFullAt - now) "
+                    + "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimiter fallback;
+
+    public RedisRateLimiter(StringRedisTemplate redisTemplate, RateLimiter fallback) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long interval = Math.max(1, limit.getPeriod().toMillis() / limit.getCapacity());
+        long burst = interval * limit.getCapacity();
+        try {
+            Long waitMs = redisTemplate.execute(ACQUIRE_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(interval), String.valueOf(burst));
+            return waitMs == null ? 0 : waitMs;
+        } catch (DataAccessException e) {
+            logger.warn("Failed to check rate limit of {} in Redis, checking it locally", key, e);
+            return fallback.tryAcquire(key, limit);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.softserveinc.dokazovi.ratelimit;
+
+import com.softserveinc.dokazovi.config.RateLimitProperties;
+import com.softserveinc.dokazovi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletRequest;
+import java.util.Locale;
+
+/**
+ * Admission control for expensive endpoints. An action is limited both by the client address,
+ * with the limit {@code <action>-ip}, and by the account it targets, with the limit {@code <action>-account},
+ * so neither a burst from one address nor one spread over many addresses gets through.
+ *
+ * <p>The client address is {@link HttpServletRequest#getRemoteAddr()}. Behind the reverse proxy it is taken
+ * from {@code X-Forwarded-For} by Tomcat, see {@code server.forward-headers-strategy}, and the header is only
+ * trusted when the request comes from a private network address, so clients cannot pick their own address.</p>
+ */
+@Component
+public class RequestRateLimiter {
+
+    public static final String LOGIN = "login";
+    public static final String PASSWORD_RESET = "password-reset";
+
+    private static final String REJECTED_METRIC = "rate.limit.rejected";
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
+
+    public RequestRateLimiter(RateLimiter rateLimiter, RateLimitProperties rateLimitProperties,
+            MeterRegistry meterRegistry) {
+        this.rateLimiter = rateLimiter;
+        this.rateLimitProperties = rateLimitProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Admits one request of the action.
+     *
+     * @param action  name of the action, e.g. {@link #LOGIN}
+     * @param request request of the client
+     * @param account email of the account the request targets, may be null
+     * @throws TooManyRequestsException if the client or the account ran out of requests
+     */
+    public void acquire(String action, HttpServletRequest request, String account) {
+        if (!rateLimitProperties.isEnabled()) {
+            return;
+        }
+        acquire(action + "-ip", request.getRemoteAddr());
+        if (account != null) {
+            acquire(action + "-account", account.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private void acquire(String limitName, String key) {
+        long waitMs = rateLimiter.tryAcquire(limitName + ":" + key, rateLimitProperties.getLimit(limitName));
+        if (waitMs > 0) {
+            meterRegistry.counter(REJECTED_METRIC, "limit", limitName).increment();
+            throw new TooManyRequestsException(waitMs);
+        }
+    }
+}
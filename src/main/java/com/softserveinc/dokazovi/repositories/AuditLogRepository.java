@@ -0,0 +1,83 @@
+package com.softserveinc.dokazovi.repositories;
+
+import com.softserveinc.dokazovi.entity.LogEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Writes entries of the post change log in JDBC batches and maintains the monthly partitions of the log.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogRepository {
+
+    private static final String INSERT_QUERY = "INSERT INTO LOG "
+            + "(TITLE, DATE_OF_CHANGE, CHANGES, NAME_OF_CHANGER, ID_OF_CHANGED_POST) "
+            + "VALUES (:title, :dateOfChange, :changes, :nameOfChanger, :idOfChangedPost)";
+
+    private static final String CREATE_PARTITION_QUERY = "SELECT create_log_partition(:month)";
+
+    private static final String DETACH_PARTITIONS_QUERY = "SELECT detach_log_partitions(:before)";
+
+    private static final String COUNT_DEFAULT_PARTITION_QUERY = "SELECT COUNT(*) FROM LOG_DEFAULT";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts the given entries with one batch.
+     *
+     * @param entries entries to insert
+     */
+    public void insertAll(List<LogEntity> entries) {
+        SqlParameterSource[] rows = entries.stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("title", entry.getTitle())
+                        .addValue("dateOfChange", entry.getDateOfChange())
+                        .addValue("changes", entry.getChanges())
+                        .addValue("nameOfChanger", entry.getNameOfChanger())
+                        .addValue("idOfChangedPost", entry.getIdOfChangedPost(), Types.INTEGER))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_QUERY, rows);
+    }
+
+    /**
+     * Creates the partition of the log for the given month if it does not exist yet. Entries of that month
+     * which are in the default partition are moved into the new partition.
+     *
+     * @param month any day of the month
+     * @return name of the partition
+     */
+    public String createPartition(LocalDate month) {
+        return jdbcTemplate.queryForObject(CREATE_PARTITION_QUERY,
+                new MapSqlParameterSource("month", Date.valueOf(month)), String.class);
+    }
+
+    /**
+     * Detaches the partitions of the months that ended before the given day. Detached partitions stay
+     * in the database as plain tables and can be archived or dropped without touching the log.
+     *
+     * @param before first day to keep
+     * @return names of the detached partitions
+     */
+    public List<String> detachPartitionsBefore(LocalDate before) {
+        return jdbcTemplate.queryForList(DETACH_PARTITIONS_QUERY,
+                new MapSqlParameterSource("before", Date.valueOf(before)), String.class);
+    }
+
+    /**
+     * Counts the entries in the default partition, i.e. entries of months that have no partition.
+     *
+     * @return number of entries in the default partition
+     */
+    public long countDefaultPartitionEntries() {
+        return jdbcTemplate.getJdbcOperations().queryForObject(COUNT_DEFAULT_PARTITION_QUERY, Long.class);
+    }
+}
@@ -2,13 +2,11 @@ package com.softserveinc.dokazovi.repositories;
 
 import com.softserveinc.dokazovi.entity.DirectionEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Set;
 
 /**
  * The Direction Repository is responsible for encapsulation a set of Direction objects stored in the database and
@@ -18,34 +16,6 @@ import java.util.Set;
 @Repository
 public interface DirectionRepository extends JpaRepository<DirectionEntity, Integer> {
 
-    /**
-     * Updates the directions status. If the directions have at least
-     * one doctor, its status changes to "true". In other
-     * cases - "false"
-     */
-    @Query(nativeQuery = true,
-            value = " UPDATE DIRECTIONS"
-                    + " SET HAS_AUTHORS = TRUE"
-                    + " WHERE DIRECTION_ID IN (SELECT DISTINCT DIRECTION_ID FROM AUTHORS_DIRECTIONS) ")
-    @Modifying
-    void updateDirectionsHasDoctorsStatus();
-
-    /**
-     * Updates the directions status. If the directions have at least
-     * one post, its status changes to "true". In other cases -
-     * "false"
-     */
-    @Query(nativeQuery = true,
-            value = "UPDATE DIRECTIONS d "
-                    + " SET HAS_POSTS = (SELECT EXISTS "
-                    + "	    (SELECT 1 FROM AUTHOR_POST_DIRECTIONS "
-                    + "	        WHERE DIRECTION_ID = d.DIRECTION_ID "
-                    + "           AND VISIBLE = TRUE "
-                    + "	        LIMIT 1)) "
-                    + " WHERE DIRECTION_ID IN (:directions) ")
-    @Modifying
-    void updateDirectionsHasPostsStatus(Set<Integer> directions);
-
     /**
      * Gets all directions by doctor id.
      *
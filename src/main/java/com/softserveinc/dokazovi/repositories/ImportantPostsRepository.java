@@ -0,0 +1,53 @@
+package com.softserveinc.dokazovi.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * Writes the posts shown in the important posts carousel and their order.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImportantPostsRepository {
+
+    private static final String SET_IMPORTANT_POSTS_QUERY = "WITH NEW_ORDER AS ("
+            + "    SELECT POST_ID, POST_ORDER::INTEGER AS POST_ORDER "
+            + "    FROM unnest(?::INTEGER[]) WITH ORDINALITY AS N(POST_ID, POST_ORDER)"
+            + "), CHANGED_POSTS AS ("
+            + "    SELECT POST_ID FROM POSTS WHERE IMPORTANT = TRUE OR IMPORTANCE_ORDER IS NOT NULL "
+            + "    UNION "
+            + "    SELECT POST_ID FROM NEW_ORDER"
+            + ") "
+            + "UPDATE POSTS P "
+            + "SET IMPORTANT = NEW_ORDER.POST_ORDER IS NOT NULL, "
+            + "    IMPORTANCE_ORDER = NEW_ORDER.POST_ORDER "
+            + "FROM CHANGED_POSTS C "
+            + "LEFT JOIN NEW_ORDER ON NEW_ORDER.POST_ID = C.POST_ID "
+            + "WHERE P.POST_ID = C.POST_ID "
+            + "  AND (P.IMPORTANT IS DISTINCT FROM (NEW_ORDER.POST_ORDER IS NOT NULL) "
+            + "       OR P.IMPORTANCE_ORDER IS DISTINCT FROM NEW_ORDER.POST_ORDER)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Makes the given posts the important ones, numbered in the given order, in one statement.
+     *
+     * <p>Only the currently important posts and the given ones are looked at, and only the rows
+     * whose importance or order actually changes are written.</p>
+     *
+     * @param postIds ids of the important posts, in carousel order; an empty list clears the carousel
+     * @return number of updated posts
+     */
+    public int setImportantPosts(List<Integer> postIds) {
+        Integer[] orderedPostIds = postIds.toArray(new Integer[0]);
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SET_IMPORTANT_POSTS_QUERY);
+            statement.setArray(1, connection.createArrayOf("integer", orderedPostIds));
+            return statement;
+        });
+    }
+}
@@ -0,0 +1,164 @@
+package com.softserveinc.dokazovi.repositories;
+
+import com.softserveinc.dokazovi.entity.LogEntity;
+import com.softserveinc.dokazovi.exception.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Searches the post change log by any combination of changer name, title and period of change.
+ *
+ * <p>Only the filters that are given are added to the query, so the planner can pick the index that fits them:
+ * the trigram indexes on TITLE and NAME_OF_CHANGER for the substring filters, the index on
+ * (DATE_OF_CHANGE, LOG_ID) for the period and the order. The log is partitioned by month, and a period
+ * filter lets the planner skip the partitions outside of it.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogSearchRepository {
+
+    private static final String SELECT_QUERY = "SELECT LOG_ID, ID_OF_CHANGED_POST, TITLE, DATE_OF_CHANGE, "
+            + "CHANGES, NAME_OF_CHANGER "
+            + "FROM LOG ";
+
+    private static final String COUNT_QUERY = "SELECT COUNT(*) FROM LOG ";
+
+    private static final String DEFAULT_ORDER = "DATE_OF_CHANGE DESC, LOG_ID DESC";
+
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "LOG_ID",
+            "idOfChangedPost", "ID_OF_CHANGED_POST",
+            "title", "TITLE",
+            "dateOfChange", "DATE_OF_CHANGE",
+            "changes", "CHANGES",
+            "nameOfChanger", "NAME_OF_CHANGER");
+
+    private static final RowMapper<LogEntity> LOG_ROW_MAPPER = (resultSet, rowNum) -> LogEntity.builder()
+            .id(resultSet.getInt("LOG_ID"))
+            .idOfChangedPost((Integer) resultSet.getObject("ID_OF_CHANGED_POST"))
+            .title(resultSet.getString("TITLE"))
+            .dateOfChange(resultSet.getTimestamp("DATE_OF_CHANGE"))
+            .changes(resultSet.getString("CHANGES"))
+            .nameOfChanger(resultSet.getString("NAME_OF_CHANGER"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds a page of entries matching all given filters.
+     *
+     * @param nameOfChanger part of the changer name, ignored if null
+     * @param title         part of the post title, ignored if null
+     * @param from          start of the period of change, ignored if null
+     * @param to            end of the period of change, ignored if null
+     * @param pageable      page and sort, newest entries first if unsorted
+     * @return entries of the page
+     */
+    public List<LogEntity> findPage(String nameOfChanger, String title, Timestamp from, Timestamp to,
+            Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("offset", pageable.getOffset())
+                .addValue("limit", pageable.getPageSize());
+        String query = SELECT_QUERY
+                + where(params, nameOfChanger, title, from, to, null)
+                + "ORDER BY " + orderBy(pageable.getSort()) + " "
+                + "LIMIT :limit OFFSET :offset";
+        return jdbcTemplate.query(query, params, LOG_ROW_MAPPER);
+    }
+
+    /**
+     * Counts entries matching all given filters.
+     *
+     * @param nameOfChanger part of the changer name, ignored if null
+     * @param title         part of the post title, ignored if null
+     * @param from          start of the period of change, ignored if null
+     * @param to            end of the period of change, ignored if null
+     * @return number of matching entries
+     */
+    public long count(String nameOfChanger, String title, Timestamp from, Timestamp to) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject(COUNT_QUERY + where(params, nameOfChanger, title, from, to, null),
+                params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Finds entries matching all given filters that are older than the cursor, newest first.
+     * The cost of a page does not depend on how many entries were skipped before it.
+     *
+     * @param nameOfChanger part of the changer name, ignored if null
+     * @param title         part of the post title, ignored if null
+     * @param from          start of the period of change, ignored if null
+     * @param to            end of the period of change, ignored if null
+     * @param dateOfChange  date of change of the last entry of the previous page
+     * @param logId         id of the last entry of the previous page
+     * @param limit         maximum number of entries
+     * @return entries after the cursor
+     */
+    public List<LogEntity> findBeforeCursor(String nameOfChanger, String title, Timestamp from, Timestamp to,
+            Timestamp dateOfChange, Integer logId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cursorDate", dateOfChange)
+                .addValue("cursorId", logId)
+                .addValue("limit", limit);
+        String query = SELECT_QUERY
+                + where(params, nameOfChanger, title, from, to, "(DATE_OF_CHANGE, LOG_ID) < (:cursorDate, :cursorId)")
+                + "ORDER BY " + DEFAULT_ORDER + " "
+                + "LIMIT :limit";
+        return jdbcTemplate.query(query, params, LOG_ROW_MAPPER);
+    }
+
+    private static String where(MapSqlParameterSource params, String nameOfChanger, String title,
+            Timestamp from, Timestamp to, String condition) {
+        StringJoiner conditions = new StringJoiner(" AND ", "WHERE ", " ").setEmptyValue("");
+        if (nameOfChanger != null) {
+            conditions.add("NAME_OF_CHANGER ILIKE :nameOfChanger");
+            params.addValue("nameOfChanger", containsPattern(nameOfChanger));
+        }
+        if (title != null) {
+            conditions.add("TITLE ILIKE :title");
+            params.addValue("title", containsPattern(title));
+        }
+        if (from != null) {
+            conditions.add("DATE_OF_CHANGE >= :from");
+            params.addValue("from", from);
+        }
+        if (to != null) {
+            conditions.add("DATE_OF_CHANGE <= :to");
+            params.addValue("to", to);
+        }
+        if (condition != null) {
+            conditions.add(condition);
+        }
+        return conditions.toString();
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return DEFAULT_ORDER;
+        }
+        StringJoiner orders = new StringJoiner(", ");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new BadRequestException("Unable to sort logs by " + order.getProperty());
+            }
+            orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        return orders.add("LOG_ID DESC").toString();
+    }
+
+    private static String containsPattern(String text) {
+        return "%" + text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
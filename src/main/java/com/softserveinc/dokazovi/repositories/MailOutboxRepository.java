@@ -0,0 +1,135 @@
+package com.softserveinc.dokazovi.repositories;
+
+import com.softserveinc.dokazovi.entity.MailOutboxEntity;
+import com.softserveinc.dokazovi.entity.enumerations.MailStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Queues outgoing mail and tracks its delivery.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MailOutboxRepository {
+
+    private static final String INSERT_QUERY = "INSERT INTO MAIL_OUTBOX (RECIPIENT, SUBJECT, BODY, HTML) "
+            + "VALUES (:recipient, :subject, :body, :html)";
+
+    private static final String CLAIM_DUE_QUERY = "UPDATE MAIL_OUTBOX SET NEXT_ATTEMPT_AT = :leaseUntil "
+            + "WHERE MAIL_ID IN (SELECT MAIL_ID FROM MAIL_OUTBOX "
+            + "WHERE STATUS = 'PENDING' AND NEXT_ATTEMPT_AT <= :now "
+            + "ORDER BY NEXT_ATTEMPT_AT LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "RETURNING MAIL_ID, RECIPIENT, SUBJECT, BODY, HTML, ATTEMPTS";
+
+    private static final String MARK_SENT_QUERY = "UPDATE MAIL_OUTBOX "
+            + "SET STATUS = 'SENT', ATTEMPTS = ATTEMPTS + 1, SENT_AT = :sentAt, LAST_ERROR = NULL "
+            + "WHERE MAIL_ID IN (:ids)";
+
+    private static final String MARK_FAILED_QUERY = "UPDATE MAIL_OUTBOX "
+            + "SET STATUS = :status, ATTEMPTS = ATTEMPTS + 1, NEXT_ATTEMPT_AT = :nextAttemptAt, LAST_ERROR = :error, "
+            + "SENT_AT = :failedAt "
+            + "WHERE MAIL_ID = :id";
+
+    private static final String DELETE_FINISHED_QUERY = "DELETE FROM MAIL_OUTBOX WHERE MAIL_ID IN ("
+            + "SELECT MAIL_ID FROM MAIL_OUTBOX WHERE STATUS IN ('SENT', 'FAILED') AND SENT_AT < :before "
+            + "LIMIT :limit)";
+
+    private static final RowMapper<MailOutboxEntity> MAIL_ROW_MAPPER = (rs, rowNum) -> MailOutboxEntity.builder()
+            .id(rs.getLong("MAIL_ID"))
+            .recipient(rs.getString("RECIPIENT"))
+            .subject(rs.getString("SUBJECT"))
+            .body(rs.getString("BODY"))
+            .html(rs.getBoolean("HTML"))
+            .attempts(rs.getInt("ATTEMPTS"))
+            .status(MailStatus.PENDING)
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Queues a mail. Inside a transaction the mail is only queued if the transaction commits.
+     *
+     * @param recipient email address of the recipient
+     * @param subject   subject of the mail
+     * @param body      text of the mail
+     * @param html      whether the text is HTML
+     */
+    public void add(String recipient, String subject, String body, boolean html) {
+        jdbcTemplate.update(INSERT_QUERY, new MapSqlParameterSource()
+                .addValue("recipient", recipient)
+                .addValue("subject", subject)
+                .addValue("body", body)
+                .addValue("html", html));
+    }
+
+    /**
+     * Takes the pending mail that is due and moves its next attempt to the end of the lease, so other
+     * nodes do not pick it up while it is being sent. Mail that is locked by another node is skipped.
+     *
+     * @param now        current time
+     * @param leaseUntil time until which the mail is reserved for this node
+     * @param limit      maximum number of mails to take
+     * @return taken mail, oldest due first
+     */
+    public List<MailOutboxEntity> claimDue(Instant now, Instant leaseUntil, int limit) {
+        return jdbcTemplate.query(CLAIM_DUE_QUERY, new MapSqlParameterSource()
+                .addValue("now", Timestamp.from(now))
+                .addValue("leaseUntil", Timestamp.from(leaseUntil))
+                .addValue("limit", limit), MAIL_ROW_MAPPER);
+    }
+
+    /**
+     * Records that the mail was delivered to the mail server.
+     *
+     * @param ids    ids of the delivered mail
+     * @param sentAt time of delivery
+     */
+    public void markSent(Collection<Long> ids, Instant sentAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(MARK_SENT_QUERY, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("sentAt", Timestamp.from(sentAt)));
+    }
+
+    /**
+     * Records a failed attempt to deliver a mail.
+     *
+     * @param id            id of the mail
+     * @param error         reason of the failure
+     * @param nextAttemptAt time of the next attempt
+     * @param giveUp        whether to stop trying, which marks the mail FAILED and records the current time
+     *                      in {@code SENT_AT}, so the mail is purged like the sent one
+     */
+    public void markFailed(Long id, String error, Instant nextAttemptAt, boolean giveUp) {
+        jdbcTemplate.update(MARK_FAILED_QUERY, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("status", giveUp ? MailStatus.FAILED.name() : MailStatus.PENDING.name())
+                .addValue("nextAttemptAt", Timestamp.from(nextAttemptAt))
+                .addValue("error", error)
+                .addValue("failedAt", giveUp ? Timestamp.from(Instant.now()) : null, Types.TIMESTAMP));
+    }
+
+    /**
+     * Deletes sent and failed mail that was finished before the given time.
+     *
+     * @param before time before which the mail was sent or given up
+     * @param limit  maximum number of mails to delete
+     * @return number of deleted mails
+     */
+    public int deleteFinishedBefore(Instant before, int limit) {
+        return jdbcTemplate.update(DELETE_FINISHED_QUERY, new MapSqlParameterSource()
+                .addValue("before", Timestamp.from(before))
+                .addValue("limit", limit));
+    }
+}
@@ -0,0 +1,177 @@
+package com.softserveinc.dokazovi.repositories;
+
+import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
+import com.softserveinc.dokazovi.dto.origin.OriginDTO;
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
+import com.softserveinc.dokazovi.dto.post.PostUserDTO;
+import com.softserveinc.dokazovi.dto.post.PostUserInstitutionCityDTO;
+import com.softserveinc.dokazovi.dto.post.PostUserInstitutionDTO;
+import com.softserveinc.dokazovi.dto.tag.TagDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads ready-made {@link PostCardDTO}s for a page of post ids straight from the database.
+ *
+ * <p>Posts with their type and author are read in one query, and directions, tags and origins
+ * in one query per association, so a page always costs four statements no matter how many posts
+ * it has. No entities are loaded, therefore none of the eager associations of
+ * {@link com.softserveinc.dokazovi.entity.PostEntity} and its author are triggered,
+ * and the content column is never read.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCardProjectionRepository {
+
+    private static final String POSTS_QUERY = "SELECT P.POST_ID, P.TITLE, P.PREVIEW, P.VIDEO_URL, "
+            + "       P.PREVIEW_IMAGE_URL, P.IMPORTANT_MOBILE_IMAGE_URL, P.STATUS, P.CREATED_AT, P.MODIFIED_AT, "
+            + "       P.PUBLISHED_AT, P.IMPORTANCE_ORDER, P.IMPORTANT_IMAGE_URL, P.VIEWS, P.REAL_VIEWS, "
+            + "       T.TYPE_ID, T.NAME AS TYPE_NAME, "
+            + "       U.USER_ID, U.FIRST_NAME, U.LAST_NAME, U.AVATAR, A.BIO, "
+            + "       I.INSTITUTION_ID, I.NAME AS INSTITUTION_NAME, C.CITY_ID, C.NAME AS CITY_NAME "
+            + "FROM POSTS P "
+            + "LEFT JOIN POST_TYPES T ON T.TYPE_ID = P.TYPE_ID "
+            + "LEFT JOIN USERS U ON U.USER_ID = P.AUTHOR_ID "
+            + "LEFT JOIN AUTHORS A ON A.USER_ID = U.USER_ID "
+            + "LEFT JOIN INSTITUTIONS I ON I.INSTITUTION_ID = A.INSTITUTION_ID "
+            + "LEFT JOIN CITIES C ON C.CITY_ID = I.CITY_ID "
+            + "WHERE P.POST_ID IN (:postIds)";
+
+    private static final String DIRECTIONS_QUERY = "SELECT PD.POST_ID, D.DIRECTION_ID, D.NAME, D.LABEL, D.COLOR, "
+            + "       D.HAS_AUTHORS, D.HAS_POSTS "
+            + "FROM POSTS_DIRECTIONS PD "
+            + "JOIN DIRECTIONS D ON D.DIRECTION_ID = PD.DIRECTION_ID "
+            + "WHERE PD.POST_ID IN (:postIds)";
+
+    private static final String TAGS_QUERY = "SELECT PT.POST_ID, T.TAG_ID, T.TAG "
+            + "FROM POSTS_TAGS PT "
+            + "JOIN TAGS T ON T.TAG_ID = PT.TAG_ID "
+            + "WHERE PT.POST_ID IN (:postIds)";
+
+    private static final String ORIGINS_QUERY = "SELECT PO.POST_ID, O.ORIGIN_ID, O.NAME, O.PARAMETERS "
+            + "FROM POSTS_ORIGINS PO "
+            + "JOIN ORIGINS O ON O.ORIGIN_ID = PO.ORIGIN_ID "
+            + "WHERE PO.POST_ID IN (:postIds)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Reads posts with all their associations.
+     *
+     * @param postIds ids of the posts of a page
+     * @return posts in the order of the given ids; ids of missing posts are skipped
+     */
+    public List<PostCardDTO> findAllByIds(List<Integer> postIds) {
+        if (postIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("postIds", postIds);
+
+        Map<Integer, PostCardDTO> posts = new HashMap<>();
+        jdbcTemplate.query(POSTS_QUERY, params, resultSet -> {
+            PostCardDTO post = mapPost(resultSet);
+            posts.put(post.getId(), post);
+        });
+
+        Map<Integer, Set<DirectionDTO>> directions = new HashMap<>();
+        jdbcTemplate.query(DIRECTIONS_QUERY, params, resultSet -> {
+            directions.computeIfAbsent(resultSet.getInt("POST_ID"), postId -> new HashSet<>())
+                    .add(DirectionDTO.builder()
+                            .id(resultSet.getInt("DIRECTION_ID"))
+                            .name(resultSet.getString("NAME"))
+                            .label(resultSet.getString("LABEL"))
+                            .color(resultSet.getString("COLOR"))
+                            .hasAuthors(resultSet.getObject("HAS_AUTHORS", Boolean.class))
+                            .hasPosts(resultSet.getObject("HAS_POSTS", Boolean.class))
+                            .build());
+        });
+
+        Map<Integer, Set<TagDTO>> tags = new HashMap<>();
+        jdbcTemplate.query(TAGS_QUERY, params, resultSet -> {
+            tags.computeIfAbsent(resultSet.getInt("POST_ID"), postId -> new HashSet<>())
+                    .add(TagDTO.builder()
+                            .id(resultSet.getInt("TAG_ID"))
+                            .tag(resultSet.getString("TAG"))
+                            .build());
+        });
+
+        Map<Integer, Set<OriginDTO>> origins = new HashMap<>();
+        jdbcTemplate.query(ORIGINS_QUERY, params, resultSet -> {
+            origins.computeIfAbsent(resultSet.getInt("POST_ID"), postId -> new HashSet<>())
+                    .add(OriginDTO.builder()
+                            .id(resultSet.getInt("ORIGIN_ID"))
+                            .name(resultSet.getString("NAME"))
+                            .parameters(resultSet.getString("PARAMETERS"))
+                            .build());
+        });
+
+        List<PostCardDTO> result = new ArrayList<>(postIds.size());
+        for (Integer postId : postIds) {
+            PostCardDTO post = posts.get(postId);
+            if (post != null) {
+                post.setDirections(directions.getOrDefault(postId, Collections.emptySet()));
+                post.setTags(tags.getOrDefault(postId, Collections.emptySet()));
+                post.setOrigins(origins.getOrDefault(postId, Collections.emptySet()));
+                result.add(post);
+            }
+        }
+        return result;
+    }
+
+    private static PostCardDTO mapPost(ResultSet resultSet) throws SQLException {
+        Integer typeId = resultSet.getObject("TYPE_ID", Integer.class);
+        Integer userId = resultSet.getObject("USER_ID", Integer.class);
+        return PostCardDTO.builder()
+                .id(resultSet.getInt("POST_ID"))
+                .title(resultSet.getString("TITLE"))
+                .preview(resultSet.getString("PREVIEW"))
+                .videoUrl(resultSet.getString("VIDEO_URL"))
+                .previewImageUrl(resultSet.getString("PREVIEW_IMAGE_URL"))
+                .importantMobileImageUrl(resultSet.getString("IMPORTANT_MOBILE_IMAGE_URL"))
+                .status(resultSet.getString("STATUS"))
+                .createdAt(resultSet.getTimestamp("CREATED_AT"))
+                .modifiedAt(resultSet.getTimestamp("MODIFIED_AT"))
+                .publishedAt(resultSet.getTimestamp("PUBLISHED_AT"))
+                .importanceOrder(resultSet.getObject("IMPORTANCE_ORDER", Integer.class))
+                .importantImageUrl(resultSet.getString("IMPORTANT_IMAGE_URL"))
+                .views(resultSet.getObject("VIEWS", Integer.class))
+                .realViews(resultSet.getObject("REAL_VIEWS", Integer.class))
+                .type(typeId == null ? null : new PostTypeDTO(typeId, resultSet.getString("TYPE_NAME")))
+                .author(userId == null ? null : mapAuthor(resultSet, userId))
+                .build();
+    }
+
+    private static PostUserDTO mapAuthor(ResultSet resultSet, Integer userId) throws SQLException {
+        Integer institutionId = resultSet.getObject("INSTITUTION_ID", Integer.class);
+        Integer cityId = resultSet.getObject("CITY_ID", Integer.class);
+        PostUserInstitutionDTO mainInstitution = institutionId == null ? null : PostUserInstitutionDTO.builder()
+                .id(institutionId)
+                .name(resultSet.getString("INSTITUTION_NAME"))
+                .city(cityId == null ? null : PostUserInstitutionCityDTO.builder()
+                        .id(cityId)
+                        .name(resultSet.getString("CITY_NAME"))
+                        .build())
+                .build();
+        return PostUserDTO.builder()
+                .id(userId)
+                .firstName(resultSet.getString("FIRST_NAME"))
+                .lastName(resultSet.getString("LAST_NAME"))
+                .avatar(resultSet.getString("AVATAR"))
+                .bio(resultSet.getString("BIO"))
+                .mainInstitution(mainInstitution)
+                .build();
+    }
+}
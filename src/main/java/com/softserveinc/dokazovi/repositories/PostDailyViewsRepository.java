@@ -0,0 +1,92 @@
+package com.softserveinc.dokazovi.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Post views per day, as reported by Google Analytics.
+ *
+ * <p>Keeps the already ingested days locally, so that a sync only has to fetch the days
+ * since the previous one, and applies the change of every stored day to the real views of its post.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostDailyViewsRepository {
+
+    private static final String LAST_VIEW_DATE_QUERY = "SELECT MAX(VIEW_DATE) FROM POST_DAILY_VIEWS";
+
+    private static final String MERGE_VIEWS_QUERY = "WITH NEW_VIEWS AS ("
+            + "    SELECT * FROM unnest(?::INTEGER[], ?::DATE[], ?::INTEGER[]) AS V(POST_ID, VIEW_DATE, VIEWS)"
+            + "), CHANGED_VIEWS AS ("
+            + "    SELECT N.POST_ID, N.VIEW_DATE, N.VIEWS, N.VIEWS - coalesce(D.VIEWS, 0) AS DELTA "
+            + "    FROM NEW_VIEWS N "
+            + "    LEFT JOIN POST_DAILY_VIEWS D ON D.POST_ID = N.POST_ID AND D.VIEW_DATE = N.VIEW_DATE "
+            + "    WHERE D.VIEWS IS DISTINCT FROM N.VIEWS"
+            + "), UPSERTED AS ("
+            + "    INSERT INTO POST_DAILY_VIEWS (POST_ID, VIEW_DATE, VIEWS) "
+            + "    SELECT POST_ID, VIEW_DATE, VIEWS FROM CHANGED_VIEWS "
+            + "    ON CONFLICT (POST_ID, VIEW_DATE) DO UPDATE SET VIEWS = EXCLUDED.VIEWS"
+            + ") "
+            + "UPDATE POSTS P "
+            + "SET REAL_VIEWS = CASE WHEN ?::BOOLEAN THEN 0 ELSE coalesce(P.REAL_VIEWS, 0) END + T.DELTA "
+            + "FROM (SELECT POST_ID, SUM(DELTA) AS DELTA FROM CHANGED_VIEWS GROUP BY POST_ID) AS T "
+            + "WHERE P.POST_ID = T.POST_ID "
+            + "  AND T.DELTA <> 0";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the last day that has views.
+     *
+     * @return the last ingested day, empty if nothing was ingested yet
+     */
+    public Optional<LocalDate> findLastViewDate() {
+        Date lastViewDate = jdbcTemplate.queryForObject(LAST_VIEW_DATE_QUERY, new MapSqlParameterSource(), Date.class);
+        return Optional.ofNullable(lastViewDate).map(Date::toLocalDate);
+    }
+
+    /**
+     * Stores the given daily views and adds the difference to the stored ones to the real views of posts,
+     * all in one statement. Only the days that are new or changed are written, and only the posts whose
+     * views changed are updated, so the work grows with the fetched days rather than with all stored days.
+     *
+     * <p>On the first sync the real views still hold the totals from before daily views were stored.
+     * With {@code replaceRealViews} they are set to the sum of the given days instead, which then must
+     * cover all days since Google Analytics started counting.</p>
+     *
+     * @param dailyViews       views by post id by day
+     * @param replaceRealViews whether to set the real views to the stored views instead of adding to them
+     * @return number of updated posts
+     */
+    public int mergeViews(Map<LocalDate, Map<Integer, Integer>> dailyViews, boolean replaceRealViews) {
+        List<Integer> postIds = new ArrayList<>();
+        List<Date> viewDates = new ArrayList<>();
+        List<Integer> views = new ArrayList<>();
+        dailyViews.forEach((viewDate, postViews) -> postViews.forEach((postId, count) -> {
+            postIds.add(postId);
+            viewDates.add(Date.valueOf(viewDate));
+            views.add(count);
+        }));
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.getJdbcOperations().update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(MERGE_VIEWS_QUERY);
+            statement.setArray(1, connection.createArrayOf("integer", postIds.toArray(new Integer[0])));
+            statement.setArray(2, connection.createArrayOf("date", viewDates.toArray(new Date[0])));
+            statement.setArray(3, connection.createArrayOf("integer", views.toArray(new Integer[0])));
+            statement.setBoolean(4, replaceRealViews);
+            return statement;
+        });
+    }
+}
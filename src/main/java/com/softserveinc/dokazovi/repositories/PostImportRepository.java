@@ -0,0 +1,175 @@
+package com.softserveinc.dokazovi.repositories;
+
+import com.softserveinc.dokazovi.entity.DirectionEntity;
+import com.softserveinc.dokazovi.entity.OriginEntity;
+import com.softserveinc.dokazovi.entity.PostEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Writes imported posts and their directions and origins with a few statements per batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostImportRepository {
+
+    private static final String ALLOCATE_POST_IDS_QUERY = "SELECT nextval('posts_post_id_seq')::INTEGER "
+            + "FROM generate_series(1, :count)";
+
+    private static final String FIND_USER_IDS_QUERY = "SELECT USER_ID FROM USERS WHERE USER_ID IN (:ids)";
+
+    private static final String FIND_DIRECTION_IDS_QUERY = "SELECT DIRECTION_ID FROM DIRECTIONS "
+            + "WHERE DIRECTION_ID IN (:ids)";
+
+    private static final String FIND_ORIGIN_IDS_QUERY = "SELECT ORIGIN_ID FROM ORIGINS WHERE ORIGIN_ID IN (:ids)";
+
+    private static final String FIND_POST_TYPE_IDS_QUERY = "SELECT TYPE_ID FROM POST_TYPES WHERE TYPE_ID IN (:ids)";
+
+    private static final String INSERT_POST_QUERY = "INSERT INTO POSTS "
+            + "(POST_ID, AUTHOR_ID, TYPE_ID, TITLE, PREVIEW, CONTENT, STATUS, IMPORTANT, VIDEO_URL, "
+            + "PREVIEW_IMAGE_URL, IMPORTANT_IMAGE_URL, IMPORTANT_MOBILE_IMAGE_URL, CREATED_AT, MODIFIED_AT, "
+            + "PUBLISHED_AT, REAL_VIEWS, FAKE_VIEWS, VIEWS) "
+            + "VALUES (:id, :authorId, :typeId, :title, :preview, :content, :status, :important, :videoUrl, "
+            + ":previewImageUrl, :importantImageUrl, :importantMobileImageUrl, :createdAt, :modifiedAt, "
+            + ":publishedAt, :realViews, :fakeViews, :views)";
+
+    private static final String INSERT_POSTS_DIRECTIONS_QUERY = "INSERT INTO POSTS_DIRECTIONS (POST_ID, DIRECTION_ID) "
+            + "SELECT * FROM unnest(?::INTEGER[], ?::INTEGER[])";
+
+    private static final String INSERT_POSTS_ORIGINS_QUERY = "INSERT INTO POSTS_ORIGINS (POST_ID, ORIGIN_ID) "
+            + "SELECT * FROM unnest(?::INTEGER[], ?::INTEGER[])";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes a block of post ids from the posts sequence in one round trip.
+     *
+     * @param count number of ids
+     * @return allocated ids
+     */
+    public List<Integer> allocatePostIds(int count) {
+        return jdbcTemplate.queryForList(ALLOCATE_POST_IDS_QUERY,
+                new MapSqlParameterSource("count", count), Integer.class);
+    }
+
+    /**
+     * Finds which of the given user ids exist.
+     *
+     * @param userIds user ids to look up
+     * @return existing user ids
+     */
+    public Set<Integer> findExistingUserIds(Collection<Integer> userIds) {
+        return findExistingIds(FIND_USER_IDS_QUERY, userIds);
+    }
+
+    /**
+     * Finds which of the given direction ids exist.
+     *
+     * @param directionIds direction ids to look up
+     * @return existing direction ids
+     */
+    public Set<Integer> findExistingDirectionIds(Collection<Integer> directionIds) {
+        return findExistingIds(FIND_DIRECTION_IDS_QUERY, directionIds);
+    }
+
+    /**
+     * Finds which of the given origin ids exist.
+     *
+     * @param originIds origin ids to look up
+     * @return existing origin ids
+     */
+    public Set<Integer> findExistingOriginIds(Collection<Integer> originIds) {
+        return findExistingIds(FIND_ORIGIN_IDS_QUERY, originIds);
+    }
+
+    /**
+     * Finds which of the given post type ids exist.
+     *
+     * @param postTypeIds post type ids to look up
+     * @return existing post type ids
+     */
+    public Set<Integer> findExistingPostTypeIds(Collection<Integer> postTypeIds) {
+        return findExistingIds(FIND_POST_TYPE_IDS_QUERY, postTypeIds);
+    }
+
+    /**
+     * Inserts the given posts, which must already have their ids, with one batch, and then their
+     * directions and origins with one statement each, so the triggers on the join tables run once.
+     *
+     * @param posts posts to insert
+     */
+    public void insertAll(List<PostEntity> posts) {
+        SqlParameterSource[] rows = posts.stream()
+                .map(post -> new MapSqlParameterSource()
+                        .addValue("id", post.getId())
+                        .addValue("authorId", post.getAuthor().getId())
+                        .addValue("typeId", post.getType().getId())
+                        .addValue("title", post.getTitle())
+                        .addValue("preview", post.getPreview())
+                        .addValue("content", post.getContent())
+                        .addValue("status", post.getStatus().name())
+                        .addValue("important", post.getImportant())
+                        .addValue("videoUrl", post.getVideoUrl())
+                        .addValue("previewImageUrl", post.getPreviewImageUrl())
+                        .addValue("importantImageUrl", post.getImportantImageUrl())
+                        .addValue("importantMobileImageUrl", post.getImportantMobileImageUrl())
+                        .addValue("createdAt", post.getCreatedAt())
+                        .addValue("modifiedAt", post.getModifiedAt())
+                        .addValue("publishedAt", post.getPublishedAt())
+                        .addValue("realViews", post.getRealViews(), Types.INTEGER)
+                        .addValue("fakeViews", post.getFakeViews(), Types.INTEGER)
+                        .addValue("views", post.getRealViews() + post.getFakeViews(), Types.INTEGER))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_POST_QUERY, rows);
+
+        insertPairs(INSERT_POSTS_DIRECTIONS_QUERY, posts, PostEntity::getDirections, DirectionEntity::getId);
+        insertPairs(INSERT_POSTS_ORIGINS_QUERY, posts, PostEntity::getOrigins, OriginEntity::getId);
+    }
+
+    private Set<Integer> findExistingIds(String query, Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(query, new MapSqlParameterSource("ids", ids), Integer.class));
+    }
+
+    private static <T> List<Integer[]> toPairs(List<PostEntity> posts, Function<PostEntity, Set<T>> children,
+            Function<T, Integer> childId) {
+        List<Integer[]> pairs = new ArrayList<>();
+        for (PostEntity post : posts) {
+            Set<T> postChildren = children.apply(post);
+            if (postChildren != null) {
+                postChildren.forEach(child -> pairs.add(new Integer[]{post.getId(), childId.apply(child)}));
+            }
+        }
+        return pairs;
+    }
+
+    private <T> void insertPairs(String query, List<PostEntity> posts, Function<PostEntity, Set<T>> children,
+            Function<T, Integer> childId) {
+        List<Integer[]> pairs = toPairs(posts, children, childId);
+        if (pairs.isEmpty()) {
+            return;
+        }
+        Integer[] postIds = pairs.stream().map(pair -> pair[0]).toArray(Integer[]::new);
+        Integer[] childIds = pairs.stream().map(pair -> pair[1]).toArray(Integer[]::new);
+        jdbcTemplate.getJdbcOperations().update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(query);
+            statement.setArray(1, connection.createArrayOf("integer", postIds));
+            statement.setArray(2, connection.createArrayOf("integer", childIds));
+            return statement;
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package com.softserveinc.dokazovi.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads planned publications and publishes posts, all due posts in one statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostPublicationRepository {
+
+    private static final String PLANNED_PUBLICATIONS_QUERY = "SELECT POST_ID, PUBLISHED_AT "
+            + "FROM POSTS "
+            + "WHERE STATUS = 'PLANNED' AND PUBLISHED_AT IS NOT NULL";
+
+    private static final String PUBLISH_QUERY = "UPDATE POSTS "
+            + "SET STATUS = 'PUBLISHED' "
+            + "WHERE POST_ID = ANY(?) "
+            + "  AND STATUS = 'PLANNED' "
+            + "  AND PUBLISHED_AT <= ? "
+            + "RETURNING POST_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the publication time of every planned post.
+     *
+     * @return publication time by post id
+     */
+    public Map<Integer, Timestamp> findPlannedPublications() {
+        Map<Integer, Timestamp> publications = new HashMap<>();
+        jdbcTemplate.query(PLANNED_PUBLICATIONS_QUERY, (RowCallbackHandler) resultSet ->
+                publications.put(resultSet.getInt("POST_ID"), resultSet.getTimestamp("PUBLISHED_AT")));
+        return publications;
+    }
+
+    /**
+     * Publishes the given posts in one statement. Posts that are no longer planned, or are now planned
+     * for a later time, are left as they are.
+     *
+     * @param postIds ids of the posts to publish
+     * @param now     current time
+     * @return ids of the published posts
+     */
+    public List<Integer> publish(Collection<Integer> postIds, Timestamp now) {
+        Integer[] ids = postIds.toArray(new Integer[0]);
+        List<Integer> publishedPostIds = new ArrayList<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(PUBLISH_QUERY);
+            statement.setArray(1, connection.createArrayOf("integer", ids));
+            statement.setTimestamp(2, now);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> publishedPostIds.add(resultSet.getInt("POST_ID")));
+        return publishedPostIds;
+    }
+}
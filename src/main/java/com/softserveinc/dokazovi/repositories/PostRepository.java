@@ -12,74 +12,76 @@ import org.springframework.stereotype.Repository;
 
 import java.sql.Timestamp;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 @Repository
 public interface PostRepository extends JpaRepository<PostEntity, Integer> {
 
-    Page<PostEntity> findAllByImportantIsTrueAndStatusOrderByImportanceOrder(PostStatus status, Pageable pageable);
+    @Query(value = "SELECT p.status FROM post_entity p WHERE p.id = :postId")
+    Optional<PostStatus> findStatusById(Integer postId);
 
-    Page<PostEntity> findAllByStatus(PostStatus postStatus, Pageable pageable);
+    @Query(value = "SELECT p.title FROM post_entity p WHERE p.id = :postId")
+    Optional<String> findTitleById(Integer postId);
 
+    @Query(value = "SELECT p.id FROM post_entity p "
+            + "WHERE p.important = TRUE AND p.status = :postStatus "
+            + "ORDER BY p.importanceOrder")
+    Page<Integer> findImportantIdsByStatus(PostStatus postStatus, Pageable pageable);
 
-    List<PostEntity> findAllByStatus(PostStatus postStatus);
+    @Query(value = "SELECT p.id FROM post_entity p WHERE p.status = :postStatus")
+    Page<Integer> findIdsByStatus(PostStatus postStatus, Pageable pageable);
 
-    Page<PostEntity> findAllByDirectionsContainsAndStatus(
+    @Query(value = "SELECT p.id FROM post_entity p "
+            + "WHERE :direction MEMBER OF p.directions AND p.status = :postStatus")
+    Page<Integer> findIdsByDirectionAndStatus(
             DirectionEntity direction, PostStatus postStatus, Pageable pageable);
 
-    Page<PostEntity> findAllByDirectionsContainsAndTypeIdInAndStatus(
-            DirectionEntity direction, Set<Integer> typeId, PostStatus postStatus, Pageable pageable);
+    @Query(value = "SELECT p.id FROM post_entity p "
+            + "WHERE :direction MEMBER OF p.directions AND p.type.id IN (:typeIds) AND p.status = :postStatus")
+    Page<Integer> findIdsByDirectionAndTypesAndStatus(
+            DirectionEntity direction, Set<Integer> typeIds, PostStatus postStatus, Pageable pageable);
 
-    Page<PostEntity> findAllByDirectionsContainsAndTagsIdInAndStatus(
-            DirectionEntity direction, Set<Integer> tagId, PostStatus postStatus, Pageable pageable);
+    @Query(value = "SELECT p.id FROM post_entity p "
+            + "WHERE :direction MEMBER OF p.directions AND p.status = :postStatus "
+            + "  AND EXISTS (SELECT t.id FROM p.tags t WHERE t.id IN (:tagIds))")
+    Page<Integer> findIdsByDirectionAndTagsAndStatus(
+            DirectionEntity direction, Set<Integer> tagIds, PostStatus postStatus, Pageable pageable);
 
-    Page<PostEntity> findAllByDirectionsContainsAndTypeIdInAndTagsIdInAndStatus(
-            DirectionEntity direction, Set<Integer> typeId, Set<Integer> tagId, PostStatus postStatus,
+    @Query(value = "SELECT p.id FROM post_entity p "
+            + "WHERE :direction MEMBER OF p.directions AND p.type.id IN (:typeIds) AND p.status = :postStatus "
+            + "  AND EXISTS (SELECT t.id FROM p.tags t WHERE t.id IN (:tagIds))")
+    Page<Integer> findIdsByDirectionAndTypesAndTagsAndStatus(
+            DirectionEntity direction, Set<Integer> typeIds, Set<Integer> tagIds, PostStatus postStatus,
             Pageable pageable);
 
-    Page<PostEntity> findAllByAuthorIdAndStatusOrderByPublishedAtDesc(Integer authorId, PostStatus postStatus,
-            Pageable pageable);
+    @Query(value = "SELECT p.id FROM post_entity p "
+            + "WHERE p.author.id = :authorId AND p.status = :postStatus "
+            + "ORDER BY p.publishedAt DESC")
+    Page<Integer> findIdsByAuthorIdAndStatus(Integer authorId, PostStatus postStatus, Pageable pageable);
 
     @Query(value = "SELECT p.fakeViews FROM post_entity p WHERE p.id = :postId")
     Integer getFakeViewsByPostId(Integer postId);
 
-    Page<PostEntity> findAllByAuthorIdAndTypeIdInAndStatus(
-            Integer authorId, Set<Integer> typeId, PostStatus postStatus, Pageable pageable);
-
-    @Query(nativeQuery = true,
-            value = " UPDATE POSTS "
-                    + " SET IMPORTANT = FALSE, "
-                    + "    IMPORTANCE_ORDER = NULL "
-                    + " WHERE POST_ID > 0;")
-    @Modifying
-    void removeImportantPostsAndOrder(Set<Integer> importantPostIds);
-
-    @Query(nativeQuery = true,
-            value = " UPDATE POSTS "
-                    + " SET IMPORTANCE_ORDER = (:postNumber), "
-                    + "    IMPORTANT = TRUE "
-                    + " WHERE POST_ID = (:postId) ")
-    @Modifying
-    void setImportantPostOrder(Integer postNumber, Integer postId);
-
-    @Query(value = "UPDATE post_entity p SET realViews =:realViews WHERE id = :postId")
-    @Modifying
-    void updateRealViews(Integer postId, Integer realViews);
+    @Query(value = "SELECT p.id FROM post_entity p "
+            + "WHERE p.author.id = :authorId AND p.type.id IN (:typeIds) AND p.status = :postStatus")
+    Page<Integer> findIdsByAuthorIdAndTypesAndStatus(
+            Integer authorId, Set<Integer> typeIds, PostStatus postStatus, Pageable pageable);
 
     @Query(value = "UPDATE post_entity p SET publishedAt =:publishedAt WHERE id =:postId")
     @Modifying
     void setPublishedAt(Integer postId, Timestamp publishedAt);
 
     @Query(nativeQuery = true,
-            value = "SELECT * FROM POSTS "
+            value = "SELECT POST_ID FROM POSTS "
                     + " WHERE POSTS.STATUS IN ('PUBLISHED')"
                     + " ORDER BY POST_ID",
             countQuery = "SELECT COUNT(POSTS.POST_ID) FROM POSTS"
                     + " WHERE POSTS.STATUS IN ('PUBLISHED')")
-    Page<PostEntity> findAll(Pageable pageable);
+    Page<Integer> findPublishedIds(Pageable pageable);
 
     @Query(nativeQuery = true,
-            value = " SELECT P.* FROM POSTS P "
+            value = " SELECT P.POST_ID FROM POSTS P "
                     + " WHERE (P.AUTHOR_ID IN (:authorId)) "
                     + " AND(array_length(ARRAY[(:typesIds)],1)>0 "
                     + "    AND P.TYPE_ID IN (:typesIds)) "
@@ -88,11 +90,11 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "                       FROM POSTS_DIRECTIONS "
                     + "                       WHERE DIRECTION_ID IN (:directionsIds)))"
                     + " AND P.STATUS IN ('PUBLISHED') ")
-    Page<PostEntity> findAllByExpertAndByDirectionsAndByPostType(Integer authorId, Set<Integer> typesIds,
+    Page<Integer> findIdsByExpertAndByDirectionsAndByPostType(Integer authorId, Set<Integer> typesIds,
             Set<Integer> directionsIds, Pageable pageable);
 
     @Query(nativeQuery = true,
-            value = " SELECT P.* "
+            value = " SELECT P.POST_ID "
                     + " FROM POSTS P "
                     + " WHERE (P.AUTHOR_ID IN (:authorId)) "
                     + "  AND (array_length(ARRAY [(:directionsIds)], 1) > 0 "
@@ -100,10 +102,10 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "                      FROM POSTS_DIRECTIONS "
                     + "                      WHERE DIRECTION_ID IN (:directionsIds))) "
                     + "  AND P.STATUS IN ('PUBLISHED')")
-    Page<PostEntity> findPostsByAuthorIdAndDirections(Pageable pageable, Integer authorId, Set<Integer> directionsIds);
+    Page<Integer> findIdsByAuthorIdAndDirections(Pageable pageable, Integer authorId, Set<Integer> directionsIds);
 
     @Query(nativeQuery = true,
-            value = " SELECT P1.* "
+            value = " SELECT P1.POST_ID "
                     + " FROM POSTS P1 "
                     + " WHERE (P1.POST_ID IN (SELECT POST_ID"
                     + "                      FROM POSTS_ORIGINS"
@@ -111,10 +113,10 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "  AND P1.STATUS IN ('PUBLISHED')"
                     + "  AND P1.TYPE_ID NOT IN (2)"
                     + " ORDER BY PUBLISHED_AT DESC, P1.POST_ID DESC")
-    Page<PostEntity> findLatestByPostTypeExpertOpinion(Pageable pageable);
+    Page<Integer> findLatestIdsByPostTypeExpertOpinion(Pageable pageable);
 
     @Query(nativeQuery = true,
-            value = " SELECT P1.* "
+            value = " SELECT P1.POST_ID "
                     + " FROM POSTS P1 "
                     + " WHERE (P1.POST_ID IN (SELECT POST_ID "
                     + "                       FROM POSTS_ORIGINS "
@@ -122,11 +124,11 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "   AND P1.STATUS IN ('PUBLISHED') "
                     + "   AND P1.TYPE_ID NOT IN (2) "
                     + " ORDER BY PUBLISHED_AT DESC, P1.POST_ID DESC ")
-    Page<PostEntity> findLatestByPostTypeMedia(Pageable pageable);
+    Page<Integer> findLatestIdsByPostTypeMedia(Pageable pageable);
 
 
     @Query(nativeQuery = true,
-            value = " SELECT P1.*"
+            value = " SELECT P1.POST_ID"
                     + " FROM POSTS P1 "
                     + " WHERE (P1.POST_ID IN (SELECT POST_ID "
                     + "                      FROM POSTS_ORIGINS "
@@ -134,18 +136,18 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "  AND P1.STATUS IN ('PUBLISHED') "
                     + "  AND P1.TYPE_ID NOT IN (2) "
                     + " ORDER BY PUBLISHED_AT DESC, P1.POST_ID DESC ")
-    Page<PostEntity> findLatestByPostTypeTranslation(Pageable pageable);
+    Page<Integer> findLatestIdsByPostTypeTranslation(Pageable pageable);
 
     @Query(nativeQuery = true,
-            value = "SELECT P1.* "
+            value = "SELECT P1.POST_ID "
                     + "   FROM POSTS P1 "
                     + "   WHERE P1.TYPE_ID IN (2) "
                     + "   AND P1.STATUS IN ('PUBLISHED') "
                     + " ORDER BY PUBLISHED_AT DESC, P1.POST_ID DESC ")
-    Page<PostEntity> findLatestByOriginVideo(Pageable pageable);
+    Page<Integer> findLatestIdsByOriginVideo(Pageable pageable);
 
     @Query(nativeQuery = true,
-            value = "SELECT P1.* FROM POSTS P1 "
+            value = "SELECT P1.POST_ID FROM POSTS P1 "
                     + "WHERE P1.STATUS = :#{#postStatus.name()} "
                     + "  AND P1.IMPORTANT = :important "
                     + "  AND CASE WHEN :typesIds IS NOT NULL "
@@ -165,13 +167,13 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "ORDER BY (P1.IMPORTANT_IMAGE_URL <> '' AND P1.IMPORTANT_IMAGE_URL IS NOT NULL) DESC, "
                     + "          P1.PUBLISHED_AT DESC, P1.POST_ID "
     )
-    Page<PostEntity> findByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
+    Page<Integer> findIdsByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
             Set<Integer> directionsIds, Set<Integer> typesIds, Set<Integer> originsIds, PostStatus postStatus,
             Boolean important, Pageable pageable);
 
 
     @Query(nativeQuery = true,
-            value = "SELECT p.*, u.first_name FROM posts p, users u "
+            value = "SELECT p.post_id FROM posts p, users u "
                     + "WHERE p.author_id = u.user_id "
                     + "AND CASE WHEN :typeIds IS NOT NULL "
                     + "THEN p.type_id IN (:typeIds) "
@@ -200,12 +202,12 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "LIKE UPPER((:author || '%') COLLATE \"uk-ua-dokazovi-x-icu\")) "
                     + "AND UPPER((p.title) COLLATE \"uk-ua-dokazovi-x-icu\") "
                     + "LIKE UPPER(('%' || :title || '%') COLLATE \"uk-ua-dokazovi-x-icu\")")
-    Page<PostEntity> findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(Set<Integer> typeIds,
+    Page<Integer> findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(Set<Integer> typeIds,
             Set<Integer> directionIds, Set<String> statuses, Set<Integer> originIds, String title, String author,
             Timestamp startDate, Timestamp endDate, Pageable pageable);
 
     @Query(nativeQuery = true,
-            value = "SELECT p.* FROM posts p "
+            value = "SELECT p.post_id FROM posts p "
                     + "WHERE p.author_id = :authorId "
                     + "AND CASE WHEN :typeIds IS NOT NULL "
                     + "THEN p.type_id IN (:typeIds) "
@@ -228,12 +230,45 @@ public interface PostRepository extends JpaRepository<PostEntity, Integer> {
                     + "AND p.modified_at between :startDate and :endDate "
                     + "AND UPPER((p.title) COLLATE \"uk-ua-dokazovi-x-icu\") "
                     + "LIKE UPPER(('%' || :title || '%') COLLATE \"uk-ua-dokazovi-x-icu\")")
-    Page<PostEntity> findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(Set<Integer> typeIds,
+    Page<Integer> findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(Set<Integer> typeIds,
             Set<Integer> directionIds, Set<String> statuses, Set<Integer> originIds, String title, Integer authorId,
             Timestamp startDate, Timestamp endDate, Pageable pageable);
 
     @Query(nativeQuery = true,
-            value = "SELECT p.* FROM posts p "
+            value = "SELECT p.post_id FROM posts p "
                     + "WHERE p.author_id = :authorId")
-    Page<PostEntity> findAllByAuthorId(Integer authorId, Pageable pageable);
+    Page<Integer> findIdsByAuthorId(Integer authorId, Pageable pageable);
+
+    @Query(nativeQuery = true,
+            value = "SELECT P.POST_ID FROM POSTS P "
+                    + "WHERE P.STATUS = 'PUBLISHED' "
+                    + "  AND (P.PUBLISHED_AT, P.POST_ID) < (:publishedAt, :postId) "
+                    + "  AND CASE WHEN :authorsIds IS NOT NULL "
+                    + "           THEN P.AUTHOR_ID IN (:authorsIds) "
+                    + "           ELSE P.POST_ID IS NOT NULL "
+                    + "      END "
+                    + "  AND CASE WHEN :typesIds IS NOT NULL "
+                    + "           THEN P.TYPE_ID IN (:typesIds) "
+                    + "           ELSE P.POST_ID IS NOT NULL "
+                    + "      END "
+                    + "  AND CASE WHEN :directionsIds IS NOT NULL "
+                    + "           THEN P.POST_ID IN "
+                    + "                  (SELECT POST_ID FROM POSTS_DIRECTIONS WHERE DIRECTION_ID IN (:directionsIds)) "
+                    + "           ELSE P.POST_ID IS NOT NULL "
+                    + "      END "
+                    + "  AND CASE WHEN :originsIds IS NOT NULL "
+                    + "           THEN P.POST_ID IN "
+                    + "                  (SELECT POST_ID FROM POSTS_ORIGINS WHERE ORIGIN_ID IN (:originsIds)) "
+                    + "           ELSE P.POST_ID IS NOT NULL "
+                    + "      END "
+                    + "  AND CASE WHEN :tagsIds IS NOT NULL "
+                    + "           THEN P.POST_ID IN "
+                    + "                  (SELECT POST_ID FROM POSTS_TAGS WHERE TAG_ID IN (:tagsIds)) "
+                    + "           ELSE P.POST_ID IS NOT NULL "
+                    + "      END "
+                    + "ORDER BY P.PUBLISHED_AT DESC, P.POST_ID DESC "
+                    + "LIMIT :limit")
+    List<Integer> findPublishedIdsBeforeCursor(Timestamp publishedAt, Integer postId, Set<Integer> authorsIds,
+            Set<Integer> typesIds, Set<Integer> directionsIds, Set<Integer> originsIds, Set<Integer> tagsIds,
+            int limit);
 }
@@ -0,0 +1,93 @@
+package com.softserveinc.dokazovi.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Full-text search over published posts.
+ *
+ * <p>Matches the query against the SEARCH_VECTOR column of posts (title, preview and content,
+ * maintained by a trigger and served by a GIN index) and ranks the matches with ts_rank_cd,
+ * title matches weighing more than preview and content ones.</p>
+ *
+ * <p>Snippets are built from the text of the preview and the content with markup removed. The database marks
+ * the matches with control characters, and the snippet is HTML escaped before they are replaced with
+ * {@code <mark>} tags, so markup written by authors never reaches the client.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostSearchRepository {
+
+    private static final String SEARCH_CONFIGURATION = "public.dokazovi_uk";
+    private static final String START_SELECTION = "\u0002";
+    private static final String STOP_SELECTION = "\u0003";
+
+    private static final String SEARCH_QUERY = "SELECT P.POST_ID, "
+            + "       ts_headline('" + SEARCH_CONFIGURATION + "', "
+            + "                   regexp_replace(coalesce(P.PREVIEW, '') || ' ' || coalesce(P.CONTENT, ''), "
+            + "                                  '<[^>]+>', ' ', 'g'), "
+            + "                   Q.QUERY, "
+            + "                   'StartSel=' || chr(2) || ', StopSel=' || chr(3) "
+            + "                       || ', MaxFragments=2, MaxWords=30, MinWords=10') "
+            + "           AS SNIPPET "
+            + "FROM POSTS P, plainto_tsquery('" + SEARCH_CONFIGURATION + "', :query) Q(QUERY) "
+            + "WHERE P.STATUS = 'PUBLISHED' "
+            + "  AND P.SEARCH_VECTOR @@ Q.QUERY "
+            + "ORDER BY ts_rank_cd(P.SEARCH_VECTOR, Q.QUERY) DESC, P.PUBLISHED_AT DESC, P.POST_ID DESC "
+            + "LIMIT :limit OFFSET :offset";
+
+    private static final String COUNT_QUERY = "SELECT COUNT(*) "
+            + "FROM POSTS P "
+            + "WHERE P.STATUS = 'PUBLISHED' "
+            + "  AND P.SEARCH_VECTOR @@ plainto_tsquery('" + SEARCH_CONFIGURATION + "', :query)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * Finds the best matching published posts with highlighted fragments of their text.
+     *
+     * @param query  words to search for
+     * @param offset number of best matches to skip
+     * @param limit  maximum number of matches
+     * @return snippets by post id, from the most relevant post to the least relevant one
+     */
+    public Map<Integer, String> findSnippetsByQuery(String query, long offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("query", query)
+                .addValue("offset", offset)
+                .addValue("limit", limit);
+        Map<Integer, String> snippets = new LinkedHashMap<>();
+        jdbcTemplate.query(SEARCH_QUERY, params, resultSet -> {
+            snippets.put(resultSet.getInt("POST_ID"), toHtml(resultSet.getString("SNIPPET")));
+        });
+        return snippets;
+    }
+
+    private static String toHtml(String snippet) {
+        if (snippet == null) {
+            return null;
+        }
+        String text = HtmlUtils.htmlUnescape(snippet);
+        return HtmlUtils.htmlEscape(text, StandardCharsets.UTF_8.name())
+                .replace(START_SELECTION, "<mark>")
+                .replace(STOP_SELECTION, "</mark>");
+    }
+
+    /**
+     * Counts published posts matching the query.
+     *
+     * @param query words to search for
+     * @return number of matches
+     */
+    public long countByQuery(String query) {
+        Long count = jdbcTemplate.queryForObject(COUNT_QUERY, new MapSqlParameterSource("query", query), Long.class);
+        return count == null ? 0 : count;
+    }
+}
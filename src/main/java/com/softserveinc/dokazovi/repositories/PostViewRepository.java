@@ -0,0 +1,52 @@
+package com.softserveinc.dokazovi.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes view counts of posts, all posts of a call in one statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewRepository {
+
+    private static final String ADD_REAL_VIEWS_QUERY = "UPDATE POSTS P "
+            + "SET REAL_VIEWS = coalesce(P.REAL_VIEWS, 0) + V.VIEWS "
+            + "FROM unnest(?, ?) AS V(POST_ID, VIEWS) "
+            + "WHERE P.POST_ID = V.POST_ID "
+            + "RETURNING P.POST_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds views to the real views of posts in one statement, whatever the number of posts.
+     *
+     * @param viewsByPostId number of new views by post id
+     * @return ids of the posts that were updated; ids of posts that do not exist are left out
+     */
+    public Set<Integer> addRealViews(Map<Integer, Long> viewsByPostId) {
+        Integer[] postIds = new Integer[viewsByPostId.size()];
+        Long[] views = new Long[viewsByPostId.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Long> entry : viewsByPostId.entrySet()) {
+            postIds[i] = entry.getKey();
+            views[i] = entry.getValue();
+            i++;
+        }
+        Set<Integer> updatedPostIds = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(ADD_REAL_VIEWS_QUERY);
+            statement.setArray(1, connection.createArrayOf("integer", postIds));
+            statement.setArray(2, connection.createArrayOf("bigint", views));
+            return statement;
+        }, (RowCallbackHandler) resultSet -> updatedPostIds.add(resultSet.getInt("POST_ID")));
+        return updatedPostIds;
+    }
+}
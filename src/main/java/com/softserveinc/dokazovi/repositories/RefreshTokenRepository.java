@@ -2,12 +2,29 @@ package com.softserveinc.dokazovi.repositories;
 
 import com.softserveinc.dokazovi.dto.payload.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Integer> {
 
     Optional<RefreshToken> findByToken(String token);
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = "DELETE FROM REFRESHTOKEN WHERE USER_ID = :userId")
+    void deleteAllByUserId(@Param("userId") Integer userId);
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true,
+            value = "DELETE FROM REFRESHTOKEN WHERE REFRESHTOKEN_ID IN ("
+                    + "SELECT REFRESHTOKEN_ID FROM REFRESHTOKEN WHERE EXPIRY_DATE < :now LIMIT :batchSize)")
+    int deleteExpired(@Param("now") Instant now, @Param("batchSize") int batchSize);
 }
@@ -0,0 +1,35 @@
+package com.softserveinc.dokazovi.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads how many posts use each tag.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TagUsageRepository {
+
+    private static final String POST_COUNTS_QUERY = "SELECT TAG_ID, COUNT(*) AS POST_COUNT "
+            + "FROM POSTS_TAGS "
+            + "GROUP BY TAG_ID";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Counts the posts of every tag in one query.
+     *
+     * @return number of posts by tag id; tags without posts are left out
+     */
+    public Map<Integer, Integer> findPostCountsByTagId() {
+        Map<Integer, Integer> postCounts = new HashMap<>();
+        jdbcTemplate.query(POST_COUNTS_QUERY, (RowCallbackHandler) resultSet ->
+                postCounts.put(resultSet.getInt("TAG_ID"), resultSet.getInt("POST_COUNT")));
+        return postCounts;
+    }
+}
@@ -0,0 +1,64 @@
+package com.softserveinc.dokazovi.security;
+
+import com.softserveinc.dokazovi.dto.payload.RefreshToken;
+import com.softserveinc.dokazovi.repositories.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Keeps refresh tokens in the {@code refreshtoken} table. Expired rows are purged periodically,
+ * {@code refresh-token.purge-batch-size} rows per statement, so one purge never holds long locks.
+ */
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(JpaRefreshTokenStore.class);
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int purgeBatchSize;
+
+    public JpaRefreshTokenStore(RefreshTokenRepository refreshTokenRepository, int purgeBatchSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        return refreshTokenRepository.save(refreshToken);
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        return refreshTokenRepository.findByToken(token);
+    }
+
+    @Override
+    public void delete(RefreshToken refreshToken) {
+        refreshTokenRepository.delete(refreshToken);
+    }
+
+    @Override
+    public void deleteAllByUserId(Integer userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * Deletes the expired tokens, one batch at a time, until a batch comes back short.
+     */
+    @Scheduled(fixedDelayString = "${refresh-token.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpired(now, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        if (purged > 0) {
+            logger.info("Purged {} expired refresh tokens", purged);
+        }
+    }
+}
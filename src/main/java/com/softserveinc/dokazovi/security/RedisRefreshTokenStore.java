@@ -0,0 +1,87 @@
+package com.softserveinc.dokazovi.security;
+
+import com.softserveinc.dokazovi.dto.payload.RefreshToken;
+import com.softserveinc.dokazovi.repositories.UserRepository;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps refresh tokens in Redis, so they expire on their own through the key TTL.
+ *
+ * <p>Every token is a key {@code refresh-token:<token>} holding the user id and the expiry date.
+ * The tokens of a user are also listed in the set {@code refresh-tokens:user:<userId>}, used to
+ * revoke them all at once. All tokens live equally long, so the set takes the TTL of the newest one.</p>
+ */
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    static final String TOKEN_KEY_PREFIX = "refresh-token:";
+    static final String USER_TOKENS_KEY_PREFIX = "refresh-tokens:user:";
+
+    private static final String SEPARATOR = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+
+    public RedisRefreshTokenStore(StringRedisTemplate redisTemplate, UserRepository userRepository) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public RefreshToken save(RefreshToken refreshToken) {
+        Duration ttl = Duration.between(Instant.now(), refreshToken.getExpiryDate());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return refreshToken;
+        }
+        Integer userId = refreshToken.getUser().getId();
+        String userTokensKey = USER_TOKENS_KEY_PREFIX + userId;
+        redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + refreshToken.getToken(),
+                userId + SEPARATOR + refreshToken.getExpiryDate().toEpochMilli(), ttl);
+        redisTemplate.opsForSet().add(userTokensKey, refreshToken.getToken());
+        redisTemplate.expire(userTokensKey, ttl);
+        return refreshToken;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByToken(String token) {
+        String value = redisTemplate.opsForValue().get(TOKEN_KEY_PREFIX + token);
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.split(SEPARATOR);
+        Instant expiryDate = Instant.ofEpochMilli(Long.parseLong(parts[1]));
+        return userRepository.findById(Integer.parseInt(parts[0])).map(user -> {
+            RefreshToken refreshToken = new RefreshToken();
+            refreshToken.setToken(token);
+            refreshToken.setUser(user);
+            refreshToken.setExpiryDate(expiryDate);
+            return refreshToken;
+        });
+    }
+
+    @Override
+    public void delete(RefreshToken refreshToken) {
+        redisTemplate.delete(TOKEN_KEY_PREFIX + refreshToken.getToken());
+        if (refreshToken.getUser() != null) {
+            redisTemplate.opsForSet().remove(USER_TOKENS_KEY_PREFIX + refreshToken.getUser().getId(),
+                    refreshToken.getToken());
+        }
+    }
+
+    @Override
+    public void deleteAllByUserId(Integer userId) {
+        String userTokensKey = USER_TOKENS_KEY_PREFIX + userId;
+        Set<String> tokens = redisTemplate.opsForSet().members(userTokensKey);
+        if (tokens != null && !tokens.isEmpty()) {
+            redisTemplate.delete(tokens.stream()
+                    .map(token -> TOKEN_KEY_PREFIX + token)
+                    .collect(Collectors.toList()));
+        }
+        redisTemplate.delete(userTokensKey);
+    }
+}
@@ -4,7 +4,6 @@ import com.softserveinc.dokazovi.config.AppProperties;
 import com.softserveinc.dokazovi.dto.payload.RefreshToken;
 import com.softserveinc.dokazovi.entity.UserEntity;
 import com.softserveinc.dokazovi.exception.TokenRefreshException;
-import com.softserveinc.dokazovi.repositories.RefreshTokenRepository;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -18,11 +17,11 @@ import java.util.UUID;
 public class RefreshTokenService {
 
     private final AppProperties appProperties;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final UserRepository userRepository;
 
     public Optional<RefreshToken> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+        return refreshTokenStore.findByToken(token);
     }
 
     public RefreshToken createRefreshToken(Integer userId) {
@@ -35,15 +34,19 @@ public class RefreshTokenService {
             refreshToken.setExpiryDate(Instant.now().plusMillis(expirationTime));
             refreshToken.setToken(UUID.randomUUID().toString());
         }
-        return refreshTokenRepository.save(refreshToken);
+        return refreshTokenStore.save(refreshToken);
     }
 
     public RefreshToken verifyExpiration(RefreshToken token) {
         if (token.getExpiryDate().compareTo(Instant.now()) < 0) {
-            refreshTokenRepository.delete(token);
+            refreshTokenStore.delete(token);
             throw new TokenRefreshException(token.getToken(),
                     "Refresh token was expired. Please make a new signin request");
         }
         return token;
     }
+
+    public void revokeAll(Integer userId) {
+        refreshTokenStore.deleteAllByUserId(userId);
+    }
 }
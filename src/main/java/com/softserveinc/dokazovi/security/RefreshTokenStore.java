@@ -0,0 +1,42 @@
+package com.softserveinc.dokazovi.security;
+
+import com.softserveinc.dokazovi.dto.payload.RefreshToken;
+
+import java.util.Optional;
+
+/**
+ * Keeps the issued refresh tokens. The database store is used by default and the Redis store
+ * when {@code redis.enabled} is set, see {@link com.softserveinc.dokazovi.config.RedisConfig}.
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Saves the token until its expiry date.
+     *
+     * @param refreshToken token with its user and expiry date
+     * @return saved token
+     */
+    RefreshToken save(RefreshToken refreshToken);
+
+    /**
+     * Finds a token by its value. The store may still return a token that expired a moment ago.
+     *
+     * @param token value of the token
+     * @return found token
+     */
+    Optional<RefreshToken> findByToken(String token);
+
+    /**
+     * Removes the token.
+     *
+     * @param refreshToken token to remove
+     */
+    void delete(RefreshToken refreshToken);
+
+    /**
+     * Removes all tokens of the user, signing them out everywhere once their access tokens expire.
+     *
+     * @param userId id of the user
+     */
+    void deleteAllByUserId(Integer userId);
+}
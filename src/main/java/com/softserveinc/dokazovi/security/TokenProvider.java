@@ -1,6 +1,8 @@
 package com.softserveinc.dokazovi.security;
 
 import com.softserveinc.dokazovi.config.AppProperties;
+import com.softserveinc.dokazovi.entity.RoleEntity;
+import com.softserveinc.dokazovi.entity.enumerations.RolePermission;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
@@ -11,16 +13,28 @@ import io.jsonwebtoken.UnsupportedJwtException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 public class TokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(TokenProvider.class);
+    private static final String EMAIL_CLAIM = "email";
+    private static final String FIRST_NAME_CLAIM = "firstName";
+    private static final String LAST_NAME_CLAIM = "lastName";
+    private static final String AUTHORITIES_CLAIM = "authorities";
 
     private AppProperties appProperties;
 
@@ -38,6 +52,10 @@ public class TokenProvider {
         Date expiryDate = new Date(now.getTime() + appProperties.getAuth().getTokenExpirationMsec());
         Map<String, Object> claims = new HashMap<>();
         claims.put("Permissions", userPrincipal.getAuthorities().toString());
+        claims.put(EMAIL_CLAIM, userPrincipal.getEmail());
+        claims.put(FIRST_NAME_CLAIM, userPrincipal.getFirstName());
+        claims.put(LAST_NAME_CLAIM, userPrincipal.getLastName());
+        claims.put(AUTHORITIES_CLAIM, toAuthorityNames(userPrincipal.getAuthorities()));
         return Jwts.builder()
                 .setSubject(Long.toString(userPrincipal.getId()))
                 .setIssuedAt(new Date())
@@ -57,9 +75,21 @@ public class TokenProvider {
     }
 
     public boolean validateToken(String authToken) {
+        return parseToken(authToken).isPresent();
+    }
+
+    /**
+     * Verifies the token and reads its claims with a single parse.
+     *
+     * @param authToken access token
+     * @return claims of the token, or empty if the token is invalid or expired
+     */
+    public Optional<Claims> parseToken(String authToken) {
         try {
-            Jwts.parser().setSigningKey(appProperties.getAuth().getTokenSecret()).parseClaimsJws(authToken);
-            return true;
+            return Optional.of(Jwts.parser()
+                    .setSigningKey(appProperties.getAuth().getTokenSecret())
+                    .parseClaimsJws(authToken)
+                    .getBody());
         } catch (SignatureException ex) {
             logger.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -71,6 +101,41 @@ public class TokenProvider {
         } catch (IllegalArgumentException ex) {
             logger.error("JWT claims string is empty.");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * Builds the principal from the signed claims of a verified token, without loading the user.
+     *
+     * @param claims claims of a verified token
+     * @return principal, or empty for tokens issued without the principal claims
+     */
+    public Optional<UserPrincipal> getPrincipalFromClaims(Claims claims) {
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        if (authorities == null) {
+            return Optional.empty();
+        }
+        Set<RolePermission> permissions = EnumSet.noneOf(RolePermission.class);
+        Set<String> knownPermissions = Arrays.stream(RolePermission.values())
+                .map(RolePermission::name)
+                .collect(Collectors.toSet());
+        authorities.stream()
+                .map(String::valueOf)
+                .filter(knownPermissions::contains)
+                .map(RolePermission::valueOf)
+                .forEach(permissions::add);
+        return Optional.of(UserPrincipal.builder()
+                .id(Integer.parseInt(claims.getSubject()))
+                .email(claims.get(EMAIL_CLAIM, String.class))
+                .firstName(claims.get(FIRST_NAME_CLAIM, String.class))
+                .lastName(claims.get(LAST_NAME_CLAIM, String.class))
+                .role(RoleEntity.builder().permissions(permissions).build())
+                .build());
+    }
+
+    private static List<String> toAuthorityNames(Collection<? extends GrantedAuthority> authorities) {
+        return authorities.stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
     }
 }
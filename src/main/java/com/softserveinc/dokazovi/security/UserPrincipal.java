@@ -21,6 +21,8 @@ public class UserPrincipal implements OAuth2User, UserDetails {
 
     private Integer id;
     private String email;
+    private String firstName;
+    private String lastName;
     private String password;
     private RoleEntity role;
     private transient Map<String, Object> attributes;
@@ -29,6 +31,8 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         return UserPrincipal.builder()
                 .id(user.getId())
                 .email(user.getEmail())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
                 .password(user.getPassword())
                 .role(user.getRole())
                 .build();
@@ -48,6 +52,14 @@ public class UserPrincipal implements OAuth2User, UserDetails {
         return email;
     }
 
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
     @Override
     public String getPassword() {
         return password;
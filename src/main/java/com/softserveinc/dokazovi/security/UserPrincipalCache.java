@@ -0,0 +1,100 @@
+package com.softserveinc.dokazovi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.softserveinc.dokazovi.config.AppProperties;
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Resolves the principal of a verified access token, normally without touching the database.
+ *
+ * <p>The principal is built from the signed claims of the token and kept by user id for
+ * {@code security.principal-cache.ttl-ms}, up to {@code security.principal-cache.max-size} users.
+ * When the role or the enabled flag of a user changes, {@link #invalidate(Integer)} drops the entry and
+ * remembers the change for the lifetime of an access token: tokens issued before the change no longer
+ * carry the current permissions, so their principal is loaded from the database instead.</p>
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final TokenProvider tokenProvider;
+    private final CustomUserDetailsService customUserDetailsService;
+    private final Cache<Integer, UserPrincipal> principals;
+    private final Cache<Integer, Instant> changedUsers;
+
+    public UserPrincipalCache(TokenProvider tokenProvider, CustomUserDetailsService customUserDetailsService,
+            AppProperties appProperties,
+            @Value("${security.principal-cache.ttl-ms:60000}") long ttlMs,
+            @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this.tokenProvider = tokenProvider;
+        this.customUserDetailsService = customUserDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .maximumSize(maxSize)
+                .build();
+        this.changedUsers = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(appProperties.getAuth().getTokenExpirationMsec()))
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Gets the principal of a verified token.
+     *
+     * @param claims claims of a verified token
+     * @return principal of the token owner
+     */
+    public UserPrincipal get(Claims claims) {
+        return principals.get(Integer.parseInt(claims.getSubject()), userId -> load(userId, claims));
+    }
+
+    /**
+     * Drops the cached principal of a user whose role or enabled flag changed. Inside a transaction
+     * it is dropped after commit.
+     *
+     * @param userId id of the user
+     */
+    public void invalidate(Integer userId) {
+        afterCommit(() -> {
+            changedUsers.put(userId, Instant.now());
+            principals.invalidate(userId);
+        });
+    }
+
+    private UserPrincipal load(Integer userId, Claims claims) {
+        if (isIssuedAfterLastChange(userId, claims.getIssuedAt())) {
+            return tokenProvider.getPrincipalFromClaims(claims)
+                    .orElseGet(() -> customUserDetailsService.loadUserById(userId));
+        }
+        return customUserDetailsService.loadUserById(userId);
+    }
+
+    private boolean isIssuedAfterLastChange(Integer userId, Date issuedAt) {
+        if (issuedAt == null) {
+            return false;
+        }
+        Instant changedAt = changedUsers.getIfPresent(userId);
+        return changedAt == null || issuedAt.toInstant().isAfter(changedAt);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,12 +1,13 @@
 package com.softserveinc.dokazovi.service;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.city.CityDTO;
 
 import java.util.List;
 
 public interface CityService {
 
-    List<CityDTO> findAllCities();
+    ReferenceDataSnapshot<CityDTO> findAllCities();
 
     List<CityDTO> findAllCitiesByRegion(Integer regionId);
 }
\ No newline at end of file
@@ -1,14 +1,14 @@
 package com.softserveinc.dokazovi.service;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
 import com.softserveinc.dokazovi.entity.DirectionEntity;
 
 import java.util.List;
-import java.util.Set;
 
 public interface DirectionService {
 
-    List<DirectionDTO> findAllDirections();
+    ReferenceDataSnapshot<DirectionDTO> findAllDirections();
 
     List<DirectionDTO> findAllDirectionsByUserId(Integer userId);
 
@@ -20,10 +20,6 @@ public interface DirectionService {
 
     DirectionEntity getById(Integer id);
 
-    void updateDirectionsHasDoctorsStatus();
-
-    void updateDirectionsHasPostsStatus(Set<Integer> directions);
-
-    void updateDirectionsHasPostsStatusByEntities(Set<DirectionEntity> directions);
+    void invalidateDirections();
 
 }
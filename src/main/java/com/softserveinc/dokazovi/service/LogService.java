@@ -1,5 +1,6 @@
 package com.softserveinc.dokazovi.service;
 
+import com.softserveinc.dokazovi.dto.log.PostLogCursorPageDTO;
 import com.softserveinc.dokazovi.dto.log.PostLogDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -11,5 +12,8 @@ public interface LogService {
     Page<PostLogDTO> findAllPostLogs(Pageable pageable, String surname, String title,
             LocalDate startDate, LocalDate endDate);
 
+    PostLogCursorPageDTO findPostLogsByCursor(String surname, String title, LocalDate startDate, LocalDate endDate,
+            String cursor, int size);
+
     PostLogDTO getLogById(Integer id);
-}
\ No newline at end of file
+}
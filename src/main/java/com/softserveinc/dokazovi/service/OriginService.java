@@ -1,8 +1,8 @@
 package com.softserveinc.dokazovi.service;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.origin.OriginDTO;
-import java.util.List;
 
 public interface OriginService {
-    List<OriginDTO> findAllOrigins();
+    ReferenceDataSnapshot<OriginDTO> findAllOrigins();
 }
@@ -0,0 +1,11 @@
+package com.softserveinc.dokazovi.service;
+
+import com.softserveinc.dokazovi.dto.post.PostImportResultDTO;
+import com.softserveinc.dokazovi.security.UserPrincipal;
+
+import java.io.InputStream;
+
+public interface PostImportService {
+
+    PostImportResultDTO importPosts(InputStream posts, UserPrincipal userPrincipal);
+}
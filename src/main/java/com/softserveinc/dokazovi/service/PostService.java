@@ -1,9 +1,12 @@
 package com.softserveinc.dokazovi.service;
 
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import com.softserveinc.dokazovi.dto.post.PostCursorPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostDTO;
 import com.softserveinc.dokazovi.dto.post.PostMainPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostPublishedAtDTO;
 import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
+import com.softserveinc.dokazovi.dto.post.PostSearchResultDTO;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 import com.softserveinc.dokazovi.security.UserPrincipal;
 import org.springframework.data.domain.Page;
@@ -16,21 +19,21 @@ public interface PostService {
 
     PostDTO findPostById(Integer postId);
 
-    Page<PostDTO> findAllByStatus(PostStatus postStatus, Pageable pageable);
+    Page<PostCardDTO> findAllByStatus(PostStatus postStatus, Pageable pageable);
 
-    Page<PostDTO> findImportantPosts(Pageable pageable);
+    Page<PostCardDTO> findImportantPosts(Pageable pageable);
 
-    Page<PostDTO> findAllByDirection(
+    Page<PostCardDTO> findAllByDirection(
             Integer directionId, Set<Integer> typeId, Set<Integer> tagId, PostStatus postStatus, Pageable pageable);
 
     PostDTO saveFromUser(PostSaveFromUserDTO postSaveDTO, UserPrincipal user);
 
-    Page<PostDTO> findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(
+    Page<PostCardDTO> findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(
             Set<Integer> directionIds, Set<Integer> typeIds, Set<Integer> originIds, Set<Integer> statuses,
             String title, String author, Integer authorId, LocalDate startDate, LocalDate endDate,
             Pageable pageable);
 
-    Page<PostDTO> findPostsByAuthorIdAndDirections(
+    Page<PostCardDTO> findPostsByAuthorIdAndDirections(
             Pageable pageable, Integer expertId, Set<Integer> directions);
 
     Boolean removePostById(UserPrincipal userId, Integer postId, boolean delete);
@@ -41,10 +44,10 @@ public interface PostService {
 
     Page<PostMainPageDTO> findLatestByPostTypesAndOriginsForMobile(Pageable pageable);
 
-    Page<PostDTO> findAllByExpertAndTypeAndDirections(Integer expertId, Set<Integer> typeId, Set<Integer> directionId,
-            Pageable pageable);
+    Page<PostCardDTO> findAllByExpertAndTypeAndDirections(Integer expertId, Set<Integer> typeId,
+            Set<Integer> directionId, Pageable pageable);
 
-    Page<PostDTO> findAllByExpertAndTypeAndStatus(Integer expertId, Set<Integer> typeId,
+    Page<PostCardDTO> findAllByExpertAndTypeAndStatus(Integer expertId, Set<Integer> typeId,
             PostStatus postStatus, Pageable pageable);
 
     Boolean setPostsAsImportantWithOrder(Set<Integer> importantPostIds);
@@ -55,12 +58,18 @@ public interface PostService {
 
     void setFakeViewsForPost(Integer postId, Integer view);
 
-    Page<PostDTO> findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
+    void registerView(Integer postId);
+
+    Page<PostCardDTO> findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
             Set<Integer> directionIds, Set<Integer> typeIds, Set<Integer> originIds, Pageable pageable);
 
+    PostCursorPageDTO findPublishedByCursor(Integer authorId, Set<Integer> directionIds, Set<Integer> typeIds,
+            Set<Integer> originIds, Set<Integer> tagIds, String cursor, int size);
+
+    Page<PostSearchResultDTO> searchPublished(String query, Pageable pageable);
+
     void updateRealViews();
 
-    void updatePlannedStatus();
 
     boolean setPublishedAt(Integer postId, PostPublishedAtDTO publishedAt);
 }
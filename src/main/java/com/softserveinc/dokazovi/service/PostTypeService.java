@@ -1,5 +1,6 @@
 package com.softserveinc.dokazovi.service;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 
@@ -7,7 +8,7 @@ import java.util.List;
 
 public interface PostTypeService {
 
-    List<PostTypeDTO> findAll();
+    ReferenceDataSnapshot<PostTypeDTO> findAll();
 
     List<PostTypeDTO> findAllPostTypesByUserId(Integer userId);
 
@@ -1,12 +1,11 @@
 package com.softserveinc.dokazovi.service;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.region.RegionDTO;
 
-import java.util.List;
-
 public interface RegionService {
 
-    List<RegionDTO> findAllRegions();
+    ReferenceDataSnapshot<RegionDTO> findAllRegions();
 
     public void updateRegionsStatus();
 
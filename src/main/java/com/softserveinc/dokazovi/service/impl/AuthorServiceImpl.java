@@ -9,7 +9,9 @@ import com.softserveinc.dokazovi.repositories.AuthorRepository;
 import com.softserveinc.dokazovi.repositories.CityRepository;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.security.UserPrincipal;
+import com.softserveinc.dokazovi.security.UserPrincipalCache;
 import com.softserveinc.dokazovi.service.AuthorService;
+import com.softserveinc.dokazovi.service.DirectionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
@@ -22,6 +24,8 @@ public class AuthorServiceImpl implements AuthorService {
     private final AuthorRepository authorRepository;
     private final UserRepository userRepository;
     private final CityRepository cityRepository;
+    private final DirectionService directionService;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     public AuthorEntity findAuthorById(Integer authorId) {
@@ -70,6 +74,7 @@ public class AuthorServiceImpl implements AuthorService {
                 .socialNetworks(authorRequestDTO.getSocialNetworks())
                 .build();
         userRepository.save(newUser);
+        userPrincipalCache.invalidate(newUser.getId());
         AuthorEntity newAuthor = AuthorEntity.builder()
                 .id(authorId)
                 .publishedPosts(oldAuthor.getPublishedPosts())
@@ -82,6 +87,7 @@ public class AuthorServiceImpl implements AuthorService {
                 .bio(authorRequestDTO.getBio())
                 .build();
         authorRepository.save(newAuthor);
+        directionService.invalidateDirections();
         return newAuthor;
     }
 
@@ -92,6 +98,7 @@ public class AuthorServiceImpl implements AuthorService {
         }
         AuthorEntity author = findAuthorById(authorId);
         authorRepository.delete(author);
+        directionService.invalidateDirections();
         return authorId;
     }
 
@@ -1,5 +1,7 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.city.CityDTO;
 import com.softserveinc.dokazovi.mapper.CityMapper;
 import com.softserveinc.dokazovi.repositories.CityRepository;
@@ -16,12 +18,11 @@ public class CityServiceImpl implements CityService {
 
     private final CityRepository cityRepository;
     private final CityMapper cityMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
-    public List<CityDTO> findAllCities() {
-        return cityRepository.findAll().stream()
-                .map(cityMapper::toCityDTO)
-                .collect(Collectors.toList());
+    public ReferenceDataSnapshot<CityDTO> findAllCities() {
+        return referenceDataRegistry.getCities();
     }
 
     @Override
@@ -1,17 +1,16 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
 import com.softserveinc.dokazovi.entity.DirectionEntity;
 import com.softserveinc.dokazovi.mapper.DirectionMapper;
 import com.softserveinc.dokazovi.repositories.DirectionRepository;
 import com.softserveinc.dokazovi.service.DirectionService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import javax.transaction.Transactional;
 import java.util.List;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -26,17 +25,16 @@ public class DirectionServiceImpl implements DirectionService {
 
     private final DirectionRepository directionRepository;
     private final DirectionMapper directionMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /**
-     * Gets all directions.
+     * Gets all directions from the in-memory reference data snapshot.
      *
-     * @return all found directions
+     * @return snapshot of all directions
      */
     @Override
-    public List<DirectionDTO> findAllDirections() {
-        return directionRepository.findAll().stream()
-                .map(directionMapper::toDirectionDTO)
-                .collect(Collectors.toList());
+    public ReferenceDataSnapshot<DirectionDTO> findAllDirections() {
+        return referenceDataRegistry.getDirections();
     }
 
     /**
@@ -101,35 +99,12 @@ public class DirectionServiceImpl implements DirectionService {
     }
 
     /**
-     * Updates the directions status depending on the availability of doctors in it.
-     * Runs every four hours
+     * Makes the next read of directions reload them, so that their has_posts and has_authors flags are
+     * served as they are after the current transaction. The flags themselves follow the post and author
+     * counters maintained by the database.
      */
     @Override
-    @Transactional
-    @Scheduled(cron = "0 0 */4 * * *")
-    public void updateDirectionsHasDoctorsStatus() {
-        directionRepository.updateDirectionsHasDoctorsStatus();
+    public void invalidateDirections() {
+        referenceDataRegistry.invalidateDirections();
     }
-
-    /**
-     * Updates the directions status depending on the availability of posts in it.
-     * Runs every four hours
-     */
-    @Override
-    @Transactional
-    public void updateDirectionsHasPostsStatus(Set<Integer> directions) {
-        directionRepository.updateDirectionsHasPostsStatus(directions);
-    }
-
-    @Override
-    @Transactional
-    public void updateDirectionsHasPostsStatusByEntities(Set<DirectionEntity> directions) {
-        directionRepository.updateDirectionsHasPostsStatus(
-                directions
-                        .stream()
-                        .map(DirectionEntity::getId)
-                        .collect(Collectors.toSet())
-        );
-    }
-
 }
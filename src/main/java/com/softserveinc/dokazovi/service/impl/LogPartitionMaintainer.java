@@ -0,0 +1,64 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.softserveinc.dokazovi.repositories.AuditLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of the post change log.
+ *
+ * <p>Creates the partitions of the current month and of the next {@code audit-log.partitions.months-ahead}
+ * months, so entries do not land in the default partition. Entries that did, for example while the job was
+ * failing, are moved into their month's partition when it is created, and entries still left in the default
+ * partition are reported with a warning. When {@code audit-log.retention-months} is set,
+ * the partitions of older months are detached from the log; the detached tables are left for archiving.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class LogPartitionMaintainer {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogPartitionMaintainer.class);
+
+    private final AuditLogRepository auditLogRepository;
+
+    @Value("${audit-log.partitions.months-ahead:2}")
+    private int monthsAhead;
+
+    @Value("${audit-log.retention-months:0}")
+    private int retentionMonths;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${audit-log.partitions.cron:0 0 3 * * *}")
+    public void maintainPartitions() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        try {
+            for (int i = 0; i <= monthsAhead; i++) {
+                auditLogRepository.createPartition(currentMonth.plusMonths(i));
+            }
+            long defaultEntries = auditLogRepository.countDefaultPartitionEntries();
+            if (defaultEntries > 0) {
+                logger.warn("{} change log entries are in the default partition LOG_DEFAULT, their months have "
+                        + "no partition", defaultEntries);
+            }
+            if (retentionMonths > 0) {
+                List<String> detached = auditLogRepository.detachPartitionsBefore(
+                        currentMonth.minusMonths(retentionMonths));
+                if (!detached.isEmpty()) {
+                    logger.info("Detached change log partitions {}", detached);
+                }
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed to maintain change log partitions", e);
+        }
+    }
+}
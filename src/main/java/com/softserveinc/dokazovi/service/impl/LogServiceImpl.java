@@ -1,12 +1,16 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.dto.log.PostLogCursorPageDTO;
 import com.softserveinc.dokazovi.dto.log.PostLogDTO;
 import com.softserveinc.dokazovi.mapper.LogMapper;
 import com.softserveinc.dokazovi.repositories.LogRepository;
+import com.softserveinc.dokazovi.repositories.LogSearchRepository;
 import com.softserveinc.dokazovi.service.LogService;
+import com.softserveinc.dokazovi.util.LogCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
@@ -14,36 +18,53 @@ import org.springframework.web.server.ResponseStatusException;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.Optional;
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LogServiceImpl implements LogService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final LogRepository logRepository;
+    private final LogSearchRepository logSearchRepository;
     private final LogMapper logMapper;
 
     @Override
     public Page<PostLogDTO> findAllPostLogs(Pageable pageable, String username, String title,
             LocalDate startDate, LocalDate endDate) {
-        if (startDate != null || endDate != null) {
-            LocalDate startLocalDate = Optional.ofNullable(startDate).orElse(LocalDate.EPOCH);
-            LocalDate endLocalDate = Optional.ofNullable(endDate).orElse(LocalDate.now());
-            Timestamp startDateTimestamp = Timestamp.valueOf(startLocalDate.atStartOfDay());
-            Timestamp endDateTimestamp = Timestamp.valueOf(endLocalDate.atTime(LocalTime.MAX));
-            return logRepository.findByDateOfChangeBetween(pageable, startDateTimestamp, endDateTimestamp)
-                    .map(logMapper::toPostLogDTO);
-        }
-        if (title != null && title.trim().length() > 0) {
-            return logRepository.findAllByTitleContainingIgnoreCase(pageable, title)
-                    .map(logMapper::toPostLogDTO);
-        }
-        if (username != null && username.trim().length() > 0) {
-            return logRepository.findAllByNameOfChangerContainingIgnoreCase(pageable, username)
-                    .map(logMapper::toPostLogDTO);
-        }
-        return logRepository.findAll(pageable)
-                .map(logMapper::toPostLogDTO);
+        String nameOfChanger = nullIfBlank(username);
+        String postTitle = nullIfBlank(title);
+        Timestamp from = startOf(startDate);
+        Timestamp to = endOf(endDate);
+        List<PostLogDTO> logs = logSearchRepository.findPage(nameOfChanger, postTitle, from, to, pageable)
+                .stream()
+                .map(logMapper::toPostLogDTO)
+                .collect(Collectors.toList());
+        return PageableExecutionUtils.getPage(logs, pageable,
+                () -> logSearchRepository.count(nameOfChanger, postTitle, from, to));
+    }
+
+    @Override
+    public PostLogCursorPageDTO findPostLogsByCursor(String surname, String title, LocalDate startDate,
+            LocalDate endDate, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        LogCursor position = LogCursor.decode(cursor);
+        List<PostLogDTO> logs = logSearchRepository.findBeforeCursor(nullIfBlank(surname), nullIfBlank(title),
+                        startOf(startDate), endOf(endDate), position.getDateOfChange(), position.getLogId(),
+                        pageSize + 1)
+                .stream()
+                .map(logMapper::toPostLogDTO)
+                .collect(Collectors.toList());
+
+        boolean hasNext = logs.size() > pageSize;
+        List<PostLogDTO> content = hasNext ? logs.subList(0, pageSize) : logs;
+        return PostLogCursorPageDTO.builder()
+                .content(content)
+                .nextCursor(hasNext ? LogCursor.after(content.get(content.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
     @Override
@@ -51,4 +72,16 @@ public class LogServiceImpl implements LogService {
         return logMapper.toPostLogDTO(logRepository.findById(id).orElseThrow(() -> new ResponseStatusException(
                 HttpStatus.NOT_FOUND, "Unable to find log with id:" + id)));
     }
-}
\ No newline at end of file
+
+    private static String nullIfBlank(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static Timestamp startOf(LocalDate date) {
+        return date == null ? null : Timestamp.valueOf(date.atStartOfDay());
+    }
+
+    private static Timestamp endOf(LocalDate date) {
+        return date == null ? null : Timestamp.valueOf(date.atTime(LocalTime.MAX));
+    }
+}
@@ -0,0 +1,190 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.softserveinc.dokazovi.entity.MailOutboxEntity;
+import com.softserveinc.dokazovi.repositories.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers the mail queued in the outbox.
+ *
+ * <p>Due mail is taken from the outbox in batches of {@code mail-outbox.batch-size} and each batch is sent over
+ * one connection to the mail server. A mail that fails is tried again after {@code mail-outbox.retry-delay-ms},
+ * doubled with every attempt up to {@code mail-outbox.max-retry-delay-ms}, and marked FAILED after
+ * {@code mail-outbox.max-attempts} attempts. Taken mail is leased for {@code mail-outbox.lease-ms}, so other
+ * nodes skip it; if this node stops before recording the result, the mail is sent again once the lease ends.</p>
+ *
+ * <p>Sent and failed mail is deleted {@code mail-outbox.retention-days} after it was finished, since its body
+ * may carry a one-time link such as a password reset token.</p>
+ */
+@Component
+public class MailOutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+    private static final String SENT_METRIC = "mail.outbox.sent";
+    private static final String FAILED_METRIC = "mail.outbox.failed";
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration lease;
+    private final Duration retention;
+    private final int purgeBatchSize;
+    private final Counter sentMails;
+    private final Counter failedAttempts;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository, JavaMailSender mailSender,
+            MeterRegistry meterRegistry,
+            @Value("${mail-outbox.batch-size:50}") int batchSize,
+            @Value("${mail-outbox.max-attempts:8}") int maxAttempts,
+            @Value("${mail-outbox.retry-delay-ms:30000}") long retryDelayMs,
+            @Value("${mail-outbox.max-retry-delay-ms:3600000}") long maxRetryDelayMs,
+            @Value("${mail-outbox.lease-ms:300000}") long leaseMs,
+            @Value("${mail-outbox.retention-days:7}") int retentionDays,
+            @Value("${mail-outbox.purge-batch-size:1000}") int purgeBatchSize) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = Duration.ofMillis(retryDelayMs);
+        this.maxRetryDelay = Duration.ofMillis(maxRetryDelayMs);
+        this.lease = Duration.ofMillis(leaseMs);
+        this.retention = Duration.ofDays(retentionDays);
+        this.purgeBatchSize = purgeBatchSize;
+        this.sentMails = meterRegistry.counter(SENT_METRIC);
+        this.failedAttempts = meterRegistry.counter(FAILED_METRIC);
+    }
+
+    /**
+     * Sends all mail that is due, one batch at a time.
+     */
+    @Scheduled(fixedDelayString = "${mail-outbox.poll-interval-ms:2000}")
+    public void dispatch() {
+        List<MailOutboxEntity> batch;
+        do {
+            Instant now = Instant.now();
+            try {
+                batch = mailOutboxRepository.claimDue(now, now.plus(lease), batchSize);
+            } catch (DataAccessException e) {
+                logger.error("Failed to take mail from the outbox", e);
+                return;
+            }
+            if (!batch.isEmpty()) {
+                deliver(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    /**
+     * Deletes the sent and failed mail that is older than the retention period, one batch at a time.
+     */
+    @Scheduled(fixedDelayString = "${mail-outbox.purge-interval-ms:3600000}")
+    public void purgeFinished() {
+        Instant before = Instant.now().minus(retention);
+        int purged = 0;
+        int deleted;
+        do {
+            deleted = mailOutboxRepository.deleteFinishedBefore(before, purgeBatchSize);
+            purged += deleted;
+        } while (deleted == purgeBatchSize);
+        if (purged > 0) {
+            logger.info("Purged {} finished mails from the outbox", purged);
+        }
+    }
+
+    private void deliver(List<MailOutboxEntity> batch) {
+        Map<MimeMessage, MailOutboxEntity> messages = new LinkedHashMap<>();
+        Map<Long, String> failures = new HashMap<>();
+        for (MailOutboxEntity mail : batch) {
+            try {
+                messages.put(toMimeMessage(mail), mail);
+            } catch (MessagingException e) {
+                failures.put(mail.getId(), e.getMessage());
+            }
+        }
+        if (!messages.isEmpty()) {
+            try {
+                mailSender.send(messages.keySet().toArray(new MimeMessage[0]));
+            } catch (MailSendException e) {
+                if (e.getFailedMessages().isEmpty()) {
+                    messages.values().forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+                }
+                e.getFailedMessages().forEach((message, cause) -> {
+                    MailOutboxEntity mail = messages.get(message);
+                    if (mail != null) {
+                        failures.put(mail.getId(), cause.getMessage());
+                    }
+                });
+            } catch (MailException e) {
+                messages.values().forEach(mail -> failures.put(mail.getId(), e.getMessage()));
+            }
+        }
+
+        List<Long> sentIds = batch.stream()
+                .map(MailOutboxEntity::getId)
+                .filter(id -> !failures.containsKey(id))
+                .collect(Collectors.toList());
+        try {
+            mailOutboxRepository.markSent(sentIds, Instant.now());
+            batch.stream()
+                    .filter(mail -> failures.containsKey(mail.getId()))
+                    .forEach(mail -> recordFailure(mail, failures.get(mail.getId())));
+        } catch (DataAccessException e) {
+            logger.error("Failed to record delivery of {} mails, they are sent again after the lease",
+                    batch.size(), e);
+        }
+        sentMails.increment(sentIds.size());
+        failedAttempts.increment(failures.size());
+    }
+
+    private void recordFailure(MailOutboxEntity mail, String error) {
+        int attempts = mail.getAttempts() + 1;
+        boolean giveUp = attempts >= maxAttempts;
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+        if (delay.compareTo(maxRetryDelay) > 0) {
+            delay = maxRetryDelay;
+        }
+        if (giveUp) {
+            logger.error("Giving up on mail {} to {} after {} attempts: {}", mail.getId(), mail.getRecipient(),
+                    attempts, error);
+        } else {
+            logger.warn("Failed to send mail {} to {}, retrying in {}: {}", mail.getId(), mail.getRecipient(),
+                    delay, error);
+        }
+        mailOutboxRepository.markFailed(mail.getId(), error, Instant.now().plus(delay), giveUp);
+    }
+
+    private MimeMessage toMimeMessage(MailOutboxEntity mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, StandardCharsets.UTF_8.name());
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getBody(), Boolean.TRUE.equals(mail.getHtml()));
+        return message;
+    }
+}
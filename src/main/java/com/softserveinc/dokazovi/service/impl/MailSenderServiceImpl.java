@@ -1,25 +1,30 @@
 package com.softserveinc.dokazovi.service.impl;
 
 import com.softserveinc.dokazovi.entity.UserEntity;
+import com.softserveinc.dokazovi.mail.MailTemplateEngine;
+import com.softserveinc.dokazovi.repositories.MailOutboxRepository;
 import com.softserveinc.dokazovi.service.MailSenderService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import javax.mail.MessagingException;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.util.Map;
 
 import static com.softserveinc.dokazovi.controller.EndPoints.USER;
 import static com.softserveinc.dokazovi.controller.EndPoints.USER_UPDATE_PASSWORD;
 
+/**
+ * Queues mail in the outbox, from where {@link MailOutboxDispatcher} delivers it in the background.
+ */
 @Service
 @RequiredArgsConstructor
 public class MailSenderServiceImpl implements MailSenderService {
 
-    private final JavaMailSender mailSender;
+    private static final String RESET_PASSWORD_TEMPLATE = "resetPasswordMail.html";
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final MailTemplateEngine mailTemplateEngine;
 
     public void sendMessage(UserEntity user) throws IOException, MessagingException {
 
@@ -27,27 +32,12 @@ public class MailSenderServiceImpl implements MailSenderService {
 
     @Override
     public void sendEmailWithToken (String contextPath, String token, UserEntity user) {
-        mailSender.send(constructResetTokenEmail(contextPath, token, user));
-    }
-
-    public String readHtmlFile(String fileName) throws IOException {
-        String file = "src/main/resources/template/" + fileName;
-        return Files.readString(Path.of(file));
-    }
-
-    private SimpleMailMessage constructResetTokenEmail(
-            String contextPath, String token, UserEntity user) {
         String url = contextPath + USER + USER_UPDATE_PASSWORD + "?token=" + token;
-        String message = "Change your password after clicking reference below."
-                + "If you didn't request to change password, please won't do anything";
-        return constructEmail("Reset password", message + "\r\n" + url, user);
+        String body = mailTemplateEngine.render(RESET_PASSWORD_TEMPLATE, Map.of("url", url));
+        mailOutboxRepository.add(user.getEmail(), "Reset password", body, true);
     }
 
-    private SimpleMailMessage constructEmail(String subject, String body, UserEntity user) {
-        SimpleMailMessage email = new SimpleMailMessage();
-        email.setSubject(subject);
-        email.setText(body);
-        email.setTo(user.getEmail());
-        return email;
+    public String renderTemplate(String templateName, Map<String, String> values) {
+        return mailTemplateEngine.render(templateName, values);
     }
 }
@@ -1,13 +1,11 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.origin.OriginDTO;
-import com.softserveinc.dokazovi.mapper.OriginMapper;
-import com.softserveinc.dokazovi.repositories.OriginRepository;
 import com.softserveinc.dokazovi.service.OriginService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * The OriginServiceImpl is responsible for doing any logic
@@ -18,18 +16,15 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class OriginServiceImpl implements OriginService {
 
-    private final OriginRepository originRepository;
-    private final OriginMapper originMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /**
-     * Find all origins.
+     * Find all origins in the in-memory reference data snapshot.
      *
-     * @return list of all origins
+     * @return snapshot of all origins
      */
     @Override
-    public List<OriginDTO> findAllOrigins() {
-        return originRepository.findAll().stream()
-                .map(originMapper::toOriginDTO)
-                .collect(Collectors.toList());
+    public ReferenceDataSnapshot<OriginDTO> findAllOrigins() {
+        return referenceDataRegistry.getOrigins();
     }
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the named sections of a feed (e.g. the four sections of the main page) and collects their results.
+ *
+ * <p>In parallel mode every section runs on the bounded post feed executor in its own read-only transaction,
+ * so the feed takes as long as its slowest section. A section that fails, does not finish within
+ * the section timeout or is rejected because the executor is saturated is left out of the result instead of
+ * failing the whole feed.
+ * In sequential mode all sections run on the calling thread in one read-only transaction.</p>
+ */
+@Component
+public class PostFeedSectionExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostFeedSectionExecutor.class);
+
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${posts.feed.parallel.enabled:true}")
+    private boolean parallelEnabled;
+
+    @Value("${posts.feed.parallel.section-timeout-ms:2000}")
+    private long sectionTimeoutMs;
+
+    public PostFeedSectionExecutor(@Qualifier("postFeedExecutor") AsyncTaskExecutor executor,
+            PlatformTransactionManager transactionManager) {
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Executes the feed sections.
+     *
+     * @param sections section suppliers by section name, in feed order
+     * @param <T>      type of section items
+     * @return results of the sections that completed in time, in feed order
+     */
+    public <T> Map<String, List<T>> execute(Map<String, Supplier<List<T>>> sections) {
+        if (!parallelEnabled) {
+            return transactionTemplate.execute(status -> {
+                Map<String, List<T>> results = new LinkedHashMap<>();
+                sections.forEach((name, section) -> results.put(name, section.get()));
+                return results;
+            });
+        }
+        TransactionTemplate sectionTransaction = new TransactionTemplate(
+                transactionTemplate.getTransactionManager(), transactionTemplate);
+        sectionTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(sectionTimeoutMs)));
+
+        Map<String, Future<List<T>>> futures = new LinkedHashMap<>();
+        sections.forEach((name, section) -> {
+            try {
+                futures.put(name, executor.submit(() -> sectionTransaction.execute(status -> section.get())));
+            } catch (TaskRejectedException e) {
+                logger.warn("Feed section '{}' was rejected, the post feed executor is saturated", name);
+            }
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sectionTimeoutMs);
+        Map<String, List<T>> results = new LinkedHashMap<>();
+        futures.forEach((name, future) -> {
+            try {
+                results.put(name, future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                logger.warn("Feed section '{}' did not complete in {} ms", name, sectionTimeoutMs);
+            } catch (ExecutionException e) {
+                logger.error(String.format("Feed section '%s' failed", name), e.getCause());
+            } catch (InterruptedException e) {
+                future.cancel(true);
+                Thread.currentThread().interrupt();
+            }
+        });
+        return results;
+    }
+}
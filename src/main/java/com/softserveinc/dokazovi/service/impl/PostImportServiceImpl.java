@@ -0,0 +1,326 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.softserveinc.dokazovi.aop.PostLogger;
+import com.softserveinc.dokazovi.cache.LatestPostsFeedCache;
+import com.softserveinc.dokazovi.dto.direction.DirectionDTOForSavingPost;
+import com.softserveinc.dokazovi.dto.origin.OriginDTOForSavingPost;
+import com.softserveinc.dokazovi.dto.post.PostImportErrorDTO;
+import com.softserveinc.dokazovi.dto.post.PostImportResultDTO;
+import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
+import com.softserveinc.dokazovi.dto.post.PostTypeIdOnlyDTO;
+import com.softserveinc.dokazovi.entity.PostEntity;
+import com.softserveinc.dokazovi.entity.UserEntity;
+import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
+import com.softserveinc.dokazovi.mapper.PostMapper;
+import com.softserveinc.dokazovi.repositories.PostImportRepository;
+import com.softserveinc.dokazovi.security.UserPrincipal;
+import com.softserveinc.dokazovi.service.DirectionService;
+import com.softserveinc.dokazovi.service.PostImportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ValidationException;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Imports posts in bulk, for example when moving content over from partner sites.
+ *
+ * <p>The posts are read one by one from a JSON array and written in batches of {@code post-import.batch-size}:
+ * ids are taken from the posts sequence in one block, the posts are inserted with one JDBC batch and their
+ * directions and origins with one statement each. Every record is checked with the bean validation constraints
+ * of {@link PostSaveFromUserDTO}, like a post saved through the API, and a record that fails is reported with its
+ * index and skipped. The constraints that look referenced entities up one by one are left out; instead the
+ * authors, post types, directions and origins of a whole batch are checked with one query each. When a batch
+ * fails in the database its posts are written one by one, so only the failing records are reported and the rest
+ * are still imported. Every imported post gets a change log entry, written in the same transaction as the post.</p>
+ */
+@Service
+public class PostImportServiceImpl implements PostImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostImportServiceImpl.class);
+
+    private final PostImportRepository postImportRepository;
+    private final PostMapper postMapper;
+    private final Validator validator;
+    private final DirectionService directionService;
+    private final LatestPostsFeedCache latestPostsFeedCache;
+    private final PostPublicationScheduler postPublicationScheduler;
+    private final PostLogger postLogger;
+    private final ObjectReader postReader;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public PostImportServiceImpl(PostImportRepository postImportRepository, PostMapper postMapper,
+            Validator validator, DirectionService directionService,
+            LatestPostsFeedCache latestPostsFeedCache, PostPublicationScheduler postPublicationScheduler,
+            PostLogger postLogger, ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+            @Value("${post-import.batch-size:500}") int batchSize) {
+        this.postImportRepository = postImportRepository;
+        this.postMapper = postMapper;
+        this.validator = validator;
+        this.directionService = directionService;
+        this.latestPostsFeedCache = latestPostsFeedCache;
+        this.postPublicationScheduler = postPublicationScheduler;
+        this.postLogger = postLogger;
+        this.postReader = objectMapper.readerFor(PostSaveFromUserDTO.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public PostImportResultDTO importPosts(InputStream posts, UserPrincipal userPrincipal) {
+        List<PostImportErrorDTO> errors = new ArrayList<>();
+        List<PostEntity> imported = new ArrayList<>();
+        List<ImportRecord> batch = new ArrayList<>(batchSize);
+        int received = 0;
+
+        try (MappingIterator<PostSaveFromUserDTO> records = postReader.readValues(posts)) {
+            while (records.hasNextValue()) {
+                int index = received++;
+                try {
+                    batch.add(new ImportRecord(index, records.nextValue()));
+                } catch (JsonMappingException e) {
+                    errors.add(error(index, e.getOriginalMessage()));
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    imported.addAll(importBatch(batch, errors, userPrincipal));
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        } catch (IOException e) {
+            errors.add(error(received, "Failed to read the input: " + e.getMessage()));
+        }
+        if (!batch.isEmpty()) {
+            imported.addAll(importBatch(batch, errors, userPrincipal));
+        }
+
+        afterImport(imported, userPrincipal);
+        errors.sort(Comparator.comparingInt(PostImportErrorDTO::getIndex));
+        logger.info("Imported {} of {} posts", imported.size(), received);
+        return PostImportResultDTO.builder()
+                .received(received)
+                .imported(imported.size())
+                .errors(errors)
+                .build();
+    }
+
+    private List<PostEntity> importBatch(List<ImportRecord> batch, List<PostImportErrorDTO> errors,
+            UserPrincipal userPrincipal) {
+        BatchReferences references = findReferences(batch);
+
+        List<ImportRecord> valid = new ArrayList<>(batch.size());
+        for (ImportRecord record : batch) {
+            String error = validate(record.post, references);
+            if (error == null) {
+                valid.add(record);
+            } else {
+                errors.add(error(record.index, error));
+            }
+        }
+        if (valid.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> postIds = postImportRepository.allocatePostIds(valid.size());
+        List<PostEntity> entities = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            entities.add(toEntity(valid.get(i).post, postIds.get(i)));
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertAndLog(entities, userPrincipal));
+            return entities;
+        } catch (DataAccessException e) {
+            logger.warn("Failed to import a batch of {} posts, importing them one by one", entities.size(), e);
+        }
+
+        List<PostEntity> imported = new ArrayList<>(entities.size());
+        for (int i = 0; i < entities.size(); i++) {
+            PostEntity entity = entities.get(i);
+            try {
+                transactionTemplate.executeWithoutResult(status -> insertAndLog(List.of(entity), userPrincipal));
+                imported.add(entity);
+            } catch (DataAccessException e) {
+                errors.add(error(valid.get(i).index, e.getMostSpecificCause().getMessage()));
+            }
+        }
+        return imported;
+    }
+
+    private void insertAndLog(List<PostEntity> posts, UserPrincipal userPrincipal) {
+        postImportRepository.insertAll(posts);
+        postLogger.logImportedPosts(posts, userPrincipal);
+    }
+
+    private BatchReferences findReferences(List<ImportRecord> batch) {
+        List<PostSaveFromUserDTO> posts = batch.stream()
+                .map(record -> record.post)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new BatchReferences(
+                postImportRepository.findExistingUserIds(collectIds(posts,
+                        post -> Stream.of(post.getAuthorId()))),
+                postImportRepository.findExistingPostTypeIds(collectIds(posts,
+                        post -> Stream.ofNullable(post.getType()).map(PostTypeIdOnlyDTO::getId))),
+                postImportRepository.findExistingDirectionIds(collectIds(posts,
+                        post -> streamOf(post.getDirections()).map(DirectionDTOForSavingPost::getId))),
+                postImportRepository.findExistingOriginIds(collectIds(posts,
+                        post -> streamOf(post.getOrigins()).map(OriginDTOForSavingPost::getId))));
+    }
+
+    private String validate(PostSaveFromUserDTO post, BatchReferences references) {
+        if (post == null) {
+            return "Post is required";
+        }
+        if (post.getId() != null) {
+            return "Import creates new posts only, id must be empty";
+        }
+        Set<ConstraintViolation<PostSaveFromUserDTO>> violations;
+        try {
+            violations = validator.validate(post);
+        } catch (ValidationException e) {
+            return "Post is invalid: " + e.getMessage();
+        }
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .collect(Collectors.joining("; "));
+        }
+        if (!references.userIds.contains(post.getAuthorId())) {
+            return "Author " + post.getAuthorId() + " does not exist";
+        }
+        String missing = findMissing("Post type", Collections.singletonList(post.getType()), PostTypeIdOnlyDTO::getId,
+                references.postTypeIds);
+        if (missing == null) {
+            missing = findMissing("Direction", post.getDirections(), DirectionDTOForSavingPost::getId,
+                    references.directionIds);
+        }
+        if (missing == null) {
+            missing = findMissing("Origin", post.getOrigins(), OriginDTOForSavingPost::getId, references.originIds);
+        }
+        return missing;
+    }
+
+    private static <T> String findMissing(String reference, Collection<T> items, Function<T, Integer> itemId,
+            Set<Integer> existingIds) {
+        if (items == null) {
+            return null;
+        }
+        for (T item : items) {
+            Integer id = item == null ? null : itemId.apply(item);
+            if (id == null) {
+                return reference + " id is required";
+            }
+            if (!existingIds.contains(id)) {
+                return reference + " " + id + " does not exist";
+            }
+        }
+        return null;
+    }
+
+    private static Set<Integer> collectIds(List<PostSaveFromUserDTO> posts,
+            Function<PostSaveFromUserDTO, Stream<Integer>> ids) {
+        return posts.stream()
+                .flatMap(ids)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static <T> Stream<T> streamOf(Collection<T> items) {
+        return items == null ? Stream.empty() : items.stream().filter(Objects::nonNull);
+    }
+
+    private PostEntity toEntity(PostSaveFromUserDTO post, Integer postId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        PostEntity entity = postMapper.toPostEntity(post);
+        entity.setId(postId);
+        entity.setAuthor(UserEntity.builder().id(post.getAuthorId()).build());
+        entity.setStatus(PostStatus.values()[post.getPostStatus()]);
+        entity.setImportant(false);
+        entity.setCreatedAt(now);
+        entity.setModifiedAt(now);
+        entity.setPublishedAt(now);
+        if (entity.getRealViews() == null) {
+            entity.setRealViews(0);
+        }
+        if (entity.getFakeViews() == null) {
+            entity.setFakeViews(0);
+        }
+        return entity;
+    }
+
+    private void afterImport(List<PostEntity> imported, UserPrincipal userPrincipal) {
+        if (imported.isEmpty()) {
+            return;
+        }
+        directionService.invalidateDirections();
+        if (imported.stream().anyMatch(post -> PostStatus.PUBLISHED.equals(post.getStatus()))) {
+            latestPostsFeedCache.invalidate();
+        }
+        imported.stream()
+                .filter(post -> PostStatus.PLANNED.equals(post.getStatus()))
+                .forEach(post -> postPublicationScheduler.schedule(post.getId(), post.getPublishedAt()));
+    }
+
+    private static PostImportErrorDTO error(int index, String message) {
+        return PostImportErrorDTO.builder()
+                .index(index)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Ids referenced by the records of a batch that exist in the database.
+     */
+    private static final class BatchReferences {
+
+        private final Set<Integer> userIds;
+        private final Set<Integer> postTypeIds;
+        private final Set<Integer> directionIds;
+        private final Set<Integer> originIds;
+
+        private BatchReferences(Set<Integer> userIds, Set<Integer> postTypeIds, Set<Integer> directionIds,
+                Set<Integer> originIds) {
+            this.userIds = userIds;
+            this.postTypeIds = postTypeIds;
+            this.directionIds = directionIds;
+            this.originIds = originIds;
+        }
+    }
+
+    private static final class ImportRecord {
+
+        private final int index;
+        private final PostSaveFromUserDTO post;
+
+        private ImportRecord(int index, PostSaveFromUserDTO post) {
+            this.index = index;
+            this.post = post;
+        }
+    }
+}
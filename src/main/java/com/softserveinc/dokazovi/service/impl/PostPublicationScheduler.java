@@ -0,0 +1,179 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.softserveinc.dokazovi.cache.LatestPostsFeedCache;
+import com.softserveinc.dokazovi.repositories.PostPublicationRepository;
+import com.softserveinc.dokazovi.service.DirectionService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Publishes planned posts at their publication time.
+ *
+ * <p>Upcoming publications are kept in a queue ordered by time, loaded from the database when the application
+ * starts and updated whenever a post is planned. A single task is scheduled for the head of the queue; when it
+ * runs, all posts that are due are published with one UPDATE and the task is scheduled for the next head.
+ * Planned posts are therefore never polled.</p>
+ *
+ * <p>The queue may hold outdated entries, e.g. for a post that was planned for another time or returned to
+ * editing. The UPDATE only publishes posts that are still planned for a time that has come, so those entries
+ * do nothing.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPublicationScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostPublicationScheduler.class);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final PostPublicationRepository postPublicationRepository;
+    private final LatestPostsFeedCache latestPostsFeedCache;
+    private final DirectionService directionService;
+    private final TaskScheduler taskScheduler;
+
+    private final PriorityQueue<Publication> queue =
+            new PriorityQueue<>(Comparator.comparing(Publication::getPublishAt));
+    private final Map<Integer, Instant> publishTimes = new HashMap<>();
+    private ScheduledFuture<?> wakeUp;
+    private Instant wakeUpAt;
+
+    /**
+     * Loads the planned publications when the application starts. Posts whose time has passed while
+     * the application was down are published right away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Map<Integer, Timestamp> plannedPublications;
+        try {
+            plannedPublications = postPublicationRepository.findPlannedPublications();
+        } catch (DataAccessException e) {
+            logger.error("Failed to load planned publications", e);
+            return;
+        }
+        synchronized (this) {
+            plannedPublications.forEach((postId, publishedAt) -> enqueue(postId, publishedAt.toInstant()));
+            scheduleWakeUp();
+        }
+        logger.info("Loaded {} planned publications", plannedPublications.size());
+    }
+
+    /**
+     * Plans the publication of a post. Inside a transaction the post is queued after commit.
+     *
+     * @param postId      id of the post
+     * @param publishedAt publication time
+     */
+    public void schedule(Integer postId, Timestamp publishedAt) {
+        if (publishedAt == null) {
+            return;
+        }
+        Instant publishAt = publishedAt.toInstant();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    enqueueAndScheduleWakeUp(postId, publishAt);
+                }
+            });
+        } else {
+            enqueueAndScheduleWakeUp(postId, publishAt);
+        }
+    }
+
+    /**
+     * Publishes all posts that are due with one UPDATE and schedules the next run.
+     * Runs on the task scheduler, never on the thread that planned the post.
+     */
+    synchronized void publishDuePosts() {
+        wakeUp = null;
+        wakeUpAt = null;
+        Instant now = Instant.now();
+        Set<Integer> duePostIds = new HashSet<>();
+        while (!queue.isEmpty() && !queue.peek().getPublishAt().isAfter(now)) {
+            Publication publication = queue.poll();
+            if (publication.getPublishAt().equals(publishTimes.get(publication.getPostId()))) {
+                duePostIds.add(publication.getPostId());
+                publishTimes.remove(publication.getPostId());
+            }
+        }
+        if (!duePostIds.isEmpty()) {
+            publish(duePostIds, now);
+        }
+        scheduleWakeUp();
+    }
+
+    private synchronized void enqueueAndScheduleWakeUp(Integer postId, Instant publishAt) {
+        enqueue(postId, publishAt);
+        scheduleWakeUp();
+    }
+
+    private void publish(Set<Integer> postIds, Instant now) {
+        try {
+            List<Integer> publishedPostIds = postPublicationRepository.publish(postIds, Timestamp.from(now));
+            if (!publishedPostIds.isEmpty()) {
+                latestPostsFeedCache.invalidate();
+                directionService.invalidateDirections();
+                logger.info("Published planned posts {}", publishedPostIds);
+            }
+        } catch (DataAccessException e) {
+            logger.error("Failed to publish planned posts {}, retrying in {}", postIds, RETRY_DELAY, e);
+            postIds.forEach(postId -> enqueue(postId, now.plus(RETRY_DELAY)));
+        }
+    }
+
+    private void enqueue(Integer postId, Instant publishAt) {
+        publishTimes.put(postId, publishAt);
+        queue.add(new Publication(postId, publishAt));
+    }
+
+    private void scheduleWakeUp() {
+        Publication next = queue.peek();
+        if (next == null || next.getPublishAt().equals(wakeUpAt)) {
+            return;
+        }
+        if (wakeUp != null) {
+            wakeUp.cancel(false);
+        }
+        wakeUpAt = next.getPublishAt();
+        wakeUp = taskScheduler.schedule(this::publishDuePosts, Date.from(wakeUpAt));
+    }
+
+    private static final class Publication {
+
+        private final Integer postId;
+        private final Instant publishAt;
+
+        private Publication(Integer postId, Instant publishAt) {
+            this.postId = postId;
+            this.publishAt = publishAt;
+        }
+
+        private Integer getPostId() {
+            return postId;
+        }
+
+        private Instant getPublishAt() {
+            return publishAt;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.softserveinc.dokazovi.service.impl;
 
 import com.softserveinc.dokazovi.analytics.GoogleAnalytics;
+import com.softserveinc.dokazovi.analytics.PostViewCounter;
+import com.softserveinc.dokazovi.cache.LatestPostsFeedCache;
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import com.softserveinc.dokazovi.dto.post.PostCursorPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostDTO;
 import com.softserveinc.dokazovi.dto.post.PostMainPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostPublishedAtDTO;
 import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
+import com.softserveinc.dokazovi.dto.post.PostSearchResultDTO;
 import com.softserveinc.dokazovi.entity.DirectionEntity;
 import com.softserveinc.dokazovi.entity.PostEntity;
 import com.softserveinc.dokazovi.entity.UserEntity;
@@ -12,18 +17,25 @@ import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 import com.softserveinc.dokazovi.exception.EntityNotFoundException;
 import com.softserveinc.dokazovi.exception.ForbiddenPermissionsException;
 import com.softserveinc.dokazovi.mapper.PostMapper;
+import com.softserveinc.dokazovi.repositories.ImportantPostsRepository;
+import com.softserveinc.dokazovi.repositories.PostCardProjectionRepository;
+import com.softserveinc.dokazovi.repositories.PostDailyViewsRepository;
 import com.softserveinc.dokazovi.repositories.PostRepository;
+import com.softserveinc.dokazovi.repositories.PostSearchRepository;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.security.UserPrincipal;
 import com.softserveinc.dokazovi.service.PostService;
+import com.softserveinc.dokazovi.util.PostCursor;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,14 +46,14 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Scanner;
 import java.util.Set;
-import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -49,11 +61,29 @@ import java.util.stream.Collectors;
 public class PostServiceImpl implements PostService {
 
     private static final Logger logger = LoggerFactory.getLogger(PostServiceImpl.class);
+    private static final String MAIN_PAGE_FEED = "main";
+    private static final String MOBILE_FEED = "mobile";
+    private static final String IMPORTANT_FEED = "important";
+    private static final int MAIN_PAGE_SECTION_SIZE = 4;
+    private static final int MOBILE_SECTION_SIZE = 10;
+    private static final int IMPORTANT_FEED_PAGE_SIZE = 20;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
     private final PostRepository postRepository;
+    private final PostCardProjectionRepository postCardProjectionRepository;
+    private final PostSearchRepository postSearchRepository;
     private final PostMapper postMapper;
     private final UserRepository userRepository;
     private final DirectionServiceImpl directionService;
     private final GoogleAnalytics googleAnalytics;
+    private final PostViewCounter postViewCounter;
+    private final PostDailyViewsRepository postDailyViewsRepository;
+    private final ImportantPostsRepository importantPostsRepository;
+    private final LatestPostsFeedCache latestPostsFeedCache;
+    private final PostFeedSectionExecutor postFeedSectionExecutor;
+    private final PostPublicationScheduler postPublicationScheduler;
+
+    @Value("${analytics.sync.refetch-days:2}")
+    private int realViewsRefetchDays;
 
     @Override
     public PostDTO findPostById(Integer postId) {
@@ -65,13 +95,10 @@ public class PostServiceImpl implements PostService {
         Optional<PostEntity> oldEntity = (postDTO.getId() != null)
                 ? postRepository.findById(postDTO.getId())
                 : Optional.empty();
+        boolean wasPublished = oldEntity.map(PostServiceImpl::isPublished).orElse(false);
 
         PostEntity mappedEntity = getPostEntityFromPostDTO(postDTO);
 
-        Set<DirectionEntity> directionsToUpdate = getDirectionsFromPostsEntities(
-                oldEntity,
-                mappedEntity
-        );
         mappedEntity.setImportant(false);
         mappedEntity.setCreatedAt(Timestamp.valueOf(LocalDateTime.now()));
         UserEntity userEntity = userRepository.getOne(userPrincipal.getId());
@@ -81,7 +108,9 @@ public class PostServiceImpl implements PostService {
                         .getAuthority().equals("SAVE_OWN_PUBLICATION"))) {
             mappedEntity.setAuthor(userEntity);
             PostDTO dto = postMapper.toPostDTO(postRepository.save(mappedEntity));
-            directionService.updateDirectionsHasPostsStatusByEntities(directionsToUpdate);
+            directionService.invalidateDirections();
+            invalidateLatestPostsFeed(wasPublished, mappedEntity);
+            schedulePublication(mappedEntity);
             return dto;
         }
 
@@ -90,7 +119,9 @@ public class PostServiceImpl implements PostService {
                         grantedAuthority.getAuthority().equals("SAVE_PUBLICATION"))) {
             mappedEntity.setAuthor(userRepository.getOne(postDTO.getAuthorId()));
             PostDTO dto = postMapper.toPostDTO(postRepository.save(mappedEntity));
-            directionService.updateDirectionsHasPostsStatusByEntities(directionsToUpdate);
+            directionService.invalidateDirections();
+            invalidateLatestPostsFeed(wasPublished, mappedEntity);
+            schedulePublication(mappedEntity);
             return dto;
         }
 
@@ -105,7 +136,7 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public Page<PostDTO> findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(
+    public Page<PostCardDTO> findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(
             Set<Integer> directionIds, Set<Integer> typeIds, Set<Integer> originIds, Set<Integer> statuses,
             String title, String author, Integer authorId, LocalDate startDate, LocalDate endDate,
             Pageable pageable) {
@@ -114,11 +145,9 @@ public class PostServiceImpl implements PostService {
         if (directionIds == null && typeIds == null && originIds == null && statuses == null &&
                 startDate == null && endDate == null && title.isEmpty() && author.isEmpty()) {
             if (isAuthorIdNotSet) {
-                return postRepository.findAll(pageable)
-                        .map(postMapper::toPostDTO);
+                return toPostCards(postRepository.findPublishedIds(pageable));
             } else {
-                return postRepository.findAllByAuthorId(authorId, pageable)
-                        .map(postMapper::toPostDTO);
+                return toPostCards(postRepository.findIdsByAuthorId(authorId, pageable));
             }
         }
 
@@ -141,16 +170,14 @@ public class PostServiceImpl implements PostService {
                         .collect(Collectors.toSet());
         try {
             if (isAuthorIdNotSet) {
-                return postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typeIds, directionIds,
+                return toPostCards(postRepository
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typeIds, directionIds,
                                 statusNames,
-                                originIds, title, author, startDateTimestamp, endDateTimestamp, pageable)
-                        .map(postMapper::toPostDTO);
+                                originIds, title, author, startDateTimestamp, endDateTimestamp, pageable));
             } else {
-                return postRepository.findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typeIds,
-                                directionIds, statusNames, originIds, title, authorId, startDateTimestamp,
-                                endDateTimestamp, pageable)
-                        .map(postMapper::toPostDTO);
+                return toPostCards(postRepository.findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(
+                        typeIds, directionIds, statusNames, originIds, title, authorId, startDateTimestamp,
+                        endDateTimestamp, pageable));
             }
         } catch (Exception e) {
             logger.error(
@@ -166,48 +193,46 @@ public class PostServiceImpl implements PostService {
         return set != null ? set : Collections.emptySet();
     }
 
+    private Page<PostCardDTO> toPostCards(Page<Integer> postIds) {
+        return new PageImpl<>(postCardProjectionRepository.findAllByIds(postIds.getContent()),
+                postIds.getPageable(), postIds.getTotalElements());
+    }
+
     @Override
-    public Page<PostDTO> findAllByStatus(PostStatus postStatus, Pageable pageable) {
-        return postRepository.findAllByStatus(postStatus, pageable)
-                .map(postMapper::toPostDTO);
+    public Page<PostCardDTO> findAllByStatus(PostStatus postStatus, Pageable pageable) {
+        return toPostCards(postRepository.findIdsByStatus(postStatus, pageable));
     }
 
     @Override
-    public Page<PostDTO> findImportantPosts(Pageable pageable) {
-        return postRepository
-                .findAllByImportantIsTrueAndStatusOrderByImportanceOrder(PostStatus.PUBLISHED, pageable)
-                .map(postMapper::toPostDTO);
+    public Page<PostCardDTO> findImportantPosts(Pageable pageable) {
+        return latestPostsFeedCache.get(IMPORTANT_FEED, pageable, IMPORTANT_FEED_PAGE_SIZE,
+                page -> toPostCards(postRepository.findImportantIdsByStatus(PostStatus.PUBLISHED, page)));
     }
 
     @Override
-    public Page<PostDTO> findAllByDirection(
+    public Page<PostCardDTO> findAllByDirection(
             Integer directionId, Set<Integer> typeId, Set<Integer> tagId, PostStatus postStatus, Pageable pageable) {
         DirectionEntity direction = DirectionEntity.builder()
                 .id(directionId)
                 .build();
         if (typeId == null && tagId == null) {
-            return postRepository.findAllByDirectionsContainsAndStatus(direction, postStatus, pageable)
-                    .map(postMapper::toPostDTO);
+            return toPostCards(postRepository.findIdsByDirectionAndStatus(direction, postStatus, pageable));
         } else if (typeId == null) {
-            return postRepository.findAllByDirectionsContainsAndTagsIdInAndStatus(
-                            direction, tagId, postStatus, pageable)
-                    .map(postMapper::toPostDTO);
+            return toPostCards(postRepository.findIdsByDirectionAndTagsAndStatus(
+                    direction, tagId, postStatus, pageable));
         } else if (tagId == null) {
-            return postRepository.findAllByDirectionsContainsAndTypeIdInAndStatus(
-                            direction, typeId, postStatus, pageable)
-                    .map(postMapper::toPostDTO);
+            return toPostCards(postRepository.findIdsByDirectionAndTypesAndStatus(
+                    direction, typeId, postStatus, pageable));
         }
-        return postRepository.findAllByDirectionsContainsAndTypeIdInAndTagsIdInAndStatus(
-                        direction, typeId, tagId, postStatus, pageable)
-                .map(postMapper::toPostDTO);
+        return toPostCards(postRepository.findIdsByDirectionAndTypesAndTagsAndStatus(
+                direction, typeId, tagId, postStatus, pageable));
     }
 
     @Override
-    public Page<PostDTO> findPostsByAuthorIdAndDirections(
+    public Page<PostCardDTO> findPostsByAuthorIdAndDirections(
             Pageable pageable, Integer authorId, Set<Integer> directions) {
 
-        return postRepository.findPostsByAuthorIdAndDirections(pageable, authorId, directions)
-                .map(postMapper::toPostDTO);
+        return toPostCards(postRepository.findIdsByAuthorIdAndDirections(pageable, authorId, directions));
     }
 
     @Override
@@ -215,19 +240,13 @@ public class PostServiceImpl implements PostService {
     public Boolean removePostById(UserPrincipal userPrincipal, Integer postId, boolean delete)
             throws EntityNotFoundException {
 
-        Optional<PostEntity> oldEntity = postRepository.findById(postId);
-
         PostEntity mappedEntity = postRepository
                 .findById(postId)
                 .orElseThrow(() -> new EntityNotFoundException(String.format("Post with %s not found", postId)));
 
         Integer userId = userPrincipal.getId();
         Integer authorId = mappedEntity.getAuthor().getId();
-
-        final Set<DirectionEntity> directionsToUpdate = getDirectionsFromPostsEntities(
-                oldEntity,
-                mappedEntity
-        );
+        boolean wasPublished = isPublished(mappedEntity);
 
         if ((userId.equals(authorId) && userPrincipal.getAuthorities().stream().anyMatch(grantedAuthority ->
                 grantedAuthority.getAuthority().equals("DELETE_OWN_POST"))) ||
@@ -240,7 +259,7 @@ public class PostServiceImpl implements PostService {
                 mappedEntity.setModifiedAt(Timestamp.valueOf(LocalDateTime.now()));
                 postRepository.save(mappedEntity);
             }
-
+            invalidateLatestPostsFeed(wasPublished, null);
         }
 
         if ((!userId.equals(authorId) || userPrincipal.getAuthorities().stream().noneMatch(grantedAuthority ->
@@ -249,7 +268,7 @@ public class PostServiceImpl implements PostService {
                 grantedAuthority.getAuthority().equals("DELETE_POST"))) {
             throw new ForbiddenPermissionsException();
         }
-        directionService.updateDirectionsHasPostsStatusByEntities(directionsToUpdate);
+        directionService.invalidateDirections();
         return true;
     }
 
@@ -258,6 +277,9 @@ public class PostServiceImpl implements PostService {
     public Boolean updatePostById(UserPrincipal userPrincipal, PostSaveFromUserDTO postDTO)
             throws EntityNotFoundException {
 
+        boolean wasPublished = postDTO.getId() != null && postRepository.findById(postDTO.getId())
+                .map(PostServiceImpl::isPublished)
+                .orElse(false);
         PostEntity mappedEntity = getPostEntityFromPostDTO(postDTO);
         mappedEntity.setModifiedAt(Timestamp.valueOf(LocalDateTime.now()));
 
@@ -265,7 +287,9 @@ public class PostServiceImpl implements PostService {
         Integer authorId = mappedEntity.getAuthor().getId();
 
         if (mappedEntity.getStatus().equals(PostStatus.ARCHIVED)) {
-            return removePostById(userPrincipal, mappedEntity.getId(), false);
+            Boolean removed = removePostById(userPrincipal, mappedEntity.getId(), false);
+            invalidateLatestPostsFeed(wasPublished, null);
+            return removed;
         }
 
         if (userId.equals(authorId) && checkAuthority(userPrincipal, "UPDATE_OWN_POST")) {
@@ -276,14 +300,14 @@ public class PostServiceImpl implements PostService {
         } else {
             throw new ForbiddenPermissionsException();
         }
+        invalidateLatestPostsFeed(wasPublished, mappedEntity);
+        schedulePublication(mappedEntity);
         return true;
     }
 
     private void saveEntity(PostEntity mappedEntity) {
         postRepository.save(mappedEntity);
-        directionService.updateDirectionsHasPostsStatusByEntities(
-                getDirectionsFromPostsEntities(Optional.empty(), mappedEntity)
-        );
+        directionService.invalidateDirections();
     }
 
     private boolean checkAuthority(UserPrincipal userPrincipal, String authority) {
@@ -292,82 +316,67 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    @Transactional
     public Page<PostMainPageDTO> findLatestByPostTypesAndOrigins(Pageable pageable) {
-        PostMainPageDTO expertOptions = PostMainPageDTO.builder()
-                .fieldName("expertOpinion")
-                .postDTOS(postRepository.findLatestByPostTypeExpertOpinion(PageRequest.of(pageable.getPageNumber(), 4))
-                        .map(postMapper::toPostDTO).toList()).build();
-        PostMainPageDTO media = PostMainPageDTO.builder()
-                .fieldName("media")
-                .postDTOS(postRepository.findLatestByPostTypeMedia(PageRequest.of(pageable.getPageNumber(), 4))
-                        .map(postMapper::toPostDTO).toList()).build();
-        PostMainPageDTO translation = PostMainPageDTO.builder()
-                .fieldName("translation")
-                .postDTOS(postRepository.findLatestByPostTypeTranslation(PageRequest.of(pageable.getPageNumber(), 4))
-                        .map(postMapper::toPostDTO).toList()).build();
-        PostMainPageDTO video = PostMainPageDTO.builder()
-                .fieldName("video")
-                .postDTOS(postRepository.findLatestByOriginVideo(PageRequest.of(pageable.getPageNumber(), 4))
-                        .map(postMapper::toPostDTO).toList()).build();
-
-        return new PageImpl<>(List.of(expertOptions, media, translation, video));
+        return latestPostsFeedCache.get(MAIN_PAGE_FEED, pageable,
+                page -> loadLatestByPostTypesAndOrigins(page, MAIN_PAGE_SECTION_SIZE));
     }
 
     @Override
     public Page<PostMainPageDTO> findLatestByPostTypesAndOriginsForMobile(Pageable pageable) {
-        PostMainPageDTO expertOptions = PostMainPageDTO.builder()
-                .fieldName("expertOpinion")
-                .postDTOS(postRepository.findLatestByPostTypeExpertOpinion(PageRequest.of(pageable.getPageNumber(), 10))
-                        .map(postMapper::toPostDTO).toList()).build();
-        PostMainPageDTO media = PostMainPageDTO.builder()
-                .fieldName("media")
-                .postDTOS(postRepository.findLatestByPostTypeMedia(PageRequest.of(pageable.getPageNumber(), 10))
-                        .map(postMapper::toPostDTO).toList()).build();
-        PostMainPageDTO translation = PostMainPageDTO.builder()
-                .fieldName("translation")
-                .postDTOS(postRepository.findLatestByPostTypeTranslation(PageRequest.of(pageable.getPageNumber(), 10))
-                        .map(postMapper::toPostDTO).toList()).build();
-        PostMainPageDTO video = PostMainPageDTO.builder()
-                .fieldName("video")
-                .postDTOS(postRepository.findLatestByOriginVideo(PageRequest.of(pageable.getPageNumber(), 10))
-                        .map(postMapper::toPostDTO).toList()).build();
-
-        return new PageImpl<>(List.of(expertOptions, media, translation, video));
+        return latestPostsFeedCache.get(MOBILE_FEED, pageable,
+                page -> loadLatestByPostTypesAndOrigins(page, MOBILE_SECTION_SIZE));
+    }
+
+    private Page<PostMainPageDTO> loadLatestByPostTypesAndOrigins(Pageable pageable, int sectionSize) {
+        PageRequest sectionPage = PageRequest.of(pageable.getPageNumber(), sectionSize);
+        Map<String, Supplier<List<PostCardDTO>>> sections = new LinkedHashMap<>();
+        sections.put("expertOpinion", () -> postCardProjectionRepository.findAllByIds(
+                postRepository.findLatestIdsByPostTypeExpertOpinion(sectionPage).getContent()));
+        sections.put("media", () -> postCardProjectionRepository.findAllByIds(
+                postRepository.findLatestIdsByPostTypeMedia(sectionPage).getContent()));
+        sections.put("translation", () -> postCardProjectionRepository.findAllByIds(
+                postRepository.findLatestIdsByPostTypeTranslation(sectionPage).getContent()));
+        sections.put("video", () -> postCardProjectionRepository.findAllByIds(
+                postRepository.findLatestIdsByOriginVideo(sectionPage).getContent()));
+
+        Map<String, List<PostCardDTO>> loadedSections = postFeedSectionExecutor.execute(sections);
+        if (loadedSections.size() < sections.size()) {
+            latestPostsFeedCache.discardPendingLoads();
+        }
+        List<PostMainPageDTO> feed = sections.keySet().stream()
+                .map(fieldName -> PostMainPageDTO.builder()
+                        .fieldName(fieldName)
+                        .postDTOS(loadedSections.getOrDefault(fieldName, Collections.emptyList()))
+                        .build())
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(feed);
     }
 
     @Override
-    public Page<PostDTO> findAllByExpertAndTypeAndDirections(Integer expertId, Set<Integer> typeId,
+    public Page<PostCardDTO> findAllByExpertAndTypeAndDirections(Integer expertId, Set<Integer> typeId,
             Set<Integer> directionId, Pageable pageable) {
         if (typeId == null && directionId == null) {
-            return postRepository.findAllByAuthorIdAndStatusOrderByPublishedAtDesc(expertId, PostStatus.PUBLISHED,
-                            pageable)
-                    .map(postMapper::toPostDTO);
+            return toPostCards(postRepository.findIdsByAuthorIdAndStatus(expertId, PostStatus.PUBLISHED, pageable));
         }
         if (typeId == null) {
-            return postRepository.findPostsByAuthorIdAndDirections(pageable, expertId, directionId)
-                    .map(postMapper::toPostDTO);
+            return toPostCards(postRepository.findIdsByAuthorIdAndDirections(pageable, expertId, directionId));
         }
         if (directionId == null) {
-            return postRepository
-                    .findAllByAuthorIdAndTypeIdInAndStatus(expertId, typeId, PostStatus.PUBLISHED, pageable)
-                    .map(postMapper::toPostDTO);
+            return toPostCards(postRepository
+                    .findIdsByAuthorIdAndTypesAndStatus(expertId, typeId, PostStatus.PUBLISHED, pageable));
         }
-        return postRepository.findAllByExpertAndByDirectionsAndByPostType(expertId, typeId, directionId, pageable)
-                .map(postMapper::toPostDTO);
+        return toPostCards(postRepository
+                .findIdsByExpertAndByDirectionsAndByPostType(expertId, typeId, directionId, pageable));
     }
 
     @Override
-    public Page<PostDTO> findAllByExpertAndTypeAndStatus(Integer expertId, Set<Integer> typeId,
+    public Page<PostCardDTO> findAllByExpertAndTypeAndStatus(Integer expertId, Set<Integer> typeId,
             PostStatus postStatus, Pageable pageable) {
         if (typeId == null) {
-            return postRepository
-                    .findAllByAuthorIdAndStatusOrderByPublishedAtDesc(expertId, postStatus, pageable)
-                    .map(postMapper::toPostDTO);
+            return toPostCards(postRepository.findIdsByAuthorIdAndStatus(expertId, postStatus, pageable));
         }
-        return postRepository
-                .findAllByAuthorIdAndTypeIdInAndStatus(expertId, typeId, postStatus, pageable)
-                .map(postMapper::toPostDTO);
+        return toPostCards(postRepository.findIdsByAuthorIdAndTypesAndStatus(expertId, typeId, postStatus, pageable));
     }
 
     @Override
@@ -376,11 +385,8 @@ public class PostServiceImpl implements PostService {
         if (importantPostIds == null) {
             return false;
         }
-        postRepository.removeImportantPostsAndOrder(importantPostIds);
-        List<Integer> importantPostIdsList = new ArrayList<>(importantPostIds);
-        for (int i = 0; i < importantPostIdsList.size(); i++) {
-            postRepository.setImportantPostOrder((i + 1), importantPostIdsList.get(i));
-        }
+        importantPostsRepository.setImportantPosts(new ArrayList<>(importantPostIds));
+        latestPostsFeedCache.invalidate();
         return true;
     }
 
@@ -435,37 +441,100 @@ public class PostServiceImpl implements PostService {
         }
     }
 
+    /**
+     * Counts a view of the post. The view is written to the post's real views by the next flush.
+     *
+     * @param postId id of the viewed post
+     */
     @Override
-    public Page<PostDTO> findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
+    public void registerView(Integer postId) {
+        postViewCounter.increment(postId);
+    }
+
+    @Override
+    public Page<PostCardDTO> findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
             Set<Integer> directions, Set<Integer> types, Set<Integer> origins, Pageable pageable) {
-        return postRepository.findByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
-                directions, types, origins, PostStatus.PUBLISHED, false, pageable).map(postMapper::toPostDTO);
+        return toPostCards(postRepository
+                .findIdsByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
+                        directions, types, origins, PostStatus.PUBLISHED, false, pageable));
     }
 
-    public Set<DirectionEntity> getDirectionsFromPostsEntities(Optional<PostEntity> oldEntity, PostEntity newEntity) {
-        Set<DirectionEntity> directionsToUpdate = new TreeSet<>(Comparator.comparing(DirectionEntity::getId));
-        if (oldEntity.isPresent() && oldEntity.get().getDirections() != null) {
-            directionsToUpdate.addAll(
-                    oldEntity
-                            .get()
-                            .getDirections());
-        }
-        if (!Objects.isNull(newEntity) && newEntity.getDirections() != null) {
-            directionsToUpdate.addAll(newEntity.getDirections());
+    /**
+     * Finds published posts that come after the cursor in the (published_at, post_id) order.
+     *
+     * <p>The page is read with a seek predicate instead of an offset and no count query is run,
+     * so every page costs the same as the first one. One extra id is fetched to find out
+     * whether there is a next page.</p>
+     */
+    @Override
+    public PostCursorPageDTO findPublishedByCursor(Integer authorId, Set<Integer> directionIds,
+            Set<Integer> typeIds, Set<Integer> originIds, Set<Integer> tagIds, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        PostCursor position = PostCursor.decode(cursor);
+        List<Integer> postIds = postRepository.findPublishedIdsBeforeCursor(position.getPublishedAt(),
+                position.getPostId(), authorId == null ? null : Set.of(authorId), nullIfEmpty(typeIds),
+                nullIfEmpty(directionIds), nullIfEmpty(originIds), nullIfEmpty(tagIds), pageSize + 1);
+
+        boolean hasNext = postIds.size() > pageSize;
+        List<PostCardDTO> posts = postCardProjectionRepository.findAllByIds(
+                hasNext ? postIds.subList(0, pageSize) : postIds);
+        return PostCursorPageDTO.builder()
+                .content(posts)
+                .nextCursor(hasNext && !posts.isEmpty() ? PostCursor.after(posts.get(posts.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public Page<PostSearchResultDTO> searchPublished(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageable);
         }
-        return directionsToUpdate;
+        String searchQuery = query.trim();
+        Map<Integer, String> snippets = postSearchRepository.findSnippetsByQuery(searchQuery,
+                pageable.getOffset(), pageable.getPageSize());
+        List<PostSearchResultDTO> results = postCardProjectionRepository
+                .findAllByIds(new ArrayList<>(snippets.keySet()))
+                .stream()
+                .map(post -> new PostSearchResultDTO(post, snippets.get(post.getId())))
+                .collect(Collectors.toList());
+        return PageableExecutionUtils.getPage(results, pageable,
+                () -> postSearchRepository.countByQuery(searchQuery));
+    }
+
+    private static <T> Set<T> nullIfEmpty(Set<T> set) {
+        return set == null || set.isEmpty() ? null : set;
     }
 
     /**
-     * Updates views for each post by post_id each 15 min
+     * Updates real views of posts from Google Analytics every 10 min.
+     *
+     * <p>Only the days since the previous sync, and {@code analytics.sync.refetch-days} days before it that
+     * Google Analytics may still revise, are fetched. The views of those days are stored and their change
+     * is added to the real views of posts, so a sync does not depend on the age of the site. The first sync
+     * fetches all days and sets the real views to their sum.
+     * Skipped while views are counted first-party by {@link PostViewCounter}.</p>
      */
-
     @Override
-    @Transactional
     @Scheduled(cron = "0 0/10 * * * *")
     public void updateRealViews() {
-        Map<Integer, Integer> postIdsAndViews = googleAnalytics.getAllPostsViewCount();
-        postIdsAndViews.forEach(postRepository::updateRealViews);
+        if (postViewCounter.isTrackingEnabled()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        Optional<LocalDate> lastViewDate = postDailyViewsRepository.findLastViewDate();
+        LocalDate fromDate = lastViewDate
+                .map(date -> date.minusDays(realViewsRefetchDays))
+                .filter(date -> date.isAfter(GoogleAnalytics.FIRST_DAY))
+                .orElse(GoogleAnalytics.FIRST_DAY);
+        Optional<Map<LocalDate, Map<Integer, Integer>>> dailyViews = googleAnalytics.getPostDailyViews(fromDate);
+        if (dailyViews.isEmpty() || dailyViews.get().isEmpty()) {
+            logger.warn("Real views sync skipped, Google Analytics returned no views since {}", fromDate);
+            return;
+        }
+        int updatedPosts = postDailyViewsRepository.mergeViews(dailyViews.get(), lastViewDate.isEmpty());
+        logger.info("Real views sync: {} days since {} fetched, {} posts updated in {} ms", dailyViews.get().size(),
+                fromDate, updatedPosts, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
     }
 
     @Override
@@ -475,22 +544,29 @@ public class PostServiceImpl implements PostService {
         if (post.isPresent()) {
             postRepository.setPublishedAt(postId, publishedAt.getPublishedAt());
             PostEntity postEntity = post.get();
+            invalidateLatestPostsFeed(isPublished(postEntity), null);
             postEntity.setStatus(PostStatus.PLANNED);
             postRepository.save(postEntity);
+            postPublicationScheduler.schedule(postId, publishedAt.getPublishedAt());
             return true;
         } else {
             throw new EntityNotFoundException("Post with this id=" + postId + " doesn't exist");
         }
     }
 
-    @Override
-    @Transactional
-    @Scheduled(cron = "0 0/5 * * * *")
-    public void updatePlannedStatus() {
-        List<PostEntity> allByStatus = postRepository.findAllByStatus(PostStatus.PLANNED);
-        Timestamp date = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MIN));
-        allByStatus.stream()
-                .filter(postEntity -> postEntity.getPublishedAt().before(date))
-                .forEach(postEntity -> postEntity.setStatus(PostStatus.PUBLISHED));
+    private void invalidateLatestPostsFeed(boolean wasPublished, PostEntity postEntity) {
+        if (wasPublished || isPublished(postEntity)) {
+            latestPostsFeedCache.invalidate();
+        }
+    }
+
+    private void schedulePublication(PostEntity postEntity) {
+        if (PostStatus.PLANNED.equals(postEntity.getStatus())) {
+            postPublicationScheduler.schedule(postEntity.getId(), postEntity.getPublishedAt());
+        }
+    }
+
+    private static boolean isPublished(PostEntity postEntity) {
+        return postEntity != null && PostStatus.PUBLISHED.equals(postEntity.getStatus());
     }
 }
@@ -1,5 +1,7 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 import com.softserveinc.dokazovi.mapper.PostTypeMapper;
@@ -17,13 +19,11 @@ public class PostTypeServiceImpl implements PostTypeService {
 
     private final PostTypeRepository postTypeRepository;
     private final PostTypeMapper postTypeMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     @Override
-    public List<PostTypeDTO> findAll() {
-        return postTypeRepository.findAll()
-                .stream()
-                .map(postTypeMapper::toPostTypeDTO)
-                .collect(Collectors.toList());
+    public ReferenceDataSnapshot<PostTypeDTO> findAll() {
+        return referenceDataRegistry.getPostTypes();
     }
 
     @Override
@@ -1,5 +1,7 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.region.RegionDTO;
 import com.softserveinc.dokazovi.entity.RegionEntity;
 import com.softserveinc.dokazovi.mapper.RegionMapper;
@@ -10,8 +12,6 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
-import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * The RegionServiceImpl is responsible for doing any required logic
@@ -25,17 +25,16 @@ public class RegionServiceImpl implements RegionService {
 
     private final RegionRepository regionRepository;
     private final RegionMapper regionMapper;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     /**
-     * Gets all regions.
+     * Gets all regions from the in-memory reference data snapshot.
      *
-     * @return all found regions
+     * @return snapshot of all regions
      */
     @Override
-    public List<RegionDTO> findAllRegions() {
-        return regionRepository.findAll().stream()
-                .map(regionMapper::toRegionDTO)
-                .collect(Collectors.toList());
+    public ReferenceDataSnapshot<RegionDTO> findAllRegions() {
+        return referenceDataRegistry.getRegions();
     }
 
     /**
@@ -47,6 +46,7 @@ public class RegionServiceImpl implements RegionService {
     @Scheduled(cron = "0 0 */4 * * *")
     public void updateRegionsStatus() {
         regionRepository.updateRegionsStatus();
+        referenceDataRegistry.invalidateRegions();
     }
 
     @Override
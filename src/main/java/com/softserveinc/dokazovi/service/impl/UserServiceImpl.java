@@ -10,6 +10,8 @@ import com.softserveinc.dokazovi.mapper.UserMapper;
 import com.softserveinc.dokazovi.pojo.UserSearchCriteria;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.repositories.VerificationTokenRepository;
+import com.softserveinc.dokazovi.security.RefreshTokenService;
+import com.softserveinc.dokazovi.security.UserPrincipalCache;
 import com.softserveinc.dokazovi.service.MailSenderService;
 import com.softserveinc.dokazovi.service.PasswordResetTokenService;
 import com.softserveinc.dokazovi.service.UserService;
@@ -41,6 +43,8 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final PasswordResetTokenService passwordResetTokenService;
     private final MailSenderService mailSenderService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
 
     private static final String HAS_NO_DIRECTIONS = "hasNoDirections";
     private static final String HAS_NO_REGIONS = "hasNoRegions";
@@ -194,6 +198,7 @@ public class UserServiceImpl implements UserService {
         }
         userEntity.setEnabled(true);
         userRepository.save(userEntity);
+        userPrincipalCache.invalidate(userEntity.getId());
     }
 
     /**
@@ -232,7 +237,9 @@ public class UserServiceImpl implements UserService {
         if (user != null) {
             UserEntity oldUser = getById(user.getId());
             if (oldUser != null) {
-                return userRepository.save(user);
+                UserEntity savedUser = userRepository.save(user);
+                userPrincipalCache.invalidate(user.getId());
+                return savedUser;
             }
         }
         throw new BadRequestException("Something went wrong!!!");
@@ -243,9 +250,11 @@ public class UserServiceImpl implements UserService {
         user.setPassword(passwordEncoder.encode(password));
         update(user);
         passwordResetTokenService.delete(token);
+        refreshTokenService.revokeAll(user.getId());
     }
 
     @Override
+    @Transactional
     public void sendPasswordResetToken(UserEntity user, String origin) {
         String token = UUID.randomUUID().toString();
         passwordResetTokenService.createPasswordResetTokenForUser(user, token);
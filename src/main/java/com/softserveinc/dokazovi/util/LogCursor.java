@@ -0,0 +1,73 @@
+package com.softserveinc.dokazovi.util;
+
+import com.softserveinc.dokazovi.dto.log.PostLogDTO;
+import com.softserveinc.dokazovi.exception.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in the post change log ordered by (date_of_change DESC, log_id DESC).
+ *
+ * <p>Clients get it as an opaque string and send it back to fetch the next page.</p>
+ */
+@Getter
+public final class LogCursor {
+
+    private static final String SEPARATOR = "_";
+    private static final Timestamp LOG_START = Timestamp.valueOf(LocalDateTime.of(9999, 12, 31, 0, 0));
+
+    private final Timestamp dateOfChange;
+    private final Integer logId;
+
+    private LogCursor(Timestamp dateOfChange, Integer logId) {
+        this.dateOfChange = dateOfChange;
+        this.logId = logId;
+    }
+
+    /**
+     * Creates the cursor pointing right after the given entry.
+     *
+     * @param log last entry of the current page
+     * @return cursor of the next page
+     */
+    public static LogCursor after(PostLogDTO log) {
+        return new LogCursor(log.getDateOfChange(), log.getId());
+    }
+
+    /**
+     * Decodes the cursor sent by a client. An empty cursor points to the newest entry.
+     *
+     * @param cursor opaque cursor or null
+     * @return decoded cursor
+     * @throws BadRequestException if the cursor was not issued by {@link #encode()}
+     */
+    public static LogCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new LogCursor(LOG_START, Integer.MAX_VALUE);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new LogCursor(
+                    Timestamp.valueOf(LocalDateTime.parse(decoded.substring(0, separatorIndex))),
+                    Integer.valueOf(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Encodes the cursor into the opaque string returned to clients.
+     *
+     * @return URL-safe cursor
+     */
+    public String encode() {
+        String raw = dateOfChange.toLocalDateTime() + SEPARATOR + logId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
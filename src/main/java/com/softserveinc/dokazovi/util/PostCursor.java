@@ -0,0 +1,75 @@
+package com.softserveinc.dokazovi.util;
+
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import com.softserveinc.dokazovi.exception.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position in a published-post feed ordered by (published_at DESC, post_id DESC).
+ *
+ * <p>Clients get it as an opaque string and send it back to fetch the next page.
+ * The publication time is kept with its full precision, so that posts published
+ * within the same millisecond are neither skipped nor repeated.</p>
+ */
+@Getter
+public final class PostCursor {
+
+    private static final String SEPARATOR = "_";
+    private static final Timestamp FEED_START = Timestamp.valueOf(LocalDateTime.of(9999, 12, 31, 0, 0));
+
+    private final Timestamp publishedAt;
+    private final Integer postId;
+
+    private PostCursor(Timestamp publishedAt, Integer postId) {
+        this.publishedAt = publishedAt;
+        this.postId = postId;
+    }
+
+    /**
+     * Creates the cursor pointing right after the given post.
+     *
+     * @param post last post of the current page
+     * @return cursor of the next page
+     */
+    public static PostCursor after(PostCardDTO post) {
+        return new PostCursor(post.getPublishedAt(), post.getId());
+    }
+
+    /**
+     * Decodes the cursor sent by a client. An empty cursor points to the beginning of the feed.
+     *
+     * @param cursor opaque cursor or null
+     * @return decoded cursor
+     * @throws BadRequestException if the cursor was not issued by {@link #encode()}
+     */
+    public static PostCursor decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return new PostCursor(FEED_START, Integer.MAX_VALUE);
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decoded.lastIndexOf(SEPARATOR);
+            return new PostCursor(
+                    Timestamp.valueOf(LocalDateTime.parse(decoded.substring(0, separatorIndex))),
+                    Integer.valueOf(decoded.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    /**
+     * Encodes the cursor into the opaque string returned to clients.
+     *
+     * @return URL-safe cursor
+     */
+    public String encode() {
+        String raw = publishedAt.toLocalDateTime() + SEPARATOR + postId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
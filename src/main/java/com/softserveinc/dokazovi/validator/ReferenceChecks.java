@@ -0,0 +1,10 @@
+package com.softserveinc.dokazovi.validator;
+
+/**
+ * Validation group of the constraints that look referenced entities up in the database, such as
+ * {@link com.softserveinc.dokazovi.annotations.DirectionExists}. The API endpoints validate it together with
+ * the default group; the bulk import validates the default group only and checks the references of a whole
+ * batch with one query each.
+ */
+public interface ReferenceChecks {
+}
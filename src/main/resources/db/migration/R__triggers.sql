@@ -1,241 +1,311 @@
 --
--- Handle creating post direction entries to add doctor_post_directions entries
+-- Maintain author_post_directions with statement-level triggers. Each statement that changes posts_directions
+-- or posts runs one set-based statement over its transition table instead of several lookups per row.
 --
 
-CREATE OR REPLACE FUNCTION dpdv_handle_post_direction_insert()
+DROP TRIGGER IF EXISTS dpdv_handle_post_direction_insert_trigger ON public.posts_directions;
+DROP TRIGGER IF EXISTS dpdv_handle_post_direction_delete ON public.posts_directions;
+DROP TRIGGER IF EXISTS dpdv_handle_update_post_author_trigger ON public.posts;
+DROP TRIGGER IF EXISTS dpdv_handle_update_post_status_for_visible_trigger ON public.posts;
+DROP TRIGGER IF EXISTS dpdv_handle_update_post_author_for_user_id_trigger ON public.posts;
+DROP TRIGGER IF EXISTS dpdv_handle_insert_check_visible_trigger ON public.author_post_directions;
+DROP TRIGGER IF EXISTS dpdv_handle_insert_set_user_id_trigger ON public.author_post_directions;
+
+DROP FUNCTION IF EXISTS dpdv_handle_post_direction_insert();
+DROP FUNCTION IF EXISTS dpdv_handle_post_direction_delete();
+DROP FUNCTION IF EXISTS dpdv_handle_update_post_author();
+DROP FUNCTION IF EXISTS dpdv_handle_update_post_status_for_visible();
+DROP FUNCTION IF EXISTS dpdv_handle_update_post_author_for_user_id();
+DROP FUNCTION IF EXISTS dpdv_handle_insert_check_visible();
+DROP FUNCTION IF EXISTS dpdv_handle_insert_set_user_id();
+
+--
+-- Handle creating post direction entries to add author_post_directions entries,
+-- with user_id and visible taken from the post
+--
+
+CREATE OR REPLACE FUNCTION dpdv_handle_post_directions_insert()
     RETURNS TRIGGER
 AS $$
-DECLARE
-    VAR_USER_ID INTEGER;
-    VAR_DOCTOR_ID
-                INTEGER;
 BEGIN
-    -- Get author of the post referenced by the direction
-    SELECT author_id
-        FROM public.posts p
-        WHERE p.post_id = NEW.post_id INTO VAR_USER_ID;
-
-    -- If there is a doctor with such a user_id
-    IF (SELECT EXISTS(SELECT 1 FROM public.authors d WHERE d.user_id = VAR_USER_ID)) THEN
-        -- Get his doctor_id
-        SELECT author_id
-            FROM public.authors d
-            WHERE d.user_id = VAR_USER_ID INTO VAR_DOCTOR_ID;
-        -- Add a corresponding entry to our table
-        INSERT INTO public.author_post_directions (author_id, post_id, direction_id)
-            VALUES (VAR_DOCTOR_ID, NEW.post_id, NEW.direction_id) ON CONFLICT DO NOTHING;
-    END IF;
-    RETURN NEW;
+    INSERT INTO public.author_post_directions (author_id, post_id, direction_id, user_id, visible)
+        SELECT DISTINCT a.author_id, n.post_id, n.direction_id, p.author_id, p.status = 'PUBLISHED'
+        FROM new_post_directions n
+                 JOIN public.posts p ON p.post_id = n.post_id
+                 JOIN public.authors a ON a.user_id = p.author_id
+    ON CONFLICT DO NOTHING;
+    RETURN NULL;
 END;
 $$
     LANGUAGE plpgsql;
 
-DROP TRIGGER IF EXISTS dpdv_handle_post_direction_insert_trigger
+DROP TRIGGER IF EXISTS dpdv_handle_post_directions_insert_trigger
     ON public.posts_directions;
-CREATE TRIGGER dpdv_handle_post_direction_insert_trigger
+CREATE TRIGGER dpdv_handle_post_directions_insert_trigger
     AFTER INSERT
         ON public.posts_directions
-        FOR EACH ROW EXECUTE PROCEDURE dpdv_handle_post_direction_insert();
+        REFERENCING NEW TABLE AS new_post_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE dpdv_handle_post_directions_insert();
 
 --
--- Handle deleting post direction entries so that we can delete entries from doctor_post_directions
+-- Handle deleting post direction entries so that we can delete entries from author_post_directions
 --
 
-CREATE OR REPLACE FUNCTION dpdv_handle_post_direction_delete()
+CREATE OR REPLACE FUNCTION dpdv_handle_post_directions_delete()
     RETURNS TRIGGER
 AS $$
-DECLARE
-    VAR_USER_ID INTEGER;
-    VAR_DOCTOR_ID INTEGER;
 BEGIN
-    -- Get author of the post referenced by the direction
-    SELECT author_id
-        FROM public.posts p
-        WHERE p.post_id = OLD.post_id INTO VAR_USER_ID;
-
-    -- If there is a doctor with such a user_id
-    IF (SELECT EXISTS(SELECT 1 FROM public.authors d WHERE d.user_id = VAR_USER_ID)) THEN
-        -- Get his doctor_id
-        SELECT author_id
-            FROM public.authors d
-            WHERE d.user_id = VAR_USER_ID INTO VAR_DOCTOR_ID;
-
-        -- And remove the corresponding entry from our table
-        DELETE
-            FROM public.author_post_directions dpd
-            WHERE dpd.author_id = VAR_DOCTOR_ID
-              AND dpd.post_id = OLD.post_id
-              AND dpd.direction_id = OLD.direction_id;
-    END IF;
-    RETURN OLD;
+    DELETE
+        FROM public.author_post_directions apd
+        USING old_post_directions o
+        WHERE apd.post_id = o.post_id
+          AND apd.direction_id = o.direction_id;
+    RETURN NULL;
 END;
 $$
-LANGUAGE plpgsql;
+    LANGUAGE plpgsql;
 
-DROP TRIGGER IF EXISTS dpdv_handle_post_direction_delete
+DROP TRIGGER IF EXISTS dpdv_handle_post_directions_delete_trigger
     ON public.posts_directions;
-CREATE TRIGGER dpdv_handle_post_direction_delete
-    BEFORE DELETE
-    ON public.posts_directions
-    FOR EACH ROW EXECUTE PROCEDURE dpdv_handle_post_direction_delete();
+CREATE TRIGGER dpdv_handle_post_directions_delete_trigger
+    AFTER DELETE
+        ON public.posts_directions
+        REFERENCING OLD TABLE AS old_post_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE dpdv_handle_post_directions_delete();
 
 --
--- Handle changing post author to set doctor_id
+-- Handle changing post author or status to update author_id, user_id and visible in author_post_directions.
+-- Only the entries whose values actually change are written.
 --
 
-CREATE OR REPLACE FUNCTION dpdv_handle_update_post_author()
+CREATE OR REPLACE FUNCTION dpdv_handle_posts_update()
     RETURNS TRIGGER
 AS $$
-DECLARE
-    VAR_NEW_DOCTOR_ID INTEGER;
 BEGIN
-    -- Do not do anything if the author id is unchanged
-    IF NOT (OLD.author_id = NEW.author_id) THEN
-        -- Get the doctor_id
-        SELECT author_id
-            FROM public.authors d
-            WHERE d.user_id = NEW.author_id INTO VAR_NEW_DOCTOR_ID;
-
-        -- Update all entries in our table with our post_id with the new doctor_id
-        UPDATE public.author_post_directions dpd
-            SET author_id = VAR_NEW_DOCTOR_ID
-            WHERE dpd.post_id = NEW.post_id;
-    END IF;
-    RETURN NEW;
+    UPDATE public.author_post_directions apd
+        SET author_id = changed.author_id,
+            user_id   = changed.user_id,
+            visible   = changed.visible
+        FROM (SELECT n.post_id,
+                     a.author_id,
+                     n.author_id            AS user_id,
+                     n.status = 'PUBLISHED' AS visible
+              FROM new_posts n
+                       JOIN old_posts o ON o.post_id = n.post_id
+                       LEFT JOIN public.authors a ON a.user_id = n.author_id
+              WHERE o.author_id IS DISTINCT FROM n.author_id
+                 OR o.status IS DISTINCT FROM n.status) changed
+        WHERE apd.post_id = changed.post_id
+          AND (apd.user_id IS DISTINCT FROM changed.user_id OR apd.visible IS DISTINCT FROM changed.visible);
+    RETURN NULL;
 END;
 $$
     LANGUAGE plpgsql;
 
-DROP TRIGGER IF EXISTS dpdv_handle_update_post_author_trigger
+DROP TRIGGER IF EXISTS dpdv_handle_posts_update_trigger
     ON public.posts;
-CREATE TRIGGER dpdv_handle_update_post_author_trigger
+CREATE TRIGGER dpdv_handle_posts_update_trigger
     AFTER UPDATE
-    ON public.posts
-    FOR EACH ROW EXECUTE PROCEDURE dpdv_handle_update_post_author();
+        ON public.posts
+        REFERENCING OLD TABLE AS old_posts NEW TABLE AS new_posts
+        FOR EACH STATEMENT EXECUTE PROCEDURE dpdv_handle_posts_update();
 
 --
--- Handle inserting entries to doctor_post_directions to set visible field
+-- Updating views in posts which is sum of fake and real views
 --
 
-CREATE OR REPLACE FUNCTION dpdv_handle_insert_check_visible() RETURNS TRIGGER
+CREATE OR REPLACE FUNCTION dpdv_update_views_for_post() RETURNS TRIGGER
 AS $$
 BEGIN
-    NEW.visible = (SELECT status = 'PUBLISHED' FROM public.posts WHERE post_id = NEW.post_id);
-    RETURN NEW;
-END;
+        UPDATE public.posts
+            SET views = fake_views + real_views
+            WHERE post_id = NEW.post_id;
+        return NEW;
+end;
 $$
 LANGUAGE plpgsql;
+DROP TRIGGER IF EXISTS dpdv_update_views_for_post_trigger
+    on public.posts;
+CREATE TRIGGER dpdv_update_views_for_post_trigger
+    AFTER UPDATE OF real_views, fake_views
+    on public.posts
+    FOR EACH ROW EXECUTE PROCEDURE dpdv_update_views_for_post();
 
-DROP TRIGGER IF EXISTS dpdv_handle_insert_check_visible_trigger
-    ON public.author_post_directions;
-CREATE TRIGGER dpdv_handle_insert_check_visible_trigger
-    BEFORE INSERT
-    ON public.author_post_directions
-    FOR EACH ROW EXECUTE PROCEDURE dpdv_handle_insert_check_visible();
-
---
--- Handle updating post status to set doctor_post_directions.visible field
---
-
-CREATE OR REPLACE FUNCTION dpdv_handle_update_post_status_for_visible() RETURNS TRIGGER
+CREATE OR REPLACE FUNCTION update_first_name_for_post() RETURNS TRIGGER
 AS $$
 BEGIN
-    UPDATE public.author_post_directions
-    SET visible = (NEW.status = 'PUBLISHED')
-    WHERE post_id = NEW.post_id;
-    RETURN NEW;
-END;
+        UPDATE public.posts
+            SET first_name = (select first_name from users where posts.author_id = users.user_id);
+        return new;
+end;
 $$
 LANGUAGE plpgsql;
+DROP TRIGGER IF EXISTS update_first_name_for_post_trigger
+    on public.users;
+CREATE TRIGGER update_first_name_for_post_trigger
+    AFTER UPDATE OR INSERT OR DELETE
+    on public.users
+    for each row execute procedure update_first_name_for_post();
 
-DROP TRIGGER IF EXISTS dpdv_handle_update_post_status_for_visible_trigger
-    ON public.posts;
-CREATE TRIGGER dpdv_handle_update_post_status_for_visible_trigger
-    AFTER UPDATE
-    ON public.posts
-    FOR EACH ROW EXECUTE PROCEDURE dpdv_handle_update_post_status_for_visible();
+DROP TRIGGER IF EXISTS update_first_name_for_post_trigger on public.posts;
+DROP FUNCTION IF EXISTS update_first_name_for_post() CASCADE;
 
 --
--- Handle inserting entries to doctor_post_directions to set user_id based on passed doctor_id
+-- Keep the full-text search vector of a post in sync with its title, preview and content
 --
 
-CREATE OR REPLACE FUNCTION dpdv_handle_insert_set_user_id() RETURNS TRIGGER
+CREATE OR REPLACE FUNCTION posts_handle_search_vector_update()
+    RETURNS TRIGGER
 AS $$
 BEGIN
-    NEW.user_id = (SELECT user_id FROM public.authors WHERE author_id = NEW.author_id LIMIT 1);
+    NEW.search_vector := posts_search_vector(NEW.title, NEW.preview, NEW.content);
     RETURN NEW;
 END;
 $$
-LANGUAGE plpgsql;
+    LANGUAGE plpgsql;
 
-DROP TRIGGER IF EXISTS dpdv_handle_insert_set_user_id_trigger
-    ON public.author_post_directions;
-CREATE TRIGGER dpdv_handle_insert_set_user_id_trigger
-    BEFORE INSERT
-    ON public.author_post_directions
-    FOR EACH ROW EXECUTE PROCEDURE dpdv_handle_insert_set_user_id();
+DROP TRIGGER IF EXISTS posts_handle_search_vector_update_trigger
+    ON public.posts;
+CREATE TRIGGER posts_handle_search_vector_update_trigger
+    BEFORE INSERT OR UPDATE OF title, preview, content
+        ON public.posts
+        FOR EACH ROW EXECUTE PROCEDURE posts_handle_search_vector_update();
 
 --
--- Handle updating post author id to update user_id in doctor_post_directions
+-- Keep the number of visible posts of a direction in directions.post_count.
+-- Transition tables are not allowed on triggers with several events, so each event has its own trigger.
 --
 
-CREATE OR REPLACE FUNCTION dpdv_handle_update_post_author_for_user_id() RETURNS TRIGGER
+DROP TRIGGER IF EXISTS directions_handle_post_count_update_trigger
+    ON public.author_post_directions;
+
+CREATE OR REPLACE FUNCTION directions_handle_post_count_update()
+    RETURNS TRIGGER
 AS $$
 BEGIN
-    -- Do not do anything if the author id is unchanged
-    IF NOT (OLD.author_id = NEW.author_id) THEN
-        UPDATE public.author_post_directions dpd
-        SET user_id = NEW.author_id
-        WHERE dpd.post_id = NEW.post_id;
+    IF TG_OP = 'INSERT' THEN
+        UPDATE public.directions d
+        SET post_count = d.post_count + c.delta,
+            has_posts  = d.post_count + c.delta > 0
+        FROM (SELECT direction_id, COUNT(*) AS delta
+              FROM new_author_post_directions
+              WHERE visible
+              GROUP BY direction_id) c
+        WHERE d.direction_id = c.direction_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE public.directions d
+        SET post_count = d.post_count - c.delta,
+            has_posts  = d.post_count - c.delta > 0
+        FROM (SELECT direction_id, COUNT(*) AS delta
+              FROM old_author_post_directions
+              WHERE visible
+              GROUP BY direction_id) c
+        WHERE d.direction_id = c.direction_id;
+    ELSE
+        UPDATE public.directions d
+        SET post_count = d.post_count + c.delta,
+            has_posts  = d.post_count + c.delta > 0
+        FROM (SELECT direction_id, SUM(delta) AS delta
+              FROM (SELECT direction_id, 1 AS delta FROM new_author_post_directions WHERE visible
+                    UNION ALL
+                    SELECT direction_id, -1 AS delta FROM old_author_post_directions WHERE visible) changes
+              GROUP BY direction_id
+              HAVING SUM(delta) <> 0) c
+        WHERE d.direction_id = c.direction_id;
     END IF;
-    RETURN NEW;
+    RETURN NULL;
 END;
 $$
-LANGUAGE plpgsql;
+    LANGUAGE plpgsql;
 
-DROP TRIGGER IF EXISTS dpdv_handle_update_post_author_for_user_id_trigger
-    ON public.posts;
-CREATE TRIGGER dpdv_handle_update_post_author_for_user_id_trigger
+DROP TRIGGER IF EXISTS directions_handle_post_count_insert_trigger
+    ON public.author_post_directions;
+CREATE TRIGGER directions_handle_post_count_insert_trigger
+    AFTER INSERT
+        ON public.author_post_directions
+        REFERENCING NEW TABLE AS new_author_post_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE directions_handle_post_count_update();
+
+DROP TRIGGER IF EXISTS directions_handle_post_count_delete_trigger
+    ON public.author_post_directions;
+CREATE TRIGGER directions_handle_post_count_delete_trigger
+    AFTER DELETE
+        ON public.author_post_directions
+        REFERENCING OLD TABLE AS old_author_post_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE directions_handle_post_count_update();
+
+DROP TRIGGER IF EXISTS directions_handle_post_count_change_trigger
+    ON public.author_post_directions;
+CREATE TRIGGER directions_handle_post_count_change_trigger
     AFTER UPDATE
-    ON public.posts
-    FOR EACH ROW EXECUTE PROCEDURE dpdv_handle_update_post_author_for_user_id();
+        ON public.author_post_directions
+        REFERENCING OLD TABLE AS old_author_post_directions NEW TABLE AS new_author_post_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE directions_handle_post_count_update();
 
 --
--- Updating views in posts which is sum of fake and real views
+-- Keep the number of authors of a direction in directions.author_count
 --
 
-CREATE OR REPLACE FUNCTION dpdv_update_views_for_post() RETURNS TRIGGER
-AS $$
-BEGIN
-        UPDATE public.posts
-            SET views = fake_views + real_views
-            WHERE post_id = NEW.post_id;
-        return NEW;
-end;
-$$
-LANGUAGE plpgsql;
-DROP TRIGGER IF EXISTS dpdv_update_views_for_post_trigger
-    on public.posts;
-CREATE TRIGGER dpdv_update_views_for_post_trigger
-    AFTER UPDATE OF real_views, fake_views
-    on public.posts
-    FOR EACH ROW EXECUTE PROCEDURE dpdv_update_views_for_post();
+DROP TRIGGER IF EXISTS directions_handle_author_count_update_trigger
+    ON public.authors_directions;
 
-CREATE OR REPLACE FUNCTION update_first_name_for_post() RETURNS TRIGGER
+CREATE OR REPLACE FUNCTION directions_handle_author_count_update()
+    RETURNS TRIGGER
 AS $$
 BEGIN
-        UPDATE public.posts
-            SET first_name = (select first_name from users where posts.author_id = users.user_id);
-        return new;
-end;
+    IF TG_OP = 'INSERT' THEN
+        UPDATE public.directions d
+        SET author_count = d.author_count + c.delta,
+            has_authors  = d.author_count + c.delta > 0
+        FROM (SELECT direction_id, COUNT(*) AS delta
+              FROM new_authors_directions
+              GROUP BY direction_id) c
+        WHERE d.direction_id = c.direction_id;
+    ELSIF TG_OP = 'DELETE' THEN
+        UPDATE public.directions d
+        SET author_count = d.author_count - c.delta,
+            has_authors  = d.author_count - c.delta > 0
+        FROM (SELECT direction_id, COUNT(*) AS delta
+              FROM old_authors_directions
+              GROUP BY direction_id) c
+        WHERE d.direction_id = c.direction_id;
+    ELSE
+        UPDATE public.directions d
+        SET author_count = d.author_count + c.delta,
+            has_authors  = d.author_count + c.delta > 0
+        FROM (SELECT direction_id, SUM(delta) AS delta
+              FROM (SELECT direction_id, 1 AS delta FROM new_authors_directions
+                    UNION ALL
+                    SELECT direction_id, -1 AS delta FROM old_authors_directions) changes
+              GROUP BY direction_id
+              HAVING SUM(delta) <> 0) c
+        WHERE d.direction_id = c.direction_id;
+    END IF;
+    RETURN NULL;
+END;
 $$
-LANGUAGE plpgsql;
-DROP TRIGGER IF EXISTS update_first_name_for_post_trigger
-    on public.users;
-CREATE TRIGGER update_first_name_for_post_trigger
-    AFTER UPDATE OR INSERT OR DELETE
-    on public.users
-    for each row execute procedure update_first_name_for_post();
+    LANGUAGE plpgsql;
 
-DROP TRIGGER IF EXISTS update_first_name_for_post_trigger on public.posts;
-DROP FUNCTION IF EXISTS update_first_name_for_post() CASCADE;
\ No newline at end of file
+DROP TRIGGER IF EXISTS directions_handle_author_count_insert_trigger
+    ON public.authors_directions;
+CREATE TRIGGER directions_handle_author_count_insert_trigger
+    AFTER INSERT
+        ON public.authors_directions
+        REFERENCING NEW TABLE AS new_authors_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE directions_handle_author_count_update();
+
+DROP TRIGGER IF EXISTS directions_handle_author_count_delete_trigger
+    ON public.authors_directions;
+CREATE TRIGGER directions_handle_author_count_delete_trigger
+    AFTER DELETE
+        ON public.authors_directions
+        REFERENCING OLD TABLE AS old_authors_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE directions_handle_author_count_update();
+
+DROP TRIGGER IF EXISTS directions_handle_author_count_change_trigger
+    ON public.authors_directions;
+CREATE TRIGGER directions_handle_author_count_change_trigger
+    AFTER UPDATE
+        ON public.authors_directions
+        REFERENCING OLD TABLE AS old_authors_directions NEW TABLE AS new_authors_directions
+        FOR EACH STATEMENT EXECUTE PROCEDURE directions_handle_author_count_update();
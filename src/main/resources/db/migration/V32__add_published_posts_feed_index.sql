@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS POSTS_PUBLISHED_FEED_IDX
+    ON POSTS (PUBLISHED_AT DESC, POST_ID DESC)
+    WHERE STATUS = 'PUBLISHED';
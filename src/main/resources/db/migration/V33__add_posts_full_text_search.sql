@@ -0,0 +1,32 @@
+-- Text search configuration used for posts. It lowercases Ukrainian words correctly and can later
+-- be switched to a hunspell uk_UA dictionary with ALTER TEXT SEARCH CONFIGURATION ... ALTER MAPPING
+-- on servers where the dictionary files are installed.
+DO
+$$
+    BEGIN
+        IF NOT EXISTS(SELECT 1 FROM pg_ts_config WHERE cfgname = 'dokazovi_uk') THEN
+            CREATE TEXT SEARCH CONFIGURATION public.dokazovi_uk (COPY = pg_catalog.simple);
+        END IF;
+    END
+$$;
+
+CREATE OR REPLACE FUNCTION posts_search_vector(title TEXT, preview TEXT, content TEXT)
+    RETURNS TSVECTOR
+AS
+$$
+SELECT setweight(to_tsvector('public.dokazovi_uk', coalesce(title, '')), 'A')
+           || setweight(to_tsvector('public.dokazovi_uk', coalesce(preview, '')), 'B')
+           || setweight(to_tsvector('public.dokazovi_uk',
+                                    regexp_replace(coalesce(content, ''), '<[^>]+>', ' ', 'g')), 'C')
+$$
+    LANGUAGE sql
+    IMMUTABLE;
+
+ALTER TABLE POSTS
+    ADD COLUMN IF NOT EXISTS SEARCH_VECTOR TSVECTOR;
+
+UPDATE POSTS
+SET SEARCH_VECTOR = posts_search_vector(TITLE, PREVIEW, CONTENT);
+
+CREATE INDEX IF NOT EXISTS POSTS_SEARCH_VECTOR_IDX
+    ON POSTS USING GIN (SEARCH_VECTOR);
@@ -0,0 +1,11 @@
+CREATE TABLE POST_DAILY_VIEWS
+(
+    POST_ID   INTEGER NOT NULL,
+    VIEW_DATE DATE    NOT NULL,
+    VIEWS     INTEGER NOT NULL,
+    CONSTRAINT POST_DAILY_VIEWS_PKEY
+        PRIMARY KEY (POST_ID, VIEW_DATE)
+);
+
+CREATE INDEX POST_DAILY_VIEWS_VIEW_DATE_IDX
+    ON POST_DAILY_VIEWS (VIEW_DATE);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS POSTS_IMPORTANCE_ORDER_IDX
+    ON POSTS (IMPORTANCE_ORDER)
+    WHERE IMPORTANT = TRUE OR IMPORTANCE_ORDER IS NOT NULL;
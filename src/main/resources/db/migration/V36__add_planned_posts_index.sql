@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS POSTS_PLANNED_PUBLICATION_IDX
+    ON POSTS (PUBLISHED_AT)
+    WHERE STATUS = 'PLANNED';
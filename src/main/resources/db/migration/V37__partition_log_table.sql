@@ -0,0 +1,81 @@
+-- The change log is append-only and is searched by substrings of titles and changer names,
+-- so it is partitioned by month and the substring filters are served by trigram indexes.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE LOG
+    RENAME TO LOG_UNPARTITIONED;
+ALTER TABLE LOG_UNPARTITIONED
+    RENAME CONSTRAINT LOG_PKEY TO LOG_UNPARTITIONED_PKEY;
+
+CREATE TABLE LOG
+(
+    LOG_ID             INTEGER   NOT NULL DEFAULT nextval('log_log_id_seq'),
+    TITLE              VARCHAR,
+    DATE_OF_CHANGE     TIMESTAMP NOT NULL DEFAULT NOW(),
+    CHANGES            VARCHAR,
+    NAME_OF_CHANGER    VARCHAR,
+    ID_OF_CHANGED_POST INTEGER,
+    PRIMARY KEY (LOG_ID, DATE_OF_CHANGE)
+) PARTITION BY RANGE (DATE_OF_CHANGE);
+
+ALTER SEQUENCE log_log_id_seq OWNED BY LOG.LOG_ID;
+
+-- Catches entries of months whose partition was not created in time.
+CREATE TABLE LOG_DEFAULT PARTITION OF LOG DEFAULT;
+
+CREATE OR REPLACE FUNCTION create_log_partition(month DATE)
+    RETURNS TEXT
+AS
+$$
+DECLARE
+    partition_start DATE := date_trunc('month', month);
+    partition_name  TEXT := 'log_' || to_char(partition_start, 'YYYY_MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF log FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, partition_start, partition_start + INTERVAL '1 month');
+    RETURN partition_name;
+END
+$$
+    LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION detach_log_partitions(before DATE)
+    RETURNS SETOF TEXT
+AS
+$$
+DECLARE
+    partition_name TEXT;
+BEGIN
+    FOR partition_name IN
+        SELECT child.relname
+        FROM pg_inherits
+                 JOIN pg_class parent ON parent.oid = pg_inherits.inhparent
+                 JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+        WHERE parent.relname = 'log'
+          AND child.relname ~ '^log_[0-9]{4}_[0-9]{2}$'
+          AND to_date(substring(child.relname FROM 5), 'YYYY_MM') + INTERVAL '1 month' <= before
+        ORDER BY child.relname
+        LOOP
+            EXECUTE format('ALTER TABLE log DETACH PARTITION %I', partition_name);
+            RETURN NEXT partition_name;
+        END LOOP;
+END
+$$
+    LANGUAGE plpgsql;
+
+SELECT create_log_partition(month::DATE)
+FROM generate_series(date_trunc('month', (SELECT coalesce(min(DATE_OF_CHANGE), now()) FROM LOG_UNPARTITIONED)),
+                     date_trunc('month', now()) + INTERVAL '2 months',
+                     INTERVAL '1 month') AS month;
+
+INSERT INTO LOG (LOG_ID, TITLE, DATE_OF_CHANGE, CHANGES, NAME_OF_CHANGER, ID_OF_CHANGED_POST)
+SELECT LOG_ID, TITLE, coalesce(DATE_OF_CHANGE, now()), CHANGES, NAME_OF_CHANGER, ID_OF_CHANGED_POST
+FROM LOG_UNPARTITIONED;
+
+DROP TABLE LOG_UNPARTITIONED;
+
+CREATE INDEX LOG_DATE_OF_CHANGE_IDX
+    ON LOG (DATE_OF_CHANGE DESC, LOG_ID DESC);
+CREATE INDEX LOG_TITLE_TRGM_IDX
+    ON LOG USING GIN (TITLE gin_trgm_ops);
+CREATE INDEX LOG_NAME_OF_CHANGER_TRGM_IDX
+    ON LOG USING GIN (NAME_OF_CHANGER gin_trgm_ops);
@@ -0,0 +1,18 @@
+-- Number of visible posts and of authors of every direction. Both are kept up to date by triggers
+-- on author_post_directions and authors_directions, and HAS_POSTS / HAS_AUTHORS follow them.
+ALTER TABLE DIRECTIONS
+    ADD COLUMN IF NOT EXISTS POST_COUNT   INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS AUTHOR_COUNT INTEGER NOT NULL DEFAULT 0;
+
+UPDATE DIRECTIONS D
+SET POST_COUNT   = (SELECT COUNT(*)
+                    FROM AUTHOR_POST_DIRECTIONS APD
+                    WHERE APD.DIRECTION_ID = D.DIRECTION_ID
+                      AND APD.VISIBLE = TRUE),
+    AUTHOR_COUNT = (SELECT COUNT(*)
+                    FROM AUTHORS_DIRECTIONS AD
+                    WHERE AD.DIRECTION_ID = D.DIRECTION_ID);
+
+UPDATE DIRECTIONS
+SET HAS_POSTS   = POST_COUNT > 0,
+    HAS_AUTHORS = AUTHOR_COUNT > 0;
@@ -0,0 +1,9 @@
+-- Refresh tokens are looked up by value, revoked by user and purged by expiry date.
+CREATE INDEX IF NOT EXISTS REFRESHTOKEN_TOKEN_IDX
+    ON REFRESHTOKEN (TOKEN);
+
+CREATE INDEX IF NOT EXISTS REFRESHTOKEN_USER_ID_IDX
+    ON REFRESHTOKEN (USER_ID);
+
+CREATE INDEX IF NOT EXISTS REFRESHTOKEN_EXPIRY_DATE_IDX
+    ON REFRESHTOKEN (EXPIRY_DATE);
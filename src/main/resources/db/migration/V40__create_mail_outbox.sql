@@ -0,0 +1,21 @@
+-- Outgoing mail. Rows are written in the transaction that sends the mail and delivered by
+-- MailOutboxDispatcher; PENDING rows are due at NEXT_ATTEMPT_AT, SENT and FAILED rows are kept as a record.
+CREATE TABLE IF NOT EXISTS MAIL_OUTBOX
+(
+    MAIL_ID         BIGSERIAL    NOT NULL
+        CONSTRAINT MAIL_OUTBOX_PKEY
+            PRIMARY KEY,
+    RECIPIENT       VARCHAR(255) NOT NULL,
+    SUBJECT         VARCHAR(255) NOT NULL,
+    BODY            TEXT         NOT NULL,
+    STATUS          VARCHAR(10)  NOT NULL DEFAULT 'PENDING',
+    ATTEMPTS        INTEGER      NOT NULL DEFAULT 0,
+    NEXT_ATTEMPT_AT TIMESTAMP    NOT NULL DEFAULT NOW(),
+    LAST_ERROR      TEXT,
+    CREATED_AT      TIMESTAMP    NOT NULL DEFAULT NOW(),
+    SENT_AT         TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS MAIL_OUTBOX_PENDING_IDX
+    ON MAIL_OUTBOX (NEXT_ATTEMPT_AT)
+    WHERE STATUS = 'PENDING';
@@ -0,0 +1,9 @@
+-- SENT and FAILED mail is purged by MailOutboxDispatcher after mail-outbox.retention-days, since the body
+-- may carry a password reset link. SENT_AT now also records when a mail was given up as FAILED.
+UPDATE MAIL_OUTBOX
+SET SENT_AT = NEXT_ATTEMPT_AT
+WHERE STATUS = 'FAILED'
+  AND SENT_AT IS NULL;
+
+CREATE INDEX IF NOT EXISTS MAIL_OUTBOX_STATUS_SENT_AT_IDX
+    ON MAIL_OUTBOX (STATUS, SENT_AT);
@@ -0,0 +1,3 @@
+-- Whether BODY is HTML; plain text mail queued before this column keeps FALSE.
+ALTER TABLE MAIL_OUTBOX
+    ADD COLUMN IF NOT EXISTS HTML BOOLEAN NOT NULL DEFAULT FALSE;
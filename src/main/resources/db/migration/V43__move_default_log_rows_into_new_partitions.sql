@@ -0,0 +1,25 @@
+-- Entries that landed in LOG_DEFAULT because their month had no partition made CREATE TABLE ... PARTITION OF
+-- fail for that month later on. The partition is now created as a plain table, the month's entries are moved
+-- into it from LOG_DEFAULT and only then it is attached, all in one transaction.
+CREATE OR REPLACE FUNCTION create_log_partition(month DATE)
+    RETURNS TEXT
+AS
+$$
+DECLARE
+    partition_start DATE := date_trunc('month', month);
+    partition_end   DATE := date_trunc('month', month) + INTERVAL '1 month';
+    partition_name  TEXT := 'log_' || to_char(partition_start, 'YYYY_MM');
+BEGIN
+    IF to_regclass(partition_name) IS NOT NULL THEN
+        RETURN partition_name;
+    END IF;
+    EXECUTE format('CREATE TABLE %I (LIKE log INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', partition_name);
+    EXECUTE format('WITH moved AS (DELETE FROM log_default WHERE date_of_change >= %L AND date_of_change < %L '
+                       || 'RETURNING *) INSERT INTO %I SELECT * FROM moved',
+                   partition_start, partition_end, partition_name);
+    EXECUTE format('ALTER TABLE log ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, partition_start, partition_end);
+    RETURN partition_name;
+END
+$$
+    LANGUAGE plpgsql;
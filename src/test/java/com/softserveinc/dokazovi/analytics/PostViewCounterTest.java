@@ -0,0 +1,146 @@
+package com.softserveinc.dokazovi.analytics;
+
+import com.softserveinc.dokazovi.repositories.PostViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostViewCounterTest {
+
+    @Mock
+    private PostViewRepository postViewRepository;
+
+    @InjectMocks
+    private PostViewCounter postViewCounter;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(postViewCounter, "trackingEnabled", true);
+        ReflectionTestUtils.setField(postViewCounter, "maxTrackedPosts", 3);
+    }
+
+    @Test
+    void flush_writesAllViewsCountedSinceLastFlushInOneCall() throws Exception {
+        when(postViewRepository.addRealViews(anyMap())).thenReturn(Set.of(1, 2));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(() -> postViewCounter.increment(1));
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+        postViewCounter.increment(2);
+
+        postViewCounter.flush();
+
+        verify(postViewRepository).addRealViews(Map.of(1, 1000L, 2, 1L));
+    }
+
+    @Test
+    void flush_whenNothingWasViewed_doesNotTouchDatabase() {
+        postViewCounter.increment(1);
+        when(postViewRepository.addRealViews(anyMap())).thenReturn(Set.of(1));
+        postViewCounter.flush();
+
+        postViewCounter.flush();
+
+        verify(postViewRepository).addRealViews(Map.of(1, 1L));
+        verifyNoMoreInteractions(postViewRepository);
+    }
+
+    @Test
+    void flush_whenWriteFails_keepsViewsForNextFlush() {
+        when(postViewRepository.addRealViews(anyMap()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(Set.of(1));
+        postViewCounter.increment(1);
+        postViewCounter.flush();
+
+        postViewCounter.increment(1);
+        postViewCounter.flush();
+
+        verify(postViewRepository).addRealViews(Map.of(1, 1L));
+        verify(postViewRepository).addRealViews(Map.of(1, 2L));
+    }
+
+    @Test
+    void increment_whenTooManyPostsAreTracked_ignoresNewPosts() {
+        when(postViewRepository.addRealViews(anyMap())).thenReturn(Set.of(1, 2, 3));
+        for (int postId = 1; postId <= 4; postId++) {
+            postViewCounter.increment(postId);
+        }
+
+        postViewCounter.flush();
+
+        verify(postViewRepository).addRealViews(Map.of(1, 1L, 2, 1L, 3, 1L));
+    }
+
+    @Test
+    void flush_whenTooManyPostsWereTracked_countsNewPostsAfterFlush() {
+        when(postViewRepository.addRealViews(anyMap())).thenReturn(Set.of(1, 2, 3), Set.of(5));
+        for (int postId = 1; postId <= 4; postId++) {
+            postViewCounter.increment(postId);
+        }
+        postViewCounter.flush();
+
+        postViewCounter.increment(5);
+        postViewCounter.increment(5);
+        postViewCounter.flush();
+
+        verify(postViewRepository).addRealViews(Map.of(1, 1L, 2, 1L, 3, 1L));
+        verify(postViewRepository).addRealViews(Map.of(5, 2L));
+    }
+
+    @Test
+    void flush_dropsCountersOfMissingPosts() {
+        when(postViewRepository.addRealViews(anyMap())).thenReturn(Set.of(1));
+        postViewCounter.increment(1);
+        postViewCounter.increment(2);
+        postViewCounter.increment(3);
+        postViewCounter.flush();
+
+        postViewCounter.increment(4);
+        postViewCounter.increment(5);
+        postViewCounter.flush();
+
+        verify(postViewRepository).addRealViews(Map.of(4, 1L, 5, 1L));
+    }
+
+    @Test
+    void increment_whenTrackingIsOff_countsNothing() {
+        ReflectionTestUtils.setField(postViewCounter, "trackingEnabled", false);
+        postViewCounter.increment(1);
+
+        postViewCounter.flushOnShutdown();
+
+        verifyNoInteractions(postViewRepository);
+    }
+
+    @Test
+    void flushOnShutdown_writesPendingViews() {
+        when(postViewRepository.addRealViews(anyMap())).thenReturn(Set.of(1));
+        postViewCounter.increment(1);
+
+        postViewCounter.flushOnShutdown();
+
+        verify(postViewRepository).addRealViews(Map.of(1, 1L));
+    }
+}
@@ -0,0 +1,154 @@
+package com.softserveinc.dokazovi.aop;
+
+import com.softserveinc.dokazovi.entity.LogEntity;
+import com.softserveinc.dokazovi.repositories.AuditLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogQueueTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    private MeterRegistry meterRegistry;
+    private AuditLogQueue auditLogQueue;
+
+    @BeforeEach
+    void init() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditLogQueue = new AuditLogQueue(auditLogRepository, meterRegistry, 3, 2, 2);
+    }
+
+    @Test
+    void add_doesNotTouchDatabase() {
+        auditLogQueue.add(entry("first"));
+
+        verifyNoInteractions(auditLogRepository);
+        assertEquals(1, meterRegistry.get("audit.log.queue.size").gauge().value());
+    }
+
+    @Test
+    void flush_writesQueuedEntriesInBatches() {
+        LogEntity first = entry("first");
+        LogEntity second = entry("second");
+        LogEntity third = entry("third");
+        auditLogQueue.add(first);
+        auditLogQueue.add(second);
+        auditLogQueue.add(third);
+
+        auditLogQueue.flush();
+
+        InOrder inOrder = inOrder(auditLogRepository);
+        inOrder.verify(auditLogRepository).insertAll(List.of(first, second));
+        inOrder.verify(auditLogRepository).insertAll(List.of(third));
+        assertEquals(0, meterRegistry.get("audit.log.queue.size").gauge().value());
+    }
+
+    @Test
+    void add_whenQueueIsFull_dropsEntry() {
+        for (int i = 0; i < 4; i++) {
+            auditLogQueue.add(entry("entry " + i));
+        }
+
+        assertEquals(3, meterRegistry.get("audit.log.queue.size").gauge().value());
+        assertEquals(1, meterRegistry.get("audit.log.dropped").counter().count());
+    }
+
+    @Test
+    void flush_whenWriteFails_retriesBatchOnNextFlush() {
+        LogEntity first = entry("first");
+        doThrow(new QueryTimeoutException("timeout")).doNothing().when(auditLogRepository).insertAll(anyList());
+        auditLogQueue.add(first);
+
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+
+        verify(auditLogRepository, times(2)).insertAll(List.of(first));
+        assertEquals(0, meterRegistry.get("audit.log.dropped").counter().count());
+    }
+
+    @Test
+    void flush_whenBatchKeepsFailing_writesEntriesOneByOneAndDropsRejectedOne() {
+        LogEntity first = entry("first");
+        LogEntity second = entry("second");
+        doThrow(new DataIntegrityViolationException("too long")).when(auditLogRepository)
+                .insertAll(List.of(first, second));
+        doThrow(new DataIntegrityViolationException("too long")).when(auditLogRepository)
+                .insertAll(List.of(second));
+        auditLogQueue.add(first);
+        auditLogQueue.add(second);
+
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+
+        verify(auditLogRepository, times(2)).insertAll(List.of(first, second));
+        verify(auditLogRepository).insertAll(List.of(first));
+        verify(auditLogRepository).insertAll(List.of(second));
+        assertEquals(1, meterRegistry.get("audit.log.dropped").counter().count());
+
+        auditLogQueue.flush();
+
+        verifyNoMoreInteractions(auditLogRepository);
+    }
+
+    @Test
+    void flush_whenDatabaseIsDownWhileWritingOneByOne_keepsEntries() {
+        LogEntity first = entry("first");
+        doThrow(new QueryTimeoutException("timeout")).when(auditLogRepository).insertAll(anyList());
+        auditLogQueue.add(first);
+
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+
+        verify(auditLogRepository, times(4)).insertAll(List.of(first));
+        assertEquals(0, meterRegistry.get("audit.log.dropped").counter().count());
+    }
+
+    @Test
+    void flush_whenConnectionIsRefusedWhileWritingOneByOne_keepsEntries() {
+        LogEntity first = entry("first");
+        doThrow(new CannotGetJdbcConnectionException("Connection refused")).when(auditLogRepository)
+                .insertAll(anyList());
+        auditLogQueue.add(first);
+
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+        auditLogQueue.flush();
+
+        verify(auditLogRepository, times(4)).insertAll(List.of(first));
+        assertEquals(0, meterRegistry.get("audit.log.dropped").counter().count());
+    }
+
+    private static LogEntity entry(String changes) {
+        return LogEntity.builder()
+                .title("title")
+                .changes(changes)
+                .nameOfChanger("name")
+                .build();
+    }
+}
@@ -3,11 +3,9 @@ package com.softserveinc.dokazovi.aop;
 import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
 import com.softserveinc.dokazovi.entity.LogEntity;
 import com.softserveinc.dokazovi.entity.PostEntity;
-import com.softserveinc.dokazovi.entity.UserEntity;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
-import com.softserveinc.dokazovi.repositories.LogRepository;
+import com.softserveinc.dokazovi.repositories.AuditLogRepository;
 import com.softserveinc.dokazovi.repositories.PostRepository;
-import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.security.UserPrincipal;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -24,13 +22,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,9 +37,9 @@ import static org.mockito.Mockito.when;
 class PostLoggerTest {
 
     @Mock
-    private LogRepository logRepository;
+    private AuditLogQueue auditLogQueue;
     @Mock
-    private UserRepository userRepository;
+    private AuditLogRepository auditLogRepository;
     @Mock
     private PostRepository postRepository;
     @InjectMocks
@@ -50,8 +49,6 @@ class PostLoggerTest {
 
     private PostSaveFromUserDTO postSaveFromUserDTO;
     private UserPrincipal userPrincipal;
-    private UserEntity userEntity;
-    private PostEntity postEntity;
 
     @BeforeEach
     void setUp() {
@@ -61,14 +58,9 @@ class PostLoggerTest {
                 .title("testTitle").build();
 
         userPrincipal = UserPrincipal.builder()
-                .email("test@mail.com").build();
-
-        userEntity = UserEntity.builder()
+                .email("test@mail.com")
                 .firstName("testFirstName")
                 .lastName("testLastName").build();
-
-        postEntity = PostEntity.builder()
-                .status(PostStatus.DRAFT).build();
     }
 
     @Test
@@ -77,11 +69,14 @@ class PostLoggerTest {
 
         Object[] args = new Object[]{postSaveFromUserDTO, userPrincipal};
         when(mock.getArgs()).thenReturn(args);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
         postLogger.saveNewPost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(logEntityArgumentCaptor.getValue().getChanges(), "Створено матеріал");
+        Assertions.assertEquals(
+                logEntityArgumentCaptor.getValue().getNameOfChanger(),
+                "testLastName testFirstName");
+        verifyNoInteractions(postRepository);
     }
 
     @Test
@@ -90,12 +85,11 @@ class PostLoggerTest {
 
         Object[] args = new Object[]{userPrincipal, postSaveFromUserDTO};
         when(mock.getArgs()).thenReturn(args);
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
+        when(postRepository.findStatusById(anyInt())).thenReturn(Optional.of(PostStatus.DRAFT));
 
         postLogger.updatePost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(logEntityArgumentCaptor.getValue().getChanges(), "Оновлено матеріал");
     }
 
@@ -107,12 +101,11 @@ class PostLoggerTest {
 
         Object[] args = new Object[]{userPrincipal, postSaveFromUserDTO};
         when(mock.getArgs()).thenReturn(args);
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
+        when(postRepository.findStatusById(anyInt())).thenReturn(Optional.of(PostStatus.DRAFT));
 
         postLogger.updatePost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(logEntityArgumentCaptor.getValue().getChanges(), "Заархівовано");
     }
 
@@ -124,12 +117,11 @@ class PostLoggerTest {
 
         Object[] args = new Object[]{userPrincipal, postSaveFromUserDTO};
         when(mock.getArgs()).thenReturn(args);
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
+        when(postRepository.findStatusById(anyInt())).thenReturn(Optional.of(PostStatus.DRAFT));
 
         postLogger.updatePost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(logEntityArgumentCaptor.getValue().getChanges(), "Відправлено на модерацію");
     }
 
@@ -141,12 +133,11 @@ class PostLoggerTest {
 
         Object[] args = new Object[]{userPrincipal, postSaveFromUserDTO};
         when(mock.getArgs()).thenReturn(args);
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
+        when(postRepository.findStatusById(anyInt())).thenReturn(Optional.of(PostStatus.DRAFT));
 
         postLogger.updatePost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(
                 logEntityArgumentCaptor.getValue().getChanges(),
                 "Повернуто автору на редагування");
@@ -160,12 +151,11 @@ class PostLoggerTest {
 
         Object[] args = new Object[]{userPrincipal, postSaveFromUserDTO};
         when(mock.getArgs()).thenReturn(args);
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
+        when(postRepository.findStatusById(anyInt())).thenReturn(Optional.of(PostStatus.DRAFT));
 
         postLogger.updatePost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(logEntityArgumentCaptor.getValue().getChanges(), "Опубліковано");
     }
 
@@ -177,41 +167,56 @@ class PostLoggerTest {
 
         Object[] args = new Object[]{userPrincipal, postSaveFromUserDTO};
         when(mock.getArgs()).thenReturn(args);
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
+        when(postRepository.findStatusById(anyInt())).thenReturn(Optional.of(PostStatus.DRAFT));
 
         postLogger.updatePost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(logEntityArgumentCaptor.getValue().getChanges(), "N/A");
     }
 
     @Test
-    void deletePost() {
-        JoinPoint mock = Mockito.mock(JoinPoint.class);
+    void deletePost() throws Throwable {
+        ProceedingJoinPoint mock = Mockito.mock(ProceedingJoinPoint.class);
 
         Object[] args = new Object[]{userPrincipal, 1, true};
         when(mock.getArgs()).thenReturn(args);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
+        when(postRepository.findTitleById(anyInt())).thenReturn(Optional.of("testTitle"));
 
         postLogger.deletePost(mock);
 
-        verify(logRepository).save(logEntityArgumentCaptor.capture());
+        verify(auditLogQueue).add(logEntityArgumentCaptor.capture());
         Assertions.assertEquals(logEntityArgumentCaptor.getValue().getChanges(), "Матеріал видалено");
+        Assertions.assertEquals(logEntityArgumentCaptor.getValue().getTitle(), "testTitle");
     }
 
     @Test
-    void archivePost() {
-        JoinPoint mock = Mockito.mock(JoinPoint.class);
+    void archivePost() throws Throwable {
+        ProceedingJoinPoint mock = Mockito.mock(ProceedingJoinPoint.class);
 
         Object[] args = new Object[]{userPrincipal, 1, false};
         when(mock.getArgs()).thenReturn(args);
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.ofNullable(userEntity));
-        when(postRepository.getOne(anyInt())).thenReturn(postEntity);
 
         postLogger.deletePost(mock);
 
-        verify(logRepository, never()).save(any(LogEntity.class));
+        verify(mock).proceed();
+        verify(auditLogQueue, never()).add(any(LogEntity.class));
+    }
+
+    @Test
+    void logImportedPosts() {
+        postLogger.logImportedPosts(List.of(
+                PostEntity.builder().id(10).title("first").build(),
+                PostEntity.builder().id(11).title("second").build()), userPrincipal);
+
+        ArgumentCaptor<List<LogEntity>> batch = ArgumentCaptor.forClass(List.class);
+        verify(auditLogRepository).insertAll(batch.capture());
+        List<LogEntity> entries = batch.getValue();
+        Assertions.assertEquals(2, entries.size());
+        Assertions.assertEquals("Створено матеріал", entries.get(0).getChanges());
+        Assertions.assertEquals(10, entries.get(0).getIdOfChangedPost());
+        Assertions.assertEquals("second", entries.get(1).getTitle());
+        Assertions.assertEquals("testLastName testFirstName", entries.get(1).getNameOfChanger());
+        verifyNoInteractions(postRepository, auditLogQueue);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,55 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationPublisherTest {
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    @BeforeEach
+    void init() {
+        invalidationPublisher = new CacheInvalidationPublisher(redisTemplate, new ObjectMapper());
+    }
+
+    @Test
+    void publish_sendsKeyAsStringInJson() {
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+
+        invalidationPublisher.publish("tags", new SimpleKey(new Object(), 28));
+
+        verify(redisTemplate).convertAndSend(eq(CacheInvalidationPublisher.CHANNEL), message.capture());
+        Optional<CacheInvalidation> invalidation =
+                invalidationPublisher.read(message.getValue().getBytes(StandardCharsets.UTF_8));
+        assertTrue(invalidation.isPresent());
+        assertEquals(invalidationPublisher.getNodeId(), invalidation.get().getOriginId());
+        assertEquals("tags", invalidation.get().getCacheName());
+        assertTrue(invalidation.get().getKey().startsWith("SimpleKey ["));
+    }
+
+    @Test
+    void read_whenMessageIsNotAnInvalidation_returnsEmpty() {
+        byte[] message = "¬í\u0000\u0005sr".getBytes(StandardCharsets.ISO_8859_1);
+
+        assertEquals(Optional.empty(), invalidationPublisher.read(message));
+    }
+}
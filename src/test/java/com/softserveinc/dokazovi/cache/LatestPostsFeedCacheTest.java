@@ -0,0 +1,174 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.softserveinc.dokazovi.dto.post.PostMainPageDTO;
+import com.softserveinc.dokazovi.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LatestPostsFeedCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private FakeTicker ticker;
+    private LatestPostsFeedCache latestPostsFeedCache;
+    private AtomicInteger loads;
+    private Function<Pageable, Page<PostMainPageDTO>> loader;
+
+    @BeforeEach
+    void init() {
+        ticker = new FakeTicker();
+        latestPostsFeedCache = new LatestPostsFeedCache(2, 60_000, invalidationPublisher, ticker);
+        loads = new AtomicInteger();
+        loader = pageable -> {
+            loads.incrementAndGet();
+            return new PageImpl<>(List.of(PostMainPageDTO.builder().fieldName("media").build()));
+        };
+    }
+
+    @Test
+    void get_loadsSnapshotOnlyOnce() {
+        Pageable pageable = PageRequest.of(0, 16);
+        Page<PostMainPageDTO> first = latestPostsFeedCache.get("main", pageable, loader);
+        Page<PostMainPageDTO> second = latestPostsFeedCache.get("main", pageable, loader);
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_keepsSeparateSnapshotsPerFeedAndPage() {
+        latestPostsFeedCache.get("main", PageRequest.of(0, 16), loader);
+        latestPostsFeedCache.get("mobile", PageRequest.of(0, 16), loader);
+        latestPostsFeedCache.get("main", PageRequest.of(0, 16), loader);
+        latestPostsFeedCache.get("mobile", PageRequest.of(0, 16), loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_rebuildsSnapshotOnNextRequest() {
+        Pageable pageable = PageRequest.of(0, 16);
+        latestPostsFeedCache.get("main", pageable, loader);
+        latestPostsFeedCache.invalidate();
+        latestPostsFeedCache.get("main", pageable, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_keysSnapshotsByFeedAndPageNumberOnly() {
+        latestPostsFeedCache.get("main", PageRequest.of(0, 16), loader);
+        latestPostsFeedCache.get("main", PageRequest.of(0, 7), loader);
+        latestPostsFeedCache.get("main", PageRequest.of(0, 100), loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_whenSorted_throwsBadRequest() {
+        Pageable pageable = PageRequest.of(0, 16, Sort.by("createdAt"));
+
+        assertThrows(BadRequestException.class, () -> latestPostsFeedCache.get("main", pageable, loader));
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void get_withCachedPageSize_doesNotStoreOtherSizes() {
+        latestPostsFeedCache.get("important", PageRequest.of(0, 5), 20, loader);
+        latestPostsFeedCache.get("important", PageRequest.of(0, 5), 20, loader);
+        latestPostsFeedCache.get("important", PageRequest.of(0, 20), 20, loader);
+        latestPostsFeedCache.get("important", PageRequest.of(0, 20), 20, loader);
+
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void get_whenFull_stillStoresNewSnapshots() {
+        for (int page = 0; page < 10; page++) {
+            latestPostsFeedCache.get("main", PageRequest.of(page, 16), loader);
+        }
+
+        latestPostsFeedCache.get("main", PageRequest.of(20, 16), loader);
+        latestPostsFeedCache.get("main", PageRequest.of(20, 16), loader);
+
+        assertEquals(11, loads.get());
+    }
+
+    @Test
+    void get_afterTtl_rebuildsSnapshot() {
+        Pageable pageable = PageRequest.of(0, 16);
+        latestPostsFeedCache.get("main", pageable, loader);
+
+        ticker.advance(Duration.ofSeconds(61));
+        latestPostsFeedCache.get("main", pageable, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void invalidate_publishesInvalidationToOtherNodes() {
+        latestPostsFeedCache.invalidate();
+
+        verify(invalidationPublisher).publish("latestPostsFeed", null);
+    }
+
+    @Test
+    void evictLocal_whenOtherNodeInvalidated_dropsSnapshots() {
+        when(invalidationPublisher.getNodeId()).thenReturn("node");
+        Pageable pageable = PageRequest.of(0, 16);
+        latestPostsFeedCache.get("main", pageable, loader);
+
+        latestPostsFeedCache.evictLocal(new CacheInvalidation("other", "latestPostsFeed", null));
+        latestPostsFeedCache.get("main", pageable, loader);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void evictLocal_ignoresOwnInvalidations() {
+        when(invalidationPublisher.getNodeId()).thenReturn("node");
+        Pageable pageable = PageRequest.of(0, 16);
+        latestPostsFeedCache.get("main", pageable, loader);
+
+        latestPostsFeedCache.evictLocal(new CacheInvalidation("node", "latestPostsFeed", null));
+        latestPostsFeedCache.get("main", pageable, loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    private static final class FakeTicker implements Ticker {
+
+        private long nanos;
+
+        @Override
+        public long read() {
+            return nanos;
+        }
+
+        private void advance(Duration duration) {
+            nanos += duration.toNanos();
+        }
+    }
+}
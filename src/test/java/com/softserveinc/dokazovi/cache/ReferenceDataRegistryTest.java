@@ -0,0 +1,137 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
+import com.softserveinc.dokazovi.entity.DirectionEntity;
+import com.softserveinc.dokazovi.mapper.CityMapper;
+import com.softserveinc.dokazovi.mapper.DirectionMapper;
+import com.softserveinc.dokazovi.mapper.OriginMapper;
+import com.softserveinc.dokazovi.mapper.PostTypeMapper;
+import com.softserveinc.dokazovi.mapper.RegionMapper;
+import com.softserveinc.dokazovi.repositories.CityRepository;
+import com.softserveinc.dokazovi.repositories.DirectionRepository;
+import com.softserveinc.dokazovi.repositories.OriginRepository;
+import com.softserveinc.dokazovi.repositories.PostTypeRepository;
+import com.softserveinc.dokazovi.repositories.RegionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReferenceDataRegistryTest {
+
+    @Mock
+    private DirectionRepository directionRepository;
+    @Mock
+    private DirectionMapper directionMapper;
+    @Mock
+    private RegionRepository regionRepository;
+    @Mock
+    private RegionMapper regionMapper;
+    @Mock
+    private CityRepository cityRepository;
+    @Mock
+    private CityMapper cityMapper;
+    @Mock
+    private OriginRepository originRepository;
+    @Mock
+    private OriginMapper originMapper;
+    @Mock
+    private PostTypeRepository postTypeRepository;
+    @Mock
+    private PostTypeMapper postTypeMapper;
+    @InjectMocks
+    private ReferenceDataRegistry referenceDataRegistry;
+
+    private DirectionEntity directionEntity;
+    private DirectionDTO directionDTO;
+
+    @BeforeEach
+    void init() {
+        directionEntity = DirectionEntity.builder().id(1).name("covid-19").build();
+        directionDTO = DirectionDTO.builder().id(1).name("covid-19").hasPosts(true).build();
+    }
+
+    @Test
+    void getDirections_loadsOnceAndServesFromMemory() {
+        when(directionRepository.findAll(any(Sort.class))).thenReturn(List.of(directionEntity));
+        when(directionMapper.toDirectionDTO(directionEntity)).thenReturn(directionDTO);
+
+        ReferenceDataSnapshot<DirectionDTO> first = referenceDataRegistry.getDirections();
+        ReferenceDataSnapshot<DirectionDTO> second = referenceDataRegistry.getDirections();
+
+        assertEquals(List.of(directionDTO), first.getItems());
+        assertSame(first, second);
+        verify(directionRepository, times(1)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void invalidateDirections_whenDataIsTheSame_keepsVersion() {
+        when(directionRepository.findAll(any(Sort.class))).thenReturn(List.of(directionEntity));
+        when(directionMapper.toDirectionDTO(directionEntity)).thenReturn(directionDTO);
+
+        ReferenceDataSnapshot<DirectionDTO> first = referenceDataRegistry.getDirections();
+        referenceDataRegistry.invalidateDirections();
+        ReferenceDataSnapshot<DirectionDTO> second = referenceDataRegistry.getDirections();
+
+        assertSame(first, second);
+        verify(directionRepository, times(2)).findAll(any(Sort.class));
+    }
+
+    @Test
+    void invalidateDirections_whenDataChanged_changesVersion() {
+        DirectionDTO changedDTO = DirectionDTO.builder().id(1).name("covid-19").hasPosts(false).build();
+        when(directionRepository.findAll(any(Sort.class))).thenReturn(List.of(directionEntity));
+        when(directionMapper.toDirectionDTO(directionEntity)).thenReturn(directionDTO, changedDTO);
+
+        ReferenceDataSnapshot<DirectionDTO> first = referenceDataRegistry.getDirections();
+        referenceDataRegistry.invalidateDirections();
+        ReferenceDataSnapshot<DirectionDTO> second = referenceDataRegistry.getDirections();
+
+        assertNotEquals(first.getVersion(), second.getVersion());
+        assertEquals(List.of(changedDTO), second.getItems());
+    }
+
+    @Test
+    void getDirections_whenReloadFails_servesPreviousSnapshot() {
+        when(directionRepository.findAll(any(Sort.class)))
+                .thenReturn(List.of(directionEntity))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        when(directionMapper.toDirectionDTO(directionEntity)).thenReturn(directionDTO);
+
+        ReferenceDataSnapshot<DirectionDTO> first = referenceDataRegistry.getDirections();
+        referenceDataRegistry.invalidateDirections();
+
+        assertSame(first, referenceDataRegistry.getDirections());
+    }
+
+    @Test
+    void loadAll_loadsEveryList() {
+        when(directionRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        when(regionRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        when(cityRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        when(originRepository.findAll(any(Sort.class))).thenReturn(List.of());
+        when(postTypeRepository.findAll(any(Sort.class))).thenReturn(List.of());
+
+        referenceDataRegistry.loadAll();
+        referenceDataRegistry.getCities();
+
+        verify(cityRepository, times(1)).findAll(any(Sort.class));
+        verifyNoInteractions(cityMapper);
+    }
+}
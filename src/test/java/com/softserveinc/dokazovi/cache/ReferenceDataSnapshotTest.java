@@ -0,0 +1,32 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class ReferenceDataSnapshotTest {
+
+    @Test
+    void of_withSameItems_hasSameVersion() {
+        ReferenceDataSnapshot<PostTypeDTO> first =
+                ReferenceDataSnapshot.of("postTypes", List.of(new PostTypeDTO(1, "Aa")));
+        ReferenceDataSnapshot<PostTypeDTO> second =
+                ReferenceDataSnapshot.of("postTypes", List.of(new PostTypeDTO(1, "Aa")));
+
+        assertEquals(first.getVersion(), second.getVersion());
+    }
+
+    @Test
+    void of_whenHashCodesCollide_hasDifferentVersions() {
+        List<PostTypeDTO> first = List.of(new PostTypeDTO(1, "Aa"));
+        List<PostTypeDTO> second = List.of(new PostTypeDTO(1, "BB"));
+
+        assertEquals(first.hashCode(), second.hashCode());
+        assertNotEquals(ReferenceDataSnapshot.of("postTypes", first).getVersion(),
+                ReferenceDataSnapshot.of("postTypes", second).getVersion());
+    }
+}
@@ -0,0 +1,87 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.softserveinc.dokazovi.dto.tag.TagDTO;
+import com.softserveinc.dokazovi.entity.TagEntity;
+import com.softserveinc.dokazovi.repositories.TagRepository;
+import com.softserveinc.dokazovi.repositories.TagUsageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TagSearchIndexTest {
+
+    @Mock
+    private TagRepository tagRepository;
+    @Mock
+    private TagUsageRepository tagUsageRepository;
+    @InjectMocks
+    private TagSearchIndex tagSearchIndex;
+
+    @BeforeEach
+    void init() {
+        when(tagRepository.findAll()).thenReturn(List.of(
+                TagEntity.builder().id(1).tag("a").build(),
+                TagEntity.builder().id(2).tag("aa").build(),
+                TagEntity.builder().id(3).tag("aaa").build(),
+                TagEntity.builder().id(4).tag("aaaa").build(),
+                TagEntity.builder().id(5).tag("aaaaa").build(),
+                TagEntity.builder().id(6).tag("aaaaaa").build(),
+                TagEntity.builder().id(7).tag("aaaaaaa").build(),
+                TagEntity.builder().id(8).tag("b").build(),
+                TagEntity.builder().id(9).tag("bb").build(),
+                TagEntity.builder().id(10).tag("bbb").build(),
+                TagEntity.builder().id(11).tag("bbbb").build(),
+                TagEntity.builder().id(12).tag("Вакцинація").build(),
+                TagEntity.builder().id(13).tag("Вакцина").build()
+        ));
+        when(tagUsageRepository.findPostCountsByTagId()).thenReturn(Map.of(2, 3, 6, 7, 13, 1));
+    }
+
+    @Test
+    void search_appliesLimit() {
+        assertEquals(5, tagSearchIndex.search("a", 5).size());
+        assertEquals(4, tagSearchIndex.search("b", 5).size());
+    }
+
+    @Test
+    void search_ranksByUsage() {
+        assertEquals(List.of(6, 2, 1, 3, 4), ids(tagSearchIndex.search("a", 5)));
+    }
+
+    @Test
+    void search_ignoresCaseAndFindsSubstrings() {
+        assertEquals(List.of(13, 12), ids(tagSearchIndex.search("ВАКЦИН", 5)));
+        assertEquals(List.of(12), ids(tagSearchIndex.search("инаці", 5)));
+        assertTrue(tagSearchIndex.search("аціяв", 5).isEmpty());
+    }
+
+    @Test
+    void add_insertsTagWithoutRebuilding() {
+        tagSearchIndex.search("a", 5);
+
+        tagSearchIndex.add(14, "Вакцинатор");
+
+        assertEquals(List.of(13, 14, 12), ids(tagSearchIndex.search("вакцин", 5)));
+        verify(tagRepository, times(1)).findAll();
+    }
+
+    private static List<Integer> ids(List<TagDTO> tags) {
+        return tags.stream()
+                .map(TagDTO::getId)
+                .collect(Collectors.toList());
+    }
+}
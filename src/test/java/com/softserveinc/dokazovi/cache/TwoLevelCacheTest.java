@@ -0,0 +1,152 @@
+package com.softserveinc.dokazovi.cache;
+
+import com.softserveinc.dokazovi.config.LayeredCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TwoLevelCacheTest {
+
+    @Mock
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    private ConcurrentMapCache local;
+    private ConcurrentMapCache remote;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void init() {
+        local = new ConcurrentMapCache("tags", false);
+        remote = new ConcurrentMapCache("tags", false);
+        cache = new TwoLevelCache(local, remote, invalidationPublisher);
+    }
+
+    @Test
+    void get_whenMissingLocally_readsRemoteAndKeepsItLocally() {
+        remote.put("key", "value");
+
+        Cache.ValueWrapper value = cache.get("key");
+
+        assertNotNull(value);
+        assertEquals("value", value.get());
+        assertEquals("value", local.get("key", String.class));
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    void get_whenLoaded_storesValueInBothLevels() {
+        assertEquals("value", cache.get("key", () -> "value"));
+
+        assertEquals("value", local.get("key", String.class));
+        assertEquals("value", remote.get("key", String.class));
+    }
+
+    @Test
+    void get_whenLoadedValueIsNull_returnsNullWithoutCachingIt() {
+        assertNull(cache.get("key", () -> null));
+
+        assertNull(local.get("key"));
+        assertNull(remote.get("key"));
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    void put_whenEntryIsNew_writesBothLevelsWithoutPublishing() {
+        cache.put("key", "value");
+
+        assertEquals("value", local.get("key", String.class));
+        assertEquals("value", remote.get("key", String.class));
+        verifyNoInteractions(invalidationPublisher);
+    }
+
+    @Test
+    void put_whenValueChanges_writesBothLevelsAndPublishesInvalidation() {
+        remote.put("key", "old");
+
+        cache.put("key", "value");
+
+        assertEquals("value", local.get("key", String.class));
+        assertEquals("value", remote.get("key", String.class));
+        verify(invalidationPublisher).publish("tags", "key");
+    }
+
+    @Test
+    void put_whenValueIsNull_evictsEntry() {
+        cache.put("key", "value");
+
+        cache.put("key", null);
+
+        assertNull(local.get("key"));
+        assertNull(remote.get("key"));
+        verify(invalidationPublisher).publish("tags", "key");
+    }
+
+    @Test
+    void clear_clearsBothLevelsAndPublishesInvalidation() {
+        cache.put("key", "value");
+
+        cache.clear();
+
+        assertNull(local.get("key"));
+        assertNull(remote.get("key"));
+        verify(invalidationPublisher).publish("tags", null);
+    }
+
+    @Test
+    void evictLocalByString_dropsEntriesWithMatchingKeyString() {
+        local.put(28, "value");
+        local.put(29, "other");
+
+        cache.evictLocalByString("28");
+
+        assertNull(local.get(28));
+        assertEquals("other", local.get(29, String.class));
+    }
+
+    @Test
+    void evictLocal_keepsRemoteEntry() {
+        local.put("key", "value");
+        remote.put("key", "value");
+
+        cache.evictLocal("key");
+
+        assertNull(local.get("key"));
+        assertEquals("value", remote.get("key", String.class));
+    }
+
+    @Test
+    void layeredCacheManager_withoutRedis_createsLocalCaches() {
+        LayeredCacheManager cacheManager = new LayeredCacheManager(new LayeredCacheProperties());
+
+        Cache tags = cacheManager.getCache("tags");
+
+        assertNotNull(tags);
+        assertTrue(cacheManager.getCacheNames().contains("tags"));
+        tags.put("key", "value");
+        assertEquals("value", tags.get("key", String.class));
+    }
+
+    @Test
+    void layeredCacheManager_skipsItsOwnInvalidations() {
+        when(invalidationPublisher.getNodeId()).thenReturn("node");
+        LayeredCacheManager cacheManager =
+                new LayeredCacheManager(new LayeredCacheProperties(), null, invalidationPublisher);
+
+        cacheManager.evictLocal(new CacheInvalidation("node", "tags", "key"));
+
+        assertTrue(cacheManager.getCacheNames().isEmpty());
+    }
+}
@@ -5,6 +5,7 @@ import com.softserveinc.dokazovi.dto.payload.LoginRequest;
 import com.softserveinc.dokazovi.dto.payload.RefreshToken;
 import com.softserveinc.dokazovi.dto.payload.RefreshTokenRequest;
 import com.softserveinc.dokazovi.entity.UserEntity;
+import com.softserveinc.dokazovi.ratelimit.RequestRateLimiter;
 import com.softserveinc.dokazovi.security.RefreshTokenService;
 import com.softserveinc.dokazovi.security.TokenProvider;
 import com.softserveinc.dokazovi.security.UserPrincipal;
@@ -59,6 +60,8 @@ class AuthControllerTest {
     private ProviderService providerService;
     @Mock
     private UserService userService;
+    @Mock
+    private RequestRateLimiter requestRateLimiter;
     @InjectMocks
     private AuthController authController;
 
@@ -1,5 +1,7 @@
 package com.softserveinc.dokazovi.controller;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
+import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
 import com.softserveinc.dokazovi.service.DirectionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,12 +12,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static com.softserveinc.dokazovi.controller.EndPoints.DIRECTION;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,11 +46,27 @@ class DirectionControllerTest {
 
     @Test
     void getAllDirections() throws Exception {
+        when(directionService.findAllDirections()).thenReturn(ReferenceDataSnapshot.of("directions", List.of()));
+
         mockMvc.perform(get(DIRECTION)).andExpect(status().isOk());
 
         verify(directionService).findAllDirections();
     }
 
+    @Test
+    void getAllDirections_whenClientHasCurrentVersion_isNotModified() throws Exception {
+        ReferenceDataSnapshot<DirectionDTO> directions =
+                ReferenceDataSnapshot.of("directions", List.of(DirectionDTO.builder().id(1).name("covid-19").build()));
+        String eTag = "\"" + directions.getVersion() + "\"";
+        when(directionService.findAllDirections()).thenReturn(directions);
+
+        mockMvc.perform(get(DIRECTION))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+        mockMvc.perform(get(DIRECTION).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
     @Test
     void getAllDirectionsByUserId() throws Exception {
         String uri = DIRECTION + "/1";
@@ -16,8 +16,10 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static com.softserveinc.dokazovi.controller.EndPoints.LOG;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LOGS;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_LOGS_BY_CURSOR;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -47,4 +49,11 @@ class LogControllerTest {
 
         verify(logService).findAllPostLogs(any(Pageable.class), anyString(), anyString(), isNull(), isNull());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getPostLogsByCursor() throws Exception {
+        mockMvc.perform(get(LOG + POST_LOGS_BY_CURSOR + "?cursor=abc&title=covid")).andExpect(status().isOk());
+
+        verify(logService).findPostLogsByCursor(anyString(), eq("covid"), isNull(), isNull(), eq("abc"), eq(12));
+    }
+}
@@ -1,5 +1,6 @@
 package com.softserveinc.dokazovi.controller;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.service.OriginService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,8 +14,11 @@ import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
+
 import static com.softserveinc.dokazovi.controller.EndPoints.ORIGIN;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -39,6 +43,8 @@ class OriginControllerTest {
 
     @Test
     void getAllOrigins() throws Exception {
+        when(originService.findAllOrigins()).thenReturn(ReferenceDataSnapshot.of("origins", List.of()));
+
         mockMvc.perform(get(ORIGIN)).andExpect(status().isOk());
 
         verify(originService).findAllOrigins();
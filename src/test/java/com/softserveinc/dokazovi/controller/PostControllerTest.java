@@ -1,13 +1,17 @@
 package com.softserveinc.dokazovi.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
 import com.softserveinc.dokazovi.dto.post.PostDTO;
+import com.softserveinc.dokazovi.dto.post.PostImportResultDTO;
 import com.softserveinc.dokazovi.dto.post.PostMainPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostPublishedAtDTO;
 import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 import com.softserveinc.dokazovi.exception.BadRequestException;
 import com.softserveinc.dokazovi.security.UserPrincipal;
+import com.softserveinc.dokazovi.service.PostImportService;
 import com.softserveinc.dokazovi.service.PostService;
 import com.softserveinc.dokazovi.service.PostTypeService;
 import org.json.JSONArray;
@@ -36,6 +40,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.validation.Validator;
 
+import java.io.InputStream;
 import java.time.LocalDate;
 import java.util.HashSet;
 import java.util.List;
@@ -46,13 +51,16 @@ import static com.softserveinc.dokazovi.controller.EndPoints.POST_ALL_POSTS;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_FAKE_VIEW_COUNT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_GET_BY_IMPORTANT_IMAGE;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_GET_POST_BY_AUTHOR_ID_AND_DIRECTIONS;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_IMPORT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_IMPORTANT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_CURSOR;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_DIRECTION;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_EXPERT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_EXPERT_AND_STATUS;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_POST_TYPES_AND_ORIGINS;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_LATEST_BY_POST_TYPES_AND_ORIGINS_FOR_MOBILE;
+import static com.softserveinc.dokazovi.controller.EndPoints.POST_SEARCH;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_SET_IMPORTANT;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_TYPE;
 import static com.softserveinc.dokazovi.controller.EndPoints.POST_VIEW_COUNT;
@@ -82,6 +90,8 @@ class PostControllerTest {
     @Mock
     private PostTypeService postTypeService;
     @Mock
+    private PostImportService postImportService;
+    @Mock
     private Validator validator;
 
     @BeforeEach
@@ -150,6 +160,19 @@ class PostControllerTest {
         verify(postService).saveFromUser(eq(post), any());
     }
 
+    @Test
+    void importPosts() throws Exception {
+        when(postImportService.importPosts(any(InputStream.class), any()))
+                .thenReturn(PostImportResultDTO.builder().received(2).imported(2).errors(List.of()).build());
+
+        mockMvc.perform(post(POST + POST_IMPORT)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"authorId\": 1}, {\"authorId\": 2}]"))
+                .andExpect(status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.imported").value(2));
+        verify(postImportService).importPosts(any(InputStream.class), any());
+    }
+
     @Test
     void setPublishedAtTest_isOk() throws Exception {
         int postId = 4;
@@ -195,11 +218,11 @@ class PostControllerTest {
         Pageable pageable = PageRequest.of(0, 12);
 
         String uri = POST + POST_GET_POST_BY_AUTHOR_ID_AND_DIRECTIONS + "?authorId=1&directions=1,4";
-        PostDTO postDTO = PostDTO.builder()
+        PostCardDTO postDTO = PostCardDTO.builder()
                 .id(1)
                 .build();
 
-        Page<PostDTO> page = new PageImpl<>(List.of(postDTO));
+        Page<PostCardDTO> page = new PageImpl<>(List.of(postDTO));
 
         when(postService.findPostsByAuthorIdAndDirections(any(), any(), any())).thenReturn(page);
 
@@ -215,7 +238,7 @@ class PostControllerTest {
 
         String uri = POST + POST_GET_POST_BY_AUTHOR_ID_AND_DIRECTIONS + "?authorId=1&directions=1,4";
 
-        Page<PostDTO> page = new PageImpl<>(List.of());
+        Page<PostCardDTO> page = new PageImpl<>(List.of());
 
         when(postService.findPostsByAuthorIdAndDirections(any(), any(), any())).thenReturn(page);
 
@@ -250,6 +273,7 @@ class PostControllerTest {
 
     @Test
     void findAllPostType() throws Exception {
+        when(postTypeService.findAll()).thenReturn(ReferenceDataSnapshot.of("postTypes", List.of()));
         mockMvc.perform(get(POST + POST_TYPE)).andExpect(status().isOk());
         verify(postTypeService).findAll();
     }
@@ -333,10 +357,10 @@ class PostControllerTest {
         LocalDate startLocalDate = null;
         LocalDate endLocalDate = null;
         Pageable pageable = PageRequest.of(0, 10, Sort.by("modified_at").descending());
-        PostDTO postDTO = PostDTO.builder()
+        PostCardDTO postDTO = PostCardDTO.builder()
                 .id(1)
                 .build();
-        Page<PostDTO> page = new PageImpl<>(List.of(postDTO));
+        Page<PostCardDTO> page = new PageImpl<>(List.of(postDTO));
         Mockito.when(postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directions, types,
                         origins, statuses, title, author, null, startLocalDate, endLocalDate, pageable))
                 .thenReturn(page);
@@ -372,10 +396,10 @@ class PostControllerTest {
         LocalDate startLocalDate = null;
         LocalDate endLocalDate = null;
         Pageable pageable = PageRequest.of(0, 10, Sort.by("modified_at").descending());
-        PostDTO postDTO = PostDTO.builder()
+        PostCardDTO postDTO = PostCardDTO.builder()
                 .id(0)
                 .build();
-        Page<PostDTO> page = new PageImpl<>(List.of(postDTO));
+        Page<PostCardDTO> page = new PageImpl<>(List.of(postDTO));
 
         Mockito.when(postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directions, types,
                         origins, statuses, title, author, null, startLocalDate, endLocalDate, pageable))
@@ -456,6 +480,14 @@ class PostControllerTest {
         verify(postService, times(1)).setFakeViewsForPost(110, 150);
     }
 
+    @Test
+    void registerView() throws Exception {
+        mockMvc.perform(post(POST + "/110/view"))
+                .andExpect(status().isAccepted());
+
+        verify(postService).registerView(110);
+    }
+
     @Test
     void getFakeViewsForPost() throws Exception {
         String uri = POST + POST_FAKE_VIEW_COUNT;
@@ -470,11 +502,11 @@ class PostControllerTest {
     @Test
     void findPublishedNotImportantPostsSortedByImportantImagePresence_isOk() throws Exception {
         Pageable pageable = PageRequest.of(0, 12);
-        PostDTO postDTO = PostDTO.builder()
+        PostCardDTO postDTO = PostCardDTO.builder()
                 .id(1)
                 .importantImageUrl("http://test.test")
                 .build();
-        Page<PostDTO> page = new PageImpl<>(List.of(postDTO));
+        Page<PostCardDTO> page = new PageImpl<>(List.of(postDTO));
         Mockito.when(postService.findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
                         new HashSet<>(), new HashSet<>(), new HashSet<>(), pageable))
                 .thenReturn(page);
@@ -483,4 +515,17 @@ class PostControllerTest {
                 .andExpect(MockMvcResultMatchers.status().isOk());
     }
 
+    @Test
+    void findLatestPublishedByCursor_isOk() throws Exception {
+        mockMvc.perform(get(POST + POST_LATEST_BY_CURSOR + "?cursor=abc&size=6&directions=1,2&types=3"))
+                .andExpect(status().isOk());
+        verify(postService).findPublishedByCursor(null, Set.of(1, 2), Set.of(3), null, null, "abc", 6);
+    }
+
+    @Test
+    void searchPublished_isOk() throws Exception {
+        mockMvc.perform(get(POST + POST_SEARCH + "?query=covid&page=1&size=5"))
+                .andExpect(status().isOk());
+        verify(postService).searchPublished("covid", PageRequest.of(1, 5));
+    }
 }
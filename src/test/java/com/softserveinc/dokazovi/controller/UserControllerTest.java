@@ -3,7 +3,10 @@ package com.softserveinc.dokazovi.controller;
 import com.softserveinc.dokazovi.dto.user.UserDTO;
 import com.softserveinc.dokazovi.entity.PasswordResetTokenEntity;
 import com.softserveinc.dokazovi.entity.UserEntity;
+import com.softserveinc.dokazovi.exception.TooManyRequestsException;
+import com.softserveinc.dokazovi.exception.handler.CustomRestExceptionHandler;
 import com.softserveinc.dokazovi.pojo.UserSearchCriteria;
+import com.softserveinc.dokazovi.ratelimit.RequestRateLimiter;
 import com.softserveinc.dokazovi.security.UserPrincipal;
 import com.softserveinc.dokazovi.service.DirectionService;
 import com.softserveinc.dokazovi.service.MailSenderService;
@@ -22,6 +25,7 @@ import org.springframework.core.MethodParameter;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,6 +35,7 @@ import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
+import javax.servlet.http.HttpServletRequest;
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
@@ -51,11 +56,14 @@ import static com.softserveinc.dokazovi.entity.enumerations.RolePermission.SAVE_
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @ExtendWith(MockitoExtension.class)
@@ -74,6 +82,8 @@ class UserControllerTest {
     private PasswordResetTokenService passwordResetTokenService;
     @Mock
     private MailSenderService mailSenderService;
+    @Mock
+    private RequestRateLimiter requestRateLimiter;
     @InjectMocks
     private UserController userController;
 
@@ -259,6 +269,24 @@ class UserControllerTest {
         verify(userService).sendPasswordResetToken(userEntity, null);
     }
 
+    @Test
+    void resetPassword_whenRateLimited_returnsTooManyRequests() throws Exception {
+        String emailContent = "{\n"
+                + "  \"email\": \"igor.zaharko@gmail.com\"\n"
+                + "}";
+        doThrow(new TooManyRequestsException(1500)).when(requestRateLimiter).acquire(
+                eq(RequestRateLimiter.PASSWORD_RESET), any(HttpServletRequest.class), eq("igor.zaharko@gmail.com"));
+        MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new CustomRestExceptionHandler())
+                .build()
+                .perform(post(USER + USER_RESET_PASSWORD)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(emailContent))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"));
+        verify(userService, never()).sendPasswordResetToken(any(UserEntity.class), any());
+    }
+
     @Test
     void updatePasswordTestIsOk() throws Exception {
         String content = "{\n"
@@ -0,0 +1,105 @@
+package com.softserveinc.dokazovi.mail;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MailTemplateEngineTest {
+
+    @TempDir
+    Path templates;
+
+    @Test
+    void render_loadsTemplateFromClasspath() {
+        MailTemplateEngine engine = new MailTemplateEngine(new DefaultResourceLoader(), "classpath:template/", false);
+
+        String result = engine.render("verificationMail.html", Map.of("url", "http://localhost:8080/verify?token=1"));
+
+        assertTrue(result.contains("table"));
+        assertTrue(result.contains("href=\"http://localhost:8080/verify?token=1\""));
+        assertFalse(result.contains("{url}"));
+    }
+
+    @Test
+    void render_loadsResetPasswordTemplate() {
+        MailTemplateEngine engine = new MailTemplateEngine(new DefaultResourceLoader(), "classpath:template/", false);
+
+        String result = engine.render("resetPasswordMail.html",
+                Map.of("url", "http://localhost:8080/user/update-password?token=1&x=<b>"));
+
+        assertTrue(result.contains("href=\"http://localhost:8080/user/update-password?token=1&amp;x=&lt;b&gt;\""));
+        assertFalse(result.contains("{url}"));
+        assertFalse(result.contains("<b>"));
+    }
+
+    @Test
+    void render_substitutesFieldsAndKeepsOtherBraces() throws IOException {
+        write("mail.html", "{greeting}, {name}!{name} { color: red; }");
+        MailTemplateEngine engine = engine(false);
+
+        assertEquals("Hi, Ann &amp; &lt;Bob&gt;!Ann &amp; &lt;Bob&gt; { color: red; }",
+                engine.render("mail.html", Map.of("greeting", "Hi", "name", "Ann & <Bob>")));
+    }
+
+    @Test
+    void render_whenFieldIsMissing_throwsException() throws IOException {
+        write("mail.html", "Hi, {name}");
+        MailTemplateEngine engine = engine(false);
+
+        assertThrows(IllegalArgumentException.class, () -> engine.render("mail.html", Map.of()));
+    }
+
+    @Test
+    void render_whenTemplateDoesNotExist_throwsException() {
+        MailTemplateEngine engine = engine(false);
+
+        assertThrows(IllegalArgumentException.class, () -> engine.render("missing.html", Map.of()));
+    }
+
+    @Test
+    void render_keepsCompiledTemplate() throws IOException {
+        write("mail.html", "Hi, {name}");
+        MailTemplateEngine engine = engine(false);
+        engine.render("mail.html", Map.of("name", "Ann"));
+
+        write("mail.html", "Bye, {name}");
+
+        assertEquals("Hi, Bob", engine.render("mail.html", Map.of("name", "Bob")));
+    }
+
+    @Test
+    void render_withHotReload_compilesModifiedTemplate() throws IOException {
+        write("mail.html", "Hi, {name}");
+        MailTemplateEngine engine = engine(true);
+        engine.render("mail.html", Map.of("name", "Ann"));
+
+        write("mail.html", "Bye, {name}");
+
+        assertEquals("Bye, Bob", engine.render("mail.html", Map.of("name", "Bob")));
+    }
+
+    private MailTemplateEngine engine(boolean hotReload) {
+        return new MailTemplateEngine(new DefaultResourceLoader(), templates.toUri().toString(), hotReload);
+    }
+
+    private void write(String name, String content) throws IOException {
+        Path file = templates.resolve(name);
+        FileTime lastModified = Files.exists(file)
+                ? FileTime.from(Files.getLastModifiedTime(file).toInstant().plusSeconds(1))
+                : FileTime.from(Instant.now());
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, lastModified);
+    }
+}
@@ -0,0 +1,90 @@
+package com.softserveinc.dokazovi.ratelimit;
+
+import com.softserveinc.dokazovi.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LocalRateLimiterTest {
+
+    private static final RateLimitProperties.Limit LIMIT = new RateLimitProperties.Limit(5, Duration.ofSeconds(10));
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private LocalRateLimiter rateLimiter;
+
+    @BeforeEach
+    void init() {
+        rateLimiter = new LocalRateLimiter(10_000, now::get);
+    }
+
+    @Test
+    void tryAcquire_allowsBurstOfCapacityAndReportsWaitForNextToken() {
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+        }
+
+        assertEquals(2000, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+        now.addAndGet(500);
+        assertEquals(1500, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+    }
+
+    @Test
+    void tryAcquire_refillsOneTokenPerInterval() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT);
+        }
+
+        now.addAndGet(2000);
+
+        assertEquals(0, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+        assertEquals(2000, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+    }
+
+    @Test
+    void tryAcquire_whenBucketIsFull_doesNotSaveUnusedTokens() {
+        now.addAndGet(60_000);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+        }
+        assertEquals(2000, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+    }
+
+    @Test
+    void tryAcquire_keepsOneBucketPerKey() {
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT);
+        }
+
+        for (int client = 2; client < 1000; client++) {
+            assertEquals(0, rateLimiter.tryAcquire("login-ip:10.0.0." + client, LIMIT));
+            assertEquals(0, rateLimiter.tryAcquire("login-account:user" + client + "@mail.com", LIMIT));
+        }
+        assertEquals(2000, rateLimiter.tryAcquire("login-ip:10.0.0.1", LIMIT));
+    }
+
+    @Test
+    void tryAcquire_underContention_takesExactlyCapacityTokens() throws InterruptedException {
+        AtomicInteger acquired = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 100; i++) {
+            executor.execute(() -> {
+                if (rateLimiter.tryAcquire("login-account:user@mail.com", LIMIT) == 0) {
+                    acquired.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        assertEquals(5, acquired.get());
+    }
+}
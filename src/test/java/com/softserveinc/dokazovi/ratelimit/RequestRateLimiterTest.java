@@ -0,0 +1,71 @@
+package com.softserveinc.dokazovi.ratelimit;
+
+import com.softserveinc.dokazovi.config.RateLimitProperties;
+import com.softserveinc.dokazovi.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequestRateLimiterTest {
+
+    @Mock
+    private RateLimiter rateLimiter;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimitProperties rateLimitProperties = new RateLimitProperties();
+    private final MockHttpServletRequest request = new MockHttpServletRequest();
+    private RequestRateLimiter requestRateLimiter;
+
+    @BeforeEach
+    void init() {
+        request.setRemoteAddr("10.0.0.1");
+        requestRateLimiter = new RequestRateLimiter(rateLimiter, rateLimitProperties, meterRegistry);
+    }
+
+    @Test
+    void acquire_limitsByAddressAndByAccount() {
+        when(rateLimiter.tryAcquire(anyString(), any(RateLimitProperties.Limit.class))).thenReturn(0L);
+
+        requestRateLimiter.acquire(RequestRateLimiter.LOGIN, request, " User@Mail.com ");
+
+        verify(rateLimiter).tryAcquire(eq("login-ip:10.0.0.1"), any(RateLimitProperties.Limit.class));
+        verify(rateLimiter).tryAcquire(eq("login-account:user@mail.com"), any(RateLimitProperties.Limit.class));
+    }
+
+    @Test
+    void acquire_whenAccountRanOut_throwsAndCountsRejection() {
+        when(rateLimiter.tryAcquire(eq("login-ip:10.0.0.1"), any(RateLimitProperties.Limit.class))).thenReturn(0L);
+        when(rateLimiter.tryAcquire(eq("login-account:user@mail.com"), any(RateLimitProperties.Limit.class)))
+                .thenReturn(2500L);
+
+        TooManyRequestsException exception = assertThrows(TooManyRequestsException.class,
+                () -> requestRateLimiter.acquire(RequestRateLimiter.LOGIN, request, "user@mail.com"));
+
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.counter("rate.limit.rejected", "limit", "login-account").count());
+    }
+
+    @Test
+    void acquire_whenDisabled_admitsEverything() {
+        rateLimitProperties.setEnabled(false);
+
+        requestRateLimiter.acquire(RequestRateLimiter.PASSWORD_RESET, request, "user@mail.com");
+
+        verify(rateLimiter, never()).tryAcquire(anyString(), any(RateLimitProperties.Limit.class));
+    }
+}
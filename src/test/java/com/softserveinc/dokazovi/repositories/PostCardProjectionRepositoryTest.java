@@ -0,0 +1,88 @@
+package com.softserveinc.dokazovi.repositories;
+
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostCardProjectionRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostCardProjectionRepository postCardProjectionRepository;
+
+    @Test
+    void findAllByIds_runsSameNumberOfStatementsForAnyPageSize() {
+        postCardProjectionRepository.findAllByIds(List.of(1));
+        verify(jdbcTemplate, times(4))
+                .query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        postCardProjectionRepository.findAllByIds(IntStream.rangeClosed(1, 100).boxed().collect(Collectors.toList()));
+        verify(jdbcTemplate, times(8))
+                .query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void findAllByIds_whenNoIds_runsNoStatements() {
+        assertTrue(postCardProjectionRepository.findAllByIds(List.of()).isEmpty());
+        verify(jdbcTemplate, never())
+                .query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    void findAllByIds_assemblesPostsInRequestedOrder() throws Exception {
+        ResultSet posts = mock(ResultSet.class);
+        when(posts.getInt("POST_ID")).thenReturn(7, 3);
+        when(posts.getString("TITLE")).thenReturn("seventh", "third");
+        ResultSet tags = mock(ResultSet.class);
+        when(tags.getInt("POST_ID")).thenReturn(3);
+        when(tags.getInt("TAG_ID")).thenReturn(11);
+        when(tags.getString("TAG")).thenReturn("covid");
+        doAnswer(invocation -> {
+            String sql = invocation.getArgument(0);
+            RowCallbackHandler handler = invocation.getArgument(2);
+            if (sql.contains("FROM POSTS P")) {
+                handler.processRow(posts);
+                handler.processRow(posts);
+            } else if (sql.contains("FROM POSTS_TAGS")) {
+                handler.processRow(tags);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        List<PostCardDTO> result = postCardProjectionRepository.findAllByIds(List.of(3, 5, 7));
+
+        assertEquals(2, result.size());
+        assertEquals("third", result.get(0).getTitle());
+        assertEquals("covid", result.get(0).getTags().iterator().next().getTag());
+        assertEquals("seventh", result.get(1).getTitle());
+        assertTrue(result.get(1).getTags().isEmpty());
+        assertTrue(result.get(1).getDirections().isEmpty());
+        assertNull(result.get(1).getAuthor());
+    }
+}
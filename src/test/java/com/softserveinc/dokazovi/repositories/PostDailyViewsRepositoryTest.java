@@ -0,0 +1,80 @@
+package com.softserveinc.dokazovi.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostDailyViewsRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostDailyViewsRepository postDailyViewsRepository;
+
+    @Test
+    void findLastViewDate() {
+        when(jdbcTemplate.queryForObject(anyString(), any(SqlParameterSource.class), eq(Date.class)))
+                .thenReturn(Date.valueOf("2024-05-10"));
+
+        assertEquals(Optional.of(LocalDate.of(2024, 5, 10)), postDailyViewsRepository.findLastViewDate());
+    }
+
+    @Test
+    void mergeViews_writesAllDaysAndPostsInOneStatement() throws Exception {
+        JdbcOperations jdbcOperations = mock(JdbcOperations.class);
+        when(jdbcTemplate.getJdbcOperations()).thenReturn(jdbcOperations);
+        when(jdbcOperations.update(any(PreparedStatementCreator.class))).thenReturn(2);
+        Map<LocalDate, Map<Integer, Integer>> dailyViews = new LinkedHashMap<>();
+        dailyViews.put(LocalDate.of(2024, 5, 9), Map.of(1, 10));
+        dailyViews.put(LocalDate.of(2024, 5, 10), Map.of(2, 5));
+
+        assertEquals(2, postDailyViewsRepository.mergeViews(dailyViews, false));
+
+        ArgumentCaptor<PreparedStatementCreator> creator = ArgumentCaptor.forClass(PreparedStatementCreator.class);
+        verify(jdbcOperations).update(creator.capture());
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Array array = mock(Array.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(connection.createArrayOf(anyString(), any(Object[].class))).thenReturn(array);
+        creator.getValue().createPreparedStatement(connection);
+        verify(connection).createArrayOf("integer", new Integer[]{1, 2});
+        verify(connection).createArrayOf("date",
+                new Date[]{Date.valueOf("2024-05-09"), Date.valueOf("2024-05-10")});
+        verify(connection).createArrayOf("integer", new Integer[]{10, 5});
+        verify(statement).setBoolean(4, false);
+    }
+
+    @Test
+    void mergeViews_whenNothingWasFetched_runsNoStatement() {
+        assertEquals(0, postDailyViewsRepository.mergeViews(Map.of(), true));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
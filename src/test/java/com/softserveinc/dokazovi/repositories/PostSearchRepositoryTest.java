@@ -0,0 +1,60 @@
+package com.softserveinc.dokazovi.repositories;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.ResultSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostSearchRepositoryTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostSearchRepository postSearchRepository;
+
+    @Test
+    void findSnippetsByQuery_escapesMarkupAndMarksMatches() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getInt("POST_ID")).thenReturn(7);
+        when(resultSet.getString("SNIPPET"))
+                .thenReturn("<script>alert(1)</script> about \u0002vaccines\u0003 &amp; tests");
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(2);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        Map<Integer, String> snippets = postSearchRepository.findSnippetsByQuery("vaccines", 0, 10);
+
+        assertEquals("&lt;script&gt;alert(1)&lt;/script&gt; about <mark>vaccines</mark> &amp; tests",
+                snippets.get(7));
+    }
+
+    @Test
+    void findSnippetsByQuery_stripsMarkupFromPreviewAndContent() {
+        doAnswer(invocation -> {
+            String query = invocation.getArgument(0);
+            assertTrue(query.contains("regexp_replace(coalesce(P.PREVIEW, '') || ' ' || coalesce(P.CONTENT, '')"));
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(SqlParameterSource.class), any(RowCallbackHandler.class));
+
+        assertTrue(postSearchRepository.findSnippetsByQuery("vaccines", 0, 10).isEmpty());
+    }
+}
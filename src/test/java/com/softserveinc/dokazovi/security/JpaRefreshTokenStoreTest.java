@@ -0,0 +1,48 @@
+package com.softserveinc.dokazovi.security;
+
+import com.softserveinc.dokazovi.repositories.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JpaRefreshTokenStoreTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private JpaRefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void init() {
+        refreshTokenStore = new JpaRefreshTokenStore(refreshTokenRepository, 2);
+    }
+
+    @Test
+    void purgeExpired_deletesBatchesUntilOneComesBackShort() {
+        when(refreshTokenRepository.deleteExpired(any(Instant.class), eq(2))).thenReturn(2, 2, 1);
+
+        refreshTokenStore.purgeExpired();
+
+        verify(refreshTokenRepository, times(3)).deleteExpired(any(Instant.class), eq(2));
+    }
+
+    @Test
+    void purgeExpired_whenNothingExpired_runsOneStatement() {
+        when(refreshTokenRepository.deleteExpired(any(Instant.class), eq(2))).thenReturn(0);
+
+        refreshTokenStore.purgeExpired();
+
+        verify(refreshTokenRepository, times(1)).deleteExpired(any(Instant.class), eq(2));
+    }
+}
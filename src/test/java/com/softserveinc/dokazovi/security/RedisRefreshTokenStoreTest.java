@@ -0,0 +1,129 @@
+package com.softserveinc.dokazovi.security;
+
+import com.softserveinc.dokazovi.dto.payload.RefreshToken;
+import com.softserveinc.dokazovi.entity.UserEntity;
+import com.softserveinc.dokazovi.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisRefreshTokenStoreTest {
+
+    private static final String TOKEN = "950c9760-805e-449c-a966-2d0d5ebd86f4";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private SetOperations<String, String> setOperations;
+    @Mock
+    private UserRepository userRepository;
+
+    private RedisRefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void init() {
+        refreshTokenStore = new RedisRefreshTokenStore(redisTemplate, userRepository);
+    }
+
+    @Test
+    void save_storesTokenWithTtlAndListsItUnderUser() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        Instant expiryDate = Instant.now().plusSeconds(60);
+
+        refreshTokenStore.save(refreshToken(expiryDate));
+
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(eq("refresh-token:" + TOKEN), eq("28:" + expiryDate.toEpochMilli()),
+                ttl.capture());
+        assertTrue(ttl.getValue().getSeconds() > 0 && ttl.getValue().getSeconds() <= 60);
+        verify(setOperations).add("refresh-tokens:user:28", TOKEN);
+        verify(redisTemplate).expire("refresh-tokens:user:28", ttl.getValue());
+    }
+
+    @Test
+    void save_whenTokenAlreadyExpired_storesNothing() {
+        refreshTokenStore.save(refreshToken(Instant.now().minusSeconds(1)));
+
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    void findByToken_loadsUserOfToken() {
+        Instant expiryDate = Instant.ofEpochMilli(1700000000000L);
+        UserEntity user = UserEntity.builder().id(28).build();
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("refresh-token:" + TOKEN)).thenReturn("28:" + expiryDate.toEpochMilli());
+        when(userRepository.findById(28)).thenReturn(Optional.of(user));
+
+        RefreshToken refreshToken = refreshTokenStore.findByToken(TOKEN).orElseThrow();
+
+        assertEquals(TOKEN, refreshToken.getToken());
+        assertEquals(user, refreshToken.getUser());
+        assertEquals(expiryDate, refreshToken.getExpiryDate());
+    }
+
+    @Test
+    void findByToken_whenKeyExpired_returnsEmpty() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        assertTrue(refreshTokenStore.findByToken(TOKEN).isEmpty());
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    void deleteAllByUserId_deletesEveryTokenOfUser() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.members("refresh-tokens:user:28")).thenReturn(Set.of(TOKEN));
+
+        refreshTokenStore.deleteAllByUserId(28);
+
+        ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+        verify(redisTemplate).delete(keys.capture());
+        assertEquals(List.of("refresh-token:" + TOKEN), List.copyOf(keys.getValue()));
+        verify(redisTemplate).delete("refresh-tokens:user:28");
+    }
+
+    @Test
+    void deleteAllByUserId_whenUserHasNoTokens_deletesOnlyUserSet() {
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        refreshTokenStore.deleteAllByUserId(28);
+
+        verify(redisTemplate).delete("refresh-tokens:user:28");
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    private static RefreshToken refreshToken(Instant expiryDate) {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setUser(UserEntity.builder().id(28).build());
+        refreshToken.setToken(TOKEN);
+        refreshToken.setExpiryDate(expiryDate);
+        return refreshToken;
+    }
+}
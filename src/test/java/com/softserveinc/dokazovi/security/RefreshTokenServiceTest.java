@@ -4,7 +4,6 @@ import com.softserveinc.dokazovi.config.AppProperties;
 import com.softserveinc.dokazovi.dto.payload.RefreshToken;
 import com.softserveinc.dokazovi.entity.UserEntity;
 import com.softserveinc.dokazovi.exception.TokenRefreshException;
-import com.softserveinc.dokazovi.repositories.RefreshTokenRepository;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,7 +28,7 @@ class RefreshTokenServiceTest {
     @Mock
     UserRepository userRepository;
     @Mock
-    RefreshTokenRepository refreshTokenRepository;
+    RefreshTokenStore refreshTokenStore;
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     AppProperties appProperties;
     @Mock
@@ -54,7 +53,7 @@ class RefreshTokenServiceTest {
         refreshToken.setExpiryDate(Instant.now().plusMillis(60000L));
         when(userRepository.findById(28)).thenReturn(Optional.of(user));
         when(appProperties.getAuth().getRefreshTokenExpirationMsec()).thenReturn(60000L);
-        when(refreshTokenRepository.save(any(RefreshToken.class))).thenReturn(refreshToken);
+        when(refreshTokenStore.save(any(RefreshToken.class))).thenReturn(refreshToken);
         RefreshToken refreshTokenResult = refreshTokenService.createRefreshToken(user.getId());
         Assertions.assertEquals(refreshToken.getUser().getId(), refreshTokenResult.getUser().getId());
         Assertions.assertEquals(refreshToken.getUser(), refreshTokenResult.getUser());
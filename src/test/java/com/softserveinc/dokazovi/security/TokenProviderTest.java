@@ -1,6 +1,9 @@
 package com.softserveinc.dokazovi.security;
 
 import com.softserveinc.dokazovi.config.AppProperties;
+import com.softserveinc.dokazovi.entity.RoleEntity;
+import com.softserveinc.dokazovi.entity.enumerations.RolePermission;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
@@ -14,7 +17,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.Authentication;
 
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,4 +76,39 @@ class TokenProviderTest {
             UnsupportedJwtException, IllegalArgumentException {
         tokenProvider.validateToken(validToken);
     }
+
+    @Test
+    void parseToken_whenTokenIsInvalid_returnsEmpty() {
+        assertTrue(tokenProvider.parseToken(validToken + "x").isEmpty());
+    }
+
+    @Test
+    void getPrincipalFromClaims_buildsPrincipalFromSignedClaims() {
+        UserPrincipal userPrincipal = UserPrincipal.builder()
+                .id(28)
+                .email("test@test.com")
+                .firstName("Ivan")
+                .lastName("Petrenko")
+                .role(RoleEntity.builder()
+                        .permissions(Set.of(RolePermission.SAVE_PUBLICATION, RolePermission.DELETE_POST))
+                        .build())
+                .build();
+        Claims claims = tokenProvider.parseToken(tokenProvider.createToken(userPrincipal)).orElseThrow();
+
+        UserPrincipal actual = tokenProvider.getPrincipalFromClaims(claims).orElseThrow();
+
+        assertEquals(expectedId, actual.getId());
+        assertEquals("test@test.com", actual.getEmail());
+        assertEquals("Ivan", actual.getFirstName());
+        assertEquals("Petrenko", actual.getLastName());
+        assertEquals(Set.of(RolePermission.SAVE_PUBLICATION, RolePermission.DELETE_POST),
+                Set.copyOf(actual.getAuthorities()));
+    }
+
+    @Test
+    void getPrincipalFromClaims_whenTokenHasNoAuthorities_returnsEmpty() {
+        Claims claims = tokenProvider.parseToken(validToken).orElseThrow();
+
+        assertTrue(tokenProvider.getPrincipalFromClaims(claims).isEmpty());
+    }
 }
@@ -0,0 +1,92 @@
+package com.softserveinc.dokazovi.security;
+
+import com.softserveinc.dokazovi.config.AppProperties;
+import com.softserveinc.dokazovi.entity.RoleEntity;
+import com.softserveinc.dokazovi.entity.enumerations.RolePermission;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Date;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    private static final String SECRET = "926D96C90030DD58429D2751AC1BDBBC";
+
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+
+    private TokenProvider tokenProvider;
+    private UserPrincipalCache userPrincipalCache;
+
+    @BeforeEach
+    void init() {
+        AppProperties appProperties = new AppProperties();
+        appProperties.getAuth().setTokenSecret(SECRET);
+        appProperties.getAuth().setTokenExpirationMsec(600000L);
+        tokenProvider = new TokenProvider(appProperties);
+        userPrincipalCache = new UserPrincipalCache(tokenProvider, customUserDetailsService, appProperties,
+                60000L, 100L);
+    }
+
+    @Test
+    void get_buildsPrincipalFromClaimsWithoutLoadingUser() {
+        Claims claims = claims(new Date());
+
+        UserPrincipal first = userPrincipalCache.get(claims);
+        UserPrincipal second = userPrincipalCache.get(claims);
+
+        assertSame(first, second);
+        assertEquals(28, first.getId());
+        assertEquals(Set.of(RolePermission.SAVE_PUBLICATION), Set.copyOf(first.getAuthorities()));
+        verify(customUserDetailsService, never()).loadUserById(anyInt());
+    }
+
+    @Test
+    void get_whenUserChangedAfterTokenWasIssued_loadsUser() {
+        Claims claims = claims(new Date(System.currentTimeMillis() - 1000));
+        UserPrincipal loaded = UserPrincipal.builder().id(28).build();
+        when(customUserDetailsService.loadUserById(28)).thenReturn(loaded);
+
+        userPrincipalCache.get(claims);
+        userPrincipalCache.invalidate(28);
+
+        assertSame(loaded, userPrincipalCache.get(claims));
+        assertSame(loaded, userPrincipalCache.get(claims));
+        verify(customUserDetailsService, times(1)).loadUserById(28);
+    }
+
+    @Test
+    void get_whenTokenHasNoPrincipalClaims_loadsUser() {
+        Claims claims = claims(new Date());
+        claims.remove("authorities");
+        UserPrincipal loaded = UserPrincipal.builder().id(28).build();
+        when(customUserDetailsService.loadUserById(28)).thenReturn(loaded);
+
+        assertSame(loaded, userPrincipalCache.get(claims));
+    }
+
+    private Claims claims(Date issuedAt) {
+        UserPrincipal userPrincipal = UserPrincipal.builder()
+                .id(28)
+                .email("test@test.com")
+                .role(RoleEntity.builder().permissions(Set.of(RolePermission.SAVE_PUBLICATION)).build())
+                .build();
+        Claims claims = tokenProvider.parseToken(tokenProvider.createToken(userPrincipal)).orElseThrow();
+        claims.setIssuedAt(issuedAt);
+        return claims;
+    }
+}
@@ -14,6 +14,8 @@ import com.softserveinc.dokazovi.repositories.CityRepository;
 import com.softserveinc.dokazovi.repositories.InstitutionRepository;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.security.UserPrincipal;
+import com.softserveinc.dokazovi.security.UserPrincipalCache;
+import com.softserveinc.dokazovi.service.DirectionService;
 import org.junit.Ignore;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
@@ -50,9 +52,13 @@ class AuthorServiceImplTest {
     @Mock
     private CityRepository cityRepository;
     @Mock
+    private DirectionService directionService;
+    @Mock
     private InstitutionRepository institutionRepository;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
     @InjectMocks
     private AuthorServiceImpl authorService;
     @Captor
@@ -221,6 +227,7 @@ class AuthorServiceImplTest {
         authorService.delete(anyInt(), userPrincipal);
 
         verify(authorRepository, times(1)).delete(any(AuthorEntity.class));
+        verify(directionService).invalidateDirections();
     }
 
     @Test
@@ -1,5 +1,8 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
+import com.softserveinc.dokazovi.dto.city.CityDTO;
 import com.softserveinc.dokazovi.entity.CityEntity;
 import com.softserveinc.dokazovi.mapper.CityMapper;
 import com.softserveinc.dokazovi.repositories.CityRepository;
@@ -11,9 +14,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,17 +28,19 @@ class CityServiceImplTest {
     private CityRepository cityRepository;
     @Mock
     private CityMapper cityMapper;
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
     @InjectMocks
     private CityServiceImpl cityService;
 
     @Test
     void findAllCities() {
-        List<CityEntity> cities = List.of(new CityEntity(), new CityEntity());
+        ReferenceDataSnapshot<CityDTO> cities = ReferenceDataSnapshot.of("cities", List.of(CityDTO.builder().build()));
 
-        when(cityRepository.findAll()).thenReturn(cities);
-        cityService.findAllCities();
+        when(referenceDataRegistry.getCities()).thenReturn(cities);
 
-        verify(cityMapper, times(cities.size())).toCityDTO(any(CityEntity.class));
+        assertEquals(cities, cityService.findAllCities());
+        verifyNoInteractions(cityRepository);
     }
 
     @Test
@@ -1,5 +1,7 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
 import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
 import com.softserveinc.dokazovi.entity.DirectionEntity;
 import com.softserveinc.dokazovi.mapper.DirectionMapper;
@@ -12,15 +14,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,17 +30,20 @@ class DirectionServiceImplTest {
     private DirectionRepository directionRepository;
     @Mock
     private DirectionMapper directionMapper;
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
     @InjectMocks
     private DirectionServiceImpl directionService;
 
     @Test
     void findAllDirections() {
-        List<DirectionEntity> directions = List.of(new DirectionEntity(), new DirectionEntity());
+        ReferenceDataSnapshot<DirectionDTO> directions =
+                ReferenceDataSnapshot.of("directions", List.of(new DirectionDTO(), new DirectionDTO()));
 
-        when(directionRepository.findAll()).thenReturn(directions);
-        directionService.findAllDirections();
+        when(referenceDataRegistry.getDirections()).thenReturn(directions);
 
-        verify(directionMapper, times(directions.size())).toDirectionDTO(any(DirectionEntity.class));
+        Assertions.assertEquals(directions, directionService.findAllDirections());
+        verifyNoInteractions(directionMapper);
     }
 
     @Test
@@ -54,29 +57,11 @@ class DirectionServiceImplTest {
     }
 
     @Test
-    void updateDirectionsHasDoctorsStatusTest() {
-        directionService.updateDirectionsHasDoctorsStatus();
-        verify(directionRepository, times(1))
-                .updateDirectionsHasDoctorsStatus();
-    }
-
-    @Test
-    void updateDirectionsHasPostsByEntitiesStatusTest() {
-        List<DirectionEntity> entities = directionRepository.findAll();
-        directionService.updateDirectionsHasPostsStatusByEntities(new HashSet(entities));
-        verify(directionRepository, times(1))
-                .updateDirectionsHasPostsStatus(any());
-    }
+    void invalidateDirectionsTest() {
+        directionService.invalidateDirections();
 
-    @Test
-    void updateDirectionsHasPostsStatusTest() {
-        Set<Integer> entities = directionRepository.findAll()
-                .stream()
-                .map(DirectionEntity::getId)
-                .collect(Collectors.toSet());
-        directionService.updateDirectionsHasPostsStatus(entities);
-        verify(directionRepository, times(1))
-                .updateDirectionsHasPostsStatus(any());
+        verify(referenceDataRegistry).invalidateDirections();
+        verifyNoInteractions(directionRepository);
     }
 
     @Test
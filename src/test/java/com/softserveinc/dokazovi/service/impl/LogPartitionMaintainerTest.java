@@ -0,0 +1,69 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.softserveinc.dokazovi.repositories.AuditLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LogPartitionMaintainerTest {
+
+    @Mock
+    private AuditLogRepository auditLogRepository;
+
+    @InjectMocks
+    private LogPartitionMaintainer logPartitionMaintainer;
+
+    @BeforeEach
+    void init() {
+        ReflectionTestUtils.setField(logPartitionMaintainer, "monthsAhead", 2);
+    }
+
+    @Test
+    void maintainPartitions_createsPartitionsAheadAndChecksDefaultPartition() {
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        when(auditLogRepository.countDefaultPartitionEntries()).thenReturn(3L);
+
+        logPartitionMaintainer.maintainPartitions();
+
+        verify(auditLogRepository).createPartition(currentMonth);
+        verify(auditLogRepository).createPartition(currentMonth.plusMonths(1));
+        verify(auditLogRepository).createPartition(currentMonth.plusMonths(2));
+        verify(auditLogRepository).countDefaultPartitionEntries();
+        verify(auditLogRepository, never()).detachPartitionsBefore(any());
+    }
+
+    @Test
+    void maintainPartitions_withRetention_detachesOldPartitions() {
+        ReflectionTestUtils.setField(logPartitionMaintainer, "retentionMonths", 12);
+        LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+        when(auditLogRepository.detachPartitionsBefore(currentMonth.minusMonths(12)))
+                .thenReturn(List.of("log_2020_01"));
+
+        logPartitionMaintainer.maintainPartitions();
+
+        verify(auditLogRepository).detachPartitionsBefore(currentMonth.minusMonths(12));
+    }
+
+    @Test
+    void maintainPartitions_whenDatabaseFails_doesNotThrow() {
+        when(auditLogRepository.createPartition(any())).thenThrow(new QueryTimeoutException("timeout"));
+
+        logPartitionMaintainer.maintainPartitions();
+
+        verify(auditLogRepository, never()).countDefaultPartitionEntries();
+    }
+}
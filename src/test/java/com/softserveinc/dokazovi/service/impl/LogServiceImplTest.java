@@ -1,9 +1,12 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.dto.log.PostLogCursorPageDTO;
+import com.softserveinc.dokazovi.dto.log.PostLogDTO;
 import com.softserveinc.dokazovi.entity.LogEntity;
 import com.softserveinc.dokazovi.mapper.LogMapper;
 import com.softserveinc.dokazovi.repositories.LogRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.softserveinc.dokazovi.repositories.LogSearchRepository;
+import com.softserveinc.dokazovi.util.LogCursor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -12,15 +15,22 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,61 +42,87 @@ class LogServiceImplTest {
     @Mock
     private LogRepository logRepository;
     @Mock
-    private LogMapper logMapper;
+    private LogSearchRepository logSearchRepository;
     @Mock
-    private Pageable pageable;
+    private LogMapper logMapper;
     @InjectMocks
     private LogServiceImpl logService;
 
-    @BeforeEach
-    void setUp() {
-    }
+    private final Pageable pageable = PageRequest.of(0, 12);
 
     @Test
     void findAllPostLogsWithoutParameters() {
-        Page<LogEntity> postLogDTOS = new PageImpl<>(List.of(new LogEntity(), new LogEntity()));
+        when(logSearchRepository.findPage(isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(List.of(new LogEntity(), new LogEntity()));
 
-        when(logRepository.findAll(any(Pageable.class))).thenReturn(postLogDTOS);
-        logService.findAllPostLogs(pageable, null, null, null, null);
+        Page<PostLogDTO> logs = logService.findAllPostLogs(pageable, null, null, null, null);
 
-        verify(logRepository).findAll(any(Pageable.class));
+        assertEquals(2, logs.getTotalElements());
         verify(logMapper, times(2)).toPostLogDTO(any(LogEntity.class));
+        verify(logSearchRepository, never()).count(any(), any(), any(), any());
     }
 
     @Test
-    void findAllPostLogsWithUsername() {
-        Page<LogEntity> postLogDTOS = new PageImpl<>(List.of(new LogEntity(), new LogEntity()));
+    void findAllPostLogsCombinesAllFilters() {
+        when(logSearchRepository.findPage(eq("testUsername"), eq("testTitle"), any(Timestamp.class),
+                any(Timestamp.class), any(Pageable.class)))
+                .thenReturn(List.of(new LogEntity()));
 
-        when(logRepository.findAllByNameOfChangerContainingIgnoreCase(any(Pageable.class), anyString()))
-                .thenReturn(postLogDTOS);
-        logService.findAllPostLogs(pageable, "testUsername", null, null, null);
+        logService.findAllPostLogs(pageable, " testUsername ", "testTitle", LocalDate.now(), LocalDate.now());
 
-        verify(logRepository).findAllByNameOfChangerContainingIgnoreCase(any(Pageable.class), anyString());
-        verify(logMapper, times(2)).toPostLogDTO(any(LogEntity.class));
+        verify(logSearchRepository).findPage(eq("testUsername"), eq("testTitle"), any(Timestamp.class),
+                any(Timestamp.class), eq(pageable));
     }
 
     @Test
-    void findAllPostLogsWithTitle() {
-        Page<LogEntity> postLogDTOS = new PageImpl<>(List.of(new LogEntity(), new LogEntity()));
+    void findAllPostLogsWithBlankParameters() {
+        logService.findAllPostLogs(pageable, "", " ", null, LocalDate.now());
 
-        when(logRepository.findAllByTitleContainingIgnoreCase(any(Pageable.class), anyString()))
-                .thenReturn(postLogDTOS);
-        logService.findAllPostLogs(pageable, null, "testTitle", null, null);
+        verify(logSearchRepository).findPage(isNull(), isNull(), isNull(), any(Timestamp.class), eq(pageable));
+    }
 
-        verify(logRepository).findAllByTitleContainingIgnoreCase(any(Pageable.class), anyString());
-        verify(logMapper, times(2)).toPostLogDTO(any(LogEntity.class));
+    @Test
+    void findAllPostLogsCountsWhenPageIsFull() {
+        when(logSearchRepository.findPage(isNull(), isNull(), isNull(), isNull(), any(Pageable.class)))
+                .thenReturn(List.of(new LogEntity(), new LogEntity()));
+        when(logSearchRepository.count(isNull(), isNull(), isNull(), isNull())).thenReturn(7L);
+
+        Page<PostLogDTO> logs = logService.findAllPostLogs(PageRequest.of(0, 2), null, null, null, null);
+
+        assertEquals(7, logs.getTotalElements());
+    }
+
+    @Test
+    void findPostLogsByCursorReturnsNextCursor() {
+        Timestamp dateOfChange = Timestamp.valueOf("2021-03-01 10:15:30");
+        LogEntity first = LogEntity.builder().id(3).build();
+        LogEntity second = LogEntity.builder().id(2).build();
+        LogEntity third = LogEntity.builder().id(1).build();
+        when(logSearchRepository.findBeforeCursor(isNull(), isNull(), isNull(), isNull(), any(Timestamp.class),
+                anyInt(), eq(3)))
+                .thenReturn(List.of(first, second, third));
+        when(logMapper.toPostLogDTO(first)).thenReturn(PostLogDTO.builder().id(3).dateOfChange(dateOfChange).build());
+        when(logMapper.toPostLogDTO(second)).thenReturn(PostLogDTO.builder().id(2).dateOfChange(dateOfChange).build());
+        when(logMapper.toPostLogDTO(third)).thenReturn(PostLogDTO.builder().id(1).dateOfChange(dateOfChange).build());
+
+        PostLogCursorPageDTO page = logService.findPostLogsByCursor(null, null, null, null, null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        LogCursor nextCursor = LogCursor.decode(page.getNextCursor());
+        assertEquals(dateOfChange, nextCursor.getDateOfChange());
+        assertEquals(2, nextCursor.getLogId());
     }
 
     @Test
-    void findAllPostLogsWithTimestamps() {
-        Page<LogEntity> postLogDTOS = new PageImpl<>(List.of(new LogEntity(), new LogEntity()));
+    void findPostLogsByCursorOnLastPage() {
+        when(logSearchRepository.findBeforeCursor(isNull(), eq("testTitle"), isNull(), isNull(),
+                any(Timestamp.class), anyInt(), anyInt()))
+                .thenReturn(List.of(new LogEntity()));
 
-        when(logRepository.findByDateOfChangeBetween(any(Pageable.class), any(Timestamp.class), any(Timestamp.class)))
-                .thenReturn(postLogDTOS);
-        logService.findAllPostLogs(pageable, null, null, LocalDate.now(), null);
+        PostLogCursorPageDTO page = logService.findPostLogsByCursor(null, "testTitle", null, null, null, 12);
 
-        verify(logRepository).findByDateOfChangeBetween(any(Pageable.class),
-                any(Timestamp.class), any(Timestamp.class));
-        verify(logMapper, times(2)).toPostLogDTO(any(LogEntity.class));
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
     }
-}
\ No newline at end of file
+}
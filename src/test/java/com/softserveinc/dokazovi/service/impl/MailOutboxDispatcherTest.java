@@ -0,0 +1,162 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.softserveinc.dokazovi.entity.MailOutboxEntity;
+import com.softserveinc.dokazovi.repositories.MailOutboxRepository;
+import com.softserveinc.dokazovi.util.SmtpStandIn;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MailOutboxDispatcherTest {
+
+    @Mock
+    private MailOutboxRepository mailOutboxRepository;
+
+    private SmtpStandIn smtpServer;
+    private JavaMailSenderImpl mailSender;
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void init() throws IOException {
+        smtpServer = new SmtpStandIn();
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(smtpServer.getPort());
+        Properties properties = new Properties();
+        properties.setProperty("mail.smtp.from", "noreply@dokazovi.com");
+        properties.setProperty("mail.smtp.timeout", "5000");
+        properties.setProperty("mail.smtp.connectiontimeout", "5000");
+        mailSender.setJavaMailProperties(properties);
+        dispatcher = new MailOutboxDispatcher(mailOutboxRepository, mailSender, new SimpleMeterRegistry(),
+                10, 3, 1000, 3000, 60000, 7, 2);
+    }
+
+    @AfterEach
+    void close() throws IOException {
+        smtpServer.close();
+    }
+
+    @Test
+    void dispatch_sendsBatchOverOneConnection() {
+        when(mailOutboxRepository.claimDue(any(Instant.class), any(Instant.class), eq(10)))
+                .thenReturn(List.of(mail(1L, "first@mail.com", 0), mail(2L, "second@mail.com", 0)));
+
+        dispatcher.dispatch();
+
+        assertEquals(1, smtpServer.getConnections());
+        assertEquals(2, smtpServer.getReceivedMail().size());
+        assertEquals(List.of("first@mail.com"), smtpServer.getReceivedMail().get(0).getRecipients());
+        assertTrue(smtpServer.getReceivedMail().get(0).getData().contains("Subject: Reset password"));
+        verify(mailOutboxRepository).markSent(eq(List.of(1L, 2L)), any(Instant.class));
+        verify(mailOutboxRepository, never()).markFailed(anyLong(), anyString(), any(Instant.class), anyBoolean());
+    }
+
+    @Test
+    void dispatch_sendsHtmlMailAsHtml() {
+        MailOutboxEntity html = mail(1L, "first@mail.com", 0);
+        html.setBody("<a href=\"http://localhost\">Reset</a>");
+        html.setHtml(true);
+        when(mailOutboxRepository.claimDue(any(Instant.class), any(Instant.class), eq(10)))
+                .thenReturn(List.of(html, mail(2L, "second@mail.com", 0)));
+
+        dispatcher.dispatch();
+
+        assertTrue(smtpServer.getReceivedMail().get(0).getData().contains("Content-Type: text/html"));
+        assertTrue(smtpServer.getReceivedMail().get(1).getData().contains("Content-Type: text/plain"));
+    }
+
+    @Test
+    void dispatch_whenRecipientIsRejected_retriesOnlyThatMailWithBackoff() {
+        smtpServer.reject("unknown@mail.com");
+        when(mailOutboxRepository.claimDue(any(Instant.class), any(Instant.class), eq(10)))
+                .thenReturn(List.of(mail(1L, "unknown@mail.com", 1), mail(2L, "second@mail.com", 0)));
+        Instant before = Instant.now();
+
+        dispatcher.dispatch();
+
+        assertEquals(1, smtpServer.getReceivedMail().size());
+        verify(mailOutboxRepository).markSent(eq(List.of(2L)), any(Instant.class));
+        verify(mailOutboxRepository).markFailed(eq(1L), any(),
+                argThat(nextAttemptAt -> !nextAttemptAt.isBefore(before.plus(Duration.ofMillis(2000)))), eq(false));
+    }
+
+    @Test
+    void dispatch_whenServerIsDown_retriesAllAndGivesUpAfterMaxAttempts() throws IOException {
+        smtpServer.close();
+        when(mailOutboxRepository.claimDue(any(Instant.class), any(Instant.class), eq(10)))
+                .thenReturn(List.of(mail(1L, "first@mail.com", 0), mail(2L, "second@mail.com", 2)));
+
+        dispatcher.dispatch();
+
+        verify(mailOutboxRepository).markSent(eq(List.of()), any(Instant.class));
+        verify(mailOutboxRepository).markFailed(eq(1L), any(), any(Instant.class), eq(false));
+        verify(mailOutboxRepository).markFailed(eq(2L), any(), any(Instant.class), eq(true));
+    }
+
+    @Test
+    void dispatch_whenNothingIsDue_sendsNothing() {
+        when(mailOutboxRepository.claimDue(any(Instant.class), any(Instant.class), anyInt()))
+                .thenReturn(List.of());
+
+        dispatcher.dispatch();
+
+        assertEquals(0, smtpServer.getConnections());
+        verify(mailOutboxRepository, never()).markSent(any(), any(Instant.class));
+    }
+
+    @Test
+    void purgeFinished_deletesBatchesOlderThanRetention() {
+        when(mailOutboxRepository.deleteFinishedBefore(any(Instant.class), eq(2))).thenReturn(2, 2, 1);
+        Instant before = Instant.now().minus(Duration.ofDays(7));
+
+        dispatcher.purgeFinished();
+
+        verify(mailOutboxRepository, times(3)).deleteFinishedBefore(
+                argThat(cutoff -> !cutoff.isBefore(before) && cutoff.isBefore(before.plusSeconds(60))), eq(2));
+    }
+
+    @Test
+    void purgeFinished_whenNothingIsFinished_runsOneStatement() {
+        when(mailOutboxRepository.deleteFinishedBefore(any(Instant.class), eq(2))).thenReturn(0);
+
+        dispatcher.purgeFinished();
+
+        verify(mailOutboxRepository, times(1)).deleteFinishedBefore(any(Instant.class), eq(2));
+    }
+
+    private static MailOutboxEntity mail(Long id, String recipient, int attempts) {
+        return MailOutboxEntity.builder()
+                .id(id)
+                .recipient(recipient)
+                .subject("Reset password")
+                .body("Change your password")
+                .attempts(attempts)
+                .build();
+    }
+}
@@ -1,8 +1,8 @@
 package com.softserveinc.dokazovi.service.impl;
 
-import com.softserveinc.dokazovi.entity.OriginEntity;
-import com.softserveinc.dokazovi.mapper.OriginMapper;
-import com.softserveinc.dokazovi.repositories.OriginRepository;
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
+import com.softserveinc.dokazovi.dto.origin.OriginDTO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -11,28 +11,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import java.util.List;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.times;
-import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class OriginServiceImplTest {
     @Mock
-    private OriginRepository originRepository;
-    @Mock
-    private OriginMapper originMapper;
+    private ReferenceDataRegistry referenceDataRegistry;
     @InjectMocks
     private OriginServiceImpl originService;
 
     @Test
     void findAllOrigins() {
-        List<OriginEntity> origins = List.of(new OriginEntity(), new OriginEntity());
+        List<OriginDTO> origins = List.of(new OriginDTO(), new OriginDTO());
 
-        when(originRepository.findAll()).thenReturn(origins);
-        originService.findAllOrigins();
+        when(referenceDataRegistry.getOrigins()).thenReturn(ReferenceDataSnapshot.of("origins", origins));
 
-        verify(originMapper, times(origins.size())).toOriginDTO(any(OriginEntity.class));
-        assertEquals(originService.findAllOrigins().size(), origins.size());
+        assertEquals(originService.findAllOrigins().getItems().size(), origins.size());
     }
 }
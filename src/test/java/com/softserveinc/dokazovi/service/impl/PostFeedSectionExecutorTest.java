@@ -0,0 +1,142 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PostFeedSectionExecutorTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ThreadPoolTaskExecutor threadPoolTaskExecutor;
+    private PostFeedSectionExecutor postFeedSectionExecutor;
+
+    @BeforeEach
+    void init() {
+        threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(4);
+        threadPoolTaskExecutor.initialize();
+        postFeedSectionExecutor = new PostFeedSectionExecutor(threadPoolTaskExecutor, transactionManager);
+        ReflectionTestUtils.setField(postFeedSectionExecutor, "parallelEnabled", true);
+        ReflectionTestUtils.setField(postFeedSectionExecutor, "sectionTimeoutMs", 500L);
+    }
+
+    @AfterEach
+    void shutdown() {
+        threadPoolTaskExecutor.shutdown();
+    }
+
+    @Test
+    void execute_returnsAllSectionsInFeedOrder() {
+        Map<String, Supplier<List<Integer>>> sections = new LinkedHashMap<>();
+        sections.put("expertOpinion", () -> List.of(1));
+        sections.put("media", () -> List.of(2));
+        sections.put("translation", () -> List.of(3));
+        sections.put("video", () -> List.of(4));
+
+        Map<String, List<Integer>> results = postFeedSectionExecutor.execute(sections);
+
+        assertEquals(List.of("expertOpinion", "media", "translation", "video"), List.copyOf(results.keySet()));
+        assertEquals(List.of(3), results.get("translation"));
+        verify(transactionManager, times(4)).getTransaction(any());
+    }
+
+    @Test
+    void execute_leavesOutSlowSection() {
+        Map<String, Supplier<List<Integer>>> sections = new LinkedHashMap<>();
+        sections.put("media", () -> List.of(1));
+        sections.put("video", () -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(2);
+        });
+
+        Map<String, List<Integer>> results = postFeedSectionExecutor.execute(sections);
+
+        assertEquals(Map.of("media", List.of(1)), results);
+    }
+
+    @Test
+    void execute_leavesOutFailedSection() {
+        Map<String, Supplier<List<Integer>>> sections = new LinkedHashMap<>();
+        sections.put("media", () -> {
+            throw new IllegalStateException("section failed");
+        });
+        sections.put("video", () -> List.of(2));
+
+        Map<String, List<Integer>> results = postFeedSectionExecutor.execute(sections);
+
+        assertEquals(Map.of("video", List.of(2)), results);
+    }
+
+    @Test
+    void execute_whenExecutorIsSaturated_leavesOutRejectedSection() {
+        ThreadPoolTaskExecutor saturatedExecutor = new ThreadPoolTaskExecutor();
+        saturatedExecutor.setCorePoolSize(1);
+        saturatedExecutor.setMaxPoolSize(1);
+        saturatedExecutor.setQueueCapacity(0);
+        saturatedExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        saturatedExecutor.initialize();
+        PostFeedSectionExecutor executor = new PostFeedSectionExecutor(saturatedExecutor, transactionManager);
+        ReflectionTestUtils.setField(executor, "parallelEnabled", true);
+        ReflectionTestUtils.setField(executor, "sectionTimeoutMs", 500L);
+        CountDownLatch release = new CountDownLatch(1);
+        Map<String, Supplier<List<Integer>>> sections = new LinkedHashMap<>();
+        sections.put("media", () -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(1);
+        });
+        sections.put("video", () -> List.of(2));
+
+        long start = System.nanoTime();
+        Map<String, List<Integer>> results = executor.execute(sections);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        release.countDown();
+        saturatedExecutor.shutdown();
+
+        assertEquals(Map.of(), results);
+        assertTrue(elapsedMs < 2_000);
+    }
+
+    @Test
+    void execute_whenParallelDisabled_runsSectionsInOneTransaction() {
+        ReflectionTestUtils.setField(postFeedSectionExecutor, "parallelEnabled", false);
+        Map<String, Supplier<List<Integer>>> sections = new LinkedHashMap<>();
+        sections.put("media", () -> List.of(1));
+        sections.put("video", () -> List.of(2));
+
+        Map<String, List<Integer>> results = postFeedSectionExecutor.execute(sections);
+
+        assertEquals(2, results.size());
+        verify(transactionManager).getTransaction(any());
+    }
+}
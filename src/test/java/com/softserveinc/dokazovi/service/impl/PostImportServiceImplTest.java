@@ -0,0 +1,232 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.softserveinc.dokazovi.aop.PostLogger;
+import com.softserveinc.dokazovi.cache.LatestPostsFeedCache;
+import com.softserveinc.dokazovi.dto.post.PostImportErrorDTO;
+import com.softserveinc.dokazovi.dto.post.PostImportResultDTO;
+import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
+import com.softserveinc.dokazovi.entity.PostEntity;
+import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
+import com.softserveinc.dokazovi.mapper.PostMapper;
+import com.softserveinc.dokazovi.repositories.PostImportRepository;
+import com.softserveinc.dokazovi.security.UserPrincipal;
+import com.softserveinc.dokazovi.service.DirectionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostImportServiceImplTest {
+
+    private static final String PUBLISHED_POST = "{\"authorId\":1,\"preview\":\"preview\",\"content\":\"content\","
+            + "\"type\":{\"id\":1},\"postStatus\":5,\"directions\":[{\"id\":1}],\"origins\":[{\"id\":1}]}";
+    private static final String PLANNED_POST = "{\"authorId\":1,\"preview\":\"preview\",\"content\":\"content\","
+            + "\"type\":{\"id\":1},\"postStatus\":4,\"directions\":[{\"id\":1},{\"id\":2}]}";
+
+    @Mock
+    private PostImportRepository postImportRepository;
+    @Mock
+    private PostMapper postMapper;
+    @Mock
+    private Validator validator;
+    @Mock
+    private DirectionService directionService;
+    @Mock
+    private LatestPostsFeedCache latestPostsFeedCache;
+    @Mock
+    private PostPublicationScheduler postPublicationScheduler;
+    @Mock
+    private PostLogger postLogger;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final UserPrincipal userPrincipal = UserPrincipal.builder().id(1).email("admin@mail.com").build();
+    private PostImportServiceImpl postImportService;
+
+    @BeforeEach
+    void init() {
+        postImportService = new PostImportServiceImpl(postImportRepository, postMapper, validator,
+                directionService, latestPostsFeedCache, postPublicationScheduler, postLogger, new ObjectMapper(),
+                transactionManager, 2);
+        lenient().when(validator.validate(any(PostSaveFromUserDTO.class))).thenReturn(Set.of());
+    }
+
+    @Test
+    void importPosts_writesPostsInBatchesWithBlockAllocatedIds() {
+        givenReferencesExist();
+        when(postImportRepository.allocatePostIds(2)).thenReturn(List.of(10, 11));
+        when(postImportRepository.allocatePostIds(1)).thenReturn(List.of(12));
+        when(postMapper.toPostEntity(any(PostSaveFromUserDTO.class))).thenAnswer(invocation -> new PostEntity());
+
+        PostImportResultDTO result = postImportService.importPosts(
+                json("[" + PUBLISHED_POST + "," + PLANNED_POST + "," + PUBLISHED_POST + "]"), userPrincipal);
+
+        assertEquals(3, result.getReceived());
+        assertEquals(3, result.getImported());
+        assertEquals(List.of(), result.getErrors());
+        ArgumentCaptor<List<PostEntity>> batches = ArgumentCaptor.forClass(List.class);
+        verify(postImportRepository, times(2)).insertAll(batches.capture());
+        assertEquals(List.of(10, 11), ids(batches.getAllValues().get(0)));
+        assertEquals(List.of(12), ids(batches.getAllValues().get(1)));
+        assertEquals(PostStatus.PLANNED, batches.getAllValues().get(0).get(1).getStatus());
+        verify(directionService).invalidateDirections();
+        verify(latestPostsFeedCache).invalidate();
+        verify(postPublicationScheduler).schedule(eq(11), any(Timestamp.class));
+        ArgumentCaptor<List<PostEntity>> logged = ArgumentCaptor.forClass(List.class);
+        verify(postLogger, times(2)).logImportedPosts(logged.capture(), eq(userPrincipal));
+        assertEquals(List.of(10, 11), ids(logged.getAllValues().get(0)));
+        assertEquals(List.of(12), ids(logged.getAllValues().get(1)));
+    }
+
+    @Test
+    void importPosts_reportsInvalidRecordsAndImportsTheRest() {
+        givenReferencesExist();
+        when(postImportRepository.allocatePostIds(1)).thenReturn(List.of(10));
+        when(postMapper.toPostEntity(any(PostSaveFromUserDTO.class))).thenAnswer(invocation -> new PostEntity());
+        when(validator.validate(any(PostSaveFromUserDTO.class))).thenAnswer(invocation -> {
+            PostSaveFromUserDTO post = invocation.getArgument(0);
+            if (post.getContent().isBlank()) {
+                return Set.of(violation("Content field cannot be empty"));
+            }
+            return Set.of();
+        });
+
+        PostImportResultDTO result = postImportService.importPosts(json("["
+                + PUBLISHED_POST.replace("\"authorId\":1", "\"authorId\":2") + ","
+                + PUBLISHED_POST.replace("\"authorId\":1", "\"authorId\":\"one\"") + ","
+                + PUBLISHED_POST.replace("\"content\":\"content\"", "\"content\":\" \"") + ","
+                + PUBLISHED_POST.replace("[{\"id\":1}],\"origins\"", "[{\"id\":3}],\"origins\"") + ","
+                + PUBLISHED_POST + "]"), userPrincipal);
+
+        assertEquals(5, result.getReceived());
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(0, 1, 2, 3), result.getErrors().stream()
+                .map(PostImportErrorDTO::getIndex)
+                .collect(Collectors.toList()));
+        assertEquals("Author 2 does not exist", result.getErrors().get(0).getMessage());
+        assertEquals("Content field cannot be empty", result.getErrors().get(2).getMessage());
+        assertEquals("Direction 3 does not exist", result.getErrors().get(3).getMessage());
+        verify(postImportRepository).findExistingDirectionIds(Set.of(1, 3));
+        verify(postImportRepository).insertAll(anyList());
+    }
+
+    @Test
+    void importPosts_checksReferencesOncePerBatch() {
+        givenReferencesExist();
+        when(postImportRepository.allocatePostIds(2)).thenReturn(List.of(10, 11));
+        when(postMapper.toPostEntity(any(PostSaveFromUserDTO.class))).thenAnswer(invocation -> new PostEntity());
+
+        PostImportResultDTO result = postImportService.importPosts(json("["
+                + PUBLISHED_POST.replace("\"type\":{\"id\":1}", "\"type\":{\"id\":7}") + ","
+                + PUBLISHED_POST.replace("\"origins\":[{\"id\":1}]", "\"origins\":[{\"id\":8}]") + ","
+                + PUBLISHED_POST + "," + PLANNED_POST + "]"), userPrincipal);
+
+        assertEquals(2, result.getImported());
+        assertEquals(List.of(
+                PostImportErrorDTO.builder().index(0).message("Post type 7 does not exist").build(),
+                PostImportErrorDTO.builder().index(1).message("Origin 8 does not exist").build()),
+                result.getErrors());
+        verify(postImportRepository).findExistingPostTypeIds(Set.of(1, 7));
+        verify(postImportRepository).findExistingOriginIds(Set.of(1, 8));
+        verify(postImportRepository, times(2)).findExistingUserIds(Set.of(1));
+        verify(postImportRepository, times(2)).findExistingDirectionIds(anySet());
+    }
+
+    @Test
+    void importPosts_whenBatchFails_writesPostsOneByOne() {
+        givenReferencesExist();
+        when(postImportRepository.allocatePostIds(2)).thenReturn(List.of(10, 11));
+        when(postMapper.toPostEntity(any(PostSaveFromUserDTO.class))).thenAnswer(invocation -> new PostEntity());
+        DataIntegrityViolationException failure = new DataIntegrityViolationException("duplicate key");
+        doThrow(failure).doNothing().doThrow(failure).when(postImportRepository).insertAll(anyList());
+
+        PostImportResultDTO result = postImportService.importPosts(
+                json("[" + PUBLISHED_POST + "," + PUBLISHED_POST + "]"), userPrincipal);
+
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(PostImportErrorDTO.builder().index(1).message("duplicate key").build()),
+                result.getErrors());
+        verify(postImportRepository, times(3)).insertAll(anyList());
+        ArgumentCaptor<List<PostEntity>> logged = ArgumentCaptor.forClass(List.class);
+        verify(postLogger).logImportedPosts(logged.capture(), eq(userPrincipal));
+        assertEquals(List.of(10), ids(logged.getValue()));
+        verify(latestPostsFeedCache).invalidate();
+    }
+
+    @Test
+    void importPosts_whenInputIsMalformed_keepsRecordsReadSoFar() {
+        givenReferencesExist();
+        when(postImportRepository.allocatePostIds(1)).thenReturn(List.of(10));
+        when(postMapper.toPostEntity(any(PostSaveFromUserDTO.class))).thenAnswer(invocation -> new PostEntity());
+
+        PostImportResultDTO result = postImportService.importPosts(json("[" + PUBLISHED_POST + ", }"), userPrincipal);
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(1, result.getErrors().get(0).getIndex());
+    }
+
+    @Test
+    void importPosts_whenNothingIsValid_writesNothing() {
+        PostImportResultDTO result = postImportService.importPosts(json("[" + PUBLISHED_POST.replace(
+                "\"authorId\":1", "\"id\":5,\"authorId\":1") + "]"), userPrincipal);
+
+        assertEquals(0, result.getImported());
+        assertEquals("Import creates new posts only, id must be empty", result.getErrors().get(0).getMessage());
+        verify(postImportRepository, never()).allocatePostIds(anyInt());
+        verify(postImportRepository, never()).insertAll(anyList());
+        verify(directionService, never()).invalidateDirections();
+        verify(postLogger, never()).logImportedPosts(anyList(), any(UserPrincipal.class));
+    }
+
+    private void givenReferencesExist() {
+        when(postImportRepository.findExistingUserIds(anySet())).thenReturn(Set.of(1));
+        when(postImportRepository.findExistingPostTypeIds(anySet())).thenReturn(Set.of(1));
+        when(postImportRepository.findExistingDirectionIds(anySet())).thenReturn(Set.of(1, 2));
+        when(postImportRepository.findExistingOriginIds(anySet())).thenReturn(Set.of(1));
+    }
+
+    private static ConstraintViolation<PostSaveFromUserDTO> violation(String message) {
+        ConstraintViolation<PostSaveFromUserDTO> violation = mock(ConstraintViolation.class);
+        when(violation.getMessage()).thenReturn(message);
+        return violation;
+    }
+
+    private static InputStream json(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<Integer> ids(List<PostEntity> posts) {
+        return posts.stream().map(PostEntity::getId).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,103 @@
+package com.softserveinc.dokazovi.service.impl;
+
+import com.softserveinc.dokazovi.cache.LatestPostsFeedCache;
+import com.softserveinc.dokazovi.repositories.PostPublicationRepository;
+import com.softserveinc.dokazovi.service.DirectionService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.TaskScheduler;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostPublicationSchedulerTest {
+
+    @Mock
+    private PostPublicationRepository postPublicationRepository;
+    @Mock
+    private LatestPostsFeedCache latestPostsFeedCache;
+    @Mock
+    private DirectionService directionService;
+    @Mock
+    private TaskScheduler taskScheduler;
+    @InjectMocks
+    private PostPublicationScheduler postPublicationScheduler;
+
+    @Test
+    void schedule_wakesUpAtPublicationTime() {
+        Instant publishAt = Instant.now().plus(Duration.ofHours(1));
+
+        postPublicationScheduler.schedule(1, Timestamp.from(publishAt));
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Date.from(publishAt)));
+        verifyNoInteractions(postPublicationRepository);
+    }
+
+    @Test
+    void publishDuePosts_publishesOnlyDuePostsInOneUpdate() {
+        when(postPublicationRepository.publish(anySet(), any(Timestamp.class))).thenReturn(List.of(1, 2));
+        postPublicationScheduler.schedule(1, Timestamp.from(Instant.now().minusSeconds(60)));
+        postPublicationScheduler.schedule(2, Timestamp.from(Instant.now().minusSeconds(30)));
+        postPublicationScheduler.schedule(3, Timestamp.from(Instant.now().plus(Duration.ofDays(1))));
+
+        postPublicationScheduler.publishDuePosts();
+
+        verify(postPublicationRepository).publish(eq(Set.of(1, 2)), any(Timestamp.class));
+        verify(latestPostsFeedCache).invalidate();
+        verify(directionService).invalidateDirections();
+    }
+
+    @Test
+    void publishDuePosts_whenPostWasPlannedForLater_skipsIt() {
+        postPublicationScheduler.schedule(1, Timestamp.from(Instant.now().minusSeconds(60)));
+        postPublicationScheduler.schedule(1, Timestamp.from(Instant.now().plus(Duration.ofDays(1))));
+
+        postPublicationScheduler.publishDuePosts();
+
+        verify(postPublicationRepository, never()).publish(anySet(), any(Timestamp.class));
+        verifyNoInteractions(directionService);
+    }
+
+    @Test
+    void publishDuePosts_whenUpdateFails_retriesLater() {
+        when(postPublicationRepository.publish(anySet(), any(Timestamp.class)))
+                .thenThrow(new QueryTimeoutException("timeout"));
+        postPublicationScheduler.schedule(1, Timestamp.from(Instant.now().minusSeconds(60)));
+
+        postPublicationScheduler.publishDuePosts();
+
+        verify(taskScheduler, times(2)).schedule(any(Runnable.class), any(Date.class));
+        verify(latestPostsFeedCache, never()).invalidate();
+    }
+
+    @Test
+    void load_queuesPlannedPublications() {
+        Instant publishAt = Instant.now().plus(Duration.ofHours(2));
+        when(postPublicationRepository.findPlannedPublications()).thenReturn(Map.of(
+                1, Timestamp.from(publishAt),
+                2, Timestamp.from(publishAt.plus(Duration.ofHours(1)))));
+
+        postPublicationScheduler.load();
+
+        verify(taskScheduler).schedule(any(Runnable.class), eq(Date.from(publishAt)));
+    }
+}
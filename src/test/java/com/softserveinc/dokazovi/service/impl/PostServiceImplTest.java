@@ -1,14 +1,20 @@
 package com.softserveinc.dokazovi.service.impl;
 
 import com.softserveinc.dokazovi.analytics.GoogleAnalytics;
+import com.softserveinc.dokazovi.analytics.PostViewCounter;
 import com.softserveinc.dokazovi.annotations.DirectionExists;
 import com.softserveinc.dokazovi.annotations.OriginExists;
 import com.softserveinc.dokazovi.annotations.TagExists;
+import com.softserveinc.dokazovi.cache.LatestPostsFeedCache;
 import com.softserveinc.dokazovi.dto.direction.DirectionDTO;
 import com.softserveinc.dokazovi.dto.direction.DirectionDTOForSavingPost;
 import com.softserveinc.dokazovi.dto.origin.OriginDTOForSavingPost;
+import com.softserveinc.dokazovi.dto.post.PostCardDTO;
+import com.softserveinc.dokazovi.dto.post.PostCursorPageDTO;
+import com.softserveinc.dokazovi.dto.post.PostMainPageDTO;
 import com.softserveinc.dokazovi.dto.post.PostPublishedAtDTO;
 import com.softserveinc.dokazovi.dto.post.PostSaveFromUserDTO;
+import com.softserveinc.dokazovi.dto.post.PostSearchResultDTO;
 import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
 import com.softserveinc.dokazovi.dto.post.PostTypeIdOnlyDTO;
 import com.softserveinc.dokazovi.dto.tag.TagDTO;
@@ -20,12 +26,18 @@ import com.softserveinc.dokazovi.entity.UserEntity;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 import com.softserveinc.dokazovi.entity.enumerations.RolePermission;
 import com.softserveinc.dokazovi.entity.enumerations.UserStatus;
+import com.softserveinc.dokazovi.exception.BadRequestException;
 import com.softserveinc.dokazovi.exception.EntityNotFoundException;
 import com.softserveinc.dokazovi.exception.ForbiddenPermissionsException;
 import com.softserveinc.dokazovi.mapper.PostMapper;
+import com.softserveinc.dokazovi.repositories.ImportantPostsRepository;
+import com.softserveinc.dokazovi.repositories.PostCardProjectionRepository;
+import com.softserveinc.dokazovi.repositories.PostDailyViewsRepository;
 import com.softserveinc.dokazovi.repositories.PostRepository;
+import com.softserveinc.dokazovi.repositories.PostSearchRepository;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.security.UserPrincipal;
+import com.softserveinc.dokazovi.util.PostCursor;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -39,29 +51,41 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.Month;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -70,6 +94,10 @@ class PostServiceImplTest {
     @Mock
     private PostRepository postRepository;
     @Mock
+    private PostCardProjectionRepository postCardProjectionRepository;
+    @Mock
+    private PostSearchRepository postSearchRepository;
+    @Mock
     private UserRepository userRepository;
     @Mock
     private PostMapper postMapper;
@@ -77,16 +105,28 @@ class PostServiceImplTest {
     private Pageable pageable;
     @InjectMocks
     private PostServiceImpl postService;
-    private Page<PostEntity> postEntityPage;
+    private Page<Integer> postIdPage;
     private UserEntity userEntity;
     @Mock
     private GoogleAnalytics googleAnalytics;
     @Mock
+    private PostViewCounter postViewCounter;
+    @Mock
+    private PostDailyViewsRepository postDailyViewsRepository;
+    @Mock
+    private ImportantPostsRepository importantPostsRepository;
+    @Mock
     private DirectionServiceImpl directionService;
+    @Mock
+    private LatestPostsFeedCache latestPostsFeedCache;
+    @Mock
+    private PostFeedSectionExecutor postFeedSectionExecutor;
+    @Mock
+    private PostPublicationScheduler postPublicationScheduler;
 
     @BeforeEach
     void init() {
-        postEntityPage = new PageImpl<>(List.of(new PostEntity(), new PostEntity()));
+        postIdPage = new PageImpl<>(List.of(1, 2));
         Set<RolePermission> rolePermissions = new HashSet<>();
         rolePermissions.add(RolePermission.SAVE_OWN_PUBLICATION);
         RoleEntity roleEntity = RoleEntity.builder()
@@ -267,25 +307,37 @@ class PostServiceImplTest {
 
     @Test
     void findAllByStatus() {
-        when(postRepository.findAllByStatus(any(PostStatus.class), any(Pageable.class))).thenReturn(postEntityPage);
-        postService.findAllByStatus(PostStatus.PUBLISHED, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        Pageable pageRequest = PageRequest.of(0, 2);
+        List<PostCardDTO> posts = List.of(PostCardDTO.builder().id(1).build(), PostCardDTO.builder().id(2).build());
+        when(postRepository.findIdsByStatus(PostStatus.PUBLISHED, pageRequest))
+                .thenReturn(new PageImpl<>(List.of(1, 2), pageRequest, 12));
+        when(postCardProjectionRepository.findAllByIds(List.of(1, 2))).thenReturn(posts);
+
+        Page<PostCardDTO> page = postService.findAllByStatus(PostStatus.PUBLISHED, pageRequest);
+
+        assertEquals(posts, page.getContent());
+        assertEquals(12, page.getTotalElements());
+        verify(postMapper, never()).toPostDTO(any(PostEntity.class));
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void findImportantPosts() {
-        when(postRepository.findAllByImportantIsTrueAndStatusOrderByImportanceOrder(any(PostStatus.class),
+        when(latestPostsFeedCache.get(eq("important"), any(Pageable.class), eq(20), any()))
+                .thenAnswer(invocation -> ((Function<Pageable, Page<PostCardDTO>>) invocation.getArgument(3))
+                        .apply(invocation.getArgument(1)));
+        when(postRepository.findImportantIdsByStatus(any(PostStatus.class),
                 any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findImportantPosts(pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findPostsByAuthorIdAndDirections_WhenWrong_ThrowException() {
         Set<Integer> directions = Set.of(1, 4);
         Pageable pageable = PageRequest.of(0, 12);
-        when(postRepository.findPostsByAuthorIdAndDirections(any(), any(), any()))
+        when(postRepository.findIdsByAuthorIdAndDirections(any(), any(), any()))
                 .thenThrow(new EntityNotFoundException("Id does not exist"));
         assertThrows(EntityNotFoundException.class, () -> postService
                 .findPostsByAuthorIdAndDirections(pageable, 1, directions));
@@ -295,42 +347,42 @@ class PostServiceImplTest {
     void findPostsByAuthorIdAndDirections() {
         Set<Integer> directions = Set.of(1, 4);
         Pageable pageable = PageRequest.of(0, 12);
-        when(postRepository.findPostsByAuthorIdAndDirections(any(), any(), any()))
-                .thenReturn(postEntityPage);
+        when(postRepository.findIdsByAuthorIdAndDirections(any(), any(), any()))
+                .thenReturn(postIdPage);
         postService.findPostsByAuthorIdAndDirections(pageable, 1, directions);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByDirection() {
         Integer directionId = 1;
-        when(postRepository.findAllByDirectionsContainsAndStatus(
+        when(postRepository.findIdsByDirectionAndStatus(
                 any(DirectionEntity.class), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByDirection(directionId, null, null, PostStatus.PUBLISHED, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByDirectionAndType() {
         Integer directionId = 1;
         Set<Integer> types = Set.of(1, 2, 3);
-        when(postRepository.findAllByDirectionsContainsAndTypeIdInAndStatus(
+        when(postRepository.findIdsByDirectionAndTypesAndStatus(
                 any(DirectionEntity.class), anySet(), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByDirection(directionId, types, null, PostStatus.PUBLISHED, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByDirectionAndTags() {
         Integer directionId = 1;
         Set<Integer> tags = Set.of(1, 2, 3, 4);
-        when(postRepository.findAllByDirectionsContainsAndTagsIdInAndStatus(
+        when(postRepository.findIdsByDirectionAndTagsAndStatus(
                 any(DirectionEntity.class), anySet(), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByDirection(directionId, null, tags, PostStatus.PUBLISHED, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
@@ -338,43 +390,43 @@ class PostServiceImplTest {
         Integer directionId = 1;
         Set<Integer> types = Set.of(1, 2, 3);
         Set<Integer> tags = Set.of(1, 2, 3, 4);
-        when(postRepository.findAllByDirectionsContainsAndTypeIdInAndTagsIdInAndStatus(
+        when(postRepository.findIdsByDirectionAndTypesAndTagsAndStatus(
                 any(DirectionEntity.class), anySet(), anySet(), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByDirection(directionId, types, tags, PostStatus.PUBLISHED, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByExpert() {
         Integer expertId = 3;
-        when(postRepository.findAllByAuthorIdAndStatusOrderByPublishedAtDesc(
+        when(postRepository.findIdsByAuthorIdAndStatus(
                 any(Integer.class), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByExpertAndTypeAndDirections(expertId, null, null, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByExpertAndType() {
         Integer expertId = 5;
         Set<Integer> typeId = Set.of(1, 2);
-        when(postRepository.findAllByAuthorIdAndTypeIdInAndStatus(any(Integer.class),
+        when(postRepository.findIdsByAuthorIdAndTypesAndStatus(any(Integer.class),
                 anySet(), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByExpertAndTypeAndDirections(expertId, typeId, null, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByExpertAndDirections() {
         Integer expertId = 5;
         Set<Integer> directionId = Set.of(2, 3);
-        when(postRepository.findPostsByAuthorIdAndDirections(any(Pageable.class), any(Integer.class),
+        when(postRepository.findIdsByAuthorIdAndDirections(any(Pageable.class), any(Integer.class),
                 anySet()))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByExpertAndTypeAndDirections(expertId, null, directionId, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
@@ -382,22 +434,22 @@ class PostServiceImplTest {
         Integer expertId = 5;
         Set<Integer> directionId = Set.of(2, 3);
         Set<Integer> typeId = Set.of(1, 2);
-        when(postRepository.findAllByExpertAndByDirectionsAndByPostType(any(Integer.class),
+        when(postRepository.findIdsByExpertAndByDirectionsAndByPostType(any(Integer.class),
                 anySet(), anySet(), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByExpertAndTypeAndDirections(expertId, typeId, directionId, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByExpertAndStatus() {
         Integer expertId = 3;
         PostStatus postStatus = PostStatus.DRAFT;
-        when(postRepository.findAllByAuthorIdAndStatusOrderByPublishedAtDesc(
+        when(postRepository.findIdsByAuthorIdAndStatus(
                 any(Integer.class), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByExpertAndTypeAndStatus(expertId, null, postStatus, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
@@ -405,18 +457,16 @@ class PostServiceImplTest {
         Integer expertId = 5;
         Set<Integer> typeId = Set.of(1, 2);
         PostStatus postStatus = PostStatus.DRAFT;
-        when(postRepository.findAllByAuthorIdAndTypeIdInAndStatus(any(Integer.class),
+        when(postRepository.findIdsByAuthorIdAndTypesAndStatus(any(Integer.class),
                 anySet(), any(PostStatus.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByExpertAndTypeAndStatus(expertId, typeId, postStatus, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllPosts() {
-        PostEntity postEntity = new PostEntity();
-        PostEntity postEntity1 = new PostEntity();
-        Page<PostEntity> postEntityPage = new PageImpl<>(List.of(postEntity, postEntity1));
+        Page<Integer> postIdPage = new PageImpl<>(List.of(1, 2));
         Set<Integer> typesIds = null;
         Set<Integer> originsIds = null;
         Set<Integer> directionsIds = null;
@@ -425,17 +475,15 @@ class PostServiceImplTest {
         String title = "";
         LocalDate startDate = null;
         LocalDate endDate = null;
-        Mockito.when(postRepository.findAll(any(Pageable.class))).thenReturn(postEntityPage);
+        Mockito.when(postRepository.findPublishedIds(any(Pageable.class))).thenReturn(postIdPage);
         postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                 originsIds, statuses, title, author, null, startDate, endDate, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllPostsForUser() {
-        PostEntity postEntity = new PostEntity();
-        PostEntity postEntity1 = new PostEntity();
-        Page<PostEntity> postEntityPage = new PageImpl<>(List.of(postEntity, postEntity1));
+        Page<Integer> postIdPage = new PageImpl<>(List.of(1, 2));
         Set<Integer> typesIds = null;
         Set<Integer> originsIds = null;
         Set<Integer> directionsIds = null;
@@ -444,11 +492,11 @@ class PostServiceImplTest {
         String title = "";
         LocalDate startDate = null;
         LocalDate endDate = null;
-        Mockito.when(postRepository.findAllByAuthorId(any(Integer.class), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+        Mockito.when(postRepository.findIdsByAuthorId(any(Integer.class), any(Pageable.class)))
+                .thenReturn(postIdPage);
         postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                 originsIds, statuses, title, author, 1, startDate, endDate, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
@@ -462,14 +510,14 @@ class PostServiceImplTest {
         Timestamp startDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIN));
         Timestamp endDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.of(2021, 1, 3),
                 LocalTime.MAX));
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
 
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, startDate, endDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent(),
-                postRepository.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent(),
+                postRepository.findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(
                                 typesIds, directionsIds, statusNames, originsIds, title, author,
                                 startDate, endDate, pageable
                         )
@@ -478,9 +526,7 @@ class PostServiceImplTest {
 
     @Test
     void findAllPostsByDirections() {
-        PostEntity post1 = PostEntity.builder().fakeViews(0).views(0).build();
-        PostEntity post2 = PostEntity.builder().fakeViews(0).views(0).build();
-        Page<PostEntity> postEntityPage = new PageImpl<>(List.of(post1, post2));
+        Page<Integer> postIdPage = new PageImpl<>(List.of(1, 2));
         Set<Integer> typesIds = new HashSet<>();
         Set<Integer> originsIds = new HashSet<>();
         Set<Integer> directionsIds = Set.of(1, 2);
@@ -498,19 +544,17 @@ class PostServiceImplTest {
                 .orElse(LocalDateTime.of(LocalDate.now(), LocalTime.MAX)));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds, directionsIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds, directionsIds,
                                 statusNames, originsIds, title, author, startDate, endDate, pageable))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                 originsIds, statuses, title, author, null, startLocalDate, endLocalDate, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllPostsByDirectionsForUser() {
-        PostEntity post1 = PostEntity.builder().fakeViews(0).views(0).build();
-        PostEntity post2 = PostEntity.builder().fakeViews(0).views(0).build();
-        Page<PostEntity> postEntityPage = new PageImpl<>(List.of(post1, post2));
+        Page<Integer> postIdPage = new PageImpl<>(List.of(1, 2));
         Set<Integer> typesIds = new HashSet<>();
         Set<Integer> originsIds = new HashSet<>();
         Set<Integer> directionsIds = Set.of(1, 2);
@@ -528,12 +572,12 @@ class PostServiceImplTest {
                 .orElse(LocalDateTime.of(LocalDate.now(), LocalTime.MAX)));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds, directionsIds,
+                        .findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds, directionsIds,
                                 statusNames, originsIds, title, 1, startDate, endDate, pageable))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                 originsIds, statuses, title, author, 1, startLocalDate, endLocalDate, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
@@ -551,14 +595,14 @@ class PostServiceImplTest {
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getTotalElements(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, null, startLocalDate, endLocalDate, pageable)
-                        .getContent().size());
+                        .getTotalElements());
     }
 
     @Test
@@ -577,14 +621,14 @@ class PostServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by("title"));
         Pageable pageable1 = PageRequest.of(0, 10, Sort.by("title").and(Sort.by("modified_at").descending()));
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable1))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getTotalElements(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, null, startLocalDate, endLocalDate, pageable)
-                        .getContent().size());
+                        .getTotalElements());
     }
 
     @Test
@@ -602,14 +646,14 @@ class PostServiceImplTest {
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
+                        .findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
                                 directionsIds, statusNames, originsIds, title, 1, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getTotalElements(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, 1, startLocalDate, endLocalDate, pageable)
-                        .getContent().size());
+                        .getTotalElements());
     }
 
     @Test
@@ -627,7 +671,7 @@ class PostServiceImplTest {
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author,
                                 timestampStartDate, timestampEndDate, pageable))
                 .thenThrow(new EntityNotFoundException("Id does not exist"));
@@ -651,7 +695,7 @@ class PostServiceImplTest {
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
+                        .findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
                                 directionsIds, statusNames, originsIds, title, 1,
                                 timestampStartDate, timestampEndDate, pageable))
                 .thenThrow(new EntityNotFoundException("Id does not exist"));
@@ -662,9 +706,7 @@ class PostServiceImplTest {
 
     @Test
     void findAllByPostTypesAndOrigins() {
-        PostEntity postEntity = new PostEntity();
-        PostEntity postEntity1 = new PostEntity();
-        Page<PostEntity> postEntityPage = new PageImpl<>(List.of(postEntity, postEntity1));
+        Page<Integer> postIdPage = new PageImpl<>(List.of(1, 2));
         Set<Integer> typesIds = Set.of(1, 2);
         Set<Integer> originsIds = Set.of(2, 3);
         Set<Integer> directionsIds = new HashSet<>();
@@ -679,20 +721,18 @@ class PostServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds, originsIds,
                 statuses, title, author, null, startLocalDate, endLocalDate, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findAllByPostTypesAndOriginsForUser() {
-        PostEntity postEntity = new PostEntity();
-        PostEntity postEntity1 = new PostEntity();
-        Page<PostEntity> postEntityPage = new PageImpl<>(List.of(postEntity, postEntity1));
+        Page<Integer> postIdPage = new PageImpl<>(List.of(1, 2));
         Set<Integer> typesIds = Set.of(1, 2);
         Set<Integer> originsIds = Set.of(2, 3);
         Set<Integer> directionsIds = new HashSet<>();
@@ -706,13 +746,13 @@ class PostServiceImplTest {
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
+                        .findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
                                 directionsIds, statusNames, originsIds, title, 1, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds, originsIds,
                 statuses, title, author, 1, startLocalDate, endLocalDate, pageable);
-        verify(postMapper, times(postEntityPage.getNumberOfElements())).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
@@ -724,18 +764,18 @@ class PostServiceImplTest {
         Set<String> statusNames = Set.of(PostStatus.PUBLISHED.name());
         String author = "";
         String title = "";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         LocalDate startLocalDate = null;
         LocalDate endLocalDate = null;
         Timestamp timestampStartDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIN));
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, null, startLocalDate, endLocalDate, pageable)
                         .getContent().size());
@@ -750,18 +790,18 @@ class PostServiceImplTest {
         Set<String> statusNames = Set.of(PostStatus.PUBLISHED.name());
         String author = "";
         String title = "";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         LocalDate startLocalDate = null;
         LocalDate endLocalDate = null;
         Timestamp timestampStartDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIN));
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
+                        .findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
                                 directionsIds, statusNames, originsIds, title, 1, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, 1, startLocalDate, endLocalDate, pageable)
                         .getContent().size());
@@ -776,7 +816,7 @@ class PostServiceImplTest {
         Set<String> statusNames = new HashSet<>();
         String author = "";
         String title = "";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         LocalDate startLocalDate = LocalDate.EPOCH;
         LocalDate endLocalDate = null;
         Timestamp timestampStartDate = Timestamp.valueOf(startLocalDate.atStartOfDay());
@@ -784,11 +824,11 @@ class PostServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
 
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, null, startLocalDate, endLocalDate, pageable)
                         .getContent().size());
@@ -803,18 +843,18 @@ class PostServiceImplTest {
         Set<String> statusNames = new HashSet<>();
         String author = "";
         String title = "";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         LocalDate startLocalDate = LocalDate.of(2019, Month.JANUARY, 1);
         LocalDate endLocalDate = null;
         Timestamp timestampStartDate = Timestamp.valueOf(startLocalDate.atStartOfDay());
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
+                        .findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
                                 directionsIds, statusNames, originsIds, title, 1, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, 1, startLocalDate, endLocalDate, pageable)
                         .getContent().size());
@@ -829,18 +869,18 @@ class PostServiceImplTest {
         Set<String> statusNames = new HashSet<>();
         String author = "Таржеман";
         String title = "";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         LocalDate startLocalDate = null;
         LocalDate endLocalDate = null;
         Timestamp timestampStartDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIN));
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, null, startLocalDate, endLocalDate, pageable)
                         .getContent().size());
@@ -855,18 +895,18 @@ class PostServiceImplTest {
         Set<String> statusNames = new HashSet<>();
         String author = "Таржеман";
         String title = "";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         LocalDate startLocalDate = null;
         LocalDate endLocalDate = null;
         Timestamp timestampStartDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIN));
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
+                        .findIdsByAuthorIdByTypesAndStatusAndDirectionsAndOriginsAndTitle(typesIds,
                                 directionsIds, statusNames, originsIds, title, 1, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, 1, startLocalDate, endLocalDate, pageable)
                         .getContent().size());
@@ -882,16 +922,16 @@ class PostServiceImplTest {
         Set<String> statusNames = new HashSet<>();
         String author = "";
         String title = "Massa eget egestas";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         Timestamp timestampStartDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIN));
         Timestamp timestampEndDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.now(), LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(null, null,
                                 null, null, title, author, null, null, null, pageable)
                         .getContent().size());
@@ -906,18 +946,18 @@ class PostServiceImplTest {
         Set<String> statusNames = new HashSet<>();
         String author = "";
         String title = "";
-        Page<PostEntity> postEntityPage = Page.empty();
+        Page<Integer> postIdPage = Page.empty();
         LocalDate startLocalDate = null;
         LocalDate endLocalDate = LocalDate.now();
         Timestamp timestampStartDate = Timestamp.valueOf(LocalDateTime.of(LocalDate.EPOCH, LocalTime.MIN));
         Timestamp timestampEndDate = Timestamp.valueOf(endLocalDate.atTime(LocalTime.MAX));
         Pageable pageable = PageRequest.of(0, 10);
         Mockito.when(postRepository
-                        .findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
+                        .findIdsByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(typesIds,
                                 directionsIds, statusNames, originsIds, title, author, timestampStartDate,
                                 timestampEndDate, pageable))
-                .thenReturn(postEntityPage);
-        assertEquals(postEntityPage.getContent().size(),
+                .thenReturn(postIdPage);
+        assertEquals(postIdPage.getContent().size(),
                 postService.findAllByTypesAndStatusAndDirectionsAndOriginsAndTitleAndAuthor(directionsIds, typesIds,
                                 originsIds, statuses, title, author, null, startLocalDate, endLocalDate, pageable)
                         .getContent().size());
@@ -1510,65 +1550,111 @@ class PostServiceImplTest {
     @Test
     void findLatestPostsByPostTypesAndOrigin_isOk() {
         Pageable pageable = PageRequest.of(0, 4);
-        when(postRepository.findLatestByPostTypeMedia(any(Pageable.class)))
-                .thenReturn(postEntityPage);
-        when(postRepository.findLatestByOriginVideo(pageable)).thenReturn(postEntityPage);
-        when(postRepository.findLatestByPostTypeTranslation(pageable)).thenReturn(postEntityPage);
-        when(postRepository.findLatestByPostTypeExpertOpinion(pageable)).thenReturn(postEntityPage);
+        stubLatestPostsFeedCacheLoader();
+        when(postRepository.findLatestIdsByPostTypeMedia(any(Pageable.class)))
+                .thenReturn(postIdPage);
+        when(postRepository.findLatestIdsByOriginVideo(pageable)).thenReturn(postIdPage);
+        when(postRepository.findLatestIdsByPostTypeTranslation(pageable)).thenReturn(postIdPage);
+        when(postRepository.findLatestIdsByPostTypeExpertOpinion(pageable)).thenReturn(postIdPage);
         postService.findLatestByPostTypesAndOrigins(pageable);
-        verify(postMapper, times(8)).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository, times(4)).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findLatestPostsByPostTypesAndOriginForMobile_isOk() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(postRepository.findLatestByPostTypeMedia(any(Pageable.class)))
-                .thenReturn(postEntityPage);
-        when(postRepository.findLatestByOriginVideo(pageable)).thenReturn(postEntityPage);
-        when(postRepository.findLatestByPostTypeTranslation(pageable)).thenReturn(postEntityPage);
-        when(postRepository.findLatestByPostTypeExpertOpinion(pageable)).thenReturn(postEntityPage);
+        stubLatestPostsFeedCacheLoader();
+        when(postRepository.findLatestIdsByPostTypeMedia(any(Pageable.class)))
+                .thenReturn(postIdPage);
+        when(postRepository.findLatestIdsByOriginVideo(pageable)).thenReturn(postIdPage);
+        when(postRepository.findLatestIdsByPostTypeTranslation(pageable)).thenReturn(postIdPage);
+        when(postRepository.findLatestIdsByPostTypeExpertOpinion(pageable)).thenReturn(postIdPage);
         postService.findLatestByPostTypesAndOriginsForMobile(pageable);
-        verify(postMapper, times(8)).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository, times(4)).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findLatestPostsByPostTypesAndOrigin_NotFound() {
         Pageable pageable = PageRequest.of(0, 4);
-        when(postRepository.findLatestByPostTypeMedia(any(Pageable.class)))
+        stubLatestPostsFeedCacheLoader();
+        when(postRepository.findLatestIdsByPostTypeMedia(any(Pageable.class)))
                 .thenReturn(Page.empty());
-        when(postRepository.findLatestByOriginVideo(pageable)).thenReturn(Page.empty());
-        when(postRepository.findLatestByPostTypeTranslation(pageable)).thenReturn(Page.empty());
-        when(postRepository.findLatestByPostTypeExpertOpinion(pageable)).thenReturn(Page.empty());
+        when(postRepository.findLatestIdsByOriginVideo(pageable)).thenReturn(Page.empty());
+        when(postRepository.findLatestIdsByPostTypeTranslation(pageable)).thenReturn(Page.empty());
+        when(postRepository.findLatestIdsByPostTypeExpertOpinion(pageable)).thenReturn(Page.empty());
 
         postService.findLatestByPostTypesAndOrigins(pageable);
-        verify(postMapper, times(0)).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository, times(4)).findAllByIds(List.of());
         Assertions.assertThat(postService.findLatestByPostTypesAndOrigins(pageable).isEmpty());
     }
 
     @Test
     void findLatestPostsByPostTypesAndOriginForMobile_NotFound() {
         Pageable pageable = PageRequest.of(0, 10);
-        when(postRepository.findLatestByPostTypeMedia(any(Pageable.class)))
+        stubLatestPostsFeedCacheLoader();
+        when(postRepository.findLatestIdsByPostTypeMedia(any(Pageable.class)))
                 .thenReturn(Page.empty());
-        when(postRepository.findLatestByOriginVideo(pageable)).thenReturn(Page.empty());
-        when(postRepository.findLatestByPostTypeTranslation(pageable)).thenReturn(Page.empty());
-        when(postRepository.findLatestByPostTypeExpertOpinion(pageable)).thenReturn(Page.empty());
+        when(postRepository.findLatestIdsByOriginVideo(pageable)).thenReturn(Page.empty());
+        when(postRepository.findLatestIdsByPostTypeTranslation(pageable)).thenReturn(Page.empty());
+        when(postRepository.findLatestIdsByPostTypeExpertOpinion(pageable)).thenReturn(Page.empty());
 
         postService.findLatestByPostTypesAndOriginsForMobile(pageable);
-        verify(postMapper, times(0)).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository, times(4)).findAllByIds(List.of());
         assertThat(postService.findLatestByPostTypesAndOriginsForMobile(pageable).isEmpty());
     }
 
+    @Test
+    void findLatestPostsByPostTypesAndOrigin_servedFromFeedCache() {
+        Pageable pageable = PageRequest.of(0, 16);
+        Page<PostMainPageDTO> snapshot = Page.empty();
+        when(latestPostsFeedCache.<PostMainPageDTO>get(anyString(), eq(pageable), any())).thenReturn(snapshot);
+
+        assertEquals(snapshot, postService.findLatestByPostTypesAndOrigins(pageable));
+        verify(postRepository, never()).findLatestIdsByPostTypeMedia(any(Pageable.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubLatestPostsFeedCacheLoader() {
+        when(latestPostsFeedCache.get(anyString(), any(Pageable.class), any()))
+                .thenAnswer(invocation -> ((Function<Pageable, Page<PostMainPageDTO>>) invocation.getArgument(2))
+                        .apply(invocation.getArgument(1)));
+        when(postFeedSectionExecutor.execute(any())).thenAnswer(invocation -> {
+            Map<String, List<PostCardDTO>> results = new LinkedHashMap<>();
+            ((Map<String, Supplier<List<PostCardDTO>>>) invocation.getArgument(0))
+                    .forEach((name, section) -> results.put(name, section.get()));
+            return results;
+        });
+    }
+
+    @Test
+    void findLatestPostsByPostTypesAndOrigin_whenSectionTimedOut_returnsEmptySectionAndIsNotStored() {
+        Pageable pageable = PageRequest.of(0, 4);
+        when(latestPostsFeedCache.get(anyString(), any(Pageable.class), any()))
+                .thenAnswer(invocation -> ((Function<Pageable, Page<PostMainPageDTO>>) invocation.getArgument(2))
+                        .apply(invocation.getArgument(1)));
+        when(postFeedSectionExecutor.execute(any())).thenReturn(Map.of("media", List.of(new PostCardDTO())));
+
+        Page<PostMainPageDTO> feed = postService.findLatestByPostTypesAndOrigins(pageable);
+
+        assertEquals(4, feed.getContent().size());
+        assertEquals(1, feed.getContent().get(1).getPostDTOS().size());
+        assertTrue(feed.getContent().get(0).getPostDTOS().isEmpty());
+        verify(latestPostsFeedCache).discardPendingLoads();
+    }
+
     @Test
     void setPostsAsImportant() {
-        Set<Integer> postIds = Set.of(2, 4, 9);
+        Set<Integer> postIds = new LinkedHashSet<>(List.of(9, 2, 4));
         Assertions.assertThat(postService.setPostsAsImportantWithOrder(postIds));
+        verify(importantPostsRepository).setImportantPosts(List.of(9, 2, 4));
+        verify(latestPostsFeedCache).invalidate();
     }
 
     @Test
     void setPostsAsImportantWhenNoPostIds() {
         Set<Integer> postIds = null;
         assertEquals(false, postService.setPostsAsImportantWithOrder(postIds));
+        verifyNoInteractions(importantPostsRepository);
     }
 
     @Test
@@ -1605,116 +1691,159 @@ class PostServiceImplTest {
 
     @Test
     void checkUpdateRealViews() {
-        Map<Integer, Integer> idsWithViews = new HashMap<>();
-        idsWithViews.put(1, 1);
-        when(googleAnalytics.getAllPostsViewCount()).thenReturn(idsWithViews);
-        assertEquals(idsWithViews, googleAnalytics.getAllPostsViewCount());
-        for (Map.Entry<Integer, Integer> entry : idsWithViews.entrySet()) {
-            postRepository.updateRealViews(entry.getKey(), entry.getValue());
-        }
+        Map<LocalDate, Map<Integer, Integer>> dailyViews = Map.of(LocalDate.of(2021, 3, 22), Map.of(1, 1));
+        when(postDailyViewsRepository.findLastViewDate()).thenReturn(Optional.empty());
+        when(googleAnalytics.getPostDailyViews(GoogleAnalytics.FIRST_DAY)).thenReturn(Optional.of(dailyViews));
         postService.updateRealViews();
-        verify(postRepository, times(2)).updateRealViews(any(Integer.class), any(Integer.class));
+        verify(postDailyViewsRepository).mergeViews(dailyViews, true);
+    }
+
+    @Test
+    void updateRealViews_fetchesDaysSincePreviousSyncAndAddsTheirChanges() {
+        ReflectionTestUtils.setField(postService, "realViewsRefetchDays", 2);
+        Map<LocalDate, Map<Integer, Integer>> dailyViews = Map.of(
+                LocalDate.of(2024, 5, 9), Map.of(1, 10, 2, 20),
+                LocalDate.of(2024, 5, 10), Map.of(2, 5));
+        when(postDailyViewsRepository.findLastViewDate()).thenReturn(Optional.of(LocalDate.of(2024, 5, 10)));
+        when(googleAnalytics.getPostDailyViews(LocalDate.of(2024, 5, 8))).thenReturn(Optional.of(dailyViews));
+        when(postDailyViewsRepository.mergeViews(dailyViews, false)).thenReturn(2);
+
+        postService.updateRealViews();
+
+        verify(postDailyViewsRepository).mergeViews(dailyViews, false);
+    }
+
+    @Test
+    void updateRealViews_whenGoogleAnalyticsFails_keepsViews() {
+        when(postDailyViewsRepository.findLastViewDate()).thenReturn(Optional.of(LocalDate.of(2024, 5, 10)));
+        when(googleAnalytics.getPostDailyViews(any(LocalDate.class))).thenReturn(Optional.empty());
+        postService.updateRealViews();
+        verify(postDailyViewsRepository, never()).mergeViews(anyMap(), anyBoolean());
+    }
+
+    @Test
+    void updateRealViews_whenViewsAreCountedFirstParty_skipsGoogleAnalytics() {
+        when(postViewCounter.isTrackingEnabled()).thenReturn(true);
+        postService.updateRealViews();
+        verify(googleAnalytics, never()).getPostDailyViews(any(LocalDate.class));
+        verify(postDailyViewsRepository, never()).mergeViews(anyMap(), anyBoolean());
+    }
+
+    @Test
+    void registerView() {
+        postService.registerView(5);
+        verify(postViewCounter).increment(5);
     }
 
     @Test
     void findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence_isOk() {
         Pageable pageable = PageRequest.of(0, 12);
-        when(postRepository.findByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
+        when(postRepository.findIdsByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
                 anySet(), anySet(), anySet(), any(PostStatus.class), anyBoolean(), any(Pageable.class)))
-                .thenReturn(postEntityPage);
+                .thenReturn(postIdPage);
         postService.findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
                 new HashSet<>(), new HashSet<>(), new HashSet<>(), pageable);
-        verify(postMapper, times(2)).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(postIdPage.getContent());
     }
 
     @Test
     void findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence_NotFound() {
         Pageable pageable = PageRequest.of(0, 12);
-        when(postRepository.findByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
+        when(postRepository.findIdsByDirectionsAndTypesAndOriginsAndStatusAndImportantSortedByImportantImagePresence(
                 anySet(), anySet(), anySet(), any(PostStatus.class), anyBoolean(), any(Pageable.class)))
                 .thenReturn(Page.empty());
         postService.findPublishedNotImportantPostsWithFiltersSortedByImportantImagePresence(
                 Set.of(1), new HashSet<>(), new HashSet<>(), pageable);
-        verify(postMapper, times(0)).toPostDTO(any(PostEntity.class));
+        verify(postCardProjectionRepository).findAllByIds(List.of());
     }
 
     @Test
-    void getDirectionsFromPostsEntities_bothNull_returnsEmpty() {
-        Optional<PostEntity> oldEntity = Optional.empty();
-        PostEntity newEntity = null;
-        Set<DirectionEntity> result = postService.getDirectionsFromPostsEntities(oldEntity, newEntity);
-        assertEquals(0, result.size());
+    void setPublishedAtTest() {
+        Timestamp publishedAt = Timestamp.valueOf(LocalDateTime.of(LocalDate.of(2002, Month.JANUARY, 14),
+                LocalTime.MIN));
+        PostPublishedAtDTO postPublishedAtDTO = PostPublishedAtDTO.builder().publishedAt(publishedAt).build();
+        PostEntity postEntity = PostEntity.builder().id(1).publishedAt(publishedAt).build();
+        Mockito.when(postRepository.findById(1)).thenReturn(Optional.of(postEntity));
+        assertTrue(postService.setPublishedAt(1, postPublishedAtDTO));
+        verify(latestPostsFeedCache, never()).invalidate();
+        verify(postPublicationScheduler).schedule(1, publishedAt);
     }
 
     @Test
-    void getDirectionsFromPostsEntities_oldNotNullNewNull_returnsEmpty() {
-        Set<DirectionEntity> oldDirections = new HashSet<>();
-        oldDirections.add(DirectionEntity.builder()
-                .id(2)
-                .name("b")
-                .build());
-        Optional<PostEntity> oldEntity = Optional.of(PostEntity.builder()
-                .id(1)
-                .directions(oldDirections)
-                .build());
+    void setPublishedAt_whenPostIsPublished_invalidatesLatestPostsFeed() {
+        Timestamp publishedAt = Timestamp.valueOf(LocalDateTime.of(LocalDate.of(2002, Month.JANUARY, 14),
+                LocalTime.MIN));
+        PostPublishedAtDTO postPublishedAtDTO = PostPublishedAtDTO.builder().publishedAt(publishedAt).build();
+        PostEntity postEntity = PostEntity.builder().id(1).status(PostStatus.PUBLISHED).build();
+        when(postRepository.findById(1)).thenReturn(Optional.of(postEntity));
+        assertTrue(postService.setPublishedAt(1, postPublishedAtDTO));
+        verify(latestPostsFeedCache).invalidate();
+    }
+
+    @Test
+    void findPublishedByCursor_whenMorePostsExist_returnsNextCursor() {
+        Timestamp publishedAt = Timestamp.valueOf("2021-03-01 10:15:30.123456");
+        when(postRepository.findPublishedIdsBeforeCursor(any(Timestamp.class), eq(Integer.MAX_VALUE), eq(null),
+                eq(Set.of(1)), eq(null), eq(null), eq(null), eq(3)))
+                .thenReturn(List.of(9, 7, 5));
+        when(postCardProjectionRepository.findAllByIds(List.of(9, 7))).thenReturn(List.of(
+                PostCardDTO.builder().id(9).publishedAt(publishedAt).build(),
+                PostCardDTO.builder().id(7).publishedAt(publishedAt).build()));
 
-        PostEntity newEntity = null;
+        PostCursorPageDTO page = postService.findPublishedByCursor(null, Set.of(), Set.of(1), null, null, null, 2);
 
-        Set<DirectionEntity> result = postService.getDirectionsFromPostsEntities(oldEntity, newEntity);
-        assertEquals(1, result.size());
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        PostCursor next = PostCursor.decode(page.getNextCursor());
+        assertEquals(7, next.getPostId());
+        assertEquals(publishedAt, next.getPublishedAt());
     }
 
     @Test
-    void getDirectionsFromPostsEntities_oldNullNewNotNull_returnsEmpty() {
-        Optional<PostEntity> oldEntity = Optional.empty();
+    void findPublishedByCursor_onLastPage_returnsNoCursor() {
+        Timestamp publishedAt = Timestamp.valueOf("2021-03-01 10:15:30");
+        PostCursor cursor = PostCursor.after(PostCardDTO.builder().id(7).publishedAt(publishedAt).build());
+        when(postRepository.findPublishedIdsBeforeCursor(publishedAt, 7, Set.of(3), null, null, null, null, 13))
+                .thenReturn(List.of(5));
+        when(postCardProjectionRepository.findAllByIds(List.of(5)))
+                .thenReturn(List.of(PostCardDTO.builder().id(5).publishedAt(publishedAt).build()));
 
-        Set<DirectionEntity> newDirections = new HashSet<>();
-        newDirections.add(DirectionEntity.builder()
-                .id(1)
-                .name("a")
-                .build());
-        PostEntity newEntity = PostEntity.builder()
-                .id(1)
-                .directions(newDirections)
-                .build();
+        PostCursorPageDTO page = postService.findPublishedByCursor(3, null, null, null, null, cursor.encode(), 12);
 
-        Set<DirectionEntity> result = postService.getDirectionsFromPostsEntities(oldEntity, newEntity);
-        assertEquals(1, result.size());
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
     }
 
     @Test
-    void getDirectionsFromPostsEntities_bothNotNull_returnsEmpty() {
-        Set<DirectionEntity> oldDirections = new HashSet<>();
-        oldDirections.add(DirectionEntity.builder()
-                .id(2)
-                .name("b")
-                .build());
-        Optional<PostEntity> oldEntity = Optional.of(PostEntity.builder()
-                .id(1)
-                .directions(oldDirections)
-                .build());
+    void findPublishedByCursor_whenCursorIsMalformed_throwsBadRequest() {
+        assertThrows(BadRequestException.class,
+                () -> postService.findPublishedByCursor(null, null, null, null, null, "not-a-cursor", 12));
+    }
 
-        Set<DirectionEntity> newDirections = new HashSet<>();
-        newDirections.add(DirectionEntity.builder()
-                .id(1)
-                .name("a")
-                .build());
-        PostEntity newEntity = PostEntity.builder()
-                .id(1)
-                .directions(newDirections)
-                .build();
+    @Test
+    void searchPublished_returnsPostsInRankOrderWithSnippets() {
+        Pageable pageRequest = PageRequest.of(0, 2);
+        Map<Integer, String> snippets = new LinkedHashMap<>();
+        snippets.put(8, "<mark>вакцина</mark> від грипу");
+        snippets.put(3, "про <mark>вакцину</mark>");
+        when(postSearchRepository.findSnippetsByQuery("вакцина", 0, 2)).thenReturn(snippets);
+        when(postCardProjectionRepository.findAllByIds(List.of(8, 3)))
+                .thenReturn(List.of(PostCardDTO.builder().id(8).build(), PostCardDTO.builder().id(3).build()));
+        when(postSearchRepository.countByQuery("вакцина")).thenReturn(5L);
 
-        Set<DirectionEntity> result = postService.getDirectionsFromPostsEntities(oldEntity, newEntity);
-        assertEquals(2, result.size());
+        Page<PostSearchResultDTO> page = postService.searchPublished(" вакцина ", pageRequest);
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(8, page.getContent().get(0).getPost().getId());
+        assertEquals("про <mark>вакцину</mark>", page.getContent().get(1).getSnippet());
     }
 
     @Test
-    void setPublishedAtTest() {
-        Timestamp publishedAt = Timestamp.valueOf(LocalDateTime.of(LocalDate.of(2002, Month.JANUARY, 14),
-                LocalTime.MIN));
-        PostPublishedAtDTO postPublishedAtDTO = PostPublishedAtDTO.builder().publishedAt(publishedAt).build();
-        PostEntity postEntity = PostEntity.builder().id(1).publishedAt(publishedAt).build();
-        Mockito.when(postRepository.findById(1)).thenReturn(Optional.of(postEntity));
-        assertTrue(postService.setPublishedAt(1, postPublishedAtDTO));
+    void searchPublished_whenQueryIsBlank_returnsEmptyPage() {
+        Page<PostSearchResultDTO> page = postService.searchPublished("  ", PageRequest.of(0, 12));
+
+        assertTrue(page.isEmpty());
+        verify(postSearchRepository, never()).findSnippetsByQuery(anyString(), anyLong(), anyInt());
     }
 }
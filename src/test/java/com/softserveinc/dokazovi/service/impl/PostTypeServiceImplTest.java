@@ -1,5 +1,8 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
+import com.softserveinc.dokazovi.dto.post.PostTypeDTO;
 import com.softserveinc.dokazovi.entity.PostTypeEntity;
 import com.softserveinc.dokazovi.entity.enumerations.PostStatus;
 import com.softserveinc.dokazovi.mapper.PostTypeMapper;
@@ -13,9 +16,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +31,8 @@ class PostTypeServiceImplTest {
 
     @Mock
     private PostTypeMapper postTypeMapper;
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @InjectMocks
     private PostTypeServiceImpl postTypeService;
@@ -39,9 +46,11 @@ class PostTypeServiceImplTest {
 
     @Test
     void findAll() {
-        when(postTypeRepository.findAll()).thenReturn(postTypeEntities);
-        postTypeService.findAll();
-        verify(postTypeMapper, times(postTypeEntities.size())).toPostTypeDTO(any(PostTypeEntity.class));
+        ReferenceDataSnapshot<PostTypeDTO> postTypes =
+                ReferenceDataSnapshot.of("postTypes", List.of(new PostTypeDTO(1, "Стаття")));
+        when(referenceDataRegistry.getPostTypes()).thenReturn(postTypes);
+        assertEquals(postTypes, postTypeService.findAll());
+        verifyNoInteractions(postTypeRepository);
     }
 
     @Test
@@ -1,5 +1,8 @@
 package com.softserveinc.dokazovi.service.impl;
 
+import com.softserveinc.dokazovi.cache.ReferenceDataRegistry;
+import com.softserveinc.dokazovi.cache.ReferenceDataSnapshot;
+import com.softserveinc.dokazovi.dto.region.RegionDTO;
 import com.softserveinc.dokazovi.entity.RegionEntity;
 import com.softserveinc.dokazovi.mapper.RegionMapper;
 import com.softserveinc.dokazovi.repositories.RegionRepository;
@@ -11,9 +14,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -23,17 +28,20 @@ class RegionServiceImplTest {
     private RegionRepository regionRepository;
     @Mock
     private RegionMapper regionMapper;
+    @Mock
+    private ReferenceDataRegistry referenceDataRegistry;
     @InjectMocks
     private RegionServiceImpl regionService;
 
     @Test
     void findAllRegions() {
-        List<RegionEntity> regions = List.of(new RegionEntity(), new RegionEntity());
+        ReferenceDataSnapshot<RegionDTO> regions =
+                ReferenceDataSnapshot.of("regions", List.of(RegionDTO.builder().build()));
 
-        when(regionRepository.findAll()).thenReturn(regions);
-        regionService.findAllRegions();
+        when(referenceDataRegistry.getRegions()).thenReturn(regions);
 
-        verify(regionMapper, times(regions.size())).toRegionDTO(any(RegionEntity.class));
+        assertEquals(regions, regionService.findAllRegions());
+        verifyNoInteractions(regionRepository);
     }
 
     @Test
@@ -42,6 +50,7 @@ class RegionServiceImplTest {
         regionService.updateRegionsStatus();
 
         verify(regionRepository, times(1)).updateRegionsStatus();
+        verify(referenceDataRegistry).invalidateRegions();
     }
 
     @Test
@@ -9,6 +9,8 @@ import com.softserveinc.dokazovi.mapper.UserMapper;
 import com.softserveinc.dokazovi.pojo.UserSearchCriteria;
 import com.softserveinc.dokazovi.repositories.UserRepository;
 import com.softserveinc.dokazovi.repositories.VerificationTokenRepository;
+import com.softserveinc.dokazovi.security.RefreshTokenService;
+import com.softserveinc.dokazovi.security.UserPrincipalCache;
 import com.softserveinc.dokazovi.service.MailSenderService;
 import com.softserveinc.dokazovi.service.PasswordResetTokenService;
 import org.junit.jupiter.api.Assertions;
@@ -56,6 +58,10 @@ class UserServiceImplTest {
     PasswordResetTokenService passwordResetTokenService;
     @Mock
     MailSenderService mailSenderService;
+    @Mock
+    private UserPrincipalCache userPrincipalCache;
+    @Mock
+    private RefreshTokenService refreshTokenService;
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -466,6 +472,7 @@ class UserServiceImplTest {
         userService.updatePassword(userEntity, expectedPassword, tokenEntity);
         Assertions.assertEquals(expectedPassword, expected.getPassword());
         verify(passwordResetTokenService, times(1)).delete(tokenEntity);
+        verify(refreshTokenService, times(1)).revokeAll(1);
     }
 
     @Test
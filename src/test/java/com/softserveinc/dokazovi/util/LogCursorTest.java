@@ -0,0 +1,37 @@
+package com.softserveinc.dokazovi.util;
+
+import com.softserveinc.dokazovi.dto.log.PostLogDTO;
+import com.softserveinc.dokazovi.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LogCursorTest {
+
+    @Test
+    void encodeAndDecode_keepsFullPrecision() {
+        Timestamp dateOfChange = Timestamp.valueOf("2021-03-01 10:15:30.123456");
+        LogCursor cursor = LogCursor.after(PostLogDTO.builder().id(42).dateOfChange(dateOfChange).build());
+
+        LogCursor decoded = LogCursor.decode(cursor.encode());
+
+        assertEquals(dateOfChange, decoded.getDateOfChange());
+        assertEquals(42, decoded.getLogId());
+    }
+
+    @Test
+    void decode_whenCursorIsEmpty_pointsToNewestEntry() {
+        LogCursor cursor = LogCursor.decode("");
+
+        assertEquals(Integer.MAX_VALUE, cursor.getLogId());
+    }
+
+    @Test
+    void decode_whenCursorIsMalformed_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> LogCursor.decode("%%%"));
+        assertThrows(BadRequestException.class, () -> LogCursor.decode("bm90LWEtY3Vyc29y"));
+    }
+}
@@ -1,6 +1,8 @@
 package com.softserveinc.dokazovi.util;
 
 import com.softserveinc.dokazovi.entity.UserEntity;
+import com.softserveinc.dokazovi.mail.MailTemplateEngine;
+import com.softserveinc.dokazovi.repositories.MailOutboxRepository;
 import com.softserveinc.dokazovi.service.PasswordResetTokenService;
 import com.softserveinc.dokazovi.service.impl.MailSenderServiceImpl;
 import org.junit.jupiter.api.Test;
@@ -8,17 +10,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 
 import javax.mail.MessagingException;
 import java.io.IOException;
+import java.util.Map;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -26,9 +28,11 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class MailSenderServiceImplTest {
     @Mock
-    private JavaMailSender javaMailSender;
+    private MailOutboxRepository mailOutboxRepository;
     @Mock
     private PasswordResetTokenService passwordResetTokenService;
+    @Mock
+    private MailTemplateEngine mailTemplateEngine;
     @InjectMocks
     private MailSenderServiceImpl mailSender;
 
@@ -36,7 +40,6 @@ class MailSenderServiceImplTest {
     void sendEmailWithToken() throws IOException, MessagingException {
         when(passwordResetTokenService.createPasswordResetTokenForUser(any(UserEntity.class), anyString()))
                 .thenReturn(null);
-        doNothing().when(javaMailSender).send(any(SimpleMailMessage.class));
         String contextPath = "http://localhost:8080";
         String email = "user@mail.com";
         String password = "user";
@@ -45,16 +48,20 @@ class MailSenderServiceImplTest {
                 .password(password)
                 .build();
         String token = UUID.randomUUID().toString();
+        String url = contextPath + "/user/update-password?token=" + token;
+        when(mailTemplateEngine.render("resetPasswordMail.html", Map.of("url", url)))
+                .thenReturn("<a href=\"" + url + "\"></a>");
         passwordResetTokenService.createPasswordResetTokenForUser(user, token);
         mailSender.sendEmailWithToken(contextPath, token, user);
         verify(passwordResetTokenService, times(1)).createPasswordResetTokenForUser(any(UserEntity.class), anyString());
-        verify(javaMailSender, times(1)).send(any(SimpleMailMessage.class));
+        verify(mailOutboxRepository, times(1)).add(eq(email), eq("Reset password"), contains(url), eq(true));
     }
 
     @Test
-    void readHtml() throws IOException {
+    void renderTemplate() {
         String fileName = "verificationMail.html";
-        String result = mailSender.readHtmlFile(fileName);
-        assertTrue(result.contains("table"));
+        Map<String, String> values = Map.of("url", "http://localhost:8080");
+        when(mailTemplateEngine.render(fileName, values)).thenReturn("<table></table>");
+        assertEquals("<table></table>", mailSender.renderTemplate(fileName, values));
     }
 }
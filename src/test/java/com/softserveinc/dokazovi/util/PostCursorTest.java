@@ -0,0 +1,37 @@
+package com.softserveinc.dokazovi.util;
+
+import com.softserveinc.dokazovi.dto.post.PostDTO;
+import com.softserveinc.dokazovi.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostCursorTest {
+
+    @Test
+    void encodeAndDecode_keepsFullPrecision() {
+        Timestamp publishedAt = Timestamp.valueOf("2021-03-01 10:15:30.123456");
+        PostCursor cursor = PostCursor.after(PostDTO.builder().id(42).publishedAt(publishedAt).build());
+
+        PostCursor decoded = PostCursor.decode(cursor.encode());
+
+        assertEquals(publishedAt, decoded.getPublishedAt());
+        assertEquals(42, decoded.getPostId());
+    }
+
+    @Test
+    void decode_whenCursorIsEmpty_pointsToFeedStart() {
+        PostCursor cursor = PostCursor.decode(null);
+
+        assertEquals(Integer.MAX_VALUE, cursor.getPostId());
+    }
+
+    @Test
+    void decode_whenCursorIsMalformed_throwsBadRequest() {
+        assertThrows(BadRequestException.class, () -> PostCursor.decode("%%%"));
+        assertThrows(BadRequestException.class, () -> PostCursor.decode("bm90LWEtY3Vyc29y"));
+    }
+}